@@ -0,0 +1,434 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.generator;
+
+import javafx.beans.property.*;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Build-time tool that generates the configurator mixins for rarely used groups of {@link Node} properties from the JavaFX property surface.
+ *
+ * <p>{@code NodeConfig} is loaded by every configurator, so the property groups that few configurations touch are kept out of it. Each group becomes a separate mixin interface, reached through an accessor
+ * on {@code NodeConfig} such as {@code accessibility()}, and is only loaded and linked when a configuration actually uses it. The pass-through methods of a mixin are derived by reflection from the
+ * {@code xxxProperty()} and {@code setXxx} methods of {@link Node}, so they follow JavaFX rather than being maintained by hand.</p>
+ *
+ * <p>For every property of a group the mixin gets add and remove methods for change and invalidation listeners and, for writable properties, bind, unbind, bidirectional bind and set methods. Registrations
+ * go through the configurator, so they are collected into its subscription bag like those of {@code NodeConfig}.</p>
+ *
+ * <p>The {@code generateConfigMixins} Gradle task runs this class and adds its output to the module's sources.</p>
+ *
+ * <p>Usage: {@code ConfigMixinGenerator <output directory>}</p>
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ */
+public final class ConfigMixinGenerator {
+    private static final String PACKAGE = "io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.node.base";
+
+    private static final List<Mixin> MIXINS = List.of(new Mixin("NodeAccessibilityConfig", "accessibility", "the accessibility properties of a node, used by screen readers and other assistive technologies",
+                                                                List.of("accessibleHelp", "accessibleRole", "accessibleRoleDescription", "accessibleText")),
+                                                      new Mixin("Node3DConfig", "transform3D", "the depth and 3D transform properties of a node, used in 3D scenes",
+                                                                List.of("depthTest", "rotationAxis", "scaleZ", "translateZ")));
+
+    private static final String HEADER = """
+            /*
+             * Copyright (C) 2024 Colin Jokisch
+             * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+             *
+             * EnhancedFX is free software: you can redistribute it and/or modify
+             * it under the terms of the GNU Lesser General Public License as published by
+             * the Free Software Foundation, either version 3 of the License, or
+             * (at your option) any later version.
+             *
+             * EnhancedFX is distributed in the hope that it will be useful,
+             * but WITHOUT ANY WARRANTY; without even the implied warranty of
+             * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+             * GNU Lesser General Public License for more details.
+             *
+             * You should have received a copy of the GNU Lesser General Public License
+             * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+             */
+            """;
+
+    private ConfigMixinGenerator() {}
+
+    /**
+     * Generates every mixin into the output directory, under its package path.
+     *
+     * @param args
+     *         The output directory.
+     *
+     * @throws IOException
+     *         If a mixin cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ConfigMixinGenerator <output directory>");
+        }
+        Path packageDirectory = Path.of(args[0])
+                                    .resolve(PACKAGE.replace('.', '/'));
+        Files.createDirectories(packageDirectory);
+
+        for (Mixin mixin : MIXINS) {
+            Files.writeString(packageDirectory.resolve(mixin.name() + ".java"), generate(mixin));
+        }
+        System.out.printf("Generated %d configurator mixin(s) in %s%n", MIXINS.size(), packageDirectory);
+    }
+
+    //region Generation
+    //*****************************************************************
+    // Generation
+    //*****************************************************************
+
+    /**
+     * Generates the source of a mixin.
+     *
+     * @param mixin
+     *         The mixin to generate.
+     *
+     * @return The Java source of the mixin.
+     */
+    private static String generate(Mixin mixin) {
+        List<PropertyInfo> properties = mixin.properties()
+                                             .stream()
+                                             .map(ConfigMixinGenerator::describe)
+                                             .toList();
+
+        SortedSet<String> imports = new TreeSet<>(List.of("io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.base.BaseConfig",
+                                                          "io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.base.ConfiguratorBase",
+                                                          "javafx.beans.InvalidationListener", "javafx.beans.property.Property", "javafx.beans.value.ChangeListener",
+                                                          "javafx.beans.value.ObservableValue", "javafx.scene.Node"));
+        properties.forEach(property -> {
+            addImport(imports, property.valueType());
+            property.setterType()
+                    .ifPresent(type -> addImport(imports, type));
+        });
+
+        StringBuilder source = new StringBuilder(HEADER);
+        source.append("package ").append(PACKAGE).append(";\n\n");
+        imports.forEach(type -> source.append("import ").append(type).append(";\n"));
+        source.append("""
+
+                /**
+                 * Configurator mixin for %1$s.
+                 *
+                 * <p>This interface is generated at build time by {@code ConfigMixinGenerator} from the JavaFX {@link Node} property surface; do not edit it by hand. It is kept out of {@link NodeConfig}, and
+                 * obtained with {@link NodeConfig#%2$s()}, so that it is only loaded when a configuration uses it. Every method returns the configurator it was obtained from, so the chain continues with the full
+                 * configurator.</p>
+                 *
+                 * @param <T>
+                 *         The type of the configurator the mixin belongs to.
+                 *
+                 * @author Colin Jokisch
+                 * @version 1.0.0
+                 * @see NodeConfig
+                 */
+                @FunctionalInterface
+                @SuppressWarnings("UnusedReturnValue")
+                public interface %3$s<T extends ConfiguratorBase> extends BaseConfig<T> {
+                    /**
+                     * Returns a view of this mixin over a configurator.
+                     *
+                     * @param <T>
+                     *         The type of the configurator.
+                     * @param configurator
+                     *         The configurator the mixin's methods apply to and return.
+                     *
+                     * @return The mixin view of the configurator.
+                     */
+                    static <T extends ConfiguratorBase> %3$s<T> of(T configurator) {
+                        return () -> configurator;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    @Override
+                    default Node getNode() {
+                        return getConfigurator().getNode();
+                    }
+                """.formatted(mixin.description(), mixin.accessor(), mixin.name()));
+
+        region(source, "Add Listener Functions", properties, ConfigMixinGenerator::appendAddListeners);
+        region(source, "Remove Listener Functions", properties, ConfigMixinGenerator::appendRemoveListeners);
+        region(source, "Binding Functions", properties, ConfigMixinGenerator::appendBindings);
+        region(source, "Set Functions", properties, ConfigMixinGenerator::appendSetter);
+
+        return source.append("}\n")
+                     .toString();
+    }
+
+    /**
+     * Appends a region of methods, generated for every property.
+     *
+     * @param source
+     *         The source being generated.
+     * @param name
+     *         The name of the region.
+     * @param properties
+     *         The properties of the mixin.
+     * @param generator
+     *         Appends the methods of one property.
+     */
+    private static void region(StringBuilder source, String name, List<PropertyInfo> properties, MethodGenerator generator) {
+        source.append("\n    //region ").append(name)
+              .append("\n    //*****************************************************************\n    // ").append(name)
+              .append("\n    //*****************************************************************\n");
+        properties.forEach(property -> generator.append(source, property));
+        source.append("\n    //endregion ").append(name).append("\n");
+    }
+
+    /**
+     * Appends the add listener methods of a property.
+     *
+     * @param source
+     *         The source being generated.
+     * @param property
+     *         The property.
+     */
+    private static void appendAddListeners(StringBuilder source, PropertyInfo property) {
+        method(source, "Adds a {@link ChangeListener} to the " + property.name() + " property of the node.", "changeListener", "The listener to add.",
+               "add" + property.capitalized() + "ChangeListener(ChangeListener<? super " + property.valueTypeName() + "> changeListener)",
+               "getConfigurator().registerListener(getNode()." + property.name() + "Property(), changeListener);");
+        method(source, "Adds an {@link InvalidationListener} to the " + property.name() + " property of the node.", "invalidationListener", "The listener to add.",
+               "add" + property.capitalized() + "InvalidationListener(InvalidationListener invalidationListener)",
+               "getConfigurator().registerListener(getNode()." + property.name() + "Property(), invalidationListener);");
+    }
+
+    /**
+     * Appends the remove listener methods of a property.
+     *
+     * @param source
+     *         The source being generated.
+     * @param property
+     *         The property.
+     */
+    private static void appendRemoveListeners(StringBuilder source, PropertyInfo property) {
+        method(source, "Removes a {@link ChangeListener} from the " + property.name() + " property of the node.", "changeListener", "The listener to remove.",
+               "remove" + property.capitalized() + "ChangeListener(ChangeListener<? super " + property.valueTypeName() + "> changeListener)",
+               "getNode()." + property.name() + "Property()\n                 .removeListener(changeListener);");
+        method(source, "Removes an {@link InvalidationListener} from the " + property.name() + " property of the node.", "invalidationListener", "The listener to remove.",
+               "remove" + property.capitalized() + "InvalidationListener(InvalidationListener invalidationListener)",
+               "getNode()." + property.name() + "Property()\n                 .removeListener(invalidationListener);");
+    }
+
+    /**
+     * Appends the binding methods of a writable property.
+     *
+     * @param source
+     *         The source being generated.
+     * @param property
+     *         The property.
+     */
+    private static void appendBindings(StringBuilder source, PropertyInfo property) {
+        if (!property.writable()) {
+            return;
+        }
+        String valueType = property.valueTypeName();
+        method(source, "Binds the " + property.name() + " property of the node to an observable value.", "observableValue", "The observable value to bind to.",
+               "bind" + property.capitalized() + "Property(ObservableValue<? extends " + valueType + "> observableValue)",
+               "getConfigurator().registerBinding(getNode()." + property.name() + "Property(), observableValue);");
+        method(source, "Unbinds the " + property.name() + " property of the node from its current binding.", null, null, "unbind" + property.capitalized() + "Property()",
+               "getNode()." + property.name() + "Property()\n                 .unbind();");
+        method(source, "Creates a bidirectional binding between the " + property.name() + " property of the node and another property.", "otherProperty", "The other property to bind with.",
+               "bindBidirectional" + property.capitalized() + "Property(Property<" + valueType + "> otherProperty)",
+               "getConfigurator().registerBidirectionalBinding(getNode()." + property.name() + "Property(), otherProperty);");
+        method(source, "Removes a bidirectional binding between the " + property.name() + " property of the node and another property.", "otherProperty", "The other property to unbind from.",
+               "unbindBidirectional" + property.capitalized() + "Property(Property<" + valueType + "> otherProperty)",
+               "getNode()." + property.name() + "Property()\n                 .unbindBidirectional(otherProperty);");
+    }
+
+    /**
+     * Appends the set method of a property, if {@link Node} has a public setter for it.
+     *
+     * @param source
+     *         The source being generated.
+     * @param property
+     *         The property.
+     */
+    private static void appendSetter(StringBuilder source, PropertyInfo property) {
+        property.setterType()
+                .ifPresent(type -> method(source, "Sets the " + property.name() + " property of the node.", "value", "The value to set.",
+                                          "set" + property.capitalized() + "(" + type.getSimpleName() + " value)", "getNode().set" + property.capitalized() + "(value);"));
+    }
+
+    /**
+     * Appends a configurator method that runs a statement on the node and returns the configurator.
+     *
+     * @param source
+     *         The source being generated.
+     * @param summary
+     *         The first sentence of the method's documentation.
+     * @param parameter
+     *         The name of the method's parameter, or {@code null} if it has none.
+     * @param parameterDescription
+     *         The documentation of the parameter.
+     * @param signature
+     *         The method name and parameter list.
+     * @param statement
+     *         The statement run on the node.
+     */
+    private static void method(StringBuilder source, String summary, String parameter, String parameterDescription, String signature, String statement) {
+        source.append("\n    /**\n     * ").append(summary).append("\n     *\n");
+        if (parameter != null) {
+            source.append("     * @param ").append(parameter).append("\n     *         ").append(parameterDescription).append("\n     *\n");
+        }
+        source.append("     * @return The configurator instance, for chaining further configuration calls.\n     */\n")
+              .append("    default T ").append(signature).append(" {\n")
+              .append("        ").append(statement).append("\n")
+              .append("        return getConfigurator();\n    }\n");
+    }
+
+    //endregion Generation
+
+    //region Reflection
+    //*****************************************************************
+    // Reflection
+    //*****************************************************************
+
+    /**
+     * Describes a {@link Node} property from its property method and setter.
+     *
+     * @param name
+     *         The property name, for example {@code accessibleText}.
+     *
+     * @return The description of the property.
+     */
+    private static PropertyInfo describe(String name) {
+        Method propertyMethod;
+        try {
+            propertyMethod = Node.class.getMethod(name + "Property");
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Node has no property named " + name, e);
+        }
+
+        String      capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Class<?>    rawType     = propertyMethod.getReturnType();
+        Class<?>    setterType  = Arrays.stream(Node.class.getMethods())
+                                        .filter(method -> method.getName()
+                                                                .equals("set" + capitalized) && method.getParameterCount() == 1)
+                                        .map(method -> method.getParameterTypes()[0])
+                                        .findFirst()
+                                        .orElse(null);
+        return new PropertyInfo(name, capitalized, valueType(propertyMethod.getGenericReturnType(), rawType), Property.class.isAssignableFrom(rawType), Optional.ofNullable(setterType));
+    }
+
+    /**
+     * Resolves the value type a property is observed and bound with: {@link Number} for numeric properties, {@link Boolean} and {@link String} for those properties, and the type argument of object
+     * properties.
+     *
+     * @param genericType
+     *         The generic return type of the property method.
+     * @param rawType
+     *         The raw return type of the property method.
+     *
+     * @return The value type.
+     */
+    private static Class<?> valueType(Type genericType, Class<?> rawType) {
+        if (genericType instanceof ParameterizedType parameterized && parameterized.getActualTypeArguments()[0] instanceof Class<?> argument) {
+            return argument;
+        }
+        if (ReadOnlyDoubleProperty.class.isAssignableFrom(rawType) || ReadOnlyIntegerProperty.class.isAssignableFrom(rawType) || ReadOnlyFloatProperty.class.isAssignableFrom(rawType) ||
+            ReadOnlyLongProperty.class.isAssignableFrom(rawType)) {
+            return Number.class;
+        }
+        if (ReadOnlyBooleanProperty.class.isAssignableFrom(rawType)) {
+            return Boolean.class;
+        }
+        if (ReadOnlyStringProperty.class.isAssignableFrom(rawType)) {
+            return String.class;
+        }
+        if (ObservableValue.class.isAssignableFrom(rawType)) {
+            return Object.class;
+        }
+        throw new IllegalStateException("Unsupported property type " + rawType.getName());
+    }
+
+    /**
+     * Adds the import a type needs, if any.
+     *
+     * @param imports
+     *         The imports of the source being generated.
+     * @param type
+     *         The type used in the source.
+     */
+    private static void addImport(Set<String> imports, Class<?> type) {
+        if (!type.isPrimitive() && !type.getPackageName()
+                                        .equals("java.lang")) {
+            imports.add(type.getName());
+        }
+    }
+
+    //endregion Reflection
+
+    /**
+     * A generated mixin.
+     *
+     * @param name
+     *         The name of the mixin interface.
+     * @param accessor
+     *         The name of the {@code NodeConfig} method returning the mixin.
+     * @param description
+     *         What the mixin configures, completing "Configurator mixin for".
+     * @param properties
+     *         The names of the {@link Node} properties of the mixin.
+     */
+    private record Mixin(String name, String accessor, String description, List<String> properties) {}
+
+    /**
+     * A {@link Node} property of a mixin.
+     *
+     * @param name
+     *         The property name.
+     * @param capitalized
+     *         The property name with its first letter in upper case.
+     * @param valueType
+     *         The type the property is observed and bound with.
+     * @param writable
+     *         Whether the property can be bound.
+     * @param setterType
+     *         The parameter type of the property's setter, if it has one.
+     */
+    private record PropertyInfo(String name, String capitalized, Class<?> valueType, boolean writable, Optional<Class<?>> setterType) {
+        /**
+         * Returns the name the value type is written with in the generated source.
+         *
+         * @return The simple name of the value type.
+         */
+        private String valueTypeName() {
+            return valueType.getSimpleName();
+        }
+    }
+
+    /**
+     * Appends the methods of one property to a generated source.
+     */
+    @FunctionalInterface
+    private interface MethodGenerator {
+        void append(StringBuilder source, PropertyInfo property);
+    }
+}
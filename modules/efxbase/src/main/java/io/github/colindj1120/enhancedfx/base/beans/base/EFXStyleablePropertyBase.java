@@ -17,6 +17,8 @@
  */
 package io.github.colindj1120.enhancedfx.base.beans.base;
 
+import io.github.colindj1120.enhancedfx.base.css.CssKey;
+import io.github.colindj1120.enhancedfx.base.css.CssPassProfiler;
 import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
 import javafx.beans.value.ObservableValue;
 import javafx.css.CssMetaData;
@@ -159,15 +161,27 @@ public abstract class EFXStyleablePropertyBase<C extends EFXStyleablePropertyBas
 
     /**
      * {@inheritDoc}
+     *
+     * <p>While the {@link CssPassProfiler} is enabled, each application is recorded with whether it changed the value and the time it took.</p>
      */
     @Override
     public void applyStyle(StyleOrigin origin, T v) {
         //This was overridden to prevent null pointer exceptions if the origin is null
         //TODO: double check above statement
-        if (Objects.nonNull(origin)) {
+        if (Objects.isNull(origin)) {
+            return;
+        }
+        if (!CssPassProfiler.isEnabled()) {
             set(v);
             this.origin = origin;
+            return;
         }
+
+        long start    = System.nanoTime();
+        T    oldValue = get();
+        set(v);
+        this.origin = origin;
+        CssPassProfiler.recordApplyStyle(getBean(), cssMetaData.getProperty(), !Objects.equals(oldValue, get()), System.nanoTime() - start);
     }
 
     /**
@@ -240,5 +254,21 @@ public abstract class EFXStyleablePropertyBase<C extends EFXStyleablePropertyBas
             this.cssMetaData = cssMetaData;
             return getBuilder();
         }
+
+        /**
+         * Sets the CSS metadata for the property being built from a typed {@link CssKey}.
+         *
+         * @param cssKey
+         *         The key referring to the CSS metadata.
+         *
+         * @return This builder instance.
+         *
+         * @throws IllegalArgumentException
+         *         If the key is null.
+         */
+        public P cssMetaData(CssKey<? extends Styleable, T> cssKey) {
+            EFXObjectUtils.isNotNull(cssKey, () -> "CssKey cannot be null");
+            return cssMetaData(cssKey.getCssMetaData());
+        }
     }
 }
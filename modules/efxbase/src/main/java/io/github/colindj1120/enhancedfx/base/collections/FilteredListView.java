@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections;
+
+import io.github.colindj1120.enhancedfx.base.collections.base.ListChangeItem;
+import io.github.colindj1120.enhancedfx.base.collections.base.ObservableDerivedView;
+import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * The {@code FilteredListView} class is a live, filtered projection of an {@link ObservableLinkedList}. Only elements matching the current {@link Predicate} are contained in the view.
+ *
+ * <p>Matching elements are stored in an insertion-ordered hash multiset, so every single-element change of the source list is tested against the predicate and applied in constant time. Because
+ * {@link ListChangeItem} does not carry positional information, elements that are added to the source after the view was built appear in the order they arrived, while a rebuild restores source
+ * order. Chain the view with a {@link SortedListView} when a specific order is required.</p>
+ *
+ * <p>Changing the predicate through {@link #predicateProperty()} re-filters the whole source once and notifies listeners with a single {@link UpdateActions#BULK_REPLACED} item. For sources of at
+ * least {@link #PARALLEL_THRESHOLD} elements the predicate is evaluated in parallel on the common fork-join pool, which keeps search-as-you-type responsive over large lists. The predicate must
+ * therefore be free of side effects and safe to call from multiple threads.</p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * ObservableLinkedList<Item> items = new ObservableLinkedList<>(loadItems());
+ * FilteredListView<Item> matches = items.filtered(item -> true);
+ *
+ * searchField.textProperty().addListener((obs, oldText, newText) -> matches.setPredicate(item -> item.getName().contains(newText)));
+ * }</pre>
+ *
+ * @param <E>
+ *         the type of elements held in the source list
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see ObservableLinkedList#filtered(Predicate)
+ * @see ObservableDerivedView
+ */
+public final class FilteredListView<E> extends ObservableDerivedView<E> implements Iterable<E> {
+    /**
+     * The minimum source size at which a predicate change is evaluated in parallel on the common fork-join pool.
+     */
+    public static final int PARALLEL_THRESHOLD = 10_000;
+
+    private final ObjectProperty<Predicate<? super E>> predicate;
+
+    private LinkedHashMap<E, Integer> matches = new LinkedHashMap<>();
+    private int                       size;
+
+    /**
+     * Constructs a {@code FilteredListView} over the given source list and immediately populates it with the matching contents of the source.
+     *
+     * @param source
+     *         the {@link ObservableLinkedList} to filter
+     * @param predicate
+     *         the {@link Predicate} elements must match to be contained in the view, or {@code null} to match every element
+     *
+     * @throws IllegalArgumentException
+     *         if {@code source} is null
+     */
+    public FilteredListView(ObservableLinkedList<E> source, Predicate<? super E> predicate) {
+        super(source);
+        this.predicate = new SimpleObjectProperty<>(this, "predicate", predicate) {
+            @Override
+            protected void invalidated() {
+                rebuild(getSource());
+            }
+        };
+        rebuild(source);
+        attach();
+    }
+
+    @Override
+    protected void elementAdded(E element) {
+        if (test(element)) {
+            matches.merge(element, 1, Integer::sum);
+            size++;
+            notifyActionListeners(new ListChangeItem<>(UpdateActions.ADDED, null, element));
+        }
+    }
+
+    @Override
+    protected void elementRemoved(E element) {
+        Integer count = matches.get(element);
+        if (Objects.nonNull(count)) {
+            if (count == 1) {
+                matches.remove(element);
+            } else {
+                matches.put(element, count - 1);
+            }
+            size--;
+            notifyActionListeners(new ListChangeItem<>(UpdateActions.REMOVED, element, null));
+        }
+    }
+
+    @Override
+    protected void rebuild(Collection<E> elements) {
+        List<E> before = hasActionListeners() ? toList() : Collections.emptyList();
+
+        Stream<E> stream = elements.size() >= PARALLEL_THRESHOLD ? new ArrayList<>(elements).parallelStream() : elements.stream();
+        List<E>   result = stream.filter(this::test)
+                                 .toList();
+
+        LinkedHashMap<E, Integer> rebuilt = new LinkedHashMap<>();
+        result.forEach(element -> rebuilt.merge(element, 1, Integer::sum));
+        matches = rebuilt;
+        size    = result.size();
+
+        if (hasActionListeners()) {
+            notifyActionListeners(new ListChangeItem<>(UpdateActions.BULK_REPLACED, before, result));
+        }
+    }
+
+    /**
+     * Tests an element against the current predicate, treating a {@code null} predicate as matching every element.
+     *
+     * @param element
+     *         the element to test
+     *
+     * @return {@code true} if the element belongs in the view
+     */
+    private boolean test(E element) {
+        Predicate<? super E> current = predicate.get();
+        return Objects.isNull(current) || current.test(element);
+    }
+
+    /**
+     * Returns the number of elements in this view.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether this view contains no elements.
+     *
+     * @return {@code true} if the view is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks whether the given element is contained in this view. This is a constant-time lookup.
+     *
+     * @param element
+     *         the element to look up
+     *
+     * @return {@code true} if the element is contained in the view
+     */
+    public boolean contains(Object element) {
+        return matches.containsKey(element);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the elements of this view.
+     *
+     * @return a stream of the view's elements
+     */
+    public Stream<E> stream() {
+        return matches.entrySet()
+                      .stream()
+                      .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey())
+                                                   .stream());
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the elements of this view.
+     *
+     * @return a list containing the view's elements
+     */
+    public List<E> toList() {
+        return stream().toList();
+    }
+
+    @NotNull
+    @Override
+    public Iterator<E> iterator() {
+        return stream().iterator();
+    }
+
+    /**
+     * Returns the property holding the predicate elements must match to be contained in this view. Setting a new predicate re-filters the view once.
+     *
+     * @return the predicate property
+     */
+    public ObjectProperty<Predicate<? super E>> predicateProperty() {
+        return predicate;
+    }
+
+    /**
+     * Returns the predicate elements must match to be contained in this view.
+     *
+     * @return the current predicate, or {@code null} if every element matches
+     */
+    public Predicate<? super E> getPredicate() {
+        return predicate.get();
+    }
+
+    /**
+     * Sets the predicate elements must match to be contained in this view and re-filters it.
+     *
+     * @param predicate
+     *         the new predicate, or {@code null} to match every element
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        this.predicate.set(predicate);
+    }
+}
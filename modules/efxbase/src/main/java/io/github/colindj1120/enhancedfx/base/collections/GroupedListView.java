@@ -0,0 +1,261 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections;
+
+import io.github.colindj1120.enhancedfx.base.collections.base.ListChangeItem;
+import io.github.colindj1120.enhancedfx.base.collections.base.ObservableDerivedView;
+import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * The {@code GroupedListView} class is a live projection of an {@link ObservableLinkedList} that partitions the source elements into groups identified by a key function.
+ *
+ * <p>Groups are kept in a hash map keyed by the derived key, and every group is an insertion-ordered hash multiset of its elements. Each single-element change of the source list therefore touches
+ * exactly one group and is applied in constant time. Groups are created when their first element arrives and discarded when their last element leaves.</p>
+ *
+ * <p>The key function must be stable for an element while that element is contained in the source list, since removals are routed to a group by recomputing the key of the removed element. If the
+ * grouping itself has to change, set a new key function through {@link #keyFunctionProperty()}, which regroups the whole source once.</p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * ObservableLinkedList<Task> tasks = new ObservableLinkedList<>(loadTasks());
+ * GroupedListView<Status, Task> byStatus = tasks.grouped(Task::getStatus);
+ *
+ * int openCount = byStatus.groupSize(Status.OPEN);
+ * }</pre>
+ *
+ * @param <K>
+ *         the type of the group keys
+ * @param <E>
+ *         the type of elements held in the source list
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see ObservableLinkedList#grouped(Function)
+ * @see ObservableDerivedView
+ */
+public final class GroupedListView<K, E> extends ObservableDerivedView<E> {
+    private final ObjectProperty<Function<? super E, ? extends K>> keyFunction;
+
+    private LinkedHashMap<K, Group<E>> groups = new LinkedHashMap<>();
+
+    /**
+     * Constructs a {@code GroupedListView} over the given source list and immediately populates it with the grouped contents of the source.
+     *
+     * @param source
+     *         the {@link ObservableLinkedList} to group
+     * @param keyFunction
+     *         the {@link Function} deriving the group key of an element
+     *
+     * @throws IllegalArgumentException
+     *         if {@code source} or {@code keyFunction} is null
+     */
+    public GroupedListView(ObservableLinkedList<E> source, Function<? super E, ? extends K> keyFunction) {
+        super(source);
+        EFXObjectUtils.isNotNull(keyFunction, () -> "Key function cannot be null when creating a GroupedListView");
+        this.keyFunction = new SimpleObjectProperty<>(this, "keyFunction", keyFunction) {
+            @Override
+            public void set(Function<? super E, ? extends K> newValue) {
+                // Rejected before it is stored, so the view keeps its previous key function and contents
+                EFXObjectUtils.isNotNull(newValue, () -> "Key function of a GroupedListView cannot be null");
+                super.set(newValue);
+            }
+
+            @Override
+            protected void invalidated() {
+                rebuild(getSource());
+            }
+        };
+        rebuild(source);
+        attach();
+    }
+
+    @Override
+    protected void elementAdded(E element) {
+        addToGroup(groups, element);
+        notifyActionListeners(new ListChangeItem<>(UpdateActions.ADDED, null, element));
+    }
+
+    @Override
+    protected void elementRemoved(E element) {
+        K        key   = keyFunction.get()
+                                    .apply(element);
+        Group<E> group = groups.get(key);
+        if (Objects.nonNull(group) && group.remove(element)) {
+            if (group.size == 0) {
+                groups.remove(key);
+            }
+            notifyActionListeners(new ListChangeItem<>(UpdateActions.REMOVED, element, null));
+        }
+    }
+
+    @Override
+    protected void rebuild(Collection<E> elements) {
+        List<E> before = hasActionListeners() ? snapshot() : Collections.emptyList();
+
+        LinkedHashMap<K, Group<E>> rebuilt = new LinkedHashMap<>();
+        elements.forEach(element -> addToGroup(rebuilt, element));
+        groups = rebuilt;
+
+        if (hasActionListeners()) {
+            notifyActionListeners(new ListChangeItem<>(UpdateActions.BULK_REPLACED, before, snapshot()));
+        }
+    }
+
+    /**
+     * Adds an element to the group its key maps to, creating the group if necessary.
+     *
+     * @param target
+     *         the group map to add the element to
+     * @param element
+     *         the element to add
+     */
+    private void addToGroup(Map<K, Group<E>> target, E element) {
+        target.computeIfAbsent(keyFunction.get()
+                                          .apply(element), key -> new Group<>())
+              .add(element);
+    }
+
+    /**
+     * Flattens all groups into a single list, group by group.
+     *
+     * @return a snapshot of every element in this view
+     */
+    private List<E> snapshot() {
+        List<E> all = new ArrayList<>();
+        groups.values()
+              .forEach(group -> all.addAll(group.toList()));
+        return all;
+    }
+
+    /**
+     * Returns an unmodifiable view of the keys of all non-empty groups.
+     *
+     * @return the group keys
+     */
+    public Set<K> keys() {
+        return Collections.unmodifiableSet(groups.keySet());
+    }
+
+    /**
+     * Returns the number of non-empty groups.
+     *
+     * @return the number of groups
+     */
+    public int groupCount() {
+        return groups.size();
+    }
+
+    /**
+     * Returns the number of elements in the group identified by the given key. This is a constant-time lookup.
+     *
+     * @param key
+     *         the group key
+     *
+     * @return the number of elements in the group, or {@code 0} if there is no such group
+     */
+    public int groupSize(K key) {
+        Group<E> group = groups.get(key);
+        return Objects.isNull(group) ? 0 : group.size;
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the elements in the group identified by the given key.
+     *
+     * @param key
+     *         the group key
+     *
+     * @return the elements of the group, or an empty list if there is no such group
+     */
+    public List<E> getGroup(K key) {
+        Group<E> group = groups.get(key);
+        return Objects.isNull(group) ? Collections.emptyList() : group.toList();
+    }
+
+    /**
+     * Returns the property holding the function that derives the group key of an element. Setting a new function regroups the view once.
+     *
+     * @return the key function property
+     */
+    public ObjectProperty<Function<? super E, ? extends K>> keyFunctionProperty() {
+        return keyFunction;
+    }
+
+    /**
+     * Returns the function that derives the group key of an element.
+     *
+     * @return the current key function
+     */
+    public Function<? super E, ? extends K> getKeyFunction() {
+        return keyFunction.get();
+    }
+
+    /**
+     * Sets the function that derives the group key of an element and regroups the view.
+     *
+     * @param keyFunction
+     *         the new key function
+     *
+     * @throws IllegalArgumentException
+     *         if {@code keyFunction} is null, in which case the view keeps its current groups
+     */
+    public void setKeyFunction(Function<? super E, ? extends K> keyFunction) {
+        this.keyFunction.set(keyFunction);
+    }
+
+    /**
+     * An insertion-ordered hash multiset holding the elements of a single group.
+     *
+     * @param <E>
+     *         the type of elements in the group
+     */
+    private static final class Group<E> {
+        private final LinkedHashMap<E, Integer> counts = new LinkedHashMap<>();
+        private       int                       size;
+
+        private void add(E element) {
+            counts.merge(element, 1, Integer::sum);
+            size++;
+        }
+
+        private boolean remove(E element) {
+            Integer count = counts.get(element);
+            if (Objects.isNull(count)) {
+                return false;
+            }
+            if (count == 1) {
+                counts.remove(element);
+            } else {
+                counts.put(element, count - 1);
+            }
+            size--;
+            return true;
+        }
+
+        private List<E> toList() {
+            List<E> list = new ArrayList<>(size);
+            counts.forEach((element, count) -> list.addAll(Collections.nCopies(count, element)));
+            return Collections.unmodifiableList(list);
+        }
+    }
+}
@@ -0,0 +1,605 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections;
+
+import io.github.colindj1120.enhancedfx.base.collections.base.MapChangeItem;
+import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
+
+import java.io.Serial;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * The {@code ObservableCache} class is a bounded, observable in-memory cache built on top of an access-ordered {@link ObservableLinkedHashMap}. It evicts the least recently used entries once a
+ * configured limit is exceeded, and can optionally expire entries a fixed time after they were written.
+ *
+ * <p>Because the cache is an {@link ObservableLinkedHashMap}, it can be observed and bound to the UI like any other observable map. Evictions and expirations are reported to change listeners as
+ * regular {@link UpdateActions#REMOVED} {@link MapChangeItem}s, always after the change that caused them has been reported.</p>
+ *
+ * <h2>Capabilities:</h2>
+ * <ul>
+ *     <li><em>Entry Limit</em>: Caps the number of entries held by the cache.</li>
+ *     <li><em>Weight Limit</em>: Caps the total weight of all entries, where the weight of an entry is computed by a configurable weigher, for example the pixel count of a rendered icon.</li>
+ *     <li><em>Time-To-Live</em>: Expires entries a fixed duration after they were last written. Expiration is checked lazily on lookup using a cheap monotonic clock, and {@link #cleanUp()}
+ *     can be used to sweep all expired entries at once.</li>
+ *     <li><em>Statistics</em>: Counts lookup hits, misses and evictions for tuning the configured limits.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * ObservableCache<String, Image> iconCache = ObservableCache.<String, Image>create()
+ *                                                           .maximumWeight(16_000_000, (name, image) -> (long) (image.getWidth() * image.getHeight()))
+ *                                                           .expireAfterWrite(Duration.ofMinutes(10))
+ *                                                           .build();
+ *
+ * iconCache.addChangeListener(change -> {
+ *     if (change.getUpdateAction() == UpdateActions.REMOVED) {
+ *         System.out.println("Evicted " + change.getKey());
+ *     }
+ * });
+ * }</pre>
+ *
+ * <p>Like its superclass, the cache is not thread safe and is intended to be used from a single thread, typically the JavaFX application thread.</p>
+ *
+ * @param <K>
+ *         the type of keys maintained by this cache
+ * @param <V>
+ *         the type of cached values
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see ObservableLinkedHashMap
+ * @see MapChangeItem
+ */
+public final class ObservableCache<K, V> extends ObservableLinkedHashMap<K, V> {
+    @Serial
+    private static final long serialVersionUID = -4920771553160935207L;
+
+    private transient final long                                   maximumEntries;
+    private transient final long                                   maximumWeight;
+    private transient final ToLongBiFunction<? super K, ? super V> weigher;
+    private transient final long                                   timeToLiveNanos;
+    private transient final LongSupplier                           clock;
+    private transient final Map<K, Long>                           writeTimes = new HashMap<>();
+
+    private transient long totalWeight;
+    private transient long hitCount;
+    private transient long missCount;
+    private transient long evictionCount;
+
+    /**
+     * Creates a new {@link ObservableCacheBuilder} for configuring an {@code ObservableCache}.
+     *
+     * @param <K>
+     *         the type of keys maintained by the cache
+     * @param <V>
+     *         the type of cached values
+     *
+     * @return a new {@link ObservableCacheBuilder}
+     */
+    public static <K, V> ObservableCacheBuilder<K, V> create() {
+        return new ObservableCacheBuilder<>();
+    }
+
+    /**
+     * Constructs an {@code ObservableCache} from the configuration held by the given builder. The underlying map is created in access order so that iteration runs from the least to the most
+     * recently used entry. The bookkeeping listener is registered by {@link ObservableCacheBuilder#build()} once the cache is constructed.
+     *
+     * @param builder
+     *         the {@link ObservableCacheBuilder} containing the configuration for this cache
+     */
+    private ObservableCache(ObservableCacheBuilder<K, V> builder) {
+        super(16, 0.75f, true);
+        this.maximumEntries  = builder.maximumEntries;
+        this.maximumWeight   = builder.maximumWeight;
+        this.weigher         = builder.weigher;
+        this.timeToLiveNanos = builder.timeToLive.toNanos();
+        this.clock           = builder.clock;
+    }
+
+    //region Lookup
+    //*****************************************************************
+    // Lookup
+    //*****************************************************************
+
+    /**
+     * Returns the value to which the specified key is mapped, marking the entry as most recently used. Expired entries are removed, reported as evictions, and count as a miss.
+     *
+     * @param key
+     *         the key whose associated value is to be returned
+     *
+     * @return the cached value, or {@code null} if there is no live entry for the key
+     */
+    @Override
+    public V get(Object key) {
+        if (expireIfStale(key) || !super.containsKey(key)) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return super.get(key);
+    }
+
+    /**
+     * Checks whether the cache holds a live entry for the specified key. An entry that has outlived the configured time-to-live is reported as absent, as it is by {@link #get(Object)}, but it is
+     * neither removed nor counted as a lookup, so this check never modifies the cache.
+     *
+     * @param key
+     *         the key whose presence is to be tested
+     *
+     * @return {@code true} if the cache holds a live entry for the key
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return super.containsKey(key) && !isStale(key);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if there is no live entry for the key. Hits and misses are counted in the same way as {@link #get(Object)}.
+     *
+     * @param key
+     *         the key whose associated value is to be returned
+     * @param defaultValue
+     *         the value to return if there is no live entry for the key
+     *
+     * @return the cached value, or {@code defaultValue}
+     */
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        V value = get(key);
+        return Objects.nonNull(value) || super.containsKey(key) ? value : defaultValue;
+    }
+
+    //endregion Lookup
+
+    //region Mutations
+    //*****************************************************************
+    // Mutations
+    //*****************************************************************
+
+    @Override
+    public V put(K key, V value) {
+        V oldValue = super.put(key, value);
+        evictIfNeeded();
+        return oldValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        super.putAll(m);
+        evictIfNeeded();
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        expireIfStale(key);
+        V oldValue = super.putIfAbsent(key, value);
+        evictIfNeeded();
+        return oldValue;
+    }
+
+    @Override
+    public V putFirst(K key, V value) {
+        V oldValue = super.putFirst(key, value);
+        evictIfNeeded();
+        return oldValue;
+    }
+
+    @Override
+    public V putLast(K key, V value) {
+        V oldValue = super.putLast(key, value);
+        evictIfNeeded();
+        return oldValue;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        V oldValue = super.replace(key, value);
+        evictIfNeeded();
+        return oldValue;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        boolean replaced = super.replace(key, oldValue, newValue);
+        evictIfNeeded();
+        return replaced;
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        super.replaceAll(function);
+        evictIfNeeded();
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        expireIfStale(key);
+        V newValue = super.merge(key, value, remappingFunction);
+        evictIfNeeded();
+        return newValue;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        expireIfStale(key);
+        V newValue = super.compute(key, remappingFunction);
+        evictIfNeeded();
+        return newValue;
+    }
+
+    /**
+     * Returns the cached value for the key, computing and caching it if there is no live entry. A cached value counts as a hit, a computed value as a miss.
+     *
+     * @param key
+     *         the key with which the resulting value is to be associated
+     * @param mappingFunction
+     *         the function to compute a value
+     *
+     * @return the cached or newly computed value
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        expireIfStale(key);
+        if (super.containsKey(key)) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        V value = super.computeIfAbsent(key, mappingFunction);
+        evictIfNeeded();
+        return value;
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        expireIfStale(key);
+        V newValue = super.computeIfPresent(key, remappingFunction);
+        evictIfNeeded();
+        return newValue;
+    }
+
+    //endregion Mutations
+
+    //region Eviction
+    //*****************************************************************
+    // Eviction
+    //*****************************************************************
+
+    /**
+     * Removes every expired entry from the cache. Each removal is counted as an eviction and reported to change listeners as a {@link UpdateActions#REMOVED} item.
+     *
+     * @return the number of entries that were removed
+     */
+    public int cleanUp() {
+        if (timeToLiveNanos <= 0) {
+            return 0;
+        }
+        long    now     = clock.getAsLong();
+        List<K> expired = writeTimes.entrySet()
+                                    .stream()
+                                    .filter(entry -> now - entry.getValue() >= timeToLiveNanos)
+                                    .map(Map.Entry::getKey)
+                                    .toList();
+        expired.forEach(this::evict);
+        return expired.size();
+    }
+
+    /**
+     * Removes the entry for the key if it has outlived the configured time-to-live.
+     *
+     * @param key
+     *         the key to check
+     *
+     * @return {@code true} if an expired entry was removed
+     */
+    private boolean expireIfStale(Object key) {
+        if (isStale(key)) {
+            evict(key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the entry for the key has outlived the configured time-to-live.
+     *
+     * @param key
+     *         the key to check
+     *
+     * @return {@code true} if the entry exists and has expired
+     */
+    private boolean isStale(Object key) {
+        if (timeToLiveNanos <= 0) {
+            return false;
+        }
+        Long writeTime = writeTimes.get(key);
+        return Objects.nonNull(writeTime) && clock.getAsLong() - writeTime >= timeToLiveNanos;
+    }
+
+    /**
+     * Evicts least recently used entries until the cache satisfies both its entry and weight limits.
+     */
+    private void evictIfNeeded() {
+        while ((size() > maximumEntries || totalWeight > maximumWeight) && !isEmpty()) {
+            evict(firstEntry().getKey());
+        }
+    }
+
+    /**
+     * Removes an entry as an eviction, which notifies change listeners with a {@link UpdateActions#REMOVED} item.
+     *
+     * @param key
+     *         the key of the entry to evict
+     */
+    private void evict(Object key) {
+        evictionCount++;
+        remove(key);
+    }
+
+    /**
+     * Keeps the total weight and the write timestamps in sync with the contents of the map. This is driven by the map's own change notifications, which also cover removals and replacements made
+     * through the key, value and entry views, so that every mutation path is covered.
+     *
+     * @param change
+     *         the change reported by the map
+     */
+    private void updateBookkeeping(MapChangeItem<K, V> change) {
+        switch (change.getUpdateAction()) {
+            case ADDED, REPLACED -> {
+                if (Objects.nonNull(change.getOldElement())) {
+                    totalWeight -= weigher.applyAsLong(change.getKey(), change.getOldElement());
+                }
+                if (Objects.nonNull(change.getNewElement())) {
+                    totalWeight += weigher.applyAsLong(change.getKey(), change.getNewElement());
+                    recordWrite(change.getKey());
+                } else {
+                    writeTimes.remove(change.getKey());
+                }
+            }
+            case REMOVED -> {
+                totalWeight -= weigher.applyAsLong(change.getKey(), change.getOldElement());
+                writeTimes.remove(change.getKey());
+            }
+            case BULK_ADD, BULK_REMOVE, BULK_REPLACED, CLEARED -> resynchronize(change.getOldMap());
+        }
+    }
+
+    /**
+     * Recomputes the total weight after a bulk change and refreshes the write timestamps of all entries that were added or changed by it.
+     *
+     * @param before
+     *         the state of the map before the bulk change
+     */
+    private void resynchronize(Map<K, V> before) {
+        Map<K, V> previous = Objects.isNull(before) ? Collections.emptyMap() : before;
+        totalWeight = 0;
+        writeTimes.keySet()
+                  .retainAll(super.keySet());
+        super.forEach((key, value) -> {
+            totalWeight += weigher.applyAsLong(key, value);
+            if (!previous.containsKey(key) || !Objects.equals(previous.get(key), value)) {
+                recordWrite(key);
+            }
+        });
+    }
+
+    /**
+     * Records the current clock time as the write time of the given key when a time-to-live is configured.
+     *
+     * @param key
+     *         the key that was written
+     */
+    private void recordWrite(K key) {
+        if (timeToLiveNanos > 0) {
+            writeTimes.put(key, clock.getAsLong());
+        }
+    }
+
+    //endregion Eviction
+
+    //region Statistics
+    //*****************************************************************
+    // Statistics
+    //*****************************************************************
+
+    /**
+     * Returns the number of lookups that found a live entry.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a live entry.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries removed because a limit was exceeded or their time-to-live elapsed. Explicit removals are not counted.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the ratio of hits to all lookups, or {@code 1.0} if no lookups have been made yet.
+     *
+     * @return the hit rate between {@code 0.0} and {@code 1.0}
+     */
+    public double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 1.0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * Returns the total weight of all entries currently held by the cache.
+     *
+     * @return the total weight
+     */
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters to zero.
+     */
+    public void resetStatistics() {
+        hitCount      = 0;
+        missCount     = 0;
+        evictionCount = 0;
+    }
+
+    //endregion Statistics
+
+    //region Builder
+    //*****************************************************************
+    // Builder
+    //*****************************************************************
+
+    /**
+     * The builder class for {@link ObservableCache}, providing a fluent API for configuring the limits and expiration policy of the cache.
+     *
+     * <p>Without any configuration the resulting cache is unbounded and never expires entries, behaving like a plain access-ordered {@link ObservableLinkedHashMap} with statistics.</p>
+     *
+     * @param <K>
+     *         the type of keys maintained by the cache
+     * @param <V>
+     *         the type of cached values
+     */
+    public static class ObservableCacheBuilder<K, V> {
+        private long                                   maximumEntries = Long.MAX_VALUE;
+        private long                                   maximumWeight  = Long.MAX_VALUE;
+        private ToLongBiFunction<? super K, ? super V> weigher        = (key, value) -> 1L;
+        private Duration                               timeToLive     = Duration.ZERO;
+        private LongSupplier                           clock          = System::nanoTime;
+
+        /**
+         * Constructs a new {@code ObservableCacheBuilder} with no limits and no expiration.
+         */
+        public ObservableCacheBuilder() {}
+
+        /**
+         * Sets the maximum number of entries the cache may hold before the least recently used entries are evicted.
+         *
+         * @param maximumEntries
+         *         the maximum number of entries, must be positive
+         *
+         * @return this builder
+         *
+         * @throws IllegalArgumentException
+         *         if {@code maximumEntries} is not positive
+         */
+        public ObservableCacheBuilder<K, V> maximumEntries(long maximumEntries) {
+            if (maximumEntries <= 0) {
+                throw new IllegalArgumentException("Maximum entries must be positive");
+            }
+            this.maximumEntries = maximumEntries;
+            return this;
+        }
+
+        /**
+         * Sets the maximum total weight of all entries before the least recently used entries are evicted, together with the weigher used to compute the weight of a single entry. The weigher must
+         * return the same, non-negative weight for an entry for as long as it is cached.
+         *
+         * @param maximumWeight
+         *         the maximum total weight, must be positive
+         * @param weigher
+         *         the function computing the weight of an entry
+         *
+         * @return this builder
+         *
+         * @throws IllegalArgumentException
+         *         if {@code maximumWeight} is not positive or {@code weigher} is null
+         */
+        public ObservableCacheBuilder<K, V> maximumWeight(long maximumWeight, ToLongBiFunction<? super K, ? super V> weigher) {
+            if (maximumWeight <= 0) {
+                throw new IllegalArgumentException("Maximum weight must be positive");
+            }
+            EFXObjectUtils.isNotNull(weigher, () -> "Weigher cannot be null");
+            this.maximumWeight = maximumWeight;
+            this.weigher       = weigher;
+            return this;
+        }
+
+        /**
+         * Sets the time after which an entry expires once it has been written. A zero duration disables expiration.
+         *
+         * @param timeToLive
+         *         the time-to-live of an entry
+         *
+         * @return this builder
+         *
+         * @throws IllegalArgumentException
+         *         if {@code timeToLive} is null or negative
+         */
+        public ObservableCacheBuilder<K, V> expireAfterWrite(Duration timeToLive) {
+            EFXObjectUtils.isNotNull(timeToLive, () -> "Time to live cannot be null");
+            if (timeToLive.isNegative()) {
+                throw new IllegalArgumentException("Time to live cannot be negative");
+            }
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the monotonic clock, in nanoseconds, used to timestamp writes and check expiration. Defaults to {@link System#nanoTime()}; a coarser clock can be supplied where even that is too
+         * expensive, or a manual clock in tests.
+         *
+         * @param clock
+         *         the clock supplying the current time in nanoseconds
+         *
+         * @return this builder
+         *
+         * @throws IllegalArgumentException
+         *         if {@code clock} is null
+         */
+        public ObservableCacheBuilder<K, V> clock(LongSupplier clock) {
+            EFXObjectUtils.isNotNull(clock, () -> "Clock cannot be null");
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Finalizes the construction of an {@link ObservableCache} instance.
+         *
+         * @return a new instance of {@code ObservableCache}
+         */
+        public ObservableCache<K, V> build() {
+            ObservableCache<K, V> cache = new ObservableCache<>(this);
+            // Registered first so that the bookkeeping is up to date before any other listener observes a change.
+            cache.addChangeListener(cache::updateBookkeeping);
+            return cache;
+        }
+    }
+
+    //endregion Builder
+}
@@ -17,8 +17,10 @@
  */
 package io.github.colindj1120.enhancedfx.base.collections;
 
+import io.github.colindj1120.enhancedfx.base.collections.base.ChangeJournal;
 import io.github.colindj1120.enhancedfx.base.collections.base.MapChangeItem;
 import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.Serial;
@@ -59,6 +61,11 @@ public class ObservableLinkedHashMap<K, V> extends LinkedHashMap<K, V> {
 
     private transient final List<Consumer<MapChangeItem<K, V>>> onChangeListeners = new ArrayList<>();
 
+    private transient ChangeJournal<MapChangeItem<K, V>> journal;
+    private transient Consumer<MapChangeItem<K, V>>      journalListener;
+
+    private transient Map<String, SecondaryIndex<K, V, ?>> indexes;
+
     /**
      * Constructs an empty {@code ObservableLinkedHashMap} instance with default initial capacity and load factor.
      */
@@ -133,12 +140,192 @@ public class ObservableLinkedHashMap<K, V> extends LinkedHashMap<K, V> {
     }
 
     /**
-     * Notifies all registered change listeners about a change in the map. The method constructs a {@link MapChangeItem} describing the change and passes it to each listener.
+     * Enables a {@link ChangeJournal} that records every change notification of this map with a monotonically increasing sequence number, retaining the most recent {@code capacity} changes.
+     *
+     * <p>Bulk change items normally reference this map itself as their new state. Before such an item is recorded its new state is copied, so that journal consumers reading it later observe the map
+     * as it was at the time of the change. If a journal is already enabled it is returned unchanged.</p>
+     *
+     * @param capacity
+     *         the number of changes retained by the journal
+     *
+     * @return the journal recording changes of this map
+     */
+    public ChangeJournal<MapChangeItem<K, V>> enableJournal(int capacity) {
+        if (Objects.isNull(journal)) {
+            ChangeJournal<MapChangeItem<K, V>> newJournal = new ChangeJournal<>(capacity);
+            journalListener = change -> newJournal.append(change.getNewMap() == this ? new MapChangeItem<>(change.getUpdateAction(), change.getOldMap(), new LinkedHashMap<>(this)) : change);
+            journal         = newJournal;
+            addChangeListener(journalListener);
+        }
+        return journal;
+    }
+
+    /**
+     * Stops recording changes of this map. Consumers holding a reference to the journal can still read the changes it retained.
+     */
+    public void disableJournal() {
+        if (Objects.nonNull(journal)) {
+            removeChangeListener(journalListener);
+            journal         = null;
+            journalListener = null;
+        }
+    }
+
+    /**
+     * Returns the journal recording changes of this map, if one has been enabled.
+     *
+     * @return an {@link Optional} containing the journal, or an empty {@code Optional} if journaling is disabled
+     */
+    public Optional<ChangeJournal<MapChangeItem<K, V>>> getJournal() {
+        return Optional.ofNullable(journal);
+    }
+
+    /**
+     * Adds a secondary index over the values of this map. The index maps a key derived from each value to the entries that produce it, allowing entries to be looked up by a derived attribute, such
+     * as a status or a category, in constant time instead of scanning the whole map.
+     *
+     * <p>The index is populated immediately and then maintained incrementally from this map's own change notifications. It is updated before any change listener is notified, so listeners can
+     * safely query it. If a value is mutated in place in a way that changes its derived key, call {@link #reindex(Object)} for its key.</p>
+     *
+     * <h2>Usage Example:</h2>
+     * <pre>{@code
+     * ObservableLinkedHashMap<String, Task> tasks = new ObservableLinkedHashMap<>();
+     * tasks.addIndex("status", Task::getStatus);
+     *
+     * int openCount = tasks.count("status", Status.OPEN);
+     * Map<String, Task> blocked = tasks.lookup("status", Status.BLOCKED);
+     * }</pre>
+     *
+     * @param <I>
+     *         the type of the derived index keys
+     * @param name
+     *         the name identifying the index
+     * @param keyFunction
+     *         the function deriving the index key of a value
+     *
+     * @throws IllegalArgumentException
+     *         if {@code name} or {@code keyFunction} is null, or an index with the same name already exists
+     */
+    public <I> void addIndex(String name, Function<? super V, ? extends I> keyFunction) {
+        EFXObjectUtils.isNotNull(name, () -> "Index name cannot be null");
+        EFXObjectUtils.isNotNull(keyFunction, () -> "Index key function cannot be null");
+        if (Objects.isNull(indexes)) {
+            indexes = new LinkedHashMap<>();
+        }
+        if (indexes.containsKey(name)) {
+            throw new IllegalArgumentException(String.format("An index named %s already exists", name));
+        }
+        indexes.put(name, new SecondaryIndex<>(keyFunction, this));
+    }
+
+    /**
+     * Removes a secondary index previously added with {@link #addIndex(String, Function)}.
+     *
+     * @param name
+     *         the name identifying the index
+     *
+     * @return {@code true} if an index with that name existed
+     */
+    public boolean removeIndex(String name) {
+        return Objects.nonNull(indexes) && Objects.nonNull(indexes.remove(name));
+    }
+
+    /**
+     * Returns an unmodifiable view of the entries whose values derive the given key in the named index. This is a constant-time lookup.
+     *
+     * @param indexName
+     *         the name identifying the index
+     * @param derivedKey
+     *         the derived key to look up
+     *
+     * @return the matching entries, or an empty map if there are none
+     *
+     * @throws IllegalArgumentException
+     *         if no index with that name exists
+     */
+    public Map<K, V> lookup(String indexName, Object derivedKey) {
+        return getIndex(indexName).lookup(derivedKey);
+    }
+
+    /**
+     * Returns the number of entries whose values derive the given key in the named index. This is a constant-time lookup.
+     *
+     * @param indexName
+     *         the name identifying the index
+     * @param derivedKey
+     *         the derived key to look up
+     *
+     * @return the number of matching entries
+     *
+     * @throws IllegalArgumentException
+     *         if no index with that name exists
+     */
+    public int count(String indexName, Object derivedKey) {
+        return getIndex(indexName).count(derivedKey);
+    }
+
+    /**
+     * Returns an unmodifiable view of all derived keys that currently have at least one entry in the named index.
+     *
+     * @param indexName
+     *         the name identifying the index
+     *
+     * @return the derived keys in use
+     *
+     * @throws IllegalArgumentException
+     *         if no index with that name exists
+     */
+    public Set<?> indexKeys(String indexName) {
+        return getIndex(indexName).keys();
+    }
+
+    /**
+     * Re-files the entry for the given key in every secondary index. This is only necessary when a value has been mutated in place in a way that changes a derived key, since such a mutation does
+     * not produce a change notification.
+     *
+     * @param key
+     *         the key of the entry to re-file
+     */
+    @SuppressWarnings("unchecked")
+    public void reindex(Object key) {
+        if (Objects.nonNull(indexes) && super.containsKey(key)) {
+            V value = super.get(key);
+            indexes.values()
+                   .forEach(index -> index.put((K) key, value));
+        }
+    }
+
+    /**
+     * Returns the secondary index with the given name.
+     *
+     * @param indexName
+     *         the name identifying the index
+     *
+     * @return the index
+     *
+     * @throws IllegalArgumentException
+     *         if no index with that name exists
+     */
+    private SecondaryIndex<K, V, ?> getIndex(String indexName) {
+        SecondaryIndex<K, V, ?> index = Objects.isNull(indexes) ? null : indexes.get(indexName);
+        if (Objects.isNull(index)) {
+            throw new IllegalArgumentException(String.format("No index named %s exists", indexName));
+        }
+        return index;
+    }
+
+    /**
+     * Notifies all registered change listeners about a change in the map. The method constructs a {@link MapChangeItem} describing the change and passes it to each listener. Secondary indexes are
+     * updated before any listener is notified.
      *
      * @param mapChangeItem
      *         the {@link MapChangeItem} describing the change
      */
     private void notifyChangeListeners(MapChangeItem<K, V> mapChangeItem) {
+        if (Objects.nonNull(indexes)) {
+            indexes.values()
+                   .forEach(index -> index.apply(mapChangeItem, this, super::containsKey));
+        }
         onChangeListeners.forEach(listener -> listener.accept(mapChangeItem));
     }
 
@@ -417,6 +604,102 @@ public class ObservableLinkedHashMap<K, V> extends LinkedHashMap<K, V> {
         return newValue; // Return the newly computed value or null if the computation did not yield a mapping
     }
 
+    /**
+     * Removes the entry for the specified key only if it is currently mapped to the specified value. All registered change listeners are notified of the removal.
+     *
+     * @param key
+     *         key whose mapping is to be removed from the map
+     * @param value
+     *         value expected to be associated with the specified key
+     *
+     * @return {@code true} if the entry was removed
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean remove(Object key, Object value) {
+        boolean removed = super.remove(key, value);
+        if (removed) {
+            notifyChangeListeners(new MapChangeItem<>(UpdateActions.REMOVED, (K) key, (V) value, null));
+        }
+        return removed;
+    }
+
+    /**
+     * Returns a {@link Set} view of the keys contained in this map. Removing keys through the view, its iterator, {@code removeIf} or {@code retainAll} notifies change listeners in the same way as
+     * {@link #remove(Object)}.
+     *
+     * @return a set view of the keys contained in this map
+     */
+    @Override
+    public Set<K> keySet() {
+        return sequencedKeySet();
+    }
+
+    /**
+     * Returns a {@link SequencedSet} view of the keys contained in this map, with the same notifying behaviour as {@link #keySet()}.
+     *
+     * @return a sequenced set view of the keys contained in this map
+     */
+    @Override
+    public SequencedSet<K> sequencedKeySet() {
+        return new ObservedKeySet(false);
+    }
+
+    /**
+     * Returns a {@link Collection} view of the values contained in this map. Removing values through the view, its iterator, {@code removeIf} or {@code retainAll} notifies change listeners in the
+     * same way as {@link #remove(Object)}.
+     *
+     * @return a collection view of the values contained in this map
+     */
+    @Override
+    public Collection<V> values() {
+        return sequencedValues();
+    }
+
+    /**
+     * Returns a {@link SequencedCollection} view of the values contained in this map, with the same notifying behaviour as {@link #values()}.
+     *
+     * @return a sequenced collection view of the values contained in this map
+     */
+    @Override
+    public SequencedCollection<V> sequencedValues() {
+        return new ObservedValues(false);
+    }
+
+    /**
+     * Returns a {@link Set} view of the mappings contained in this map. Removing entries through the view, its iterator, {@code removeIf} or {@code retainAll} notifies change listeners in the same
+     * way as {@link #remove(Object)}, and {@link Map.Entry#setValue(Object)} on an entry of the view is reported as a {@link UpdateActions#REPLACED} change.
+     *
+     * @return a set view of the mappings contained in this map
+     */
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return sequencedEntrySet();
+    }
+
+    /**
+     * Returns a {@link SequencedSet} view of the mappings contained in this map, with the same notifying behaviour as {@link #entrySet()}.
+     *
+     * @return a sequenced set view of the mappings contained in this map
+     */
+    @Override
+    public SequencedSet<Map.Entry<K, V>> sequencedEntrySet() {
+        return new ObservedEntrySet(false);
+    }
+
+    /**
+     * Returns the entries of the underlying {@link LinkedHashMap}, which are modified without notifying change listeners. The views of this map are built on top of it.
+     *
+     * @param reversed
+     *         {@code true} to return the entries in reverse order
+     *
+     * @return the entries of the underlying map
+     */
+    private SequencedSet<Map.Entry<K, V>> rawEntries(boolean reversed) {
+        SequencedSet<Map.Entry<K, V>> entries = super.sequencedEntrySet();
+        return reversed ? entries.reversed() : entries;
+    }
+
     /**
      * Returns the state of the map before any changes were made.
      *
@@ -428,4 +711,211 @@ public class ObservableLinkedHashMap<K, V> extends LinkedHashMap<K, V> {
     private Map<K, V> getBeforeState() {
         return onChangeListeners.isEmpty() ? null : new LinkedHashMap<>(this);
     }
+
+    /**
+     * Iterates the entries of the underlying map and notifies change listeners when an element is removed through the iterator. The removal goes through the underlying iterator, so iteration can
+     * continue afterwards.
+     *
+     * @param <T>
+     *         the type of the elements returned by the iterator
+     */
+    private final class ObservedIterator<T> implements Iterator<T> {
+        private final Iterator<Map.Entry<K, V>>    entries;
+        private final Function<Map.Entry<K, V>, T> mapper;
+
+        private Map.Entry<K, V> current;
+
+        private ObservedIterator(boolean reversed, Function<Map.Entry<K, V>, T> mapper) {
+            this.entries = rawEntries(reversed).iterator();
+            this.mapper  = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return entries.hasNext();
+        }
+
+        @Override
+        public T next() {
+            current = entries.next();
+            return mapper.apply(current);
+        }
+
+        @Override
+        public void remove() {
+            if (Objects.isNull(current)) {
+                throw new IllegalStateException();
+            }
+            K key   = current.getKey();
+            V value = current.getValue();
+            entries.remove();
+            current = null;
+            notifyChangeListeners(new MapChangeItem<>(UpdateActions.REMOVED, key, value, null));
+        }
+    }
+
+    /**
+     * An entry of the entry set view whose {@link #setValue(Object)} notifies change listeners.
+     */
+    private final class ObservedEntry implements Map.Entry<K, V> {
+        private final Map.Entry<K, V> entry;
+
+        private ObservedEntry(Map.Entry<K, V> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public K getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public V getValue() {
+            return entry.getValue();
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = entry.setValue(value);
+            notifyChangeListeners(new MapChangeItem<>(UpdateActions.REPLACED, entry.getKey(), oldValue, value));
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> other && Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return entry.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return entry.toString();
+        }
+    }
+
+    /**
+     * The key set view of this map.
+     */
+    private final class ObservedKeySet extends AbstractSet<K> implements SequencedSet<K> {
+        private final boolean reversed;
+
+        private ObservedKeySet(boolean reversed) {
+            this.reversed = reversed;
+        }
+
+        @Override
+        public Iterator<K> iterator() {
+            return new ObservedIterator<>(reversed, Map.Entry::getKey);
+        }
+
+        @Override
+        public int size() {
+            return ObservableLinkedHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return ObservableLinkedHashMap.super.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (ObservableLinkedHashMap.super.containsKey(o)) {
+                ObservableLinkedHashMap.this.remove(o);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            ObservableLinkedHashMap.this.clear();
+        }
+
+        @Override
+        public SequencedSet<K> reversed() {
+            return new ObservedKeySet(!reversed);
+        }
+    }
+
+    /**
+     * The values view of this map.
+     */
+    private final class ObservedValues extends AbstractCollection<V> implements SequencedCollection<V> {
+        private final boolean reversed;
+
+        private ObservedValues(boolean reversed) {
+            this.reversed = reversed;
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            return new ObservedIterator<>(reversed, Map.Entry::getValue);
+        }
+
+        @Override
+        public int size() {
+            return ObservableLinkedHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsValue(o);
+        }
+
+        @Override
+        public void clear() {
+            ObservableLinkedHashMap.this.clear();
+        }
+
+        @Override
+        public SequencedCollection<V> reversed() {
+            return new ObservedValues(!reversed);
+        }
+    }
+
+    /**
+     * The entry set view of this map.
+     */
+    private final class ObservedEntrySet extends AbstractSet<Map.Entry<K, V>> implements SequencedSet<Map.Entry<K, V>> {
+        private final boolean reversed;
+
+        private ObservedEntrySet(boolean reversed) {
+            this.reversed = reversed;
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new ObservedIterator<>(reversed, ObservedEntry::new);
+        }
+
+        @Override
+        public int size() {
+            return ObservableLinkedHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return rawEntries(false).contains(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return o instanceof Map.Entry<?, ?> entry && ObservableLinkedHashMap.this.remove(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public void clear() {
+            ObservableLinkedHashMap.this.clear();
+        }
+
+        @Override
+        public SequencedSet<Map.Entry<K, V>> reversed() {
+            return new ObservedEntrySet(!reversed);
+        }
+    }
 }
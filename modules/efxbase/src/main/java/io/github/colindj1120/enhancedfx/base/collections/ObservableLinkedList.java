@@ -17,6 +17,7 @@
  */
 package io.github.colindj1120.enhancedfx.base.collections;
 
+import io.github.colindj1120.enhancedfx.base.collections.base.ChangeJournal;
 import io.github.colindj1120.enhancedfx.base.collections.base.ListChangeItem;
 import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
 import org.jetbrains.annotations.NotNull;
@@ -24,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 import java.io.Serial;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
@@ -55,6 +57,12 @@ public class ObservableLinkedList<E> extends LinkedList<E> {
 
     private transient final List<Consumer<ListChangeItem<E>>> actionListeners = new ArrayList<>();
 
+    private transient int     batchDepth;
+    private transient List<E> batchBefore;
+
+    private transient ChangeJournal<ListChangeItem<E>> journal;
+    private transient Consumer<ListChangeItem<E>>      journalListener;
+
     /**
      * ObservableLinkedList is a class that extends the LinkedList class to provide observable behavior.
      */
@@ -96,13 +104,175 @@ public class ObservableLinkedList<E> extends LinkedList<E> {
     }
 
     /**
-     * Notifies all registered action listeners about a change in the list.
+     * Enables a {@link ChangeJournal} that records every change notification of this list with a monotonically increasing sequence number, retaining the most recent {@code capacity} changes.
+     *
+     * <p>Bulk change items normally reference this list itself as their new state. Before such an item is recorded its new state is copied, so that journal consumers reading it later observe the
+     * list as it was at the time of the change. If a journal is already enabled it is returned unchanged.</p>
+     *
+     * @param capacity
+     *         the number of changes retained by the journal
+     *
+     * @return the journal recording changes of this list
+     */
+    public ChangeJournal<ListChangeItem<E>> enableJournal(int capacity) {
+        if (Objects.isNull(journal)) {
+            ChangeJournal<ListChangeItem<E>> newJournal = new ChangeJournal<>(capacity);
+            journalListener = change -> newJournal.append(change.getNewList() == this ? new ListChangeItem<>(change.getListAction(), change.getOldList(), new ArrayList<>(this)) : change);
+            journal         = newJournal;
+            addActionListener(journalListener);
+        }
+        return journal;
+    }
+
+    /**
+     * Stops recording changes of this list. Consumers holding a reference to the journal can still read the changes it retained.
+     */
+    public void disableJournal() {
+        if (Objects.nonNull(journal)) {
+            removeActionListener(journalListener);
+            journal         = null;
+            journalListener = null;
+        }
+    }
+
+    /**
+     * Returns the journal recording changes of this list, if one has been enabled.
+     *
+     * @return an {@link Optional} containing the journal, or an empty {@code Optional} if journaling is disabled
+     */
+    public Optional<ChangeJournal<ListChangeItem<E>>> getJournal() {
+        return Optional.ofNullable(journal);
+    }
+
+    /**
+     * Creates a live view of this list sorted by the given comparator. The view is updated incrementally from this list's change notifications, applying each single-element change in
+     * {@code O(log n)}.
+     *
+     * @param comparator
+     *         the {@link Comparator} defining the order of the view
+     *
+     * @return a new {@link SortedListView} attached to this list
+     */
+    public SortedListView<E> sorted(Comparator<? super E> comparator) {
+        return new SortedListView<>(this, comparator);
+    }
+
+    /**
+     * Creates a live view of this list containing only the elements that match the given predicate. The view is updated incrementally from this list's change notifications, and re-filters in
+     * parallel for large lists when its predicate changes.
+     *
+     * @param predicate
+     *         the {@link Predicate} elements must match, or {@code null} to match every element
+     *
+     * @return a new {@link FilteredListView} attached to this list
+     */
+    public FilteredListView<E> filtered(Predicate<? super E> predicate) {
+        return new FilteredListView<>(this, predicate);
+    }
+
+    /**
+     * Creates a live view of this list partitioned into groups by the given key function. The view is updated incrementally from this list's change notifications, touching only the affected group.
+     *
+     * @param <K>
+     *         the type of the group keys
+     * @param keyFunction
+     *         the {@link Function} deriving the group key of an element
+     *
+     * @return a new {@link GroupedListView} attached to this list
+     */
+    public <K> GroupedListView<K, E> grouped(Function<? super E, ? extends K> keyFunction) {
+        return new GroupedListView<>(this, keyFunction);
+    }
+
+    /**
+     * Runs a group of modifications against this list as a single transaction and notifies the registered action listeners once with a {@link ListChangeItem} describing the net effect.
+     *
+     * <p>Any number of adds, removes and replacements may be performed on the list passed to {@code edits}. While the batch is running, no individual change notifications are emitted and no
+     * intermediate snapshots are taken. When the outermost batch completes, the state of the list before the batch is compared to its current state and a single item is emitted:</p>
+     * <ul>
+     *     <li>{@link UpdateActions#BULK_ADD} if elements were only added,</li>
+     *     <li>{@link UpdateActions#BULK_REMOVE} if elements were only removed,</li>
+     *     <li>{@link UpdateActions#CLEARED} if the list is empty afterwards,</li>
+     *     <li>{@link UpdateActions#BULK_REPLACED} for any other combination of changes, including reordering.</li>
+     * </ul>
+     *
+     * <p>No item is emitted if the list ends up unchanged. Batches may be nested; only the outermost batch notifies. If {@code edits} throws, the changes applied up to that point are still reported
+     * before the exception propagates.</p>
+     *
+     * <h2>Usage Example:</h2>
+     * <pre>{@code
+     * navigationBar.getToggleButtonList().batch(list -> buttons.forEach(list::add)); // one BULK_ADD instead of one ADDED per button
+     * }</pre>
+     *
+     * @param edits
+     *         the modifications to apply to this list
+     */
+    public void batch(Consumer<? super ObservableLinkedList<E>> edits) {
+        if (batchDepth++ == 0) {
+            batchBefore = actionListeners.isEmpty() ? null : new ArrayList<>(this);
+        }
+        try {
+            edits.accept(this);
+        } finally {
+            if (--batchDepth == 0) {
+                List<E> before = batchBefore;
+                batchBefore = null;
+                if (Objects.nonNull(before)) {
+                    notifyBatchResult(before);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a {@link #batch(Consumer)} is currently running on this list.
+     *
+     * @return {@code true} if individual change notifications are currently being coalesced
+     */
+    public boolean isBatching() {
+        return batchDepth > 0;
+    }
+
+    /**
+     * Emits the single coalesced notification for a completed batch, classifying the net effect by comparing the element counts before and after the batch.
+     *
+     * @param before
+     *         the state of the list when the batch started
+     */
+    private void notifyBatchResult(List<E> before) {
+        if (before.equals(this)) {
+            return;
+        }
+        if (isEmpty()) {
+            notifyActionListeners(new ListChangeItem<>(UpdateActions.CLEARED, before, this));
+            return;
+        }
+
+        Map<E, Integer> delta = new HashMap<>();
+        before.forEach(element -> delta.merge(element, -1, Integer::sum));
+        forEach(element -> delta.merge(element, 1, Integer::sum));
+
+        boolean added   = delta.values()
+                               .stream()
+                               .anyMatch(count -> count > 0);
+        boolean removed = delta.values()
+                               .stream()
+                               .anyMatch(count -> count < 0);
+
+        UpdateActions action = added == removed ? UpdateActions.BULK_REPLACED : added ? UpdateActions.BULK_ADD : UpdateActions.BULK_REMOVE;
+        notifyActionListeners(new ListChangeItem<>(action, before, this));
+    }
+
+    /**
+     * Notifies all registered action listeners about a change in the list. Notifications are suppressed while a {@link #batch(Consumer)} is running.
      *
      * @param element
      *         the {@link ListChangeItem} representing the change
      */
     private void notifyActionListeners(ListChangeItem<E> element) {
-        actionListeners.forEach(observer -> observer.accept(element));
+        if (batchDepth == 0) {
+            actionListeners.forEach(observer -> observer.accept(element));
+        }
     }
 
     /**
@@ -150,12 +320,8 @@ public class ObservableLinkedList<E> extends LinkedList<E> {
      */
     @Override
     public boolean addAll(Collection<? extends E> c) {
-        List<E> before  = getBeforeList();
-        boolean changed = super.addAll(c);
-        if (changed) {
-            notifyActionListeners(new ListChangeItem<>(UpdateActions.BULK_ADD, before, this));
-        }
-        return changed;
+        // LinkedList#addAll(Collection) delegates to addAll(int, Collection), so delegating here keeps listeners from being notified twice.
+        return addAll(size(), c);
     }
 
     /**
@@ -175,6 +341,10 @@ public class ObservableLinkedList<E> extends LinkedList<E> {
      */
     @Override
     public boolean addAll(int index, Collection<? extends E> c) {
+        if (Objects.isNull(actionListeners)) {
+            // LinkedList(Collection) adds its elements before the fields of this class are initialized, when there is nobody to notify yet.
+            return super.addAll(index, c);
+        }
         List<E> before  = getBeforeList();
         boolean changed = super.addAll(index, c);
         if (changed) {
@@ -223,15 +393,13 @@ public class ObservableLinkedList<E> extends LinkedList<E> {
     }
 
     /**
-     * Removes and returns the first element from this list. This override ensures that change listeners are notified about the removal.
+     * Removes and returns the first element from this list. Change listeners are notified about the removal by {@link #removeFirst()}, to which this method delegates.
      *
      * @return the first element from this list
      */
     @Override
     public E remove() {
-        E removedElement = super.remove();
-        notifyActionListeners(new ListChangeItem<>(UpdateActions.REMOVED, removedElement, null));
-        return removedElement;
+        return removeFirst();
     }
 
     /**
@@ -253,7 +421,8 @@ public class ObservableLinkedList<E> extends LinkedList<E> {
     }
 
     /**
-     * Removes the first occurrence of the specified element in this list (when traversing the list from head to tail). If the list does not contain the element, it is unchanged.
+     * Removes the first occurrence of the specified element in this list (when traversing the list from head to tail). If the list does not contain the element, it is unchanged. Change listeners are
+     * notified about the removal by {@link #remove(Object)}, to which this method delegates.
      *
      * @param o
      *         element to be removed from this list, if present
@@ -261,13 +430,8 @@ public class ObservableLinkedList<E> extends LinkedList<E> {
      * @return true if the element was found and removed
      */
     @Override
-    @SuppressWarnings("unchecked")
     public boolean removeFirstOccurrence(Object o) {
-        boolean removed = super.removeFirstOccurrence(o);
-        if (removed) {
-            notifyActionListeners(new ListChangeItem<>(UpdateActions.REMOVED, (E) o, null));
-        }
-        return removed;
+        return remove(o);
     }
 
     /**
@@ -411,31 +575,30 @@ public class ObservableLinkedList<E> extends LinkedList<E> {
     }
 
     /**
-     * Inserts the specified element at the beginning of this list. All registered action listeners are notified.
+     * Inserts the specified element at the beginning of this list. All registered action listeners are notified by {@link #addFirst(Object)}, to which this method delegates.
      *
      * @param e
      *         the element to push
      */
     @Override
     public void push(E e) {
-        super.push(e);
-        notifyActionListeners(new ListChangeItem<>(UpdateActions.ADDED, null, e));
+        addFirst(e);
     }
 
     /**
-     * Pops an element from the stack represented by this list. In other words, removes and returns the first element of this list. All registered action listeners are notified.
+     * Pops an element from the stack represented by this list. In other words, removes and returns the first element of this list. All registered action listeners are notified by
+     * {@link #removeFirst()}, to which this method delegates.
      *
      * @return the element at the front of this list (which is the top of the stack represented by this list)
      */
     @Override
     public E pop() {
-        E poppedElement = super.pop();
-        notifyActionListeners(new ListChangeItem<>(UpdateActions.REMOVED, poppedElement, null));
-        return poppedElement;
+        return removeFirst();
     }
 
     /**
-     * Attempts to add the specified element as the tail (last element) of this list. If successful, all registered action listeners are notified of the addition.
+     * Attempts to add the specified element as the tail (last element) of this list. All registered action listeners are notified of the addition by {@link #add(Object)}, to which this method
+     * delegates.
      *
      * @param e
      *         element to be added to the tail of this list
@@ -444,15 +607,11 @@ public class ObservableLinkedList<E> extends LinkedList<E> {
      */
     @Override
     public boolean offer(E e) {
-        boolean offered = super.offer(e);
-        if (offered) {
-            notifyActionListeners(new ListChangeItem<>(UpdateActions.ADDED, null, e));
-        }
-        return offered;
+        return add(e);
     }
 
     /**
-     * Inserts the specified element at the front of this list. If the element was successfully added, all registered action listeners are notified of the addition.
+     * Inserts the specified element at the front of this list. All registered action listeners are notified of the addition by {@link #addFirst(Object)}, to which this method delegates.
      *
      * @param e
      *         element to be inserted at the front of this list
@@ -461,15 +620,12 @@ public class ObservableLinkedList<E> extends LinkedList<E> {
      */
     @Override
     public boolean offerFirst(E e) {
-        boolean offered = super.offerFirst(e);
-        if (offered) {
-            notifyActionListeners(new ListChangeItem<>(UpdateActions.ADDED, null, e));
-        }
-        return offered;
+        addFirst(e);
+        return true;
     }
 
     /**
-     * Inserts the specified element at the end of this list. If the element was successfully added, all registered action listeners are notified of the addition.
+     * Inserts the specified element at the end of this list. All registered action listeners are notified of the addition by {@link #addLast(Object)}, to which this method delegates.
      *
      * @param e
      *         element to be inserted at the end of this list
@@ -478,11 +634,8 @@ public class ObservableLinkedList<E> extends LinkedList<E> {
      */
     @Override
     public boolean offerLast(E e) {
-        boolean offered = super.offerLast(e);
-        if (offered) {
-            notifyActionListeners(new ListChangeItem<>(UpdateActions.ADDED, null, e));
-        }
-        return offered;
+        addLast(e);
+        return true;
     }
 
     /**
@@ -530,11 +683,11 @@ public class ObservableLinkedList<E> extends LinkedList<E> {
     /**
      * Captures the current state of the list before any modifications. This method is used internally to determine the state of the list prior to modifications for notifying action listeners.
      *
-     * @return a snapshot of the list before modifications, or an empty list if no action listeners are registered
+     * @return a snapshot of the list before modifications, or an empty list if no action listeners are registered or a batch is running
      */
     @NotNull
     private List<E> getBeforeList() {
-        return actionListeners.isEmpty() ? Collections.emptyList() : new ArrayList<>(this);
+        return actionListeners.isEmpty() || batchDepth > 0 ? Collections.emptyList() : new ArrayList<>(this);
     }
 }
 
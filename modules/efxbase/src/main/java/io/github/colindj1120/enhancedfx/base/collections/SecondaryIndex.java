@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections;
+
+import io.github.colindj1120.enhancedfx.base.collections.base.MapChangeItem;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A hash index over the values of an {@link ObservableLinkedHashMap}, mapping keys derived from the values to the entries that produce them.
+ *
+ * <p>The index is owned by its map and is kept up to date from the map's change notifications before any change listener is notified. Alongside the buckets, it remembers the derived key each
+ * entry was filed under, so that an entry can be moved to its new bucket even if its value was mutated in place before the change was reported.</p>
+ *
+ * @param <K>
+ *         the type of keys maintained by the map
+ * @param <V>
+ *         the type of mapped values
+ * @param <I>
+ *         the type of the derived index keys
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see ObservableLinkedHashMap#addIndex(String, Function)
+ */
+class SecondaryIndex<K, V, I> {
+    private final Function<? super V, ? extends I> keyFunction;
+
+    private final Map<I, LinkedHashMap<K, V>> buckets     = new HashMap<>();
+    private final Map<K, I>                   derivedKeys = new HashMap<>();
+
+    /**
+     * Constructs a {@code SecondaryIndex} using the given key function and populates it from the given entries.
+     *
+     * @param keyFunction
+     *         the function deriving the index key of a value
+     * @param entries
+     *         the current entries of the map
+     */
+    SecondaryIndex(Function<? super V, ? extends I> keyFunction, Map<K, V> entries) {
+        this.keyFunction = keyFunction;
+        rebuild(entries);
+    }
+
+    /**
+     * Applies a change of the owning map to this index.
+     *
+     * <p>The new value of a single-entry change is taken from the change itself rather than looked up in the map, since the map is in the middle of notifying its listeners and a subclass lookup,
+     * such as {@link ObservableCache#get(Object)}, may have side effects.</p>
+     *
+     * @param change
+     *         the change reported by the map
+     * @param entries
+     *         the current entries of the map, used to rebuild the index after bulk changes
+     * @param containsKey
+     *         a lookup of the keys of the underlying map that bypasses any subclass, used to tell a {@code null} value apart from a removed entry
+     */
+    void apply(MapChangeItem<K, V> change, Map<K, V> entries, Predicate<Object> containsKey) {
+        switch (change.getUpdateAction()) {
+            case ADDED, REPLACED -> {
+                if (Objects.nonNull(change.getNewElement()) || containsKey.test(change.getKey())) {
+                    put(change.getKey(), change.getNewElement());
+                } else {
+                    remove(change.getKey());
+                }
+            }
+            case REMOVED -> remove(change.getKey());
+            case BULK_ADD, BULK_REMOVE, BULK_REPLACED, CLEARED -> rebuild(entries);
+        }
+    }
+
+    /**
+     * Files an entry under the index key derived from its value, moving it out of the bucket it was previously filed under.
+     *
+     * @param key
+     *         the map key of the entry
+     * @param value
+     *         the current value of the entry
+     */
+    void put(K key, V value) {
+        remove(key);
+        I derivedKey = keyFunction.apply(value);
+        buckets.computeIfAbsent(derivedKey, k -> new LinkedHashMap<>())
+               .put(key, value);
+        derivedKeys.put(key, derivedKey);
+    }
+
+    /**
+     * Removes an entry from the bucket it is filed under.
+     *
+     * @param key
+     *         the map key of the entry
+     */
+    void remove(Object key) {
+        if (!derivedKeys.containsKey(key)) {
+            return;
+        }
+        I                   derivedKey = derivedKeys.remove(key);
+        LinkedHashMap<K, V> bucket     = buckets.get(derivedKey);
+        bucket.remove(key);
+        if (bucket.isEmpty()) {
+            buckets.remove(derivedKey);
+        }
+    }
+
+    /**
+     * Discards the index and rebuilds it from the given entries.
+     *
+     * @param entries
+     *         the current entries of the map
+     */
+    void rebuild(Map<K, V> entries) {
+        buckets.clear();
+        derivedKeys.clear();
+        entries.forEach(this::put);
+    }
+
+    /**
+     * Returns an unmodifiable view of the entries filed under the given index key.
+     *
+     * @param derivedKey
+     *         the index key
+     *
+     * @return the matching entries, in the order they were filed
+     */
+    Map<K, V> lookup(Object derivedKey) {
+        LinkedHashMap<K, V> bucket = buckets.get(derivedKey);
+        return Objects.isNull(bucket) ? Collections.emptyMap() : Collections.unmodifiableMap(bucket);
+    }
+
+    /**
+     * Returns the number of entries filed under the given index key.
+     *
+     * @param derivedKey
+     *         the index key
+     *
+     * @return the number of matching entries
+     */
+    int count(Object derivedKey) {
+        LinkedHashMap<K, V> bucket = buckets.get(derivedKey);
+        return Objects.isNull(bucket) ? 0 : bucket.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of all index keys that currently have at least one entry.
+     *
+     * @return the index keys in use
+     */
+    Set<I> keys() {
+        return Collections.unmodifiableSet(buckets.keySet());
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections;
+
+import io.github.colindj1120.enhancedfx.base.collections.base.ListChangeItem;
+import io.github.colindj1120.enhancedfx.base.collections.base.ObservableDerivedView;
+import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * The {@code SortedListView} class is a live, sorted projection of an {@link ObservableLinkedList}. The view keeps its elements in a red-black tree keyed by the configured {@link Comparator}, so each
+ * single-element change of the source list is applied in {@code O(log n)} rather than re-sorting a full copy of the source.
+ *
+ * <p>Elements that compare as equal under the comparator are kept in the order they arrived in the view, which makes the sort stable with respect to source insertion order. Changing the comparator
+ * through {@link #comparatorProperty()} rebuilds the view once and notifies listeners with a single {@link UpdateActions#BULK_REPLACED} item.</p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * ObservableLinkedList<Item> items = new ObservableLinkedList<>(loadItems());
+ * SortedListView<Item> byName = items.sorted(Comparator.comparing(Item::getName));
+ *
+ * items.add(new Item("Banana")); // inserted into byName in O(log n)
+ * Item first = byName.first();
+ * }</pre>
+ *
+ * @param <E>
+ *         the type of elements held in the source list
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see ObservableLinkedList#sorted(Comparator)
+ * @see ObservableDerivedView
+ */
+public final class SortedListView<E> extends ObservableDerivedView<E> implements Iterable<E> {
+    private final ObjectProperty<Comparator<? super E>> comparator;
+
+    private TreeMap<E, ArrayDeque<E>> tree;
+    private int                       size;
+
+    /**
+     * Constructs a {@code SortedListView} over the given source list and immediately populates it with the current contents of the source.
+     *
+     * @param source
+     *         the {@link ObservableLinkedList} to sort
+     * @param comparator
+     *         the {@link Comparator} defining the order of the view
+     *
+     * @throws IllegalArgumentException
+     *         if {@code source} or {@code comparator} is null
+     */
+    public SortedListView(ObservableLinkedList<E> source, Comparator<? super E> comparator) {
+        super(source);
+        EFXObjectUtils.isNotNull(comparator, () -> "Comparator cannot be null when creating a SortedListView");
+        this.comparator = new SimpleObjectProperty<>(this, "comparator", comparator) {
+            @Override
+            public void set(Comparator<? super E> newValue) {
+                // Rejected before it is stored, so the view keeps its previous comparator and contents
+                EFXObjectUtils.isNotNull(newValue, () -> "Comparator of a SortedListView cannot be null");
+                super.set(newValue);
+            }
+
+            @Override
+            protected void invalidated() {
+                rebuild(getSource());
+            }
+        };
+        rebuild(source);
+        attach();
+    }
+
+    @Override
+    protected void elementAdded(E element) {
+        tree.computeIfAbsent(element, key -> new ArrayDeque<>(1))
+            .addLast(element);
+        size++;
+        notifyActionListeners(new ListChangeItem<>(UpdateActions.ADDED, null, element));
+    }
+
+    @Override
+    protected void elementRemoved(E element) {
+        ArrayDeque<E> bucket = tree.get(element);
+        if (Objects.nonNull(bucket) && bucket.removeFirstOccurrence(element)) {
+            if (bucket.isEmpty()) {
+                tree.remove(element);
+            }
+            size--;
+            notifyActionListeners(new ListChangeItem<>(UpdateActions.REMOVED, element, null));
+        }
+    }
+
+    @Override
+    protected void rebuild(Collection<E> elements) {
+        List<E> before = hasActionListeners() && Objects.nonNull(tree) ? toList() : Collections.emptyList();
+
+        tree = new TreeMap<>(comparator.get());
+        elements.forEach(element -> tree.computeIfAbsent(element, key -> new ArrayDeque<>(1))
+                                        .addLast(element));
+        size = elements.size();
+
+        if (hasActionListeners()) {
+            notifyActionListeners(new ListChangeItem<>(UpdateActions.BULK_REPLACED, before, toList()));
+        }
+    }
+
+    /**
+     * Returns the number of elements in this view.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether this view contains no elements.
+     *
+     * @return {@code true} if the view is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the lowest element of this view according to the comparator.
+     *
+     * @return the first element
+     *
+     * @throws NoSuchElementException
+     *         if the view is empty
+     */
+    public E first() {
+        return tree.firstEntry()
+                   .getValue()
+                   .getFirst();
+    }
+
+    /**
+     * Returns the highest element of this view according to the comparator.
+     *
+     * @return the last element
+     *
+     * @throws NoSuchElementException
+     *         if the view is empty
+     */
+    public E last() {
+        return tree.lastEntry()
+                   .getValue()
+                   .getLast();
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the elements of this view in sorted order.
+     *
+     * @return a stream of the view's elements
+     */
+    public Stream<E> stream() {
+        return tree.values()
+                   .stream()
+                   .flatMap(Collection::stream);
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the elements of this view in sorted order.
+     *
+     * @return a list containing the view's elements
+     */
+    public List<E> toList() {
+        return stream().toList();
+    }
+
+    @NotNull
+    @Override
+    public Iterator<E> iterator() {
+        return stream().iterator();
+    }
+
+    /**
+     * Returns the property holding the comparator that defines the order of this view. Setting a new comparator re-sorts the view once.
+     *
+     * @return the comparator property
+     */
+    public ObjectProperty<Comparator<? super E>> comparatorProperty() {
+        return comparator;
+    }
+
+    /**
+     * Returns the comparator that defines the order of this view.
+     *
+     * @return the current comparator
+     */
+    public Comparator<? super E> getComparator() {
+        return comparator.get();
+    }
+
+    /**
+     * Sets the comparator that defines the order of this view and re-sorts it.
+     *
+     * @param comparator
+     *         the new comparator
+     *
+     * @throws IllegalArgumentException
+     *         if {@code comparator} is null, in which case the view keeps its current order
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        this.comparator.set(comparator);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The {@code ChangeJournal} class records change items in a fixed-capacity ring buffer and assigns each one a monotonically increasing sequence number. It allows consumers that are not attached as
+ * listeners, such as a background persister or a view created after the collection was populated, to catch up on changes in batches rather than per-event callbacks.
+ *
+ * <p>A consumer remembers the sequence number of the last change it processed and asks for everything after it with {@link #changesSince(long)}. As long as the consumer keeps up, the returned
+ * {@link JournalBatch} contains every change since that sequence number, in order. If the consumer fell so far behind that the changes it needs have been overwritten in the ring, the batch is
+ * flagged with {@link JournalBatch#isResnapshotRequired()}; the consumer must then take a fresh snapshot of the collection and continue from {@link JournalBatch#getLastSequence()}.</p>
+ *
+ * <p>Appending is expected to happen on the thread that owns the collection, usually the JavaFX application thread, while reading may happen on any thread. All access to the ring is therefore
+ * synchronized. The journal implements {@link Consumer}, so it can be registered directly as a change listener, but it is normally created through
+ * {@code ObservableLinkedList#enableJournal(int)} or {@code ObservableLinkedHashMap#enableJournal(int)}, which also detach recorded bulk changes from the live collection.</p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * ChangeJournal<MapChangeItem<String, Model>> journal = models.enableJournal(1024);
+ *
+ * // On a background thread
+ * JournalBatch<MapChangeItem<String, Model>> batch = journal.changesSince(lastPersisted);
+ * if (batch.isResnapshotRequired()) {
+ *     persistSnapshot();
+ * } else {
+ *     persistChanges(batch.getChanges());
+ * }
+ * lastPersisted = batch.getLastSequence();
+ * }</pre>
+ *
+ * @param <T>
+ *         the type of change items recorded by the journal, typically {@link ListChangeItem} or {@link MapChangeItem}
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see ListChangeItem
+ * @see MapChangeItem
+ */
+public class ChangeJournal<T> implements Consumer<T> {
+    private final Object[] ring;
+
+    private long lastSequence;
+
+    /**
+     * Constructs a {@code ChangeJournal} that retains up to {@code capacity} of the most recent changes.
+     *
+     * @param capacity
+     *         the number of changes retained by the ring, must be positive
+     *
+     * @throws IllegalArgumentException
+     *         if {@code capacity} is not positive
+     */
+    public ChangeJournal(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Journal capacity must be positive");
+        }
+        this.ring = new Object[capacity];
+    }
+
+    /**
+     * Records a change in the journal, overwriting the oldest retained change once the ring is full.
+     *
+     * @param change
+     *         the change to record
+     *
+     * @return the sequence number assigned to the change
+     */
+    public synchronized long append(T change) {
+        lastSequence++;
+        ring[(int) (lastSequence % ring.length)] = change;
+        return lastSequence;
+    }
+
+    /**
+     * Records a change in the journal. This allows the journal to be registered directly as a change listener.
+     *
+     * @param change
+     *         the change to record
+     */
+    @Override
+    public void accept(T change) {
+        append(change);
+    }
+
+    /**
+     * Returns all retained changes with a sequence number greater than {@code sequence}, as a single batch.
+     *
+     * <p>If changes after {@code sequence} have already been overwritten, the returned batch is empty and requires the consumer to resnapshot. Passing {@code 0} asks for every change since the
+     * journal was created.</p>
+     *
+     * @param sequence
+     *         the sequence number of the last change the consumer has processed
+     *
+     * @return a {@link JournalBatch} containing the requested changes
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized JournalBatch<T> changesSince(long sequence) {
+        if (sequence >= lastSequence) {
+            return new JournalBatch<>(lastSequence, Collections.emptyList(), false);
+        }
+        if (sequence < getOldestSequence() - 1) {
+            return new JournalBatch<>(lastSequence, Collections.emptyList(), true);
+        }
+
+        List<T> changes = new ArrayList<>((int) (lastSequence - sequence));
+        for (long current = sequence + 1; current <= lastSequence; current++) {
+            changes.add((T) ring[(int) (current % ring.length)]);
+        }
+        return new JournalBatch<>(lastSequence, Collections.unmodifiableList(changes), false);
+    }
+
+    /**
+     * Returns the sequence number of the most recently recorded change, or {@code 0} if nothing has been recorded yet.
+     *
+     * @return the latest sequence number
+     */
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Returns the sequence number of the oldest change still retained by the ring. If nothing has been recorded yet this is {@code 1}, the sequence number the first change will receive.
+     *
+     * @return the oldest retained sequence number
+     */
+    public synchronized long getOldestSequence() {
+        return Math.max(1, lastSequence - ring.length + 1);
+    }
+
+    /**
+     * Returns the number of changes the ring can retain.
+     *
+     * @return the capacity of the journal
+     */
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    /**
+     * A batch of consecutive changes returned by {@link ChangeJournal#changesSince(long)}.
+     *
+     * @param <T>
+     *         the type of change items in the batch
+     */
+    public static class JournalBatch<T> {
+        private final long    lastSequence;
+        private final List<T> changes;
+        private final boolean resnapshotRequired;
+
+        /**
+         * Constructs a {@code JournalBatch}.
+         *
+         * @param lastSequence
+         *         the sequence number of the most recent change in the journal when the batch was taken
+         * @param changes
+         *         the changes in the batch, in sequence order
+         * @param resnapshotRequired
+         *         whether the requested changes were no longer retained
+         */
+        private JournalBatch(long lastSequence, List<T> changes, boolean resnapshotRequired) {
+            this.lastSequence       = lastSequence;
+            this.changes            = changes;
+            this.resnapshotRequired = resnapshotRequired;
+        }
+
+        /**
+         * Returns the changes in this batch, in the order they were recorded. The first change has sequence number {@code getLastSequence() - getChanges().size() + 1}.
+         *
+         * @return an unmodifiable list of changes
+         */
+        public List<T> getChanges() {
+            return changes;
+        }
+
+        /**
+         * Returns the sequence number of the most recent change in the journal when this batch was taken. Consumers pass this value to the next {@link ChangeJournal#changesSince(long)} call.
+         *
+         * @return the last sequence number covered by this batch
+         */
+        public long getLastSequence() {
+            return lastSequence;
+        }
+
+        /**
+         * Checks whether the consumer fell behind the journal. In that case {@link #getChanges()} is empty and the consumer must take a fresh snapshot of the collection before continuing from
+         * {@link #getLastSequence()}.
+         *
+         * @return {@code true} if the consumer must resnapshot
+         */
+        public boolean isResnapshotRequired() {
+            return resnapshotRequired;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections.base;
+
+import io.github.colindj1120.enhancedfx.base.collections.ObservableLinkedList;
+import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * The {@code ObservableDerivedView} class is the abstract foundation for live views that are derived from an {@link ObservableLinkedList}, such as sorted, filtered, or grouped projections of the
+ * source list.
+ *
+ * <p>A derived view registers itself as an action listener on its source list and incrementally applies every {@link ListChangeItem} it receives. Single-element changes ({@code ADDED},
+ * {@code REMOVED} and {@code REPLACED}) are forwarded straight to {@link #elementAdded(Object)} and {@link #elementRemoved(Object)}, so a subclass backed by a tree or hash structure can apply each
+ * change in logarithmic or constant time instead of rebuilding its contents. Bulk changes are reduced to their net multiset difference between the old and new list states, and only the elements
+ * that actually changed are passed on to the subclass.</p>
+ *
+ * <p>Views are observable in the same way as their source: every element the view gains or loses is reported to the registered action listeners as a {@link ListChangeItem}. Because a view holds a
+ * strong listener on its source, {@link #dispose()} should be called once the view is no longer required so that it can be garbage collected independently of the source list.</p>
+ *
+ * @param <E>
+ *         the type of elements held in the source list
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see ObservableLinkedList
+ * @see ListChangeItem
+ * @see UpdateActions
+ */
+public abstract class ObservableDerivedView<E> {
+    protected final ObservableLinkedList<E> source;
+
+    private final Consumer<ListChangeItem<E>>       sourceListener  = this::onSourceChanged;
+    private final List<Consumer<ListChangeItem<E>>> actionListeners = new ArrayList<>();
+
+    /**
+     * Constructs an {@code ObservableDerivedView} over the given source list. Subclasses are responsible for populating their initial state (usually through {@link #rebuild(Collection)}) once their
+     * own fields have been initialized, and then calling {@link #attach()} to start receiving changes.
+     *
+     * @param source
+     *         the {@link ObservableLinkedList} this view is derived from
+     *
+     * @throws IllegalArgumentException
+     *         if {@code source} is null
+     */
+    protected ObservableDerivedView(ObservableLinkedList<E> source) {
+        EFXObjectUtils.isNotNull(source, () -> "Source list cannot be null when creating an " + getClass().getSimpleName());
+        this.source = source;
+    }
+
+    /**
+     * Starts listening to the source list. This is called by subclasses at the end of their construction once the initial state is in place.
+     */
+    protected final void attach() {
+        source.addActionListener(sourceListener);
+    }
+
+    /**
+     * Detaches this view from its source list. After this call the view keeps its last computed state but no longer reflects changes made to the source.
+     */
+    public void dispose() {
+        source.removeActionListener(sourceListener);
+    }
+
+    /**
+     * Returns the source list this view is derived from.
+     *
+     * @return the source {@link ObservableLinkedList}
+     */
+    public ObservableLinkedList<E> getSource() {
+        return source;
+    }
+
+    /**
+     * Registers a new action listener that will be notified whenever the contents of this view change.
+     *
+     * @param listener
+     *         the listener to register
+     */
+    public void addActionListener(Consumer<ListChangeItem<E>> listener) {
+        actionListeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered action listener so that it will no longer receive change notifications.
+     *
+     * @param listener
+     *         the listener to remove
+     */
+    public void removeActionListener(Consumer<ListChangeItem<E>> listener) {
+        actionListeners.remove(listener);
+    }
+
+    /**
+     * Checks whether any action listeners are registered on this view. Subclasses use this to avoid building snapshots for bulk notifications nobody will receive.
+     *
+     * @return {@code true} if at least one listener is registered
+     */
+    protected boolean hasActionListeners() {
+        return !actionListeners.isEmpty();
+    }
+
+    /**
+     * Notifies all registered action listeners about a change in this view.
+     *
+     * @param changeItem
+     *         the {@link ListChangeItem} representing the change
+     */
+    protected void notifyActionListeners(ListChangeItem<E> changeItem) {
+        actionListeners.forEach(listener -> listener.accept(changeItem));
+    }
+
+    /**
+     * Dispatches a change of the source list to the incremental update hooks of this view.
+     *
+     * @param changeItem
+     *         the change reported by the source list
+     */
+    private void onSourceChanged(ListChangeItem<E> changeItem) {
+        switch (changeItem.getListAction()) {
+            case ADDED -> elementAdded(changeItem.getNewElement());
+            case REMOVED -> elementRemoved(changeItem.getOldElement());
+            case REPLACED -> {
+                elementRemoved(changeItem.getOldElement());
+                elementAdded(changeItem.getNewElement());
+            }
+            case BULK_ADD, BULK_REMOVE, BULK_REPLACED, CLEARED -> applyDifference(changeItem.getOldList(), changeItem.getNewList());
+        }
+    }
+
+    /**
+     * Applies the net difference between two states of the source list. The difference is computed as a multiset in linear time so that only the elements which were actually added or removed
+     * reach the incremental hooks, rather than rebuilding the whole view.
+     *
+     * @param oldList
+     *         the state of the source list before the bulk change
+     * @param newList
+     *         the state of the source list after the bulk change
+     */
+    private void applyDifference(List<E> oldList, List<E> newList) {
+        Map<E, Integer> delta = new HashMap<>();
+        Optional.ofNullable(oldList)
+                .ifPresent(list -> list.forEach(element -> delta.merge(element, -1, Integer::sum)));
+        Optional.ofNullable(newList)
+                .ifPresent(list -> list.forEach(element -> delta.merge(element, 1, Integer::sum)));
+
+        delta.forEach((element, count) -> {
+            for (int i = count; i < 0; i++) {
+                elementRemoved(element);
+            }
+            for (int i = 0; i < count; i++) {
+                elementAdded(element);
+            }
+        });
+    }
+
+    /**
+     * Incrementally applies the addition of a single element to the source list.
+     *
+     * @param element
+     *         the element that was added to the source
+     */
+    protected abstract void elementAdded(E element);
+
+    /**
+     * Incrementally applies the removal of a single element from the source list.
+     *
+     * @param element
+     *         the element that was removed from the source
+     */
+    protected abstract void elementRemoved(E element);
+
+    /**
+     * Discards the current state of this view and rebuilds it from the given elements. This is used for the initial population of the view and whenever the view's own parameters (comparator,
+     * predicate, key function) change.
+     *
+     * @param elements
+     *         the elements the view should be built from, in source order
+     */
+    protected abstract void rebuild(Collection<E> elements);
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.css;
+
+import io.github.colindj1120.enhancedfx.base.factory.CssFactory;
+import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
+import javafx.css.CssMetaData;
+import javafx.css.Styleable;
+
+/**
+ * The {@code CssKey} class is a typed handle to a single {@link CssMetaData} instance. It is returned when CSS metadata is registered with a {@link StyleablePropertiesManager} or built through a
+ * {@link CssFactory}, and is intended to be kept in a {@code static final} field of the control that owns the styleable property.
+ *
+ * <p>Holding a key instead of the property name means a control no longer has to look its metadata up by string, and no longer needs the unchecked cast that a string lookup requires, every time an instance
+ * is constructed. Because the key is a constant, the metadata it refers to is also a constant as far as the JIT is concerned.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>
+ * {@code
+ * private static final StyleablePropertiesManager STYLES_MANAGER = new StyleablePropertiesManager(Region.getClassCssMetaData());
+ * private static final CssKey<MyControl, Color>   TEXT_FILL;
+ *
+ * static {
+ *     TEXT_FILL = STYLES_MANAGER.addCssMetaData(CssFactory.<MyControl, Color>create()
+ *                                                         .property("-my-text-fill")
+ *                                                         .converter(ColorConverter.getInstance())
+ *                                                         .isSettablePredicate(node -> !node.textFill.isBound())
+ *                                                         .propertyGetterFunction(node -> node.textFill));
+ * }
+ *
+ * textFill = EFXStyleableObjectProperty.<Color>create()
+ *                                      .bean(this)
+ *                                      .name("textFill")
+ *                                      .cssMetaData(TEXT_FILL)
+ *                                      .build();
+ * }
+ * </pre>
+ *
+ * @param <S>
+ *         The type of the styleable object the metadata applies to.
+ * @param <V>
+ *         The type of the value represented by the metadata.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see StyleablePropertiesManager
+ * @see CssFactory
+ * @see CssMetaData
+ */
+public final class CssKey<S extends Styleable, V> {
+    private final CssMetaData<S, V> cssMetaData;
+
+    /**
+     * Constructs a new {@code CssKey} for the given CSS metadata.
+     *
+     * @param cssMetaData
+     *         The CSS metadata this key refers to.
+     */
+    private CssKey(CssMetaData<S, V> cssMetaData) {
+        this.cssMetaData = cssMetaData;
+    }
+
+    /**
+     * Creates a typed key for the given CSS metadata.
+     *
+     * @param <S>
+     *         The type of the styleable object the metadata applies to.
+     * @param <V>
+     *         The type of the value represented by the metadata.
+     * @param cssMetaData
+     *         The CSS metadata the key refers to.
+     *
+     * @return A new {@code CssKey} wrapping the given metadata.
+     *
+     * @throws IllegalArgumentException
+     *         If the CSS metadata is null.
+     */
+    public static <S extends Styleable, V> CssKey<S, V> of(CssMetaData<S, V> cssMetaData) {
+        EFXObjectUtils.isNotNull(cssMetaData, () -> "CssMetaData cannot be null when creating a CssKey");
+        return new CssKey<>(cssMetaData);
+    }
+
+    /**
+     * Returns the CSS metadata this key refers to.
+     *
+     * @return The CSS metadata.
+     */
+    public CssMetaData<S, V> getCssMetaData() {
+        return cssMetaData;
+    }
+
+    /**
+     * Returns the CSS property name of the metadata this key refers to, for example {@code -efx-text-fill}.
+     *
+     * @return The CSS property name.
+     */
+    public String getProperty() {
+        return cssMetaData.getProperty();
+    }
+
+    @Override
+    public String toString() {
+        return "CssKey[" + getProperty() + "]";
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.css;
+
+import javafx.css.CssMetaData;
+import javafx.css.Styleable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code CssPassProfiler} class is opt-in instrumentation of the CSS passes that style EnhancedFX properties. It aggregates, per styleable class and CSS property name, how often JavaFX consults
+ * {@link CssMetaData#isSettable(Styleable)} and {@link CssMetaData#getStyleableProperty(Styleable)}, how often a styleable property's {@code applyStyle} is invoked, how often that actually changes the
+ * value, and the time spent applying styles.
+ *
+ * <p>When hover or focus makes a screen stutter, the report shows which {@code -efx-*} properties are being re-resolved, and by which controls.</p>
+ *
+ * <h2>Enabling</h2>
+ * <p>The profiler is disabled by default, in which case every hook costs a single volatile read. It is enabled by starting the application with {@code -D}{@value #ENABLED_PROPERTY}{@code =true}, which also
+ * prints the report to standard error when the JVM exits, or at runtime with {@link #setEnabled(boolean)}.</p>
+ *
+ * <h2>Instrumented Code</h2>
+ * <ul>
+ *     <li>CSS metadata built by {@link io.github.colindj1120.enhancedfx.base.factory.CssFactory}, for {@code isSettable} and {@code getStyleableProperty}.</li>
+ *     <li>{@link io.github.colindj1120.enhancedfx.base.beans.base.EFXStyleablePropertyBase#applyStyle}, for style applications, value changes and time.</li>
+ * </ul>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>
+ * {@code
+ *     CssPassProfiler.setEnabled(true);
+ *     // hover over the slow part of the screen
+ *     System.out.println(CssPassProfiler.formatReport());
+ *     CssPassProfiler.reset();
+ * }
+ * </pre>
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see CssMetaData
+ */
+public final class CssPassProfiler {
+    /**
+     * System property that enables the profiler at startup, and prints its report when the JVM exits.
+     */
+    public static final String ENABLED_PROPERTY = "efx.css.profile";
+
+    private static final Map<Key, Counters> counters = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    static {
+        if (enabled) {
+            Runtime.getRuntime()
+                   .addShutdownHook(new Thread(() -> System.err.print(formatReport()), "efx-css-pass-profiler"));
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of the {@code CssPassProfiler} class.
+     */
+    private CssPassProfiler() {}
+
+    //region Control
+    //*****************************************************************
+    // Control
+    //*****************************************************************
+
+    /**
+     * Returns whether the profiler is recording.
+     *
+     * @return {@code true} if the profiler is enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops recording. Recorded counts are kept when the profiler is disabled.
+     *
+     * @param enabled
+     *         {@code true} to record CSS pass activity.
+     */
+    public static void setEnabled(boolean enabled) {
+        CssPassProfiler.enabled = enabled;
+    }
+
+    /**
+     * Discards everything recorded so far.
+     */
+    public static void reset() {
+        counters.clear();
+    }
+
+    //endregion Control
+
+    //region Recording
+    //*****************************************************************
+    // Recording
+    //*****************************************************************
+
+    /**
+     * Records that JavaFX asked whether a CSS property can be set on a styleable.
+     *
+     * @param styleable
+     *         The styleable the property belongs to.
+     * @param property
+     *         The CSS property name.
+     */
+    public static void recordIsSettable(Styleable styleable, String property) {
+        countersFor(styleable, property).isSettableCalls.increment();
+    }
+
+    /**
+     * Records that JavaFX looked up the styleable property of a CSS property on a styleable.
+     *
+     * @param styleable
+     *         The styleable the property belongs to.
+     * @param property
+     *         The CSS property name.
+     */
+    public static void recordGetStyleableProperty(Styleable styleable, String property) {
+        countersFor(styleable, property).getStyleablePropertyCalls.increment();
+    }
+
+    /**
+     * Records a style application to a styleable property.
+     *
+     * @param bean
+     *         The bean that owns the styleable property, usually the control.
+     * @param property
+     *         The CSS property name.
+     * @param changed
+     *         Whether the application changed the property's value.
+     * @param nanos
+     *         The time spent applying the style, in nanoseconds.
+     */
+    public static void recordApplyStyle(Object bean, String property, boolean changed, long nanos) {
+        Counters entry = countersFor(bean, property);
+        entry.applyStyleCalls.increment();
+        entry.applyStyleNanos.add(nanos);
+        if (changed) {
+            entry.valueChanges.increment();
+        }
+    }
+
+    //endregion Recording
+
+    //region Report
+    //*****************************************************************
+    // Report
+    //*****************************************************************
+
+    /**
+     * Returns the recorded activity, one entry per styleable class and CSS property, with the most expensive entries first: by time spent applying styles, then by the number of metadata lookups.
+     *
+     * @return The aggregated report entries.
+     */
+    public static List<Entry> getReport() {
+        return counters.entrySet()
+                       .stream()
+                       .map(mapEntry -> mapEntry.getValue()
+                                                .toEntry(mapEntry.getKey()))
+                       .sorted(Comparator.comparingLong(Entry::applyStyleNanos)
+                                         .thenComparingLong(Entry::lookups)
+                                         .reversed())
+                       .toList();
+    }
+
+    /**
+     * Formats the recorded activity as a text table, one row per styleable class and CSS property.
+     *
+     * @return The formatted report.
+     */
+    public static String formatReport() {
+        List<Entry>   entries = getReport();
+        StringBuilder report  = new StringBuilder(String.format("EnhancedFX CSS pass profile (%d entries)%n", entries.size()));
+        report.append(String.format("%-32s %-36s %12s %12s %12s %12s %12s%n", "Styleable", "Property", "isSettable", "getProperty", "applyStyle", "changed", "apply (us)"));
+        entries.forEach(entry -> report.append(String.format("%-32s %-36s %,12d %,12d %,12d %,12d %,12d%n", entry.styleableClass(), entry.property(), entry.isSettableCalls(),
+                                                             entry.getStyleablePropertyCalls(), entry.applyStyleCalls(), entry.valueChanges(),
+                                                             TimeUnit.NANOSECONDS.toMicros(entry.applyStyleNanos()))));
+        return report.toString();
+    }
+
+    //endregion Report
+
+    //region Helper Functions
+    //*****************************************************************
+    // Helper Functions
+    //*****************************************************************
+
+    /**
+     * Returns the counters of a styleable class and CSS property, creating them on first use.
+     *
+     * @param owner
+     *         The styleable or bean whose class the activity is recorded against.
+     * @param property
+     *         The CSS property name.
+     *
+     * @return The counters.
+     */
+    private static Counters countersFor(Object owner, String property) {
+        Key key = new Key(Objects.isNull(owner) ? "<none>" : owner.getClass()
+                                                                   .getSimpleName(), property);
+        return counters.computeIfAbsent(key, k -> new Counters());
+    }
+
+    //endregion Helper Functions
+
+    /**
+     * One row of the report.
+     *
+     * @param styleableClass
+     *         The simple name of the styleable class.
+     * @param property
+     *         The CSS property name.
+     * @param isSettableCalls
+     *         How often {@code isSettable} was consulted.
+     * @param getStyleablePropertyCalls
+     *         How often {@code getStyleableProperty} was consulted.
+     * @param applyStyleCalls
+     *         How often {@code applyStyle} was invoked.
+     * @param valueChanges
+     *         How many of those invocations changed the value.
+     * @param applyStyleNanos
+     *         The total time spent in {@code applyStyle}, in nanoseconds.
+     */
+    public record Entry(String styleableClass, String property, long isSettableCalls, long getStyleablePropertyCalls, long applyStyleCalls, long valueChanges, long applyStyleNanos) {
+        /**
+         * Returns the number of metadata lookups, {@code isSettable} and {@code getStyleableProperty} combined.
+         *
+         * @return The number of metadata lookups.
+         */
+        public long lookups() {
+            return isSettableCalls + getStyleablePropertyCalls;
+        }
+    }
+
+    /**
+     * Identifies a row of the report.
+     *
+     * @param styleableClass
+     *         The simple name of the styleable class.
+     * @param property
+     *         The CSS property name.
+     */
+    private record Key(String styleableClass, String property) {}
+
+    /**
+     * The counters behind a row of the report. {@link LongAdder} keeps recording cheap when CSS is applied from several threads.
+     */
+    private static final class Counters {
+        private final LongAdder isSettableCalls           = new LongAdder();
+        private final LongAdder getStyleablePropertyCalls = new LongAdder();
+        private final LongAdder applyStyleCalls           = new LongAdder();
+        private final LongAdder valueChanges              = new LongAdder();
+        private final LongAdder applyStyleNanos           = new LongAdder();
+
+        /**
+         * Snapshots the counters into a report entry.
+         *
+         * @param key
+         *         The row the counters belong to.
+         *
+         * @return The report entry.
+         */
+        private Entry toEntry(Key key) {
+            return new Entry(key.styleableClass(), key.property(), isSettableCalls.sum(), getStyleablePropertyCalls.sum(), applyStyleCalls.sum(), valueChanges.sum(), applyStyleNanos.sum());
+        }
+    }
+}
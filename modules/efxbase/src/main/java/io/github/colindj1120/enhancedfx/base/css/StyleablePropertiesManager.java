@@ -22,9 +22,7 @@ import javafx.css.CssMetaData;
 import javafx.css.Styleable;
 import javafx.css.StyleableProperty;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 
 /**
  * The {@code StyleablePropertiesManager} class manages CSS metadata for JavaFX styleable objects, facilitating the dynamic addition, management, and retrieval of {@link CssMetaData}. This utility class
@@ -36,6 +34,7 @@ import java.util.List;
  *   <li>Dynamic addition of new CSS metadata through {@link CssFactory} instances, supporting the definition of custom styleable properties.</li>
  *   <li>Retrieval of specific CSS metadata by property name, with support for type-safe casting and error handling.</li>
  *   <li>Access to the complete, unmodifiable list of managed CSS metadata, ensuring encapsulation and data integrity.</li>
+ *   <li>Constant-time lookup of metadata by property name, and a frozen, cached metadata list once the owning class has been initialized.</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
@@ -65,13 +64,17 @@ import java.util.List;
  * @see StyleableProperty
  */
 public class StyleablePropertiesManager {
-    private final List<CssMetaData<? extends Styleable, ?>> cssMetaDataList;
+    private final List<CssMetaData<? extends Styleable, ?>>        cssMetaDataList;
+    private final Map<String, CssMetaData<? extends Styleable, ?>> cssMetaDataByProperty;
+
+    private volatile List<CssMetaData<? extends Styleable, ?>> frozenCssMetaDataList;
 
     /**
      * Constructs a new {@code StyleablePropertiesManager} with an initial list of CSS metadata. This constructor initializes the manager with an empty list of {@link CssMetaData} instances.
      */
     public StyleablePropertiesManager() {
-        cssMetaDataList = new ArrayList<>();
+        cssMetaDataList       = new ArrayList<>();
+        cssMetaDataByProperty = new HashMap<>();
     }
 
     /**
@@ -82,27 +85,55 @@ public class StyleablePropertiesManager {
      *         The initial list of CSS metadata from a parent styleable object.
      */
     public StyleablePropertiesManager(List<CssMetaData<? extends Styleable, ?>> parentCssMetaData) {
-        cssMetaDataList = new ArrayList<>(parentCssMetaData);
+        cssMetaDataList       = new ArrayList<>(parentCssMetaData);
+        cssMetaDataByProperty = HashMap.newHashMap(parentCssMetaData.size() + 16);
+        cssMetaDataList.forEach(this::indexCssMetaData);
     }
 
     /**
      * Adds a new CSS metadata item to the manager. This method accepts a {@link CssFactory} instance, builds the CSS metadata, and adds it to the manager's internal list. This is useful for dynamically adding
      * new styleable properties to a JavaFX component.
      *
+     * <p>The metadata is indexed by its property name as it is added, so that {@link #findCssMetaData(String)} is a constant-time lookup. Metadata can only be added until the manager is frozen. Adding
+     * is synchronized with freezing, so metadata is either part of the frozen list or rejected, even when controls of the owning class are being constructed on other threads.</p>
+     *
      * @param <T>
      *         The type of the styleable object.
      * @param <V>
      *         The type of the value represented by the CSS metadata.
      * @param builder
      *         The builder used to create the CSS metadata item.
+     *
+     * @return A typed {@link CssKey} for the added metadata, intended to be kept in a {@code static final} field and passed directly to property builders.
+     *
+     * @throws IllegalStateException
+     *         If the manager has already been frozen.
      */
-    public <T extends Styleable, V> void addCssMetaData(CssFactory<T, V> builder) {
-        cssMetaDataList.add(builder.build());
+    public synchronized <T extends Styleable, V> CssKey<T, V> addCssMetaData(CssFactory<T, V> builder) {
+        if (isFrozen()) {
+            throw new IllegalStateException("Cannot add CssMetaData to a StyleablePropertiesManager after it has been frozen");
+        }
+        CssMetaData<T, V> cssMetaData = builder.build();
+        cssMetaDataList.add(cssMetaData);
+        indexCssMetaData(cssMetaData);
+        return CssKey.of(cssMetaData);
     }
 
     /**
-     * Finds and returns the CSS metadata for a specified CSS property. This method searches the internal list of CSS metadata for a property matching the given name. If found, it returns the corresponding
-     * {@link CssMetaData} instance, otherwise it throws an IllegalArgumentException.
+     * Indexes a CSS metadata item by its property name. If several items share a property name, the first one added wins, matching the order in which the list is searched.
+     *
+     * @param cssMetaData
+     *         The CSS metadata item to index.
+     */
+    private void indexCssMetaData(CssMetaData<? extends Styleable, ?> cssMetaData) {
+        cssMetaDataByProperty.putIfAbsent(cssMetaData.getProperty(), cssMetaData);
+    }
+
+    /**
+     * Finds and returns the CSS metadata for a specified CSS property. This method looks up the property name in the manager's index. If found, it returns the corresponding {@link CssMetaData} instance,
+     * otherwise it throws an IllegalArgumentException.
+     *
+     * <p>Controls that register their own metadata should prefer the {@link CssKey} returned by {@link #addCssMetaData(CssFactory)}, which avoids both the lookup and the unchecked cast.</p>
      *
      * @param <S>
      *         The type of the styleable object.
@@ -118,17 +149,11 @@ public class StyleablePropertiesManager {
      */
     @SuppressWarnings("unchecked")
     public <S extends Styleable, V> CssMetaData<S, V> findCssMetaData(String cssProperty) {
-        try {
-            return (CssMetaData<S, V>) cssMetaDataList.stream()
-                                                      .filter(cssMetaData -> cssMetaData.getProperty()
-                                                                                        .equals(cssProperty))
-                                                      .findFirst()
-                                                      .orElseThrow(() -> new IllegalArgumentException("Couldn't find CssMetaData for property: " + cssProperty));
-
-        }
-        catch (ClassCastException e) {
-            throw new IllegalArgumentException("Error Finding Metadata value found can't be casted to type passed in for S and V", e);
+        CssMetaData<? extends Styleable, ?> cssMetaData = cssMetaDataByProperty.get(cssProperty);
+        if (Objects.isNull(cssMetaData)) {
+            throw new IllegalArgumentException("Couldn't find CssMetaData for property: " + cssProperty);
         }
+        return (CssMetaData<S, V>) cssMetaData;
     }
 
     /**
@@ -148,13 +173,39 @@ public class StyleablePropertiesManager {
         return (CssMetaData<S, V>) cssMetaDataList.get(index);
     }
 
+    /**
+     * Freezes the manager, after which no further CSS metadata can be added. Freezing happens automatically the first time {@link #getCssMetaDataList()} is called, which is once the owning class has
+     * finished its static initialization and JavaFX or a subclass asks for its metadata.
+     */
+    public synchronized void freeze() {
+        if (!isFrozen()) {
+            frozenCssMetaDataList = List.copyOf(cssMetaDataList);
+        }
+    }
+
+    /**
+     * Checks whether the manager has been frozen.
+     *
+     * @return {@code true} if no further CSS metadata can be added
+     */
+    public boolean isFrozen() {
+        return Objects.nonNull(frozenCssMetaDataList);
+    }
+
     /**
      * Provides an unmodifiable view of the CSS metadata list managed by this instance. This method returns a list of all {@link CssMetaData} instances currently managed, ensuring that the returned list cannot
      * be modified directly.
      *
+     * <p>The first call freezes the manager. Every call returns the same cached immutable list, so JavaFX can query a control's metadata on every CSS pass without allocating.</p>
+     *
      * @return An unmodifiable list of {@code CssMetaData} objects.
      */
     public List<CssMetaData<? extends Styleable, ?>> getCssMetaDataList() {
-        return Collections.unmodifiableList(cssMetaDataList);
+        List<CssMetaData<? extends Styleable, ?>> frozen = frozenCssMetaDataList;
+        if (Objects.isNull(frozen)) {
+            freeze();
+            frozen = frozenCssMetaDataList;
+        }
+        return frozen;
     }
 }
@@ -17,6 +17,8 @@
  */
 package io.github.colindj1120.enhancedfx.base.factory;
 
+import io.github.colindj1120.enhancedfx.base.css.CssKey;
+import io.github.colindj1120.enhancedfx.base.css.CssPassProfiler;
 import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
 import javafx.css.CssMetaData;
 import javafx.css.StyleConverter;
@@ -26,8 +28,8 @@ import javafx.scene.layout.Region;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * The {@code CssFactory} class serves as a builder for creating {@link CssMetaData} instances, which define the CSS properties applicable to JavaFX {@link Styleable} objects.
@@ -52,7 +54,7 @@ import java.util.function.Function;
  *     .converter(StyleConverter.getNumberConverter())
  *     .initialValue(1.0)
  *     .inherits(true)
- *     .isSettableFunction(MyCustomControl::isCustomOpacitySettable)
+ *     .isSettablePredicate(MyCustomControl::isCustomOpacitySettable)
  *     .propertyGetterFunction(MyCustomControl::customOpacityProperty)
  *     .build();
  * }
@@ -107,7 +109,7 @@ public class CssFactory<S extends Styleable, V> {
     private V                                         initialValue            = null;
     private boolean                                   inherits                = false;
     private List<CssMetaData<? extends Styleable, ?>> subProperties           = null;
-    private Function<S, Boolean>                      isSettableFunction      = null;
+    private Predicate<S>                              isSettablePredicate     = null;
     private Function<S, StyleableProperty<V>>         propertyGetterFunction  = null;
     private Function<S, V>                            getInitialValueFunction = null;
 
@@ -189,6 +191,8 @@ public class CssFactory<S extends Styleable, V> {
     /**
      * Sets the function that determines if the property is settable for a given target object.
      *
+     * <p>The function is adapted to a {@link Predicate} once, when it is set. Prefer {@link #isSettablePredicate(Predicate)}, which avoids the {@code Boolean} result altogether.</p>
+     *
      * @param isSettableFunction
      *         the function that determines if the property is settable. The function takes a target object of type T as parameter and returns a boolean value. Return true if the property is settable for the
      *         given target object, otherwise false.
@@ -196,7 +200,20 @@ public class CssFactory<S extends Styleable, V> {
      * @return the CssBuilder instance with the updated isSettableFunction.
      */
     public CssFactory<S, V> isSettableFunction(Function<S, Boolean> isSettableFunction) {
-        this.isSettableFunction = isSettableFunction;
+        this.isSettablePredicate = Objects.isNull(isSettableFunction) ? null : styleable -> isSettableFunction.apply(styleable);
+        return this;
+    }
+
+    /**
+     * Sets the predicate that determines if the property is settable for a given target object.
+     *
+     * @param isSettablePredicate
+     *         the predicate that determines if the property is settable. Return true if the property is settable for the given target object, otherwise false.
+     *
+     * @return the CssBuilder instance with the updated isSettablePredicate.
+     */
+    public CssFactory<S, V> isSettablePredicate(Predicate<S> isSettablePredicate) {
+        this.isSettablePredicate = isSettablePredicate;
         return this;
     }
 
@@ -241,6 +258,9 @@ public class CssFactory<S extends Styleable, V> {
      *     <li>{@code getStyleableProperty(S styleable)}: Retrieves the {@link StyleableProperty} for the CSS property from the given {@code styleable}, using a provided function.</li>
      * </ul>
      *
+     * <p>The returned metadata is an instance of a small private subclass that holds the settable predicate and getter functions in final fields. When no initial value function is set, the initial value
+     * is returned directly by {@link CssMetaData}, so none of these calls allocate.</p>
+     *
      * <p>This method enables the creation of {@code CssMetaData} objects that are highly configurable and adaptable to specific requirements, enhancing the flexibility and functionality of CSS styling in
      * JavaFX applications.</p>
      *
@@ -252,26 +272,86 @@ public class CssFactory<S extends Styleable, V> {
     public CssMetaData<S, V> build() {
         EFXObjectUtils.isNotNull(property, () -> "Property cannot be null in the CssBuilder");
         EFXObjectUtils.isNotNull(converter, () -> "Converter cannot be null in the CssBuilder");
-        EFXObjectUtils.isNotNull(isSettableFunction, () -> "IsSettable function cannot be null in the CssBuilder");
+        EFXObjectUtils.isNotNull(isSettablePredicate, () -> "IsSettable function cannot be null in the CssBuilder");
         EFXObjectUtils.isNotNull(propertyGetterFunction, () -> "PropertyGetter function cannot be null in the CssBuilder");
 
-        return new CssMetaData<>(property, converter, initialValue, inherits, subProperties) {
-            @Override
-            public V getInitialValue(S styleable) {
-                return Optional.ofNullable(getInitialValueFunction)
-                               .map(f -> f.apply(styleable))
-                               .orElse(super.getInitialValue(styleable));
-            }
+        if (Objects.isNull(getInitialValueFunction)) {
+            return new FactoryCssMetaData<>(property, converter, initialValue, inherits, subProperties, isSettablePredicate, propertyGetterFunction);
+        }
+        return new InitialValueCssMetaData<>(property, converter, initialValue, inherits, subProperties, isSettablePredicate, propertyGetterFunction, getInitialValueFunction);
+    }
 
-            @Override
-            public boolean isSettable(S styleable) {
-                return Objects.nonNull(styleable) && isSettableFunction.apply(styleable);
+    /**
+     * Builds the CSS metadata exactly as {@link #build()} does and wraps it in a typed {@link CssKey}. The key can be kept in a {@code static final} field and passed directly to property builders, avoiding a
+     * lookup by property name.
+     *
+     * @return a typed {@code CssKey} for the newly built {@code CssMetaData}
+     *
+     * @throws IllegalArgumentException
+     *         if any of the essential properties ({@code property}, {@code converter}, {@code isSettableFunction}, or {@code propertyGetterFunction}) are null
+     */
+    public CssKey<S, V> buildKey() {
+        return CssKey.of(build());
+    }
+
+    /**
+     * The {@code CssMetaData} produced by {@link #build()} when no initial value function is configured. The initial value is the one passed to {@link CssMetaData}, which is returned directly, and the
+     * settable check and property getter are held in final fields so that JavaFX can query them on every CSS pass without any per-call allocation.
+     *
+     * @param <S>
+     *         The type of the styleable object.
+     * @param <V>
+     *         The type of the value represented by the metadata.
+     */
+    private static class FactoryCssMetaData<S extends Styleable, V> extends CssMetaData<S, V> {
+        private final Predicate<S>                      isSettablePredicate;
+        private final Function<S, StyleableProperty<V>> propertyGetterFunction;
+
+        FactoryCssMetaData(String property, StyleConverter<?, V> converter, V initialValue, boolean inherits, List<CssMetaData<? extends Styleable, ?>> subProperties,
+                           Predicate<S> isSettablePredicate, Function<S, StyleableProperty<V>> propertyGetterFunction) {
+            super(property, converter, initialValue, inherits, subProperties);
+            this.isSettablePredicate    = isSettablePredicate;
+            this.propertyGetterFunction = propertyGetterFunction;
+        }
+
+        @Override
+        public boolean isSettable(S styleable) {
+            if (CssPassProfiler.isEnabled()) {
+                CssPassProfiler.recordIsSettable(styleable, getProperty());
             }
+            return Objects.nonNull(styleable) && isSettablePredicate.test(styleable);
+        }
 
-            @Override
-            public StyleableProperty<V> getStyleableProperty(S styleable) {
-                return propertyGetterFunction.apply(styleable);
+        @Override
+        public StyleableProperty<V> getStyleableProperty(S styleable) {
+            if (CssPassProfiler.isEnabled()) {
+                CssPassProfiler.recordGetStyleableProperty(styleable, getProperty());
             }
-        };
+            return propertyGetterFunction.apply(styleable);
+        }
+    }
+
+    /**
+     * The {@code CssMetaData} produced by {@link #build()} when an initial value function is configured. The function is consulted first, and the static initial value is used when it yields {@code null}.
+     *
+     * @param <S>
+     *         The type of the styleable object.
+     * @param <V>
+     *         The type of the value represented by the metadata.
+     */
+    private static final class InitialValueCssMetaData<S extends Styleable, V> extends FactoryCssMetaData<S, V> {
+        private final Function<S, V> getInitialValueFunction;
+
+        InitialValueCssMetaData(String property, StyleConverter<?, V> converter, V initialValue, boolean inherits, List<CssMetaData<? extends Styleable, ?>> subProperties,
+                                Predicate<S> isSettablePredicate, Function<S, StyleableProperty<V>> propertyGetterFunction, Function<S, V> getInitialValueFunction) {
+            super(property, converter, initialValue, inherits, subProperties, isSettablePredicate, propertyGetterFunction);
+            this.getInitialValueFunction = getInitialValueFunction;
+        }
+
+        @Override
+        public V getInitialValue(S styleable) {
+            V value = getInitialValueFunction.apply(styleable);
+            return Objects.nonNull(value) ? value : super.getInitialValue(styleable);
+        }
     }
 }
@@ -18,8 +18,11 @@
 package io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.base;
 
 import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.button.base.ButtonConfig;
+import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
 import javafx.scene.Node;
 
+import java.util.function.Consumer;
+
 /**
  * The {@code BaseConfig} interface defines the foundational structure for a configurator pattern implementation tailored for JavaFX UI component and control configuration. It serves as a generic contract for
  * configurators, enabling fluent and intuitive setup of UI elements within JavaFX applications.
@@ -101,4 +104,43 @@ public interface BaseConfig<T extends ConfiguratorBase> {
      * @return The current {@link Node} associated with the current configurator instance
      */
     Node getNode();
+
+    /**
+     * Collects every listener, binding and event handler this configurator registers from now on into a {@link SubscriptionBag}, so they can be removed in one call. See
+     * {@link ConfiguratorBase#collectInto(SubscriptionBag)}.
+     *
+     * @param subscriptions
+     *         the bag to collect into, or {@code null} to stop collecting.
+     *
+     * @return the configurator instance of type {@code T}, enabling further configuration through method chaining.
+     */
+    default T collectSubscriptions(SubscriptionBag subscriptions) {
+        T configurator = getConfigurator();
+        configurator.collectInto(subscriptions);
+        return configurator;
+    }
+
+    /**
+     * Runs configuration calls as a single batch, coalescing the layout requests they cause into one. See {@link ConfiguratorBase#runBatch(Runnable)}.
+     *
+     * <p>The chain receives this configurator, so a setup that binds and listens to several layout-affecting properties can stay a single fluent sequence:</p>
+     *
+     * <pre>{@code
+     * TextFieldConfigurator.create(textField)
+     *                      .batch(configurator -> configurator.bindPaddingProperty(padding)
+     *                                                         .bindBorderProperty(border)
+     *                                                         .addFontChangeListener(fontListener));
+     * }</pre>
+     *
+     * @param chain
+     *         the configuration calls to run as a batch.
+     *
+     * @return the configurator instance of type {@code T}, enabling further configuration through method chaining.
+     */
+    default T batch(Consumer<? super T> chain) {
+        EFXObjectUtils.isNotNull(chain, () -> "Configuration chain cannot be null when running a configurator batch");
+        T configurator = getConfigurator();
+        configurator.runBatch(() -> chain.accept(configurator));
+        return configurator;
+    }
 }
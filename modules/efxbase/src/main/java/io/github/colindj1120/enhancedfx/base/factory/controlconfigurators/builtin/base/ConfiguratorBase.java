@@ -17,8 +17,25 @@
  */
 package io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.base;
 
+import io.github.colindj1120.enhancedfx.base.beans.binding.base.observablefunctions.ObservableValueFunctions;
 import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.Property;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.event.EventType;
 import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.util.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Serves as the foundational class for all configurators within the EnhancedFX framework, providing a standardized approach for manipulating and configuring JavaFX {@link Node} properties.
@@ -70,6 +87,8 @@ import javafx.scene.Node;
  * @see EFXObjectUtils
  */
 public abstract class ConfiguratorBase {
+    private SubscriptionBag subscriptions;
+
     /**
      * Protected constructor for {@code ConfiguratorBase} to prevent direct instantiation.
      *
@@ -120,6 +139,244 @@ public abstract class ConfiguratorBase {
      */
     public abstract boolean nodeEquals(Node value);
 
+    //region Registrations
+    //*****************************************************************
+    // Registrations
+    //*****************************************************************
+
+    /**
+     * Starts or stops collecting the registrations made by this configurator.
+     *
+     * <p>
+     * While a {@link SubscriptionBag} is set, every listener, binding and event handler registered through this configurator adds its undo action to the bag, so the owner of the bag, typically a skin, can
+     * remove all of them in one call. Without a bag, registrations are made exactly as before and nothing is recorded.
+     * </p>
+     *
+     * @param subscriptions
+     *         the bag to collect into, or {@code null} to stop collecting.
+     */
+    public void collectInto(SubscriptionBag subscriptions) {
+        this.subscriptions = subscriptions;
+    }
+
+    /**
+     * Returns the bag this configurator collects its registrations into.
+     *
+     * @return the {@link SubscriptionBag}, or {@code null} if registrations are not collected.
+     */
+    public SubscriptionBag getSubscriptions() {
+        return subscriptions;
+    }
+
+    /**
+     * Adds a change listener to an observable value, collecting its removal if a {@link SubscriptionBag} is set.
+     *
+     * @param <V>
+     *         the type of the observed value.
+     * @param observable
+     *         the observable value to listen to.
+     * @param changeListener
+     *         the listener to add.
+     */
+    public <V> void registerListener(ObservableValue<V> observable, ChangeListener<? super V> changeListener) {
+        observable.addListener(changeListener);
+        collect(() -> observable.removeListener(changeListener));
+    }
+
+    /**
+     * Adds an invalidation listener to an observable, collecting its removal if a {@link SubscriptionBag} is set.
+     *
+     * @param observable
+     *         the observable to listen to.
+     * @param invalidationListener
+     *         the listener to add.
+     */
+    public void registerListener(Observable observable, InvalidationListener invalidationListener) {
+        observable.addListener(invalidationListener);
+        collect(() -> observable.removeListener(invalidationListener));
+    }
+
+    /**
+     * Adds a change listener to an EnhancedFX binding, collecting its removal if a {@link SubscriptionBag} is set.
+     *
+     * @param <V>
+     *         the type of the observed value.
+     * @param binding
+     *         the binding to listen to.
+     * @param changeListener
+     *         the listener to add.
+     */
+    public <V> void registerListener(ObservableValueFunctions<V, ?> binding, ChangeListener<? super V> changeListener) {
+        binding.addListener(changeListener);
+        collect(() -> binding.removeListener(changeListener));
+    }
+
+    /**
+     * Adds an invalidation listener to an EnhancedFX binding, collecting its removal if a {@link SubscriptionBag} is set.
+     *
+     * @param binding
+     *         the binding to listen to.
+     * @param invalidationListener
+     *         the listener to add.
+     */
+    public void registerListener(ObservableValueFunctions<?, ?> binding, InvalidationListener invalidationListener) {
+        binding.addListener(invalidationListener);
+        collect(() -> binding.removeListener(invalidationListener));
+    }
+
+    /**
+     * Adds a list change listener to an observable list, collecting its removal if a {@link SubscriptionBag} is set.
+     *
+     * @param <E>
+     *         the type of the list elements.
+     * @param list
+     *         the observable list to listen to.
+     * @param listChangeListener
+     *         the listener to add.
+     */
+    public <E> void registerListChangeListener(ObservableList<E> list, ListChangeListener<? super E> listChangeListener) {
+        list.addListener(listChangeListener);
+        collect(() -> list.removeListener(listChangeListener));
+    }
+
+    /**
+     * Binds a property to an observable value, collecting the unbinding if a {@link SubscriptionBag} is set.
+     *
+     * <p>
+     * The collected subscription only unbinds the property while it is still bound by this registration. If the property has since been unbound or bound to another observable, for example by the
+     * configurator of a newer skin, unsubscribing leaves it alone.
+     * </p>
+     *
+     * @param <V>
+     *         the type of the property value.
+     * @param property
+     *         the property to bind.
+     * @param observable
+     *         the observable value to bind to.
+     */
+    public <V> void registerBinding(Property<V> property, ObservableValue<? extends V> observable) {
+        if (Objects.isNull(subscriptions)) {
+            property.bind(observable);
+            return;
+        }
+        BindingLink<V> link = new BindingLink<>(observable);
+        property.bind(link);
+        collect(() -> {
+            if (link.isBound()) {
+                property.unbind();
+            }
+        });
+    }
+
+    /**
+     * Binds two properties bidirectionally, collecting the unbinding if a {@link SubscriptionBag} is set.
+     *
+     * @param <V>
+     *         the type of the property values.
+     * @param property
+     *         the property to bind.
+     * @param otherProperty
+     *         the other property.
+     */
+    public <V> void registerBidirectionalBinding(Property<V> property, Property<V> otherProperty) {
+        property.bindBidirectional(otherProperty);
+        collect(() -> property.unbindBidirectional(otherProperty));
+    }
+
+    /**
+     * Adds an event handler to a node, collecting its removal if a {@link SubscriptionBag} is set.
+     *
+     * @param <E>
+     *         the type of the event.
+     * @param node
+     *         the node to add the handler to.
+     * @param eventType
+     *         the type of the events to handle.
+     * @param eventHandler
+     *         the handler to add.
+     */
+    public <E extends Event> void registerEventHandler(Node node, EventType<E> eventType, EventHandler<? super E> eventHandler) {
+        node.addEventHandler(eventType, eventHandler);
+        collect(() -> node.removeEventHandler(eventType, eventHandler));
+    }
+
+    /**
+     * Adds an event filter to a node, collecting its removal if a {@link SubscriptionBag} is set.
+     *
+     * @param <E>
+     *         the type of the event.
+     * @param node
+     *         the node to add the filter to.
+     * @param eventType
+     *         the type of the events to filter.
+     * @param eventFilter
+     *         the filter to add.
+     */
+    public <E extends Event> void registerEventFilter(Node node, EventType<E> eventType, EventHandler<? super E> eventFilter) {
+        node.addEventFilter(eventType, eventFilter);
+        collect(() -> node.removeEventFilter(eventType, eventFilter));
+    }
+
+    /**
+     * Adds the undo action of a registration to the {@link SubscriptionBag}, if one is set.
+     *
+     * @param subscription
+     *         the undo action of the registration.
+     */
+    private void collect(Subscription subscription) {
+        if (Objects.nonNull(subscriptions)) {
+            subscriptions.add(subscription);
+        }
+    }
+
+    //endregion Registrations
+
+    /**
+     * Runs a configuration chain as a single batch, so the layout requests it causes are coalesced.
+     *
+     * <p>
+     * Before the chain runs, the configured {@link Node} and each of its ancestors that is {@link LayoutSuspendable} are suspended, so requests made to them while the chain binds, sets and listens are only
+     * recorded. Once the chain finishes, or fails, the configured {@link Node} receives one {@link Parent#requestLayout()} if it is a {@link Parent}, while the suspension is still in place, and the
+     * suspended nodes are then resumed in reverse order, each issuing at most one layout request.
+     * </p>
+     *
+     * <p>
+     * Layout requests that JavaFX propagates internally from one built-in node to another cannot be intercepted; the batch coalesces the explicit requests made to suspendable nodes, such as those issued by
+     * EnhancedFX controls and skin listeners.
+     * </p>
+     *
+     * @param chain
+     *         the configuration calls to run as a batch.
+     *
+     * @throws IllegalArgumentException
+     *         if the chain is null.
+     */
+    public void runBatch(Runnable chain) {
+        EFXObjectUtils.isNotNull(chain, () -> "Configuration chain cannot be null when running a configurator batch");
+
+        Node                    node      = getNode();
+        List<LayoutSuspendable> suspended = new ArrayList<>();
+        for (Node current = node; current != null; current = current.getParent()) {
+            if (current instanceof LayoutSuspendable suspendable) {
+                suspendable.suspendLayout();
+                suspended.add(suspendable);
+            }
+        }
+
+        try {
+            chain.run();
+        } finally {
+            // Requested while the suspendable nodes still hold their requests back, so it is coalesced with theirs instead of causing a second layout pass after they resume.
+            if (node instanceof Parent parent) {
+                parent.requestLayout();
+            }
+            for (int i = suspended.size() - 1; i >= 0; i--) {
+                suspended.get(i)
+                         .resumeLayout();
+            }
+        }
+    }
+
     /**
      * Validates that the specified {@link Node} is an instance of the given class type and casts it accordingly.
      *
@@ -148,7 +405,72 @@ public abstract class ConfiguratorBase {
      *         if the {@link Node} is not an instance of {@code classTypeToCheck}, with a detailed error message.
      */
     protected <T, U> T checkNodeAndCast(Node value, Class<T> classTypeToCheck, Class<U> implementingClass, String callingFunction) {
-        String message = String.format("Node:{%s} is not an instance of %s in {Class: %s, Method: %s}", value.toString(), classTypeToCheck.getSimpleName(), implementingClass.getSimpleName(), callingFunction);
-        return EFXObjectUtils.checkInstanceOfAndCast(value, classTypeToCheck, () -> message);
+        return EFXObjectUtils.checkInstanceOfAndCast(value, classTypeToCheck, () -> String.format("Node:{%s} is not an instance of %s in {Class: %s, Method: %s}", value.toString(),
+                                                                                                  classTypeToCheck.getSimpleName(), implementingClass.getSimpleName(), callingFunction));
+    }
+
+    /**
+     * An observable value that forwards to the observable a property is bound to through {@link #registerBinding(Property, ObservableValue)}.
+     *
+     * <p>
+     * JavaFX does not expose what a property is bound to, but a bound property listens to its observable and stops listening when it is unbound or bound elsewhere. Binding through a link of its own
+     * therefore tells whether the registration is still in effect: it is as long as the link has listeners.
+     * </p>
+     *
+     * @param <V>
+     *         the type of the forwarded value.
+     */
+    private static final class BindingLink<V> implements ObservableValue<V> {
+        private final ObservableValue<? extends V> source;
+
+        private int listenerCount;
+
+        /**
+         * Constructs a link forwarding to the given observable.
+         *
+         * @param source
+         *         the observable the property is bound to.
+         */
+        private BindingLink(ObservableValue<? extends V> source) {
+            this.source = source;
+        }
+
+        /**
+         * Returns whether a property is still bound through this link.
+         *
+         * @return {@code true} if the link has listeners.
+         */
+        private boolean isBound() {
+            return listenerCount > 0;
+        }
+
+        @Override
+        public V getValue() {
+            return source.getValue();
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            source.addListener(listener);
+            listenerCount++;
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            source.removeListener(listener);
+            listenerCount--;
+        }
+
+        @Override
+        public void addListener(ChangeListener<? super V> listener) {
+            source.addListener(listener);
+            listenerCount++;
+        }
+
+        @Override
+        public void removeListener(ChangeListener<? super V> listener) {
+            source.removeListener(listener);
+            listenerCount--;
+        }
     }
 }
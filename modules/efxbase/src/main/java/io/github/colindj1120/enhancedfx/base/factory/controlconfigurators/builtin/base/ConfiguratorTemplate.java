@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.base;
+
+import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The {@code ConfiguratorTemplate} class is an immutable, recorded configurator chain that can be stamped onto any number of nodes.
+ *
+ * <p>A configurator chain is normally written against one node, and a new configurator is created for each node that is configured the same way. A template records the chain once, as a list
+ * of steps, and replays it. Applying a template to a collection of nodes creates a single configurator and moves it from node to node with {@link ConfiguratorBase#setNode(Node)}, so no
+ * configurator is allocated per node.</p>
+ *
+ * <h2>Recording</h2>
+ * <ul>
+ *     <li>{@link Recorder#configure(Consumer)} records calls that are the same for every node: property values, style classes, bindings to shared observables.</li>
+ *     <li>{@link Recorder#configurePerNode(BiConsumer)} records calls that need the node itself, such as listener factories or bindings to the node's own properties.</li>
+ * </ul>
+ *
+ * <h2>Validation</h2>
+ * <p>Every replayed node goes through the configurator's usual validation. The association checks compare each property or binding with the node the configurator is positioned on, so a chain that
+ * was valid for one node can still be invalid for the next, for example when a {@code configure} step binds a property of a node captured at recording time.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>
+ * {@code
+ *     ConfiguratorTemplate<Label, LabelConfigurator> cellTemplate = ConfiguratorTemplate.record(LabelConfigurator::create)
+ *                                                                                     .configure(configurator -> configurator.setWrapText(true)
+ *                                                                                                                            .addStyleClass("cell-label"))
+ *                                                                                     .configurePerNode((configurator, label) -> configurator.addHoverChangeListener(
+ *                                                                                             hoverListenerFor(label)))
+ *                                                                                     .build();
+ *
+ *     cellTemplate.applyTo(labels);
+ * }
+ * </pre>
+ *
+ * <p>A template holds no node and no configurator, so it can be kept and shared freely. Each application must happen on the thread that owns the nodes being configured.</p>
+ *
+ * @param <N>
+ *         The type of node the template configures.
+ * @param <C>
+ *         The type of configurator the chain is recorded against.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see ConfiguratorBase
+ */
+public final class ConfiguratorTemplate<N extends Node, C extends ConfiguratorBase> {
+    private final Function<? super N, ? extends C>       configuratorFactory;
+    private final List<BiConsumer<? super C, ? super N>> steps;
+
+    /**
+     * Constructs a template from the recorded steps.
+     *
+     * @param configuratorFactory
+     *         The factory creating the configurator for the first node of an application.
+     * @param steps
+     *         The recorded steps, in order.
+     */
+    private ConfiguratorTemplate(Function<? super N, ? extends C> configuratorFactory, List<BiConsumer<? super C, ? super N>> steps) {
+        this.configuratorFactory = configuratorFactory;
+        this.steps               = List.copyOf(steps);
+    }
+
+    /**
+     * Starts recording a template.
+     *
+     * @param <N>
+     *         The type of node the template configures.
+     * @param <C>
+     *         The type of configurator the chain is recorded against.
+     * @param configuratorFactory
+     *         The factory creating a configurator for a node, typically the configurator's {@code create} method.
+     *
+     * @return A recorder for the template's steps.
+     *
+     * @throws IllegalArgumentException
+     *         If the factory is null.
+     */
+    public static <N extends Node, C extends ConfiguratorBase> Recorder<N, C> record(Function<? super N, ? extends C> configuratorFactory) {
+        EFXObjectUtils.isNotNull(configuratorFactory, () -> "Configurator factory cannot be null when recording a configurator template");
+        return new Recorder<>(configuratorFactory);
+    }
+
+    //region Application
+    //*****************************************************************
+    // Application
+    //*****************************************************************
+
+    /**
+     * Applies the template to a single node. To configure many nodes, prefer {@link #applyTo(Iterable)}, which shares one configurator between them.
+     *
+     * @param node
+     *         The node to configure.
+     *
+     * @throws IllegalArgumentException
+     *         If the node is null.
+     */
+    public void applyTo(N node) {
+        EFXObjectUtils.isNotNull(node, () -> "Node cannot be null when applying a configurator template");
+        replay(configuratorFactory.apply(node), node);
+    }
+
+    /**
+     * Applies the template to every node of a collection, moving a single configurator from node to node.
+     *
+     * @param nodes
+     *         The nodes to configure.
+     *
+     * @throws IllegalArgumentException
+     *         If the collection or one of its nodes is null.
+     */
+    public void applyTo(Iterable<? extends N> nodes) {
+        EFXObjectUtils.isNotNull(nodes, () -> "Nodes cannot be null when applying a configurator template");
+
+        C configurator = null;
+        for (N node : nodes) {
+            EFXObjectUtils.isNotNull(node, () -> "Node cannot be null when applying a configurator template");
+            if (Objects.isNull(configurator)) {
+                configurator = configuratorFactory.apply(node);
+            } else {
+                configurator.setNode(node);
+            }
+            replay(configurator, node);
+        }
+    }
+
+    //endregion Application
+
+    //region Helper Functions
+    //*****************************************************************
+    // Helper Functions
+    //*****************************************************************
+
+    /**
+     * Replays the recorded steps on a configurator positioned on a node.
+     *
+     * @param configurator
+     *         The configurator, already associated with the node.
+     * @param node
+     *         The node being configured.
+     */
+    private void replay(C configurator, N node) {
+        for (BiConsumer<? super C, ? super N> step : steps) {
+            step.accept(configurator, node);
+        }
+    }
+
+    //endregion Helper Functions
+
+    /**
+     * Records the steps of a {@link ConfiguratorTemplate}. A recorder can build any number of templates; each one holds a copy of the steps recorded so far.
+     *
+     * @param <N>
+     *         The type of node the template configures.
+     * @param <C>
+     *         The type of configurator the chain is recorded against.
+     */
+    public static final class Recorder<N extends Node, C extends ConfiguratorBase> {
+        private final Function<? super N, ? extends C>       configuratorFactory;
+        private final List<BiConsumer<? super C, ? super N>> steps = new ArrayList<>();
+
+        /**
+         * Constructs a recorder with no steps.
+         *
+         * @param configuratorFactory
+         *         The factory creating a configurator for a node.
+         */
+        private Recorder(Function<? super N, ? extends C> configuratorFactory) {
+            this.configuratorFactory = configuratorFactory;
+        }
+
+        /**
+         * Records configurator calls that are the same for every node.
+         *
+         * @param chain
+         *         The calls to record, made against the configurator.
+         *
+         * @return This recorder, for chaining.
+         *
+         * @throws IllegalArgumentException
+         *         If the chain is null.
+         */
+        public Recorder<N, C> configure(Consumer<? super C> chain) {
+            EFXObjectUtils.isNotNull(chain, () -> "Configurator chain cannot be null when recording a configurator template");
+            steps.add((configurator, node) -> chain.accept(configurator));
+            return this;
+        }
+
+        /**
+         * Records configurator calls that depend on the node being configured, such as listener factories or bindings to the node's own properties.
+         *
+         * @param chain
+         *         The calls to record, made against the configurator and the node it is positioned on.
+         *
+         * @return This recorder, for chaining.
+         *
+         * @throws IllegalArgumentException
+         *         If the chain is null.
+         */
+        public Recorder<N, C> configurePerNode(BiConsumer<? super C, ? super N> chain) {
+            EFXObjectUtils.isNotNull(chain, () -> "Configurator chain cannot be null when recording a configurator template");
+            steps.add(chain);
+            return this;
+        }
+
+        /**
+         * Builds an immutable template from the steps recorded so far.
+         *
+         * @return The template.
+         */
+        public ConfiguratorTemplate<N, C> build() {
+            return new ConfiguratorTemplate<>(configuratorFactory, steps);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.base;
+
+import javafx.scene.Parent;
+
+/**
+ * The {@code LayoutSuspendable} interface is implemented by {@link Parent}s that can hold back their layout requests while a batch of changes is applied to them or to their descendants.
+ *
+ * <p>While a node is suspended, calls to its {@link Parent#requestLayout()} are only recorded. When the outermost suspension ends, a single layout request is issued if any was recorded, so a configurator
+ * chain that binds or sets several layout-affecting properties invalidates the node, and its parent chain, once instead of once per property.</p>
+ *
+ * <p>Suspensions nest: every call to {@link #suspendLayout()} must be matched by a call to {@link #resumeLayout()}, which is done for configurators by {@link ConfiguratorBase#runBatch(Runnable)}.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>
+ * {@code
+ *     control.suspendLayout();
+ *     try {
+ *         // several layout-affecting changes
+ *     } finally {
+ *         control.resumeLayout();
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see ConfiguratorBase#runBatch(Runnable)
+ */
+public interface LayoutSuspendable {
+    /**
+     * Starts holding back layout requests, or nests a further suspension if already suspended.
+     */
+    void suspendLayout();
+
+    /**
+     * Ends one suspension. When the outermost suspension ends, one layout request is issued if any was held back.
+     */
+    void resumeLayout();
+
+    /**
+     * Returns whether layout requests are currently being held back.
+     *
+     * @return {@code true} if the node is suspended.
+     */
+    boolean isLayoutSuspended();
+}
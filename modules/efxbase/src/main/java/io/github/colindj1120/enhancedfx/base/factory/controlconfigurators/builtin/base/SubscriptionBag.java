@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.base;
+
+import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
+import javafx.util.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code SubscriptionBag} class collects the {@link Subscription}s of many listener, binding and event handler registrations so they can be undone in one call.
+ *
+ * <p>A configurator that {@linkplain ConfiguratorBase#collectInto(SubscriptionBag) collects into} a bag adds the undo action of every registration it makes. Disposing a skin or control then only needs
+ * {@link #unsubscribe()}, rather than keeping a reference to each listener, so swapped skins and removed controls do not stay reachable through listener chains on long-lived properties.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>
+ * {@code
+ *     SubscriptionBag subscriptions = new SubscriptionBag();
+ *
+ *     TextFieldConfigurator.create(textField)
+ *                          .collectSubscriptions(subscriptions)
+ *                          .addFontChangeListener(fontListener)
+ *                          .bindPaddingProperty(padding);
+ *
+ *     // Later, when the skin is disposed
+ *     subscriptions.unsubscribe();
+ * }
+ * </pre>
+ *
+ * <p>A bag can be reused after it has been unsubscribed. Like the nodes it usually tracks, it must only be used from the JavaFX Application Thread.</p>
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see Subscription
+ * @see ConfiguratorBase
+ */
+public final class SubscriptionBag implements Subscription {
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    /**
+     * Constructs an empty {@code SubscriptionBag}.
+     */
+    public SubscriptionBag() {}
+
+    /**
+     * Adds a subscription to the bag.
+     *
+     * @param subscription
+     *         The subscription to add.
+     *
+     * @return This bag, for chaining.
+     *
+     * @throws IllegalArgumentException
+     *         If the subscription is null.
+     */
+    public SubscriptionBag add(Subscription subscription) {
+        EFXObjectUtils.isNotNull(subscription, () -> "Subscription cannot be null when adding it to a subscription bag");
+        subscriptions.add(subscription);
+        return this;
+    }
+
+    /**
+     * Returns the number of subscriptions in the bag.
+     *
+     * @return The number of subscriptions.
+     */
+    public int size() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Returns whether the bag holds no subscription.
+     *
+     * @return {@code true} if the bag is empty.
+     */
+    public boolean isEmpty() {
+        return subscriptions.isEmpty();
+    }
+
+    /**
+     * Unsubscribes every subscription in the bag, most recent first, and empties it.
+     */
+    @Override
+    public void unsubscribe() {
+        for (int i = subscriptions.size() - 1; i >= 0; i--) {
+            subscriptions.get(i)
+                         .unsubscribe();
+        }
+        subscriptions.clear();
+    }
+}
@@ -121,8 +121,7 @@ public interface ButtonConfig<T extends ConfiguratorBase> extends ButtonBaseConf
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addDefaultButtonChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().defaultButtonProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().defaultButtonProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -135,8 +134,7 @@ public interface ButtonConfig<T extends ConfiguratorBase> extends ButtonBaseConf
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addDefaultButtonInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().defaultButtonProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().defaultButtonProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -149,8 +147,7 @@ public interface ButtonConfig<T extends ConfiguratorBase> extends ButtonBaseConf
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addCancelButtonChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().cancelButtonProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().cancelButtonProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -163,8 +160,7 @@ public interface ButtonConfig<T extends ConfiguratorBase> extends ButtonBaseConf
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addCancelButtonInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().cancelButtonProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().cancelButtonProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -249,8 +245,7 @@ public interface ButtonConfig<T extends ConfiguratorBase> extends ButtonBaseConf
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindDefaultButtonProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().defaultButtonProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().defaultButtonProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -274,8 +269,7 @@ public interface ButtonConfig<T extends ConfiguratorBase> extends ButtonBaseConf
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalDefaultButtonProperty(Property<Boolean> otherProperty) {
-        getNode().defaultButtonProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().defaultButtonProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -304,8 +298,7 @@ public interface ButtonConfig<T extends ConfiguratorBase> extends ButtonBaseConf
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindCancelButtonProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().cancelButtonProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().cancelButtonProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -329,8 +322,7 @@ public interface ButtonConfig<T extends ConfiguratorBase> extends ButtonBaseConf
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalCancelButtonProperty(Property<Boolean> otherProperty) {
-        getNode().cancelButtonProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().cancelButtonProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -128,8 +128,7 @@ public interface ButtonBaseConfig<T extends ConfiguratorBase> extends LabeledCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addArmedChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().armedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().armedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -142,8 +141,7 @@ public interface ButtonBaseConfig<T extends ConfiguratorBase> extends LabeledCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addArmedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().armedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().armedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -156,8 +154,7 @@ public interface ButtonBaseConfig<T extends ConfiguratorBase> extends LabeledCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addOnActionChangeListener(ChangeListener<? super EventHandler<ActionEvent>> changeListener) {
-        getNode().onActionProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onActionProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -170,8 +167,7 @@ public interface ButtonBaseConfig<T extends ConfiguratorBase> extends LabeledCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addOnActionInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onActionProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onActionProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -256,8 +252,7 @@ public interface ButtonBaseConfig<T extends ConfiguratorBase> extends LabeledCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindOnActionProperty(ObservableValue<? extends EventHandler<ActionEvent>> observableValue) {
-        getNode().onActionProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onActionProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -281,8 +276,7 @@ public interface ButtonBaseConfig<T extends ConfiguratorBase> extends LabeledCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnActionProperty(Property<EventHandler<ActionEvent>> otherProperty) {
-        getNode().onActionProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onActionProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -131,8 +131,7 @@ public interface ControlConfig<T extends ConfiguratorBase> extends RegionConfig<
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addSkinChangeListener(ChangeListener<? super Skin<?>> changeListener) {
-        getNode().skinProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().skinProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -145,8 +144,7 @@ public interface ControlConfig<T extends ConfiguratorBase> extends RegionConfig<
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addSkinInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().skinProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().skinProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -159,8 +157,7 @@ public interface ControlConfig<T extends ConfiguratorBase> extends RegionConfig<
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTooltipChangeListener(ChangeListener<? super Tooltip> changeListener) {
-        getNode().tooltipProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().tooltipProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -173,8 +170,7 @@ public interface ControlConfig<T extends ConfiguratorBase> extends RegionConfig<
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTooltipInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().tooltipProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().tooltipProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -187,8 +183,7 @@ public interface ControlConfig<T extends ConfiguratorBase> extends RegionConfig<
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addContextMenuChangeListener(ChangeListener<? super ContextMenu> changeListener) {
-        getNode().contextMenuProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().contextMenuProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -201,8 +196,7 @@ public interface ControlConfig<T extends ConfiguratorBase> extends RegionConfig<
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addContextMenuInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().contextMenuProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().contextMenuProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -315,8 +309,7 @@ public interface ControlConfig<T extends ConfiguratorBase> extends RegionConfig<
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindSkinProperty(ObservableValue<? extends Skin<?>> observableValue) {
-        getNode().skinProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().skinProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -340,8 +333,7 @@ public interface ControlConfig<T extends ConfiguratorBase> extends RegionConfig<
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalSkinProperty(Property<Skin<?>> property) {
-        getNode().skinProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().skinProperty(), property);
         return getConfigurator();
     }
 
@@ -370,8 +362,7 @@ public interface ControlConfig<T extends ConfiguratorBase> extends RegionConfig<
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindTooltipProperty(ObservableValue<? extends Tooltip> observableValue) {
-        getNode().tooltipProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().tooltipProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -395,8 +386,7 @@ public interface ControlConfig<T extends ConfiguratorBase> extends RegionConfig<
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalTooltipProperty(Property<Tooltip> property) {
-        getNode().tooltipProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().tooltipProperty(), property);
         return getConfigurator();
     }
 
@@ -425,8 +415,7 @@ public interface ControlConfig<T extends ConfiguratorBase> extends RegionConfig<
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindContextMenuProperty(ObservableValue<? extends ContextMenu> observableValue) {
-        getNode().contextMenuProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().contextMenuProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -450,8 +439,7 @@ public interface ControlConfig<T extends ConfiguratorBase> extends RegionConfig<
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalContextMenuProperty(Property<ContextMenu> property) {
-        getNode().contextMenuProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().contextMenuProperty(), property);
         return getConfigurator();
     }
 
@@ -109,8 +109,7 @@ public interface LabelConfig<T extends ConfiguratorBase> extends LabeledConfig<T
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addLabelForChangeListener(ChangeListener<? super Node> changeListener) {
-        getNode().labelForProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().labelForProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -123,8 +122,7 @@ public interface LabelConfig<T extends ConfiguratorBase> extends LabeledConfig<T
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addLabelForInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().labelForProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().labelForProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -179,8 +177,7 @@ public interface LabelConfig<T extends ConfiguratorBase> extends LabeledConfig<T
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindLabelForProperty(ObservableValue<? extends Node> observableValue) {
-        getNode().labelForProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().labelForProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -204,8 +201,7 @@ public interface LabelConfig<T extends ConfiguratorBase> extends LabeledConfig<T
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalLabelForProperty(Property<Node> otherProperty) {
-        getNode().labelForProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().labelForProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -237,8 +237,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTextChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().textProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().textProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -251,8 +250,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTextInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().textProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().textProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -265,8 +263,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addAlignmentChangeListener(ChangeListener<? super Pos> changeListener) {
-        getNode().alignmentProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().alignmentProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -279,8 +276,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addAlignmentInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().alignmentProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().alignmentProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -293,8 +289,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTextAlignmentChangeListener(ChangeListener<? super TextAlignment> changeListener) {
-        getNode().textAlignmentProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().textAlignmentProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -307,8 +302,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTextAlignmentInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().textAlignmentProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().textAlignmentProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -321,8 +315,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTextOverrunChangeListener(ChangeListener<? super OverrunStyle> changeListener) {
-        getNode().textOverrunProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().textOverrunProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -335,8 +328,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTextOverrunInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().textOverrunProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().textOverrunProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -349,8 +341,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addEllipsisStringChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().ellipsisStringProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().ellipsisStringProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -363,8 +354,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addEllipsisStringInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().ellipsisStringProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().ellipsisStringProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -377,8 +367,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addWrapTextChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().wrapTextProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().wrapTextProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -391,8 +380,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addWrapTextInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().wrapTextProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().wrapTextProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -405,8 +393,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addFontChangeListener(ChangeListener<? super Font> changeListener) {
-        getNode().fontProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().fontProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -419,8 +406,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addFontInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().fontProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().fontProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -433,8 +419,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addGraphicChangeListener(ChangeListener<? super Node> changeListener) {
-        getNode().graphicProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().graphicProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -447,8 +432,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addGraphicInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().graphicProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().graphicProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -461,8 +445,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addUnderlineChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().underlineProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().underlineProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -475,8 +458,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addUnderlineInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().underlineProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().underlineProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -489,8 +471,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addLineSpacingChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().lineSpacingProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().lineSpacingProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -503,8 +484,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addLineSpacingInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().lineSpacingProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().lineSpacingProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -517,8 +497,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addContentDisplayChangeListener(ChangeListener<? super ContentDisplay> changeListener) {
-        getNode().contentDisplayProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().contentDisplayProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -531,8 +510,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addContentDisplayInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().contentDisplayProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().contentDisplayProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -545,8 +523,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addLabelPaddingChangeListener(ChangeListener<? super Insets> changeListener) {
-        getNode().labelPaddingProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().labelPaddingProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -559,8 +536,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addLabelPaddingInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().labelPaddingProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().labelPaddingProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -573,8 +549,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addGraphicTextGapChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().graphicTextGapProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().graphicTextGapProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -587,8 +562,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addGraphicTextGapInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().graphicTextGapProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().graphicTextGapProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -601,8 +575,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTextFillChangeListener(ChangeListener<? super Paint> changeListener) {
-        getNode().textFillProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().textFillProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -615,8 +588,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTextFillInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().textFillProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().textFillProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -629,8 +601,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addMnemonicParsingChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().mnemonicParsingProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().mnemonicParsingProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -643,8 +614,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addMnemonicParsingInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().mnemonicParsingProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().mnemonicParsingProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1093,8 +1063,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindTextProperty(ObservableValue<? extends String> observableValue) {
-        getNode().textProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().textProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1118,8 +1087,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalTextProperty(Property<String> property) {
-        getNode().textProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().textProperty(), property);
         return getConfigurator();
     }
 
@@ -1148,8 +1116,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindAlignmentProperty(ObservableValue<? extends Pos> observableValue) {
-        getNode().alignmentProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().alignmentProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1173,8 +1140,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalAlignmentProperty(Property<Pos> property) {
-        getNode().alignmentProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().alignmentProperty(), property);
         return getConfigurator();
     }
 
@@ -1203,8 +1169,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindTextAlignmentProperty(ObservableValue<? extends TextAlignment> observableValue) {
-        getNode().textAlignmentProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().textAlignmentProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1228,8 +1193,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalTextAlignmentProperty(Property<TextAlignment> property) {
-        getNode().textAlignmentProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().textAlignmentProperty(), property);
         return getConfigurator();
     }
 
@@ -1258,8 +1222,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindTextOverrunProperty(ObservableValue<? extends OverrunStyle> observableValue) {
-        getNode().textOverrunProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().textOverrunProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1283,8 +1246,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalTextOverrunProperty(Property<OverrunStyle> property) {
-        getNode().textOverrunProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().textOverrunProperty(), property);
         return getConfigurator();
     }
 
@@ -1313,8 +1275,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindEllipsisStringProperty(ObservableValue<? extends String> observableValue) {
-        getNode().ellipsisStringProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().ellipsisStringProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1338,8 +1299,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalEllipsisStringProperty(Property<String> property) {
-        getNode().ellipsisStringProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().ellipsisStringProperty(), property);
         return getConfigurator();
     }
 
@@ -1368,8 +1328,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindWrapTextProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().wrapTextProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().wrapTextProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1393,8 +1352,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalWrapTextProperty(Property<Boolean> property) {
-        getNode().wrapTextProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().wrapTextProperty(), property);
         return getConfigurator();
     }
 
@@ -1423,8 +1381,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindFontProperty(ObservableValue<? extends Font> observableValue) {
-        getNode().fontProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().fontProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1448,8 +1405,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalFontProperty(Property<Font> property) {
-        getNode().fontProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().fontProperty(), property);
         return getConfigurator();
     }
 
@@ -1478,8 +1434,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindGraphicProperty(ObservableValue<? extends Node> observableValue) {
-        getNode().graphicProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().graphicProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1503,8 +1458,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalGraphicProperty(Property<Node> property) {
-        getNode().graphicProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().graphicProperty(), property);
         return getConfigurator();
     }
 
@@ -1533,8 +1487,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindUnderlineProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().underlineProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().underlineProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1558,8 +1511,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalUnderlineProperty(Property<Boolean> property) {
-        getNode().underlineProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().underlineProperty(), property);
         return getConfigurator();
     }
 
@@ -1588,8 +1540,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindLineSpacingProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().lineSpacingProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().lineSpacingProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1613,8 +1564,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalLineSpacingProperty(Property<Number> property) {
-        getNode().lineSpacingProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().lineSpacingProperty(), property);
         return getConfigurator();
     }
 
@@ -1643,8 +1593,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindContentDisplayProperty(ObservableValue<? extends ContentDisplay> observableValue) {
-        getNode().contentDisplayProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().contentDisplayProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1668,8 +1617,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalContentDisplayProperty(Property<ContentDisplay> property) {
-        getNode().contentDisplayProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().contentDisplayProperty(), property);
         return getConfigurator();
     }
 
@@ -1698,8 +1646,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindGraphicTextGapProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().graphicTextGapProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().graphicTextGapProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1723,8 +1670,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalGraphicTextGapProperty(Property<Number> property) {
-        getNode().graphicTextGapProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().graphicTextGapProperty(), property);
         return getConfigurator();
     }
 
@@ -1753,8 +1699,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindTextFillProperty(ObservableValue<? extends Paint> observableValue) {
-        getNode().textFillProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().textFillProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1778,8 +1723,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalTextFillProperty(Property<Paint> property) {
-        getNode().textFillProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().textFillProperty(), property);
         return getConfigurator();
     }
 
@@ -1808,8 +1752,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindMnemonicParsingProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().mnemonicParsingProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().mnemonicParsingProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1833,8 +1776,7 @@ public interface LabeledConfig<T extends ConfiguratorBase> extends ControlConfig
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalMnemonicParsingProperty(Property<Boolean> property) {
-        getNode().mnemonicParsingProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().mnemonicParsingProperty(), property);
         return getConfigurator();
     }
 
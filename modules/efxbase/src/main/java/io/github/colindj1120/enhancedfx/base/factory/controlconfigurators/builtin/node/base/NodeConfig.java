@@ -54,18 +54,21 @@ import java.util.function.UnaryOperator;
  *     <li>Adding and removing change and invalidation listeners for various properties.</li>
  *     <li>Binding and unbinding properties to and from observable values and other properties, with support for bidirectional bindings.</li>
  *     <li>Adding and removing event filters and handlers for different types of events.</li>
- *     <li>Setting properties directly for accessibility attributes, blend mode, cache settings, clip, cursor, depth test, disable state, effect, event dispatcher, focus traversable, ID, input method
+ *     <li>Setting properties directly for blend mode, cache settings, clip, cursor, disable state, effect, event dispatcher, focus traversable, ID, input method
  *     requests, layout, local to parent/scene transforms, managed state, mouse transparency, node orientation, opacity, parent, pick on bounds, pressed, rotate, scale, style, transform, translate,
  *     visibility, and view order.</li>
  *     <li>Adding, removing, and manipulating style and transform lists.</li>
+ *     <li>Configuring accessibility attributes and depth and 3D transform properties through the {@link NodeAccessibilityConfig} and {@link Node3DConfig} mixins, which are generated at build time and
+ *     only loaded when used.</li>
  *     <li>Applying CSS, managing pseudo-class state changes, and performing layout actions like toFront, toBack, resize, autosize, resizeRelocate, and requestFocus.</li>
  * </ul>
  *
  * <h2>Usage example:</h2>
  * <pre>{@code
  * NodeConfig<MyNode> config = ...; // Obtain an implementation instance
- * config.setAccessibleText("Node description")
- *       .addAccessibleRoleChangeListener((observable, oldValue, newValue) -> ...)
+ * config.accessibility()
+ *       .setAccessibleText("Node description")
+ *       .addOpacityChangeListener((observable, oldValue, newValue) -> ...)
  *       .setBlendMode(BlendMode.MULTIPLY)
  *       .setOnMouseClicked(event -> System.out.println("Node clicked!"))
  *       .toFront();
@@ -87,15 +90,11 @@ import java.util.function.UnaryOperator;
 public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
     /*
      * Methods Available:
+     * Mixin Functions
+     *  - NodeAccessibilityConfig<T> accessibility()
+     *  - Node3DConfig<T> transform3D()
+     *
      * Add Listener Functions
-     *  - T addAccessibleHelpChangeListener(ChangeListener<? super String> changeListener)
-     *  - T addAccessibleHelpInvalidationListener(InvalidationListener invalidationListener)
-     *  - T addAccessibleRoleDescriptionChangeListener(ChangeListener<? super String> changeListener)
-     *  - T addAccessibleRoleDescriptionInvalidationListener(InvalidationListener invalidationListener)
-     *  - T addAccessibleRoleChangeListener(ChangeListener<? super AccessibleRole> changeListener)
-     *  - T addAccessibleRoleInvalidationListener(InvalidationListener invalidationListener)
-     *  - T addAccessibleTextChangeListener(ChangeListener<? super String> changeListener)
-     *  - T addAccessibleTextInvalidationListener(InvalidationListener invalidationListener)
      *  - T addBlendModeChangeListener(ChangeListener<? super BlendMode> changeListener)
      *  - T addBlendModeInvalidationListener(InvalidationListener invalidationListener)
      *  - T addBoundsInLocalChangeListener(ChangeListener<? super Bounds> changeListener)
@@ -110,8 +109,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - T addClipInvalidationListener(InvalidationListener invalidationListener)
      *  - T addCursorChangeListener(ChangeListener<? super Cursor> changeListener)
      *  - T addCursorInvalidationListener(InvalidationListener invalidationListener)
-     *  - T addDepthTestChangeListener(ChangeListener<? super DepthTest> changeListener)
-     *  - T addDepthTestInvalidationListener(InvalidationListener invalidationListener)
      *  - T addDisabledChangeListener(ChangeListener<? super Boolean> changeListener)
      *  - T addDisabledInvalidationListener(InvalidationListener invalidationListener)
      *  - T addDisableChangeListener(ChangeListener<? super Boolean> changeListener)
@@ -240,14 +237,10 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - T addSceneInvalidationListener(InvalidationListener invalidationListener)
      *  - T addRotateChangeListener(ChangeListener<? super Number> changeListener)
      *  - T addRotateInvalidationListener(InvalidationListener invalidationListener)
-     *  - T addRotationAxisChangeListener(ChangeListener<? super Point3D> changeListener)
-     *  - T addRotationAxisInvalidationListener(InvalidationListener invalidationListener)
      *  - T addScaleXChangeListener(ChangeListener<? super Number> changeListener)
      *  - T addScaleXInvalidationListener(InvalidationListener invalidationListener)
      *  - T addScaleYChangeListener(ChangeListener<? super Number> changeListener)
      *  - T addScaleYInvalidationListener(InvalidationListener invalidationListener)
-     *  - T addScaleZChangeListener(ChangeListener<? super Number> changeListener)
-     *  - T addScaleZInvalidationListener(InvalidationListener invalidationListener)
      *  - T addStyleChangeListener(ChangeListener<? super String> changeListener)
      *  - T addStyleInvalidationListener(InvalidationListener invalidationListener)
      *  - T addStyleListChangeListener(ListChangeListener<? super String> listChangeListener)
@@ -258,22 +251,12 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - T addTranslateXInvalidationListener(InvalidationListener invalidationListener)
      *  - T addTranslateYChangeListener(ChangeListener<? super Number> changeListener)
      *  - T addTranslateYInvalidationListener(InvalidationListener invalidationListener)
-     *  - T addTranslateZChangeListener(ChangeListener<? super Number> changeListener)
-     *  - T addTranslateZInvalidationListener(InvalidationListener invalidationListener)
      *  - T addViewOrderChangeListener(ChangeListener<? super Number> changeListener)
      *  - T addViewOrderInvalidationListener(InvalidationListener invalidationListener)
      *  - T addVisibleChangeListener(ChangeListener<? super Boolean> changeListener)
      *  - T addVisibleInvalidationListener(InvalidationListener invalidationListener)
      *
      * Remove Listener Functions
-     *  - T removeAccessibleHelpChangeListener(ChangeListener<? super String> changeListener)
-     *  - T removeAccessibleHelpInvalidationListener(InvalidationListener invalidationListener)
-     *  - T removeAccessibleRoleDescriptionChangeListener(ChangeListener<? super String> changeListener)
-     *  - T removeAccessibleRoleDescriptionInvalidationListener(InvalidationListener invalidationListener)
-     *  - T removeAccessibleRoleChangeListener(ChangeListener<? super AccessibleRole> changeListener)
-     *  - T removeAccessibleRoleInvalidationListener(InvalidationListener invalidationListener)
-     *  - T removeAccessibleTextChangeListener(ChangeListener<? super String> changeListener)
-     *  - T removeAccessibleTextInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeBlendModeChangeListener(ChangeListener<? super BlendMode> changeListener)
      *  - T removeBlendModeInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeBoundsInLocalChangeListener(ChangeListener<? super Bounds> changeListener)
@@ -288,8 +271,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - T removeClipInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeCursorChangeListener(ChangeListener<? super Cursor> changeListener)
      *  - T removeCursorInvalidationListener(InvalidationListener invalidationListener)
-     *  - T removeDepthTestChangeListener(ChangeListener<? super DepthTest> changeListener)
-     *  - T removeDepthTestInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeDisabledChangeListener(ChangeListener<? super Boolean> changeListener)
      *  - T removeDisabledInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeDisableChangeListener(ChangeListener<? super Boolean> changeListener)
@@ -418,14 +399,10 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - T removeSceneInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeRotateChangeListener(ChangeListener<? super Number> changeListener)
      *  - T removeRotateInvalidationListener(InvalidationListener invalidationListener)
-     *  - T removeRotationAxisChangeListener(ChangeListener<? super Point3D> changeListener)
-     *  - T removeRotationAxisInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeScaleXChangeListener(ChangeListener<? super Number> changeListener)
      *  - T removeScaleXInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeScaleYChangeListener(ChangeListener<? super Number> changeListener)
      *  - T removeScaleYInvalidationListener(InvalidationListener invalidationListener)
-     *  - T removeScaleZChangeListener(ChangeListener<? super Number> changeListener)
-     *  - T removeScaleZInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeStyleChangeListener(ChangeListener<? super String> changeListener)
      *  - T removeStyleInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeStyleListChangeListener(ListChangeListener<? super String> listChangeListener)
@@ -436,30 +413,12 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - T removeTranslateXInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeTranslateYChangeListener(ChangeListener<? super Number> changeListener)
      *  - T removeTranslateYInvalidationListener(InvalidationListener invalidationListener)
-     *  - T removeTranslateZChangeListener(ChangeListener<? super Number> changeListener)
-     *  - T removeTranslateZInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeViewOrderChangeListener(ChangeListener<? super Number> changeListener)
      *  - T removeViewOrderInvalidationListener(InvalidationListener invalidationListener)
      *  - T removeVisibleChangeListener(ChangeListener<? super Boolean> changeListener)
      *  - T removeVisibleInvalidationListener(InvalidationListener invalidationListener)
      *
      * Binding Functions
-     *  - T bindAccessibleHelpProperty(ObservableValue<? extends String> observableValue)
-     *  - T unbindAccessibleHelpProperty()
-     *  - T bindBidirectionalAccessibleHelpProperty(Property<String> otherProperty)
-     *  - T unbindBidirectionalAccessibleHelpProperty(Property<String> otherProperty)
-     *  - T bindAccessibleRoleDescriptionProperty(ObservableValue<? extends String> observableValue)
-     *  - T unbindAccessibleRoleDescriptionProperty()
-     *  - T bindBidirectionalAccessibleRoleDescriptionProperty(Property<String> otherProperty)
-     *  - T unbindBidirectionalAccessibleRoleDescriptionProperty(Property<String> otherProperty)
-     *  - T bindAccessibleRoleProperty(ObservableValue<? extends AccessibleRole> observableValue)
-     *  - T unbindAccessibleRoleProperty()
-     *  - T bindBidirectionalAccessibleRoleProperty(Property<AccessibleRole> otherProperty)
-     *  - T unbindBidirectionalAccessibleRoleProperty(Property<AccessibleRole> otherProperty)
-     *  - T bindAccessibleTextProperty(ObservableValue<? extends String> observableValue)
-     *  - T unbindAccessibleTextProperty()
-     *  - T bindBidirectionalAccessibleTextProperty(Property<String> otherProperty)
-     *  - T unbindBidirectionalAccessibleTextProperty(Property<String> otherProperty)
      *  - T bindBlendModeProperty(ObservableValue<? extends BlendMode> observableValue)
      *  - T unbindBlendModeProperty()
      *  - T bindBidirectionalBlendModeProperty(Property<BlendMode> otherProperty)
@@ -480,10 +439,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - T unbindCursorProperty()
      *  - T bindBidirectionalCursorProperty(Property<Cursor> otherProperty)
      *  - T unbindBidirectionalCursorProperty(Property<Cursor> otherProperty)
-     *  - T bindDepthTestProperty(ObservableValue<? extends DepthTest> observableValue)
-     *  - T unbindDepthTestProperty()
-     *  - T bindBidirectionalDepthTestProperty(Property<DepthTest> otherProperty)
-     *  - T unbindBidirectionalDepthTestProperty(Property<DepthTest> otherProperty)
      *  - T bindDisableProperty(ObservableValue<? extends Boolean> observableValue)
      *  - T unbindDisableProperty()
      *  - T bindBidirectionalDisableProperty(Property<Boolean> otherProperty)
@@ -704,10 +659,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - T unbindRotateProperty()
      *  - T bindBidirectionalRotateProperty(Property<Number> otherProperty)
      *  - T unbindBidirectionalRotateProperty(Property<Number> otherProperty)
-     *  - T bindRotationAxisProperty(ObservableValue<? extends Point3D> observableValue)
-     *  - T unbindRotationAxisProperty()
-     *  - T bindBidirectionalRotationAxisProperty(Property<Point3D> otherProperty)
-     *  - T unbindBidirectionalRotationAxisProperty(Property<Point3D> otherProperty)
      *  - T bindScaleXProperty(ObservableValue<? extends Number> observableValue)
      *  - T unbindScaleXProperty()
      *  - T bindBidirectionalScaleXProperty(Property<Number> otherProperty)
@@ -716,10 +667,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - T unbindScaleYProperty()
      *  - T bindBidirectionalScaleYProperty(Property<Number> otherProperty)
      *  - T unbindBidirectionalScaleYProperty(Property<Number> otherProperty)
-     *  - T bindScaleZProperty(ObservableValue<? extends Number> observableValue)
-     *  - T unbindScaleZProperty()
-     *  - T bindBidirectionalScaleZProperty(Property<Number> otherProperty)
-     *  - T unbindBidirectionalScaleZProperty(Property<Number> otherProperty)
      *  - T bindStyleProperty(ObservableValue<? extends String> observableValue)
      *  - T unbindStyleProperty()
      *  - T bindBidirectionalStyleProperty(Property<String> otherProperty)
@@ -732,10 +679,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - T unbindTranslateYProperty()
      *  - T bindBidirectionalTranslateYProperty(Property<Number> otherProperty)
      *  - T unbindBidirectionalTranslateYProperty(Property<Number> otherProperty)
-     *  - T bindTranslateZProperty(ObservableValue<? extends Number> observableValue)
-     *  - T unbindTranslateZProperty()
-     *  - T bindBidirectionalTranslateZProperty(Property<Number> otherProperty)
-     *  - T unbindBidirectionalTranslateZProperty(Property<Number> otherProperty)
      *  - T bindViewOrderProperty(ObservableValue<? extends Number> observableValue)
      *  - T unbindViewOrderProperty()
      *  - T bindBidirectionalViewOrderProperty(Property<Number> otherProperty)
@@ -753,16 +696,11 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - <S extends Event> T removeEventHandler(EventType<S> eventType, EventHandler<? super S> eventHandler)
      *
      * Set Functions
-     *  - T setAccessibleHelp(String value)
-     *  - T setAccessibleRole(AccessibleRole value)
-     *  - T setAccessibleRoleDescription(String value)
-     *  - T setAccessibleText(String value)
      *  - T setBlendMode(BlendMode value)
      *  - T setCache(boolean value)
      *  - T setCacheHint(CacheHint value)
      *  - T setClip(Node value)
      *  - T setCursor(Cursor value)
-     *  - T setDepthTest(DepthTest value)
      *  - T setDisable(boolean value)
      *  - T setEffect(Effect value)
      *  - T setEventDispatcher(EventDispatcher value)
@@ -777,14 +715,11 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - T setOpacity(double value)
      *  - T setPickOnBounds(boolean value)
      *  - T setRotate(double value)
-     *  - T setRotationAxis(Point3D value)
      *  - T setScaleX(double value)
      *  - T setScaleY(double value)
-     *  - T setScaleZ(double value)
      *  - T setStyle(String style)
      *  - T setTranslateX(double value)
      *  - T setTranslateY(double value)
-     *  - T setTranslateZ(double value)
      *  - T setUserData(Object value)
      *  - T setViewOrder(double value)
      *  - T setVisible(boolean value)
@@ -883,122 +818,41 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      *  - T requestFocus()
      */
 
-    //region Add Listener Functions
+    //region Mixin Functions
     //*****************************************************************
-    // Add Listener Functions
+    // Mixin Functions
     //*****************************************************************
 
     /**
-     * Adds a {@link ChangeListener} to the accessibleHelp property of the node.
-     *
-     * @param changeListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addAccessibleHelpChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().accessibleHelpProperty()
-                 .addListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Adds an {@link InvalidationListener} to the accessibleHelp property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addAccessibleHelpInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().accessibleHelpProperty()
-                 .addListener(invalidationListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Adds a {@link ChangeListener} to the accessibleRoleDescription property of the node.
-     *
-     * @param changeListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addAccessibleRoleDescriptionChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().accessibleRoleDescriptionProperty()
-                 .addListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Adds an {@link InvalidationListener} to the accessibleRoleDescription property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addAccessibleRoleDescriptionInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().accessibleRoleDescriptionProperty()
-                 .addListener(invalidationListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Adds a {@link ChangeListener} to the accessibleRole property of the node.
+     * Returns the accessibility methods of this configurator: listeners, bindings and setters for the accessibleHelp, accessibleRole, accessibleRoleDescription and accessibleText properties.
      *
-     * @param changeListener
-     *         The listener to add.
+     * <p>These methods live in the build-time generated {@link NodeAccessibilityConfig} mixin, which is only loaded by configurations that use it. They return this configurator, so the chain continues
+     * with the full configurator.</p>
      *
-     * @return The configurator instance, for chaining further configuration calls.
+     * @return The accessibility mixin of this configurator.
      */
-    default T addAccessibleRoleChangeListener(ChangeListener<? super AccessibleRole> changeListener) {
-        getNode().accessibleRoleProperty()
-                 .addListener(changeListener);
-        return getConfigurator();
+    default NodeAccessibilityConfig<T> accessibility() {
+        return NodeAccessibilityConfig.of(getConfigurator());
     }
 
     /**
-     * Adds an {@link InvalidationListener} to the accessibleRole property of the node.
+     * Returns the depth and 3D transform methods of this configurator: listeners, bindings and setters for the depthTest, rotationAxis, scaleZ and translateZ properties.
      *
-     * @param invalidationListener
-     *         The listener to add.
+     * <p>These methods live in the build-time generated {@link Node3DConfig} mixin, which is only loaded by configurations that use it. They return this configurator, so the chain continues with the full
+     * configurator.</p>
      *
-     * @return The configurator instance, for chaining further configuration calls.
+     * @return The depth and 3D transform mixin of this configurator.
      */
-    default T addAccessibleRoleInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().accessibleRoleProperty()
-                 .addListener(invalidationListener);
-        return getConfigurator();
+    default Node3DConfig<T> transform3D() {
+        return Node3DConfig.of(getConfigurator());
     }
 
-    /**
-     * Adds a {@link ChangeListener} to the accessibleText property of the node.
-     *
-     * @param changeListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addAccessibleTextChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().accessibleTextProperty()
-                 .addListener(changeListener);
-        return getConfigurator();
-    }
+    //endregion Mixin Functions
 
-    /**
-     * Adds an {@link InvalidationListener} to the accessibleText property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addAccessibleTextInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().accessibleTextProperty()
-                 .addListener(invalidationListener);
-        return getConfigurator();
-    }
+    //region Add Listener Functions
+    //*****************************************************************
+    // Add Listener Functions
+    //*****************************************************************
 
     /**
      * Adds a {@link ChangeListener} to the blendMode property of the node.
@@ -1009,8 +863,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addBlendModeChangeListener(ChangeListener<? super BlendMode> changeListener) {
-        getNode().blendModeProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().blendModeProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1023,8 +876,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addBlendModeInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().blendModeProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().blendModeProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1037,8 +889,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addBoundsInLocalChangeListener(ChangeListener<? super Bounds> changeListener) {
-        getNode().boundsInLocalProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().boundsInLocalProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1051,8 +902,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addBoundsInLocalInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().boundsInLocalProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().boundsInLocalProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1065,8 +915,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addBoundsInParentChangeListener(ChangeListener<? super Bounds> changeListener) {
-        getNode().boundsInParentProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().boundsInParentProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1079,8 +928,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addBoundsInParentInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().boundsInParentProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().boundsInParentProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1093,8 +941,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addCacheHintChangeListener(ChangeListener<? super CacheHint> changeListener) {
-        getNode().cacheHintProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().cacheHintProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1107,8 +954,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addCacheHintInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().cacheHintProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().cacheHintProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1121,8 +967,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addCacheChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().cacheProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().cacheProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1135,8 +980,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addCacheInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().cacheProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().cacheProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1149,8 +993,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addClipChangeListener(ChangeListener<? super Node> changeListener) {
-        getNode().clipProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().clipProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1163,8 +1006,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addClipInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().clipProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().clipProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1177,8 +1019,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addCursorChangeListener(ChangeListener<? super Cursor> changeListener) {
-        getNode().cursorProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().cursorProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1191,36 +1032,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addCursorInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().cursorProperty()
-                 .addListener(invalidationListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Adds a {@link ChangeListener} to the depthTest property of the node.
-     *
-     * @param changeListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addDepthTestChangeListener(ChangeListener<? super DepthTest> changeListener) {
-        getNode().depthTestProperty()
-                 .addListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Adds an {@link InvalidationListener} to the depthTest property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addDepthTestInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().depthTestProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().cursorProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1233,8 +1045,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addDisabledChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().disabledProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().disabledProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1247,8 +1058,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addDisabledInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().disabledProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().disabledProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1261,8 +1071,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addDisableChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().disableProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().disableProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1275,8 +1084,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addDisableInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().disableProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().disableProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1289,8 +1097,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addEffectiveNodeOrientationChangeListener(ChangeListener<? super NodeOrientation> changeListener) {
-        getNode().effectiveNodeOrientationProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().effectiveNodeOrientationProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1303,8 +1110,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addEffectiveNodeOrientationInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().effectiveNodeOrientationProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().effectiveNodeOrientationProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1317,8 +1123,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addEffectChangeListener(ChangeListener<? super Effect> changeListener) {
-        getNode().effectProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().effectProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1331,8 +1136,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addEffectInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().effectProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().effectProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1345,8 +1149,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addEventDispatcherChangeListener(ChangeListener<? super EventDispatcher> changeListener) {
-        getNode().eventDispatcherProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().eventDispatcherProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1359,8 +1162,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addEventDispatcherInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().eventDispatcherProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().eventDispatcherProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1373,8 +1175,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addFocusedChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().focusedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().focusedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1387,8 +1188,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addFocusedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().focusedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().focusedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1401,8 +1201,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addFocusTraversableChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().focusTraversableProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().focusTraversableProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1415,8 +1214,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addFocusTraversableInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().focusTraversableProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().focusTraversableProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1429,8 +1227,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addFocusVisibleChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().focusVisibleProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().focusVisibleProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1443,8 +1240,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addFocusVisibleInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().focusVisibleProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().focusVisibleProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1457,8 +1253,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addFocusWithinChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().focusTraversableProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().focusTraversableProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1471,8 +1266,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addFocusWithinInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().focusTraversableProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().focusTraversableProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1485,8 +1279,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addHoverChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().hoverProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().hoverProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1499,8 +1292,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addHoverInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().hoverProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().hoverProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1513,8 +1305,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addIdChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().idProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().idProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1527,8 +1318,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addIdInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().idProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().idProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1541,8 +1331,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addInputMethodRequestsChangeListener(ChangeListener<? super InputMethodRequests> changeListener) {
-        getNode().inputMethodRequestsProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().inputMethodRequestsProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1555,8 +1344,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addInputMethodRequestsInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().inputMethodRequestsProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().inputMethodRequestsProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1569,8 +1357,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addLayoutBoundsChangeListener(ChangeListener<? super Bounds> changeListener) {
-        getNode().layoutBoundsProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().layoutBoundsProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1583,8 +1370,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addLayoutBoundsInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().layoutBoundsProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().layoutBoundsProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1597,8 +1383,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addLayoutXChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().layoutXProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().layoutXProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1611,8 +1396,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addLayoutXInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().layoutXProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().layoutXProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1625,8 +1409,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addLayoutYChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().layoutYProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().layoutYProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1639,8 +1422,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addLayoutYInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().layoutYProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().layoutYProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1653,8 +1435,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addLocalToParentTransformChangeListener(ChangeListener<? super Transform> changeListener) {
-        getNode().localToParentTransformProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().localToParentTransformProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1667,8 +1448,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addLocalToParentTransformInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().localToParentTransformProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().localToParentTransformProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1681,8 +1461,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addLocalToSceneTransformChangeListener(ChangeListener<? super Transform> changeListener) {
-        getNode().localToSceneTransformProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().localToSceneTransformProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1695,8 +1474,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addLocalToSceneTransformInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().localToSceneTransformProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().localToSceneTransformProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1709,8 +1487,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addManagedChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().managedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().managedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1723,8 +1500,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addManagedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().managedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().managedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1737,8 +1513,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addMouseTransparentChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().mouseTransparentProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().mouseTransparentProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1751,8 +1526,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addMouseTransparentInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().mouseTransparentProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().mouseTransparentProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1765,8 +1539,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addNodeOrientationChangeListener(ChangeListener<? super NodeOrientation> changeListener) {
-        getNode().nodeOrientationProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().nodeOrientationProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1779,8 +1552,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addNodeOrientationInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().nodeOrientationProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().nodeOrientationProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1793,8 +1565,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnContextMenuRequestedChangeListener(ChangeListener<? super EventHandler<? super ContextMenuEvent>> changeListener) {
-        getNode().onContextMenuRequestedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onContextMenuRequestedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1807,8 +1578,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnContextMenuRequestedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onContextMenuRequestedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onContextMenuRequestedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1821,8 +1591,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnDragDetectedChangeListener(ChangeListener<? super EventHandler<? super MouseEvent>> changeListener) {
-        getNode().onDragDetectedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onDragDetectedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1835,8 +1604,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnDragDetectedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onDragDetectedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onDragDetectedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1849,8 +1617,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnDragDoneChangeListener(ChangeListener<? super EventHandler<? super DragEvent>> changeListener) {
-        getNode().onDragDoneProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onDragDoneProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1863,8 +1630,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnDragDoneInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onDragDoneProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onDragDoneProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1877,8 +1643,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnDragDroppedChangeListener(ChangeListener<? super EventHandler<? super DragEvent>> changeListener) {
-        getNode().onDragDroppedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onDragDroppedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1891,8 +1656,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnDragDroppedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onDragDroppedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onDragDroppedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1905,8 +1669,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnDragEnteredChangeListener(ChangeListener<? super EventHandler<? super DragEvent>> changeListener) {
-        getNode().onDragEnteredProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onDragEnteredProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1919,8 +1682,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnDragEnteredInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onDragEnteredProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onDragEnteredProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1933,8 +1695,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnDragExitedChangeListener(ChangeListener<? super EventHandler<? super DragEvent>> changeListener) {
-        getNode().onDragExitedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onDragExitedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1947,8 +1708,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnDragExitedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onDragExitedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onDragExitedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1961,8 +1721,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnDragOverChangeListener(ChangeListener<? super EventHandler<? super DragEvent>> changeListener) {
-        getNode().onDragOverProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onDragOverProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -1975,8 +1734,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnDragOverInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onDragOverProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onDragOverProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1989,8 +1747,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnInputMethodTextChangedChangeListener(ChangeListener<? super EventHandler<? super InputMethodEvent>> changeListener) {
-        getNode().onInputMethodTextChangedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onInputMethodTextChangedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2003,8 +1760,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnInputMethodTextChangedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onInputMethodTextChangedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onInputMethodTextChangedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2017,8 +1773,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnKeyPressedChangeListener(ChangeListener<? super EventHandler<? super KeyEvent>> changeListener) {
-        getNode().onKeyPressedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onKeyPressedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2031,8 +1786,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnKeyPressedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onKeyPressedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onKeyPressedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2045,8 +1799,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnKeyReleasedChangeListener(ChangeListener<? super EventHandler<? super KeyEvent>> changeListener) {
-        getNode().onKeyReleasedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onKeyReleasedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2059,8 +1812,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnKeyReleasedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onKeyReleasedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onKeyReleasedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2073,8 +1825,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnKeyTypedChangeListener(ChangeListener<? super EventHandler<? super KeyEvent>> changeListener) {
-        getNode().onKeyTypedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onKeyTypedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2087,8 +1838,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnKeyTypedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onKeyTypedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onKeyTypedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2101,8 +1851,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseClickedChangeListener(ChangeListener<? super EventHandler<? super MouseEvent>> changeListener) {
-        getNode().onMouseClickedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onMouseClickedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2115,8 +1864,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseClickedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onMouseClickedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onMouseClickedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2129,8 +1877,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseDragEnteredChangeListener(ChangeListener<? super EventHandler<? super MouseDragEvent>> changeListener) {
-        getNode().onMouseDragEnteredProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onMouseDragEnteredProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2143,8 +1890,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseDragEnteredInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onMouseDragEnteredProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onMouseDragEnteredProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2157,8 +1903,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseDragExitedChangeListener(ChangeListener<? super EventHandler<? super MouseDragEvent>> changeListener) {
-        getNode().onMouseDragExitedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onMouseDragExitedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2171,8 +1916,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseDragExitedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onMouseDragExitedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onMouseDragExitedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2185,8 +1929,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseDraggedChangeListener(ChangeListener<? super EventHandler<? super MouseEvent>> changeListener) {
-        getNode().onMouseDraggedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onMouseDraggedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2199,8 +1942,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseDraggedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onMouseDraggedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onMouseDraggedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2213,8 +1955,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseDragOverChangeListener(ChangeListener<? super EventHandler<? super MouseDragEvent>> changeListener) {
-        getNode().onMouseDragOverProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onMouseDragOverProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2227,8 +1968,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseDragOverInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onMouseDragOverProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onMouseDragOverProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2241,8 +1981,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseDragReleasedChangeListener(ChangeListener<? super EventHandler<? super MouseDragEvent>> changeListener) {
-        getNode().onMouseDragReleasedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onMouseDragReleasedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2255,8 +1994,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseDragReleasedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onMouseDragReleasedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onMouseDragReleasedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2269,8 +2007,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseEnteredChangeListener(ChangeListener<? super EventHandler<? super MouseEvent>> changeListener) {
-        getNode().onMouseEnteredProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onMouseEnteredProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2283,8 +2020,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseEnteredInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onMouseEnteredProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onMouseEnteredProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2297,8 +2033,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseExitedChangeListener(ChangeListener<? super EventHandler<? super MouseEvent>> changeListener) {
-        getNode().onMouseExitedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onMouseExitedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2311,8 +2046,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseExitedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onMouseExitedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onMouseExitedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2325,8 +2059,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseMovedChangeListener(ChangeListener<? super EventHandler<? super MouseEvent>> changeListener) {
-        getNode().onMouseMovedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onMouseMovedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2339,8 +2072,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseMovedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onMouseMovedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onMouseMovedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2353,8 +2085,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMousePressedChangeListener(ChangeListener<? super EventHandler<? super MouseEvent>> changeListener) {
-        getNode().onMousePressedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onMousePressedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2367,8 +2098,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMousePressedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onMousePressedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onMousePressedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2381,8 +2111,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseReleasedChangeListener(ChangeListener<? super EventHandler<? super MouseEvent>> changeListener) {
-        getNode().onMouseReleasedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onMouseReleasedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2395,8 +2124,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnMouseReleasedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onMouseReleasedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onMouseReleasedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2409,8 +2137,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnRotateChangeListener(ChangeListener<? super EventHandler<? super RotateEvent>> changeListener) {
-        getNode().onRotateProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onRotateProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2423,8 +2150,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnRotateInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onRotateProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onRotateProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2437,8 +2163,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnRotationFinishedChangeListener(ChangeListener<? super EventHandler<? super RotateEvent>> changeListener) {
-        getNode().onRotationFinishedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onRotationFinishedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2451,8 +2176,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnRotationFinishedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onRotationFinishedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onRotationFinishedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2465,8 +2189,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnRotationStartedChangeListener(ChangeListener<? super EventHandler<? super RotateEvent>> changeListener) {
-        getNode().onRotationStartedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onRotationStartedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2479,8 +2202,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnRotationStartedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onRotationStartedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onRotationStartedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2493,8 +2215,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnScrollFinishedChangeListener(ChangeListener<? super EventHandler<? super ScrollEvent>> changeListener) {
-        getNode().onScrollFinishedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onScrollFinishedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2507,8 +2228,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnScrollFinishedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onScrollFinishedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onScrollFinishedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2521,8 +2241,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnScrollChangeListener(ChangeListener<? super EventHandler<? super ScrollEvent>> changeListener) {
-        getNode().onScrollProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onScrollProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2535,8 +2254,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnScrollInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onScrollProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onScrollProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2549,8 +2267,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnScrollStartedChangeListener(ChangeListener<? super EventHandler<? super ScrollEvent>> changeListener) {
-        getNode().onScrollStartedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onScrollStartedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2563,8 +2280,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnScrollStartedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onScrollStartedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onScrollStartedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2577,8 +2293,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnSwipeDownChangeListener(ChangeListener<? super EventHandler<? super SwipeEvent>> changeListener) {
-        getNode().onSwipeDownProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onSwipeDownProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2591,8 +2306,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnSwipeDownInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onSwipeDownProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onSwipeDownProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2605,8 +2319,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnSwipeLeftChangeListener(ChangeListener<? super EventHandler<? super SwipeEvent>> changeListener) {
-        getNode().onSwipeLeftProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onSwipeLeftProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2619,8 +2332,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnSwipeLeftInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onSwipeLeftProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onSwipeLeftProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2633,8 +2345,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnSwipeRightChangeListener(ChangeListener<? super EventHandler<? super SwipeEvent>> changeListener) {
-        getNode().onSwipeRightProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onSwipeRightProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2647,8 +2358,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnSwipeRightInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onSwipeRightProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onSwipeRightProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2661,8 +2371,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnSwipeUpChangeListener(ChangeListener<? super EventHandler<? super SwipeEvent>> changeListener) {
-        getNode().onSwipeUpProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onSwipeUpProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2675,8 +2384,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnSwipeUpInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onSwipeUpProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onSwipeUpProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2689,8 +2397,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnTouchMovedChangeListener(ChangeListener<? super EventHandler<? super TouchEvent>> changeListener) {
-        getNode().onTouchMovedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onTouchMovedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2703,8 +2410,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnTouchMovedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onTouchMovedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onTouchMovedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2717,8 +2423,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnTouchPressedChangeListener(ChangeListener<? super EventHandler<? super TouchEvent>> changeListener) {
-        getNode().onTouchPressedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onTouchPressedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2731,8 +2436,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnTouchPressedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onTouchPressedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onTouchPressedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2745,8 +2449,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnTouchReleasedChangeListener(ChangeListener<? super EventHandler<? super TouchEvent>> changeListener) {
-        getNode().onTouchReleasedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onTouchReleasedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2759,8 +2462,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnTouchReleasedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onTouchReleasedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onTouchReleasedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2773,8 +2475,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnTouchStationaryChangeListener(ChangeListener<? super EventHandler<? super TouchEvent>> changeListener) {
-        getNode().onTouchStationaryProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onTouchStationaryProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2787,8 +2488,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnTouchStationaryInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onTouchStationaryProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onTouchStationaryProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2801,8 +2501,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnZoomFinishedChangeListener(ChangeListener<? super EventHandler<? super ZoomEvent>> changeListener) {
-        getNode().onZoomFinishedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onZoomFinishedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2815,8 +2514,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnZoomFinishedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onZoomFinishedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onZoomFinishedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2829,8 +2527,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnZoomChangeListener(ChangeListener<? super EventHandler<? super ZoomEvent>> changeListener) {
-        getNode().onZoomProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onZoomProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2843,8 +2540,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnZoomInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onZoomProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onZoomProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2857,8 +2553,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnZoomStartedChangeListener(ChangeListener<? super EventHandler<? super ZoomEvent>> changeListener) {
-        getNode().onZoomStartedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onZoomStartedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2871,8 +2566,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOnZoomStartedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onZoomStartedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onZoomStartedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2885,8 +2579,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOpacityChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().opacityProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().opacityProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2899,8 +2592,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addOpacityInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().opacityProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().opacityProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2913,8 +2605,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addParentChangeListener(ChangeListener<? super Parent> changeListener) {
-        getNode().parentProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().parentProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2927,8 +2618,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addParentInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().parentProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().parentProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2941,8 +2631,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addPickOnBoundsChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().pickOnBoundsProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().pickOnBoundsProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2955,8 +2644,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addPickOnBoundsInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().pickOnBoundsProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().pickOnBoundsProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2969,8 +2657,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addPressedChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().pressedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().pressedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -2983,8 +2670,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addPressedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().pressedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().pressedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -2997,8 +2683,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addSceneChangeListener(ChangeListener<? super Scene> changeListener) {
-        getNode().sceneProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().sceneProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -3011,8 +2696,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addSceneInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().sceneProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().sceneProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -3025,8 +2709,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addRotateChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().rotateProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().rotateProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -3039,134 +2722,72 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addRotateInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().rotateProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().rotateProperty(), invalidationListener);
         return getConfigurator();
     }
 
     /**
-     * Adds a {@link ChangeListener} to the rotationAxis property of the node.
+     * Adds a {@link ChangeListener} to the scaleX property of the node.
      *
      * @param changeListener
      *         The listener to add.
      *
      * @return The configurator instance, for chaining further configuration calls.
      */
-    default T addRotationAxisChangeListener(ChangeListener<? super Point3D> changeListener) {
-        getNode().rotationAxisProperty()
-                 .addListener(changeListener);
+    default T addScaleXChangeListener(ChangeListener<? super Number> changeListener) {
+        getConfigurator().registerListener(getNode().scaleXProperty(), changeListener);
         return getConfigurator();
     }
 
     /**
-     * Adds an {@link InvalidationListener} to the rotationAxis property of the node.
+     * Adds an {@link InvalidationListener} to the scaleX property of the node.
      *
      * @param invalidationListener
      *         The listener to add.
      *
      * @return The configurator instance, for chaining further configuration calls.
      */
-    default T addRotationAxisInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().rotationAxisProperty()
-                 .addListener(invalidationListener);
+    default T addScaleXInvalidationListener(InvalidationListener invalidationListener) {
+        getConfigurator().registerListener(getNode().scaleXProperty(), invalidationListener);
         return getConfigurator();
     }
 
     /**
-     * Adds a {@link ChangeListener} to the scaleX property of the node.
+     * Adds a {@link ChangeListener} to the scaleY property of the node.
      *
      * @param changeListener
      *         The listener to add.
      *
      * @return The configurator instance, for chaining further configuration calls.
      */
-    default T addScaleXChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().scaleXProperty()
-                 .addListener(changeListener);
+    default T addScaleYChangeListener(ChangeListener<? super Number> changeListener) {
+        getConfigurator().registerListener(getNode().scaleYProperty(), changeListener);
         return getConfigurator();
     }
 
     /**
-     * Adds an {@link InvalidationListener} to the scaleX property of the node.
+     * Adds an {@link InvalidationListener} to the scaleY property of the node.
      *
      * @param invalidationListener
      *         The listener to add.
      *
      * @return The configurator instance, for chaining further configuration calls.
      */
-    default T addScaleXInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().scaleXProperty()
-                 .addListener(invalidationListener);
+    default T addScaleYInvalidationListener(InvalidationListener invalidationListener) {
+        getConfigurator().registerListener(getNode().scaleYProperty(), invalidationListener);
         return getConfigurator();
     }
 
     /**
-     * Adds a {@link ChangeListener} to the scaleY property of the node.
+     * Adds a {@link ChangeListener} to the style property of the node.
      *
      * @param changeListener
      *         The listener to add.
      *
      * @return The configurator instance, for chaining further configuration calls.
      */
-    default T addScaleYChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().scaleYProperty()
-                 .addListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Adds an {@link InvalidationListener} to the scaleY property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addScaleYInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().scaleYProperty()
-                 .addListener(invalidationListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Adds a {@link ChangeListener} to the scaleZ property of the node.
-     *
-     * @param changeListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addScaleZChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().scaleZProperty()
-                 .addListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Adds an {@link InvalidationListener} to the scaleZ property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addScaleZInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().scaleZProperty()
-                 .addListener(invalidationListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Adds a {@link ChangeListener} to the style property of the node.
-     *
-     * @param changeListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addStyleChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().styleProperty()
-                 .addListener(changeListener);
+    default T addStyleChangeListener(ChangeListener<? super String> changeListener) {
+        getConfigurator().registerListener(getNode().styleProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -3179,8 +2800,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addStyleInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().styleProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().styleProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -3193,8 +2813,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addStyleListChangeListener(ListChangeListener<? super String> listChangeListener) {
-        getNode().getStyleClass()
-                 .addListener(listChangeListener);
+        getConfigurator().registerListChangeListener(getNode().getStyleClass(), listChangeListener);
         return getConfigurator();
     }
 
@@ -3207,8 +2826,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addStyleListInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().getStyleClass()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().getStyleClass(), invalidationListener);
         return getConfigurator();
     }
 
@@ -3221,8 +2839,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addTransformListChangeListener(ListChangeListener<? super Transform> listChangeListener) {
-        getNode().getTransforms()
-                 .addListener(listChangeListener);
+        getConfigurator().registerListChangeListener(getNode().getTransforms(), listChangeListener);
         return getConfigurator();
     }
 
@@ -3235,8 +2852,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addTransformListInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().getTransforms()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().getTransforms(), invalidationListener);
         return getConfigurator();
     }
 
@@ -3249,8 +2865,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addTranslateXChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().translateXProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().translateXProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -3263,8 +2878,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addTranslateXInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().translateXProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().translateXProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -3277,8 +2891,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addTranslateYChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().translateYProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().translateYProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -3291,36 +2904,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addTranslateYInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().translateYProperty()
-                 .addListener(invalidationListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Adds a {@link ChangeListener} to the translateZ property of the node.
-     *
-     * @param changeListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addTranslateZChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().translateZProperty()
-                 .addListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Adds an {@link InvalidationListener} to the translateZ property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to add.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T addTranslateZInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().translateZProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().translateYProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -3333,8 +2917,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addViewOrderChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().viewOrderProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().viewOrderProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -3347,8 +2930,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addViewOrderInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().viewOrderProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().viewOrderProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -3361,8 +2943,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addVisibleChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().visibleProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().visibleProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -3375,8 +2956,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T addVisibleInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().visibleProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().visibleProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -3387,118 +2967,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
     // Remove Listener Functions
     //*****************************************************************
 
-    /**
-     * Removes a {@link ChangeListener} from the accessibleHelp property of the node.
-     *
-     * @param changeListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeAccessibleHelpChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().accessibleHelpProperty()
-                 .removeListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes an {@link InvalidationListener} from the accessibleHelp property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeAccessibleHelpInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().accessibleHelpProperty()
-                 .removeListener(invalidationListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes a {@link ChangeListener} from the accessibleRoleDescription property of the node.
-     *
-     * @param changeListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeAccessibleRoleDescriptionChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().accessibleRoleDescriptionProperty()
-                 .removeListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes an {@link InvalidationListener} from the accessibleRoleDescription property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeAccessibleRoleDescriptionInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().accessibleRoleDescriptionProperty()
-                 .removeListener(invalidationListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes a {@link ChangeListener} from the accessibleRole property of the node.
-     *
-     * @param changeListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeAccessibleRoleChangeListener(ChangeListener<? super AccessibleRole> changeListener) {
-        getNode().accessibleRoleProperty()
-                 .removeListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes an {@link InvalidationListener} from the accessibleRole property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeAccessibleRoleInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().accessibleRoleProperty()
-                 .removeListener(invalidationListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes a {@link ChangeListener} from the accessibleText property of the node.
-     *
-     * @param changeListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeAccessibleTextChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().accessibleTextProperty()
-                 .removeListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes an {@link InvalidationListener} from the accessibleText property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeAccessibleTextInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().accessibleTextProperty()
-                 .removeListener(invalidationListener);
-        return getConfigurator();
-    }
-
     /**
      * Removes a {@link ChangeListener} from the blendMode property of the node.
      *
@@ -3695,34 +3163,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
         return getConfigurator();
     }
 
-    /**
-     * Removes a {@link ChangeListener} from the depthTest property of the node.
-     *
-     * @param changeListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeDepthTestChangeListener(ChangeListener<? super DepthTest> changeListener) {
-        getNode().depthTestProperty()
-                 .removeListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes an {@link InvalidationListener} from the depthTest property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeDepthTestInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().depthTestProperty()
-                 .removeListener(invalidationListener);
-        return getConfigurator();
-    }
-
     /**
      * Removes a {@link ChangeListener} from the disabled property of the node.
      *
@@ -5501,34 +4941,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
         return getConfigurator();
     }
 
-    /**
-     * Removes a {@link ChangeListener} from the rotationAxis property of the node.
-     *
-     * @param changeListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeRotationAxisChangeListener(ChangeListener<? super Point3D> changeListener) {
-        getNode().rotationAxisProperty()
-                 .removeListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes an {@link InvalidationListener} from the rotationAxis property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeRotationAxisInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().rotationAxisProperty()
-                 .removeListener(invalidationListener);
-        return getConfigurator();
-    }
-
     /**
      * Removes a {@link ChangeListener} from the scaleX property of the node.
      *
@@ -5585,34 +4997,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
         return getConfigurator();
     }
 
-    /**
-     * Removes a {@link ChangeListener} from the scaleZ property of the node.
-     *
-     * @param changeListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeScaleZChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().scaleZProperty()
-                 .removeListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes an {@link InvalidationListener} from the scaleZ property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeScaleZInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().scaleZProperty()
-                 .removeListener(invalidationListener);
-        return getConfigurator();
-    }
-
     /**
      * Removes a {@link ChangeListener} from the style property of the node.
      *
@@ -5753,34 +5137,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
         return getConfigurator();
     }
 
-    /**
-     * Removes a {@link ChangeListener} from the translateZ property of the node.
-     *
-     * @param changeListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeTranslateZChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().translateZProperty()
-                 .removeListener(changeListener);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes an {@link InvalidationListener} from the translateZ property of the node.
-     *
-     * @param invalidationListener
-     *         The listener to remove.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T removeTranslateZInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().translateZProperty()
-                 .removeListener(invalidationListener);
-        return getConfigurator();
-    }
-
     /**
      * Removes a {@link ChangeListener} from the viewOrder property of the node.
      *
@@ -5844,227 +5200,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
     // Binding Functions
     //*****************************************************************
 
-    // Accessible Help Property
-
-    /**
-     * Binds the accessibleHelp property of the node to an observable value.
-     *
-     * @param observableValue
-     *         The observable value to bind to the accessibleHelp property.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindAccessibleHelpProperty(ObservableValue<? extends String> observableValue) {
-        getNode().accessibleHelpProperty()
-                 .bind(observableValue);
-        return getConfigurator();
-    }
-
-    /**
-     * Unbinds the accessibleHelp property of the node, thereby allowing to manually set this property.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindAccessibleHelpProperty() {
-        getNode().accessibleHelpProperty()
-                 .unbind();
-        return getConfigurator();
-    }
-
-    /**
-     * Creates a bidirectional binding between the node's accessibleHelp property and another String property.
-     *
-     * @param otherProperty
-     *         The other property to bind with.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindBidirectionalAccessibleHelpProperty(Property<String> otherProperty) {
-        getNode().accessibleHelpProperty()
-                 .bindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes a bidirectional binding between the accessibleHelp property and another property.
-     *
-     * @param otherProperty
-     *         The other property to unbind from.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindBidirectionalAccessibleHelpProperty(Property<String> otherProperty) {
-        getNode().accessibleHelpProperty()
-                 .unbindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
-    // Accessible Role Description Property
-
-    /**
-     * Binds the accessibleRoleDescription property of the node to an observable value.
-     *
-     * @param observableValue
-     *         The observable value to bind to the accessibleRoleDescription property.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindAccessibleRoleDescriptionProperty(ObservableValue<? extends String> observableValue) {
-        getNode().accessibleRoleDescriptionProperty()
-                 .bind(observableValue);
-        return getConfigurator();
-    }
-
-    /**
-     * Unbinds the accessibleRoleDescription property of the node, thereby allowing to manually set this property.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindAccessibleRoleDescriptionProperty() {
-        getNode().accessibleRoleDescriptionProperty()
-                 .unbind();
-        return getConfigurator();
-    }
-
-    /**
-     * Creates a bidirectional binding between the node's accessibleRoleDescription property and another String property.
-     *
-     * @param otherProperty
-     *         The other property to bind with.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindBidirectionalAccessibleRoleDescriptionProperty(Property<String> otherProperty) {
-        getNode().accessibleRoleDescriptionProperty()
-                 .bindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes a bidirectional binding between the accessibleRoleDescription property and another property.
-     *
-     * @param otherProperty
-     *         The other property to unbind from.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindBidirectionalAccessibleRoleDescriptionProperty(Property<String> otherProperty) {
-        getNode().accessibleRoleDescriptionProperty()
-                 .unbindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
-    // Accessible Role Property
-
-    /**
-     * Binds the accessibleRole property of the node to an observable value.
-     *
-     * @param observableValue
-     *         The observable value to bind to the accessibleRole property.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindAccessibleRoleProperty(ObservableValue<? extends AccessibleRole> observableValue) {
-        getNode().accessibleRoleProperty()
-                 .bind(observableValue);
-        return getConfigurator();
-    }
-
-    /**
-     * Unbinds the accessibleRole property of the node, thereby allowing to manually set this property.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindAccessibleRoleProperty() {
-        getNode().accessibleRoleProperty()
-                 .unbind();
-        return getConfigurator();
-    }
-
-    /**
-     * Creates a bidirectional binding between the node's accessibleRole property and another AccessibleRole property.
-     *
-     * @param otherProperty
-     *         The other property to bind with.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindBidirectionalAccessibleRoleProperty(Property<AccessibleRole> otherProperty) {
-        getNode().accessibleRoleProperty()
-                 .bindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes a bidirectional binding between the accessibleRole property and another property.
-     *
-     * @param otherProperty
-     *         The other property to unbind from.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindBidirectionalAccessibleRoleProperty(Property<AccessibleRole> otherProperty) {
-        getNode().accessibleRoleProperty()
-                 .unbindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
-    // Accessible Text Property
-
-    /**
-     * Binds the accessibleText property of the node to an observable value.
-     *
-     * @param observableValue
-     *         The observable value to bind to the accessibleText property.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindAccessibleTextProperty(ObservableValue<? extends String> observableValue) {
-        getNode().accessibleTextProperty()
-                 .bind(observableValue);
-        return getConfigurator();
-    }
-
-    /**
-     * Unbinds the accessibleText property of the node, thereby allowing to manually set this property.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindAccessibleTextProperty() {
-        getNode().accessibleTextProperty()
-                 .unbind();
-        return getConfigurator();
-    }
-
-    /**
-     * Creates a bidirectional binding between the node's accessibleText property and another String property.
-     *
-     * @param otherProperty
-     *         The other property to bind with.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindBidirectionalAccessibleTextProperty(Property<String> otherProperty) {
-        getNode().accessibleTextProperty()
-                 .bindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes a bidirectional binding between the accessibleText property and another property.
-     *
-     * @param otherProperty
-     *         The other property to unbind from.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindBidirectionalAccessibleTextProperty(Property<String> otherProperty) {
-        getNode().accessibleTextProperty()
-                 .unbindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
-    // Blend Mode Property
+    // Blend Mode Property
 
     /**
      * Binds the blendMode property of the node to an observable value.
@@ -6075,8 +5211,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBlendModeProperty(ObservableValue<? extends BlendMode> observableValue) {
-        getNode().blendModeProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().blendModeProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6100,8 +5235,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalBlendModeProperty(Property<BlendMode> otherProperty) {
-        getNode().blendModeProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().blendModeProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6130,8 +5264,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindCacheHintProperty(ObservableValue<? extends CacheHint> observableValue) {
-        getNode().cacheHintProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().cacheHintProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6155,8 +5288,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalCacheHintProperty(Property<CacheHint> otherProperty) {
-        getNode().cacheHintProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().cacheHintProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6185,8 +5317,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindCacheProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().cacheProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().cacheProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6210,8 +5341,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalCacheProperty(Property<Boolean> otherProperty) {
-        getNode().cacheProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().cacheProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6240,8 +5370,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindClipProperty(ObservableValue<? extends Node> observableValue) {
-        getNode().clipProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().clipProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6265,8 +5394,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalClipProperty(Property<Node> otherProperty) {
-        getNode().clipProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().clipProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6295,8 +5423,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindCursorProperty(ObservableValue<? extends Cursor> observableValue) {
-        getNode().cursorProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().cursorProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6320,8 +5447,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalCursorProperty(Property<Cursor> otherProperty) {
-        getNode().cursorProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().cursorProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6339,61 +5465,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
         return getConfigurator();
     }
 
-    // Depth Test Property
-
-    /**
-     * Binds the depthTest property of the node to an observable value. When the observable value changes, the node's depthTest property will be updated.
-     *
-     * @param observableValue
-     *         The observable value to bind to the depthTest property.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindDepthTestProperty(ObservableValue<? extends DepthTest> observableValue) {
-        getNode().depthTestProperty()
-                 .bind(observableValue);
-        return getConfigurator();
-    }
-
-    /**
-     * Unbinds the depthTest property of the node. This restores the ability to manually set the depthTest of the node.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindDepthTestProperty() {
-        getNode().depthTestProperty()
-                 .unbind();
-        return getConfigurator();
-    }
-
-    /**
-     * Creates a bidirectional binding between the depthTest property of the node and another DepthTest property. This allows both properties to automatically update each other.
-     *
-     * @param otherProperty
-     *         The other property to bind with.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindBidirectionalDepthTestProperty(Property<DepthTest> otherProperty) {
-        getNode().depthTestProperty()
-                 .bindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes a bidirectional binding between the depthTest property and another property.
-     *
-     * @param otherProperty
-     *         The other property to unbind from.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindBidirectionalDepthTestProperty(Property<DepthTest> otherProperty) {
-        getNode().depthTestProperty()
-                 .unbindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
     // Disable Property
 
     /**
@@ -6405,8 +5476,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindDisableProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().disableProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().disableProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6430,8 +5500,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalDisableProperty(Property<Boolean> otherProperty) {
-        getNode().disableProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().disableProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6460,8 +5529,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindEffectProperty(ObservableValue<? extends Effect> observableValue) {
-        getNode().effectProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().effectProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6485,8 +5553,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalEffectProperty(Property<Effect> otherProperty) {
-        getNode().effectProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().effectProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6515,8 +5582,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindEventDispatcherProperty(ObservableValue<? extends EventDispatcher> observableValue) {
-        getNode().eventDispatcherProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().eventDispatcherProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6540,8 +5606,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalEventDispatcherProperty(Property<EventDispatcher> otherProperty) {
-        getNode().eventDispatcherProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().eventDispatcherProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6570,8 +5635,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindFocusTraversableProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().focusTraversableProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().focusTraversableProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6595,8 +5659,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalFocusTraversableProperty(Property<Boolean> otherProperty) {
-        getNode().focusTraversableProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().focusTraversableProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6625,8 +5688,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindIdProperty(ObservableValue<? extends String> observableValue) {
-        getNode().idProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().idProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6650,8 +5712,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalIdProperty(Property<String> otherProperty) {
-        getNode().idProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().idProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6680,8 +5741,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindInputMethodRequestsProperty(ObservableValue<? extends InputMethodRequests> observableValue) {
-        getNode().inputMethodRequestsProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().inputMethodRequestsProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6705,8 +5765,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalInputMethodRequestsProperty(Property<InputMethodRequests> otherProperty) {
-        getNode().inputMethodRequestsProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().inputMethodRequestsProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6735,8 +5794,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindLayoutXProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().layoutXProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().layoutXProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6760,8 +5818,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalLayoutXProperty(Property<Number> otherProperty) {
-        getNode().layoutXProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().layoutXProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6790,8 +5847,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindLayoutYProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().layoutYProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().layoutYProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6815,8 +5871,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalLayoutYProperty(Property<Number> otherProperty) {
-        getNode().layoutYProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().layoutYProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6845,8 +5900,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindManagedProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().managedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().managedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6870,8 +5924,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalManagedProperty(Property<Boolean> otherProperty) {
-        getNode().managedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().managedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6902,8 +5955,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindMouseTransparentProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().mouseTransparentProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().mouseTransparentProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6927,8 +5979,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalMouseTransparentProperty(Property<Boolean> otherProperty) {
-        getNode().mouseTransparentProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().mouseTransparentProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -6959,8 +6010,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindNodeOrientationProperty(ObservableValue<? extends NodeOrientation> observableValue) {
-        getNode().nodeOrientationProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().nodeOrientationProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -6984,8 +6034,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalNodeOrientationProperty(Property<NodeOrientation> otherProperty) {
-        getNode().nodeOrientationProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().nodeOrientationProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7016,8 +6065,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnContextMenuRequestedProperty(ObservableValue<? extends EventHandler<? super ContextMenuEvent>> observableValue) {
-        getNode().onContextMenuRequestedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onContextMenuRequestedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7043,8 +6091,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnContextMenuRequestedProperty(Property<EventHandler<? super ContextMenuEvent>> otherProperty) {
-        getNode().onContextMenuRequestedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onContextMenuRequestedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7073,8 +6120,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnDragDetectedProperty(ObservableValue<? extends EventHandler<? super MouseEvent>> observableValue) {
-        getNode().onDragDetectedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onDragDetectedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7100,8 +6146,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnDragDetectedProperty(Property<EventHandler<? super MouseEvent>> otherProperty) {
-        getNode().onDragDetectedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onDragDetectedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7130,8 +6175,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnDragDoneProperty(ObservableValue<? extends EventHandler<? super DragEvent>> observableValue) {
-        getNode().onDragDoneProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onDragDoneProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7155,8 +6199,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnDragDoneProperty(Property<EventHandler<? super DragEvent>> otherProperty) {
-        getNode().onDragDoneProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onDragDoneProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7185,8 +6228,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnDragDroppedProperty(ObservableValue<? extends EventHandler<? super DragEvent>> observableValue) {
-        getNode().onDragDroppedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onDragDroppedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7210,8 +6252,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnDragDroppedProperty(Property<EventHandler<? super DragEvent>> otherProperty) {
-        getNode().onDragDroppedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onDragDroppedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7240,8 +6281,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnDragEnteredProperty(ObservableValue<? extends EventHandler<? super DragEvent>> observableValue) {
-        getNode().onDragEnteredProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onDragEnteredProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7265,8 +6305,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnDragEnteredProperty(Property<EventHandler<? super DragEvent>> otherProperty) {
-        getNode().onDragEnteredProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onDragEnteredProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7295,8 +6334,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnDragExitedProperty(ObservableValue<? extends EventHandler<? super DragEvent>> observableValue) {
-        getNode().onDragExitedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onDragExitedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7320,8 +6358,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnDragExitedProperty(Property<EventHandler<? super DragEvent>> otherProperty) {
-        getNode().onDragExitedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onDragExitedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7350,8 +6387,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnDragOverProperty(ObservableValue<? extends EventHandler<? super DragEvent>> observableValue) {
-        getNode().onDragOverProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onDragOverProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7375,8 +6411,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnDragOverProperty(Property<EventHandler<? super DragEvent>> otherProperty) {
-        getNode().onDragOverProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onDragOverProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7407,8 +6442,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnInputMethodTextChangedProperty(ObservableValue<? extends EventHandler<? super InputMethodEvent>> observableValue) {
-        getNode().onInputMethodTextChangedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onInputMethodTextChangedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7434,8 +6468,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnInputMethodTextChangedProperty(Property<EventHandler<? super InputMethodEvent>> otherProperty) {
-        getNode().onInputMethodTextChangedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onInputMethodTextChangedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7464,8 +6497,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnKeyPressedProperty(ObservableValue<? extends EventHandler<? super KeyEvent>> observableValue) {
-        getNode().onKeyPressedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onKeyPressedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7489,8 +6521,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnKeyPressedProperty(Property<EventHandler<? super KeyEvent>> otherProperty) {
-        getNode().onKeyPressedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onKeyPressedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7519,8 +6550,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnKeyReleasedProperty(ObservableValue<? extends EventHandler<? super KeyEvent>> observableValue) {
-        getNode().onKeyReleasedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onKeyReleasedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7544,8 +6574,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnKeyReleasedProperty(Property<EventHandler<? super KeyEvent>> otherProperty) {
-        getNode().onKeyReleasedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onKeyReleasedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7574,8 +6603,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnKeyTypedProperty(ObservableValue<? extends EventHandler<? super KeyEvent>> observableValue) {
-        getNode().onKeyTypedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onKeyTypedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7599,8 +6627,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnKeyTypedProperty(Property<EventHandler<? super KeyEvent>> otherProperty) {
-        getNode().onKeyTypedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onKeyTypedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7629,8 +6656,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnMouseClickedProperty(ObservableValue<? extends EventHandler<? super MouseEvent>> observableValue) {
-        getNode().onMouseClickedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onMouseClickedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7654,8 +6680,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnMouseClickedProperty(Property<EventHandler<? super MouseEvent>> otherProperty) {
-        getNode().onMouseClickedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onMouseClickedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7684,8 +6709,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnMouseDragEnteredProperty(ObservableValue<? extends EventHandler<? super MouseDragEvent>> observableValue) {
-        getNode().onMouseDragEnteredProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onMouseDragEnteredProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7711,8 +6735,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnMouseDragEnteredProperty(Property<EventHandler<? super MouseDragEvent>> otherProperty) {
-        getNode().onMouseDragEnteredProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onMouseDragEnteredProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7741,8 +6764,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnMouseDragExitedProperty(ObservableValue<? extends EventHandler<? super MouseDragEvent>> observableValue) {
-        getNode().onMouseDragExitedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onMouseDragExitedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7768,8 +6790,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnMouseDragExitedProperty(Property<EventHandler<? super MouseDragEvent>> otherProperty) {
-        getNode().onMouseDragExitedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onMouseDragExitedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7798,8 +6819,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnMouseDraggedProperty(ObservableValue<? extends EventHandler<? super MouseEvent>> observableValue) {
-        getNode().onMouseDraggedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onMouseDraggedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7823,8 +6843,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnMouseDraggedProperty(Property<EventHandler<? super MouseEvent>> otherProperty) {
-        getNode().onMouseDraggedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onMouseDraggedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7853,8 +6872,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnMouseDragOverProperty(ObservableValue<? extends EventHandler<? super MouseDragEvent>> observableValue) {
-        getNode().onMouseDragOverProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onMouseDragOverProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7880,8 +6898,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnMouseDragOverProperty(Property<EventHandler<? super MouseDragEvent>> otherProperty) {
-        getNode().onMouseDragOverProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onMouseDragOverProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7910,8 +6927,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnMouseDragReleasedProperty(ObservableValue<? extends EventHandler<? super MouseDragEvent>> observableValue) {
-        getNode().onMouseDragReleasedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onMouseDragReleasedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7937,8 +6953,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnMouseDragReleasedProperty(Property<EventHandler<? super MouseDragEvent>> otherProperty) {
-        getNode().onMouseDragReleasedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onMouseDragReleasedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -7967,8 +6982,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnMouseEnteredProperty(ObservableValue<? extends EventHandler<? super MouseEvent>> observableValue) {
-        getNode().onMouseEnteredProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onMouseEnteredProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -7992,8 +7006,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnMouseEnteredProperty(Property<EventHandler<? super MouseEvent>> otherProperty) {
-        getNode().onMouseEnteredProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onMouseEnteredProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8024,8 +7037,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnMouseExitedProperty(ObservableValue<? extends EventHandler<? super MouseEvent>> observableValue) {
-        getNode().onMouseExitedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onMouseExitedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8049,8 +7061,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnMouseExitedProperty(Property<EventHandler<? super MouseEvent>> otherProperty) {
-        getNode().onMouseExitedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onMouseExitedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8079,8 +7090,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnMouseMovedProperty(ObservableValue<? extends EventHandler<? super MouseEvent>> observableValue) {
-        getNode().onMouseMovedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onMouseMovedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8104,8 +7114,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnMouseMovedProperty(Property<EventHandler<? super MouseEvent>> otherProperty) {
-        getNode().onMouseMovedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onMouseMovedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8134,8 +7143,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnMousePressedProperty(ObservableValue<? extends EventHandler<? super MouseEvent>> observableValue) {
-        getNode().onMousePressedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onMousePressedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8159,8 +7167,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnMousePressedProperty(Property<EventHandler<? super MouseEvent>> otherProperty) {
-        getNode().onMousePressedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onMousePressedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8189,8 +7196,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnMouseReleasedProperty(ObservableValue<? extends EventHandler<? super MouseEvent>> observableValue) {
-        getNode().onMouseReleasedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onMouseReleasedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8214,8 +7220,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnMouseReleasedProperty(Property<EventHandler<? super MouseEvent>> otherProperty) {
-        getNode().onMouseReleasedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onMouseReleasedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8244,8 +7249,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnRotateProperty(ObservableValue<? extends EventHandler<? super RotateEvent>> observableValue) {
-        getNode().onRotateProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onRotateProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8269,8 +7273,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnRotateProperty(Property<EventHandler<? super RotateEvent>> otherProperty) {
-        getNode().onRotateProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onRotateProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8299,8 +7302,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnRotationFinishedProperty(ObservableValue<? extends EventHandler<? super RotateEvent>> observableValue) {
-        getNode().onRotationFinishedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onRotationFinishedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8324,8 +7326,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnRotationFinishedProperty(Property<EventHandler<? super RotateEvent>> otherProperty) {
-        getNode().onRotationFinishedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onRotationFinishedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8354,8 +7355,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnRotationStartedProperty(ObservableValue<? extends EventHandler<? super RotateEvent>> observableValue) {
-        getNode().onRotationStartedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onRotationStartedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8379,8 +7379,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnRotationStartedProperty(Property<EventHandler<? super RotateEvent>> otherProperty) {
-        getNode().onRotationStartedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onRotationStartedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8409,8 +7408,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnScrollProperty(ObservableValue<? extends EventHandler<? super ScrollEvent>> observableValue) {
-        getNode().onScrollProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onScrollProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8434,8 +7432,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnScrollProperty(Property<EventHandler<? super ScrollEvent>> otherProperty) {
-        getNode().onScrollProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onScrollProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8464,8 +7461,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnScrollFinishedProperty(ObservableValue<? extends EventHandler<? super ScrollEvent>> observableValue) {
-        getNode().onScrollFinishedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onScrollFinishedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8489,8 +7485,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnScrollFinishedProperty(Property<EventHandler<? super ScrollEvent>> otherProperty) {
-        getNode().onScrollFinishedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onScrollFinishedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8519,8 +7514,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnScrollStartedProperty(ObservableValue<? extends EventHandler<? super ScrollEvent>> observableValue) {
-        getNode().onScrollStartedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onScrollStartedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8544,8 +7538,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnScrollStartedProperty(Property<EventHandler<? super ScrollEvent>> otherProperty) {
-        getNode().onScrollStartedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onScrollStartedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8574,8 +7567,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnSwipeDownProperty(ObservableValue<? extends EventHandler<? super SwipeEvent>> observableValue) {
-        getNode().onSwipeDownProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onSwipeDownProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8599,8 +7591,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnSwipeDownProperty(Property<EventHandler<? super SwipeEvent>> otherProperty) {
-        getNode().onSwipeDownProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onSwipeDownProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8629,8 +7620,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnSwipeLeftProperty(ObservableValue<? extends EventHandler<? super SwipeEvent>> observableValue) {
-        getNode().onSwipeLeftProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onSwipeLeftProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8654,8 +7644,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnSwipeLeftProperty(Property<EventHandler<? super SwipeEvent>> otherProperty) {
-        getNode().onSwipeLeftProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onSwipeLeftProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8684,8 +7673,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnSwipeRightProperty(ObservableValue<? extends EventHandler<? super SwipeEvent>> observableValue) {
-        getNode().onSwipeRightProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onSwipeRightProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8709,8 +7697,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnSwipeRightProperty(Property<EventHandler<? super SwipeEvent>> otherProperty) {
-        getNode().onSwipeRightProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onSwipeRightProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8739,8 +7726,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnSwipeUpProperty(ObservableValue<? extends EventHandler<? super SwipeEvent>> observableValue) {
-        getNode().onSwipeUpProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onSwipeUpProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8764,8 +7750,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnSwipeUpProperty(Property<EventHandler<? super SwipeEvent>> otherProperty) {
-        getNode().onSwipeUpProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onSwipeUpProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8794,8 +7779,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnTouchMovedProperty(ObservableValue<? extends EventHandler<? super TouchEvent>> observableValue) {
-        getNode().onTouchMovedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onTouchMovedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8819,8 +7803,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnTouchMovedProperty(Property<EventHandler<? super TouchEvent>> otherProperty) {
-        getNode().onTouchMovedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onTouchMovedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8849,8 +7832,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnTouchPressedProperty(ObservableValue<? extends EventHandler<? super TouchEvent>> observableValue) {
-        getNode().onTouchPressedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onTouchPressedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8874,8 +7856,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnTouchPressedProperty(Property<EventHandler<? super TouchEvent>> otherProperty) {
-        getNode().onTouchPressedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onTouchPressedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8904,8 +7885,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnTouchReleasedProperty(ObservableValue<? extends EventHandler<? super TouchEvent>> observableValue) {
-        getNode().onTouchReleasedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onTouchReleasedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8929,8 +7909,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnTouchReleasedProperty(Property<EventHandler<? super TouchEvent>> otherProperty) {
-        getNode().onTouchReleasedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onTouchReleasedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -8959,8 +7938,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnTouchStationaryProperty(ObservableValue<? extends EventHandler<? super TouchEvent>> observableValue) {
-        getNode().onTouchStationaryProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onTouchStationaryProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -8984,8 +7962,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnTouchStationaryProperty(Property<EventHandler<? super TouchEvent>> otherProperty) {
-        getNode().onTouchStationaryProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onTouchStationaryProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9014,8 +7991,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnZoomProperty(ObservableValue<? extends EventHandler<? super ZoomEvent>> observableValue) {
-        getNode().onZoomProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onZoomProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9039,8 +8015,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnZoomProperty(Property<EventHandler<? super ZoomEvent>> otherProperty) {
-        getNode().onZoomProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onZoomProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9069,8 +8044,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnZoomFinishedProperty(ObservableValue<? extends EventHandler<? super ZoomEvent>> observableValue) {
-        getNode().onZoomFinishedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onZoomFinishedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9094,8 +8068,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnZoomFinishedProperty(Property<EventHandler<? super ZoomEvent>> otherProperty) {
-        getNode().onZoomFinishedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onZoomFinishedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9124,8 +8097,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOnZoomStartedProperty(ObservableValue<? extends EventHandler<? super ZoomEvent>> observableValue) {
-        getNode().onZoomStartedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onZoomStartedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9149,8 +8121,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnZoomStartedProperty(Property<EventHandler<? super ZoomEvent>> otherProperty) {
-        getNode().onZoomStartedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onZoomStartedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9181,8 +8152,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindOpacityProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().opacityProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().opacityProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9209,8 +8179,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOpacityProperty(Property<Number> otherProperty) {
-        getNode().opacityProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().opacityProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9241,8 +8210,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindPickOnBoundsProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().pickOnBoundsProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().pickOnBoundsProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9268,8 +8236,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalPickOnBoundsProperty(Property<Boolean> otherProperty) {
-        getNode().pickOnBoundsProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().pickOnBoundsProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9298,8 +8265,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindRotateProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().rotateProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().rotateProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9325,8 +8291,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalRotateProperty(Property<Number> otherProperty) {
-        getNode().rotateProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().rotateProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9344,65 +8309,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
         return getConfigurator();
     }
 
-    // Rotation Axis Property
-
-    /**
-     * Binds the rotationAxis property of the node to an observable value.
-     *
-     * <p>When the observable value changes, the rotationAxis property will be updated to reflect the new Point3D value, affecting the axis around which the node rotates.</p>
-     *
-     * @param observableValue
-     *         The observable value to bind to the rotationAxis property.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindRotationAxisProperty(ObservableValue<? extends Point3D> observableValue) {
-        getNode().rotationAxisProperty()
-                 .bind(observableValue);
-        return getConfigurator();
-    }
-
-    /**
-     * Unbinds the rotationAxis property of the node from its current binding. This will stop the rotationAxis property from updating automatically.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindRotationAxisProperty() {
-        getNode().rotationAxisProperty()
-                 .unbind();
-        return getConfigurator();
-    }
-
-    /**
-     * Creates a bidirectional binding between the rotationAxis property of the node and another property.
-     *
-     * <p>This allows both properties to automatically update each other to reflect changes in the axis around which the node rotates.</p>
-     *
-     * @param otherProperty
-     *         The other property to bind with.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindBidirectionalRotationAxisProperty(Property<Point3D> otherProperty) {
-        getNode().rotationAxisProperty()
-                 .bindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes a bidirectional binding between the rotationAxis property of the node and another property.
-     *
-     * @param otherProperty
-     *         The other property to unbind from.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindBidirectionalRotationAxisProperty(Property<Point3D> otherProperty) {
-        getNode().rotationAxisProperty()
-                 .unbindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
     // Scale X Property
 
     /**
@@ -9414,8 +8320,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindScaleXProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().scaleXProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().scaleXProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9439,8 +8344,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalScaleXProperty(Property<Number> otherProperty) {
-        getNode().scaleXProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().scaleXProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9469,8 +8373,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindScaleYProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().scaleYProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().scaleYProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9494,8 +8397,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalScaleYProperty(Property<Number> otherProperty) {
-        getNode().scaleYProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().scaleYProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9513,61 +8415,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
         return getConfigurator();
     }
 
-    // Scale Z Property
-
-    /**
-     * Binds the scaleZ property of the node to an observable value. When the observable value changes, the scaleZ property will be updated to reflect the new value.
-     *
-     * @param observableValue
-     *         The observable value to bind to the scaleZ property.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindScaleZProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().scaleZProperty()
-                 .bind(observableValue);
-        return getConfigurator();
-    }
-
-    /**
-     * Unbinds the scaleZ property of the node from its current binding.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindScaleZProperty() {
-        getNode().scaleZProperty()
-                 .unbind();
-        return getConfigurator();
-    }
-
-    /**
-     * Creates a bidirectional binding between the scaleZ property of the node and another property.
-     *
-     * @param otherProperty
-     *         The other property to bind with.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindBidirectionalScaleZProperty(Property<Number> otherProperty) {
-        getNode().scaleZProperty()
-                 .bindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes a bidirectional binding between the scaleZ property of the node and another property.
-     *
-     * @param otherProperty
-     *         The other property to unbind from.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindBidirectionalScaleZProperty(Property<Number> otherProperty) {
-        getNode().scaleZProperty()
-                 .unbindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
     // Style Property
 
     /**
@@ -9579,8 +8426,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindStyleProperty(ObservableValue<? extends String> observableValue) {
-        getNode().styleProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().styleProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9604,8 +8450,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalStyleProperty(Property<String> otherProperty) {
-        getNode().styleProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().styleProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9634,8 +8479,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindTranslateXProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().translateXProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().translateXProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9659,8 +8503,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalTranslateXProperty(Property<Number> otherProperty) {
-        getNode().translateXProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().translateXProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9689,8 +8532,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindTranslateYProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().translateYProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().translateYProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9714,8 +8556,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalTranslateYProperty(Property<Number> otherProperty) {
-        getNode().translateYProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().translateYProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9733,61 +8574,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
         return getConfigurator();
     }
 
-    // Translate Z Property
-
-    /**
-     * Binds the translateZ property of the node to an observable value. When the observable value changes, the translateZ property will be updated accordingly.
-     *
-     * @param observableValue
-     *         The observable value to bind to the translateZ property.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindTranslateZProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().translateZProperty()
-                 .bind(observableValue);
-        return getConfigurator();
-    }
-
-    /**
-     * Unbinds the translateZ property of the node from its current binding.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindTranslateZProperty() {
-        getNode().translateZProperty()
-                 .unbind();
-        return getConfigurator();
-    }
-
-    /**
-     * Creates a bidirectional binding between the translateZ property of the node and another property.
-     *
-     * @param otherProperty
-     *         The other property to bind with.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T bindBidirectionalTranslateZProperty(Property<Number> otherProperty) {
-        getNode().translateZProperty()
-                 .bindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
-    /**
-     * Removes a bidirectional binding between the translateZ property of the node and another property.
-     *
-     * @param otherProperty
-     *         The other property to unbind from.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T unbindBidirectionalTranslateZProperty(Property<Number> otherProperty) {
-        getNode().translateZProperty()
-                 .unbindBidirectional(otherProperty);
-        return getConfigurator();
-    }
-
     // View Order Property
 
     /**
@@ -9799,8 +8585,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindViewOrderProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().viewOrderProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().viewOrderProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9824,8 +8609,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalViewOrderProperty(Property<Number> otherProperty) {
-        getNode().viewOrderProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().viewOrderProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9854,8 +8638,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindVisibleProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().visibleProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().visibleProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -9879,8 +8662,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalVisibleProperty(Property<Boolean> otherProperty) {
-        getNode().visibleProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().visibleProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -9931,7 +8713,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default <S extends Event> T addEventFilter(EventType<S> eventType, EventHandler<? super S> eventFilter) {
-        getNode().addEventFilter(eventType, eventFilter);
+        getConfigurator().registerEventFilter(getNode(), eventType, eventFilter);
         return getConfigurator();
     }
 
@@ -9948,7 +8730,7 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
      * @return The configurator instance, for chaining further configuration calls.
      */
     default <S extends Event> T addEventHandler(EventType<S> eventType, EventHandler<? super S> eventHandler) {
-        getNode().addEventHandler(eventType, eventHandler);
+        getConfigurator().registerEventHandler(getNode(), eventType, eventHandler);
         return getConfigurator();
     }
 
@@ -9997,58 +8779,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
     // Set Functions
     //*****************************************************************
 
-    /**
-     * Sets the accessible help text for the node. This text is used by screen readers and other accessibility tools to describe the purpose of the node.
-     *
-     * @param value
-     *         The accessible help text to set.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T setAccessibleHelp(String value) {
-        getNode().setAccessibleHelp(value);
-        return getConfigurator();
-    }
-
-    /**
-     * Sets the accessible role for the node. This role is used by accessibility tools to understand the function of the node within the application.
-     *
-     * @param value
-     *         The {@link AccessibleRole} to set for the node.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T setAccessibleRole(AccessibleRole value) {
-        getNode().setAccessibleRole(value);
-        return getConfigurator();
-    }
-
-    /**
-     * Sets the accessible role description for the node. This description provides more detailed information about the node's role, complementing the role itself.
-     *
-     * @param value
-     *         The description of the accessible role.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T setAccessibleRoleDescription(String value) {
-        getNode().setAccessibleRoleDescription(value);
-        return getConfigurator();
-    }
-
-    /**
-     * Sets the accessible text for the node. This text is used by screen readers to convey the node's content to users with visual impairments.
-     *
-     * @param value
-     *         The accessible text to set.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T setAccessibleText(String value) {
-        getNode().setAccessibleText(value);
-        return getConfigurator();
-    }
-
     /**
      * Sets the blend mode for the node. Blend mode is used to determine how the node's pixels are blended with the underlying pixels in the scene.
      *
@@ -10114,19 +8844,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
         return getConfigurator();
     }
 
-    /**
-     * Sets the depth test for the node. Depth testing is used to determine the visibility of nodes in a 3D scene relative to the camera view.
-     *
-     * @param value
-     *         The {@link DepthTest} to set for the node.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T setDepthTest(DepthTest value) {
-        getNode().setDepthTest(value);
-        return getConfigurator();
-    }
-
     /**
      * Sets the disabled state of the node.
      *
@@ -10803,19 +9520,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
         return getConfigurator();
     }
 
-    /**
-     * Sets the axis of rotation for the node.
-     *
-     * @param value
-     *         The axis of rotation as a Point3D object.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T setRotationAxis(Point3D value) {
-        getNode().setRotationAxis(value);
-        return getConfigurator();
-    }
-
     /**
      * Sets the scale factor of the node along the X axis.
      *
@@ -10842,19 +9546,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
         return getConfigurator();
     }
 
-    /**
-     * Sets the scale factor of the node along the Z axis.
-     *
-     * @param value
-     *         The scale factor along the Z axis.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T setScaleZ(double value) {
-        getNode().setScaleZ(value);
-        return getConfigurator();
-    }
-
     /**
      * Sets the translation of the node along the X axis.
      *
@@ -10881,19 +9572,6 @@ public interface NodeConfig<T extends ConfiguratorBase> extends BaseConfig<T> {
         return getConfigurator();
     }
 
-    /**
-     * Sets the translation of the node along the Z axis.
-     *
-     * @param value
-     *         The translation distance along the Z axis.
-     *
-     * @return The configurator instance, for chaining further configuration calls.
-     */
-    default T setTranslateZ(double value) {
-        getNode().setTranslateZ(value);
-        return getConfigurator();
-    }
-
     /**
      * Associates arbitrary user data with the node.
      *
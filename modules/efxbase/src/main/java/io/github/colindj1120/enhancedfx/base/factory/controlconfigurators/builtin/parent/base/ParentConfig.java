@@ -141,8 +141,7 @@ public interface ParentConfig<T extends ConfiguratorBase> extends NodeConfig<T>
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addNeedsLayoutChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().needsLayoutProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().needsLayoutProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -155,8 +154,7 @@ public interface ParentConfig<T extends ConfiguratorBase> extends NodeConfig<T>
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addNeedsLayoutInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().needsLayoutProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().needsLayoutProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -169,8 +167,7 @@ public interface ParentConfig<T extends ConfiguratorBase> extends NodeConfig<T>
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addGetChildrenUnmodifiableChangeListener(ListChangeListener<? super Node> listChangeListener) {
-        getNode().getChildrenUnmodifiable()
-                 .addListener(listChangeListener);
+        getConfigurator().registerListChangeListener(getNode().getChildrenUnmodifiable(), listChangeListener);
         return getConfigurator();
     }
 
@@ -183,8 +180,7 @@ public interface ParentConfig<T extends ConfiguratorBase> extends NodeConfig<T>
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addGetChildrenUnmodifiableInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().getChildrenUnmodifiable()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().getChildrenUnmodifiable(), invalidationListener);
         return getConfigurator();
     }
 
@@ -197,8 +193,7 @@ public interface ParentConfig<T extends ConfiguratorBase> extends NodeConfig<T>
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addStylesheetsListChangeListener(ListChangeListener<? super String> listChangeListener) {
-        getNode().getStylesheets()
-                 .addListener(listChangeListener);
+        getConfigurator().registerListChangeListener(getNode().getStylesheets(), listChangeListener);
         return getConfigurator();
     }
 
@@ -211,8 +206,7 @@ public interface ParentConfig<T extends ConfiguratorBase> extends NodeConfig<T>
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addStylesheetsListInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().getStylesheets()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().getStylesheets(), invalidationListener);
         return getConfigurator();
     }
 
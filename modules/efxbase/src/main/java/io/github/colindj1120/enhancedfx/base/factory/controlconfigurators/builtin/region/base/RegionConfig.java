@@ -258,8 +258,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addSnapToPixelChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().snapToPixelProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().snapToPixelProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -272,8 +271,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addSnapToPixelInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().snapToPixelProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().snapToPixelProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -286,8 +284,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPaddingChangeListener(ChangeListener<? super Insets> changeListener) {
-        getNode().paddingProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().paddingProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -300,8 +297,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPaddingInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().paddingProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().paddingProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -314,8 +310,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addBackgroundChangeListener(ChangeListener<? super Background> changeListener) {
-        getNode().backgroundProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().backgroundProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -328,8 +323,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addBackgroundInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().backgroundProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().backgroundProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -342,8 +336,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addBorderChangeListener(ChangeListener<? super Border> changeListener) {
-        getNode().borderProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().borderProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -356,8 +349,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addBorderInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().borderProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().borderProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -370,8 +362,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addOpaqueInsetsChangeListener(ChangeListener<? super Insets> changeListener) {
-        getNode().opaqueInsetsProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().opaqueInsetsProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -384,8 +375,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addOpaqueInsetsInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().opaqueInsetsProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().opaqueInsetsProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -398,8 +388,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addInsetChangeListener(ChangeListener<? super Insets> changeListener) {
-        getNode().insetsProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().insetsProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -412,8 +401,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addInsetInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().insetsProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().insetsProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -426,8 +414,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addWidthChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().widthProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().widthProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -440,8 +427,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addWidthInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().widthProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().widthProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -454,8 +440,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addMinWidthChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().minWidthProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().minWidthProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -468,8 +453,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addMinWidthInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().minWidthProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().minWidthProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -482,8 +466,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPrefWidthChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().prefWidthProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().prefWidthProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -496,8 +479,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPrefWidthInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().prefWidthProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().prefWidthProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -510,8 +492,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addMaxWidthChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().maxWidthProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().maxWidthProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -524,8 +505,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addMaxWidthInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().maxWidthProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().maxWidthProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -538,8 +518,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addHeightChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().heightProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().heightProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -552,8 +531,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addHeightInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().heightProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().heightProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -566,8 +544,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addMinHeightChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().minHeightProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().minHeightProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -580,8 +557,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addMinHeightInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().minHeightProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().minHeightProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -594,8 +570,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPrefHeightChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().prefHeightProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().prefHeightProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -608,8 +583,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPrefHeightInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().prefHeightProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().prefHeightProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -622,8 +596,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addMaxHeightChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().maxHeightProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().maxHeightProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -636,8 +609,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addMaxHeightInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().maxHeightProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().maxHeightProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -650,8 +622,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addShapeChangeListener(ChangeListener<? super Shape> changeListener) {
-        getNode().shapeProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().shapeProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -664,8 +635,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addShapeInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().shapeProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().shapeProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -678,8 +648,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addScaleShapeChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().scaleShapeProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().scaleShapeProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -692,8 +661,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addScaleShapeInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().scaleShapeProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().scaleShapeProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -706,8 +674,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addCenterShapeChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().centerShapeProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().centerShapeProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -720,8 +687,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addCenterShapeInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().centerShapeProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().centerShapeProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -734,8 +700,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addCacheShapeChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().cacheShapeProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().cacheShapeProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -748,8 +713,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addCacheShapeInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().cacheShapeProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().cacheShapeProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -1170,8 +1134,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindSnapToPixelProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().snapToPixelProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().snapToPixelProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1195,8 +1158,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalSnapToPixelProperty(Property<Boolean> otherProperty) {
-        getNode().snapToPixelProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().snapToPixelProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1225,8 +1187,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindPaddingProperty(ObservableValue<? extends Insets> observableValue) {
-        getNode().paddingProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().paddingProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1250,8 +1211,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalPaddingProperty(Property<Insets> otherProperty) {
-        getNode().paddingProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().paddingProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1280,8 +1240,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBackgroundProperty(ObservableValue<? extends Background> observableValue) {
-        getNode().backgroundProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().backgroundProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1305,8 +1264,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalBackgroundProperty(Property<Background> otherProperty) {
-        getNode().backgroundProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().backgroundProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1335,8 +1293,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBorderProperty(ObservableValue<? extends Border> observableValue) {
-        getNode().borderProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().borderProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1360,8 +1317,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalBorderProperty(Property<Border> otherProperty) {
-        getNode().borderProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().borderProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1390,8 +1346,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindOpaqueInsetsProperty(ObservableValue<? extends Insets> observableValue) {
-        getNode().opaqueInsetsProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().opaqueInsetsProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1415,8 +1370,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOpaqueInsetsProperty(Property<Insets> otherProperty) {
-        getNode().opaqueInsetsProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().opaqueInsetsProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1445,8 +1399,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindMinWidthProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().minWidthProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().minWidthProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1470,8 +1423,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalMinWidthProperty(Property<Number> otherProperty) {
-        getNode().minWidthProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().minWidthProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1500,8 +1452,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindPrefWidthProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().prefWidthProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().prefWidthProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1525,8 +1476,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalPrefWidthProperty(Property<Number> otherProperty) {
-        getNode().prefWidthProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().prefWidthProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1555,8 +1505,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindMaxWidthProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().maxWidthProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().maxWidthProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1580,8 +1529,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalMaxWidthProperty(Property<Number> otherProperty) {
-        getNode().maxWidthProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().maxWidthProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1610,8 +1558,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindMinHeightProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().minHeightProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().minHeightProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1635,8 +1582,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalMinHeightProperty(Property<Number> otherProperty) {
-        getNode().minHeightProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().minHeightProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1665,8 +1611,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindPrefHeightProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().prefHeightProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().prefHeightProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1690,8 +1635,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalPrefHeightProperty(Property<Number> otherProperty) {
-        getNode().prefHeightProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().prefHeightProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1720,8 +1664,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindMaxHeightProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().maxHeightProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().maxHeightProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1745,8 +1688,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalMaxHeightProperty(Property<Number> otherProperty) {
-        getNode().maxHeightProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().maxHeightProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1775,8 +1717,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindShapeProperty(ObservableValue<? extends Shape> observableValue) {
-        getNode().shapeProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().shapeProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1800,8 +1741,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalShapeProperty(Property<Shape> otherProperty) {
-        getNode().shapeProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().shapeProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1830,8 +1770,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindScaleShapeProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().scaleShapeProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().scaleShapeProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1855,8 +1794,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalScaleShapeProperty(Property<Boolean> otherProperty) {
-        getNode().scaleShapeProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().scaleShapeProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1885,8 +1823,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindCenterShapeProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().centerShapeProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().centerShapeProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1910,8 +1847,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalCenterShapeProperty(Property<Boolean> otherProperty) {
-        getNode().centerShapeProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().centerShapeProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -1940,8 +1876,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindCacheShapeProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().cacheShapeProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().cacheShapeProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1965,8 +1900,7 @@ public interface RegionConfig<T extends ConfiguratorBase> extends ParentConfig<T
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalCacheShapeProperty(Property<Boolean> otherProperty) {
-        getNode().cacheShapeProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().cacheShapeProperty(), otherProperty);
         return getConfigurator();
     }
 
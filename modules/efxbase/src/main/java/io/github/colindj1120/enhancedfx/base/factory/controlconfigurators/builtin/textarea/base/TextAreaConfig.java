@@ -137,8 +137,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addWrapTextChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().wrapTextProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().wrapTextProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -151,8 +150,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addWrapTextInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().wrapTextProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().wrapTextProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -165,8 +163,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPrefColumnCountChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().prefColumnCountProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().prefColumnCountProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -179,8 +176,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPrefColumnCountInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().prefColumnCountProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().prefColumnCountProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -193,8 +189,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPrefRowCountChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().prefRowCountProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().prefRowCountProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -207,8 +202,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPrefRowCountInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().prefRowCountProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().prefRowCountProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -221,8 +215,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addScrollTopChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().scrollTopProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().scrollTopProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -235,8 +228,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addScrollTopInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().scrollTopProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().scrollTopProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -249,8 +241,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addScrollLeftChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().scrollLeftProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().scrollLeftProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -263,8 +254,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addScrollLeftInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().scrollLeftProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().scrollLeftProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -433,8 +423,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindWrapTextProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().wrapTextProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().wrapTextProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -458,8 +447,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalWrapTextProperty(Property<Boolean> otherProperty) {
-        getNode().wrapTextProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().wrapTextProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -488,8 +476,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindPrefColumnCountProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().prefColumnCountProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().prefColumnCountProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -513,8 +500,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalPrefColumnCountProperty(Property<Number> otherProperty) {
-        getNode().prefColumnCountProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().prefColumnCountProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -543,8 +529,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindPrefRowCountProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().prefRowCountProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().prefRowCountProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -568,8 +553,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalPrefRowCountProperty(Property<Number> otherProperty) {
-        getNode().prefRowCountProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().prefRowCountProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -598,8 +582,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindScrollTopProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().scrollTopProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().scrollTopProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -623,8 +606,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalScrollTopProperty(Property<Number> otherProperty) {
-        getNode().scrollTopProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().scrollTopProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -653,8 +635,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindScrollLeftProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().scrollLeftProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().scrollLeftProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -678,8 +659,7 @@ public interface TextAreaConfig<T extends ConfiguratorBase> extends TextInputCon
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalScrollLeftProperty(Property<Number> otherProperty) {
-        getNode().scrollLeftProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().scrollLeftProperty(), otherProperty);
         return getConfigurator();
     }
 
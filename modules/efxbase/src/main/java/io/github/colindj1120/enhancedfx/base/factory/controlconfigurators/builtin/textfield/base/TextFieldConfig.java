@@ -131,8 +131,7 @@ public interface TextFieldConfig<T extends ConfiguratorBase> extends TextInputCo
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPrefColumnCountChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().prefColumnCountProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().prefColumnCountProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -145,8 +144,7 @@ public interface TextFieldConfig<T extends ConfiguratorBase> extends TextInputCo
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPrefColumnCountInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().prefColumnCountProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().prefColumnCountProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -159,8 +157,7 @@ public interface TextFieldConfig<T extends ConfiguratorBase> extends TextInputCo
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addOnActionChangeListener(ChangeListener<? super EventHandler<ActionEvent>> changeListener) {
-        getNode().onActionProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().onActionProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -173,8 +170,7 @@ public interface TextFieldConfig<T extends ConfiguratorBase> extends TextInputCo
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addOnActionInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().onActionProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().onActionProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -187,8 +183,7 @@ public interface TextFieldConfig<T extends ConfiguratorBase> extends TextInputCo
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addAlignmentChangeListener(ChangeListener<? super Pos> changeListener) {
-        getNode().alignmentProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().alignmentProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -201,8 +196,7 @@ public interface TextFieldConfig<T extends ConfiguratorBase> extends TextInputCo
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addAlignmentInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().alignmentProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().alignmentProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -315,8 +309,7 @@ public interface TextFieldConfig<T extends ConfiguratorBase> extends TextInputCo
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindPrefColumnCountProperty(ObservableValue<? extends Number> observableValue) {
-        getNode().prefColumnCountProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().prefColumnCountProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -340,8 +333,7 @@ public interface TextFieldConfig<T extends ConfiguratorBase> extends TextInputCo
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalPrefColumnCountProperty(Property<Number> otherProperty) {
-        getNode().prefColumnCountProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().prefColumnCountProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -370,8 +362,7 @@ public interface TextFieldConfig<T extends ConfiguratorBase> extends TextInputCo
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindOnActionProperty(ObservableValue<? extends EventHandler<ActionEvent>> observableValue) {
-        getNode().onActionProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().onActionProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -395,8 +386,7 @@ public interface TextFieldConfig<T extends ConfiguratorBase> extends TextInputCo
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalOnActionProperty(Property<EventHandler<ActionEvent>> otherProperty) {
-        getNode().onActionProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().onActionProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -425,8 +415,7 @@ public interface TextFieldConfig<T extends ConfiguratorBase> extends TextInputCo
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindAlignmentProperty(ObservableValue<? extends Pos> observableValue) {
-        getNode().alignmentProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().alignmentProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -450,8 +439,7 @@ public interface TextFieldConfig<T extends ConfiguratorBase> extends TextInputCo
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalAlignmentProperty(Property<Pos> otherProperty) {
-        getNode().alignmentProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().alignmentProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -180,8 +180,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addFontChangeListener(ChangeListener<? super Font> changeListener) {
-        getNode().fontProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().fontProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -194,8 +193,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addFontInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().fontProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().fontProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -208,8 +206,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPromptTextChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().promptTextProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().promptTextProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -222,8 +219,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addPromptTextInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().promptTextProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().promptTextProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -236,8 +232,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTextFormatterChangeListener(ChangeListener<? super TextFormatter<?>> changeListener) {
-        getNode().textFormatterProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().textFormatterProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -250,8 +245,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTextFormatterInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().textFormatterProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().textFormatterProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -264,8 +258,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTextChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().textProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().textProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -278,8 +271,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addTextInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().textProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().textProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -292,8 +284,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addLengthChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().lengthProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().lengthProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -306,8 +297,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addLengthInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().lengthProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().lengthProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -320,8 +310,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addEditableChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().editableProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().editableProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -334,8 +323,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addEditableInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().editableProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().editableProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -348,8 +336,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addSelectionChangeListener(ChangeListener<? super IndexRange> changeListener) {
-        getNode().selectionProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().selectionProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -362,8 +349,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addSelectionInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().selectionProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().selectionProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -376,8 +362,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addSelectedTextChangeListener(ChangeListener<? super String> changeListener) {
-        getNode().selectedTextProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().selectedTextProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -390,8 +375,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addSelectedTextInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().selectedTextProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().selectedTextProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -404,8 +388,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addCaretPositionChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().caretPositionProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().caretPositionProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -418,8 +401,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addCaretPositionInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().caretPositionProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().caretPositionProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -432,8 +414,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addAnchorChangeListener(ChangeListener<? super Number> changeListener) {
-        getNode().anchorProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().anchorProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -446,8 +427,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addAnchorInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().anchorProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().anchorProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -460,8 +440,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addUndoableChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().undoableProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().undoableProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -474,8 +453,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addUndoableInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().undoableProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().undoableProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -488,8 +466,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addRedoableChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().redoableProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().redoableProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -502,8 +479,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addRedoableInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().redoableProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().redoableProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -868,8 +844,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindFontProperty(ObservableValue<? extends Font> observableValue) {
-        getNode().fontProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().fontProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -893,8 +868,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalFontProperty(Property<Font> otherProperty) {
-        getNode().fontProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().fontProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -923,8 +897,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindPromptTextProperty(ObservableValue<? extends String> observableValue) {
-        getNode().promptTextProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().promptTextProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -948,8 +921,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalPromptTextProperty(Property<String> property) {
-        getNode().promptTextProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().promptTextProperty(), property);
         return getConfigurator();
     }
 
@@ -978,8 +950,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindTextFormatterProperty(ObservableValue<? extends TextFormatter<?>> observableValue) {
-        getNode().textFormatterProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().textFormatterProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1003,8 +974,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalTextFormatterProperty(Property<TextFormatter<?>> property) {
-        getNode().textFormatterProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().textFormatterProperty(), property);
         return getConfigurator();
     }
 
@@ -1033,8 +1003,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindTextProperty(ObservableValue<? extends String> observableValue) {
-        getNode().textProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().textProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1058,8 +1027,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalTextProperty(Property<String> property) {
-        getNode().textProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().textProperty(), property);
         return getConfigurator();
     }
 
@@ -1088,8 +1056,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindEditableProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().editableProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().editableProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -1113,8 +1080,7 @@ public interface TextInputControlConfig<T extends ConfiguratorBase> extends Cont
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalEditableProperty(Property<Boolean> property) {
-        getNode().editableProperty()
-                 .bindBidirectional(property);
+        getConfigurator().registerBidirectionalBinding(getNode().editableProperty(), property);
         return getConfigurator();
     }
 
@@ -124,8 +124,7 @@ public interface ToggleButtonConfig<T extends ConfiguratorBase> extends ButtonBa
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addSelectedChangeListener(ChangeListener<? super Boolean> changeListener) {
-        getNode().selectedProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().selectedProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -138,8 +137,7 @@ public interface ToggleButtonConfig<T extends ConfiguratorBase> extends ButtonBa
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addSelectedInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().selectedProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().selectedProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -152,8 +150,7 @@ public interface ToggleButtonConfig<T extends ConfiguratorBase> extends ButtonBa
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addToggleGroupChangeListener(ChangeListener<? super ToggleGroup> changeListener) {
-        getNode().toggleGroupProperty()
-                 .addListener(changeListener);
+        getConfigurator().registerListener(getNode().toggleGroupProperty(), changeListener);
         return getConfigurator();
     }
 
@@ -166,8 +163,7 @@ public interface ToggleButtonConfig<T extends ConfiguratorBase> extends ButtonBa
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T addToggleGroupInvalidationListener(InvalidationListener invalidationListener) {
-        getNode().toggleGroupProperty()
-                 .addListener(invalidationListener);
+        getConfigurator().registerListener(getNode().toggleGroupProperty(), invalidationListener);
         return getConfigurator();
     }
 
@@ -252,8 +248,7 @@ public interface ToggleButtonConfig<T extends ConfiguratorBase> extends ButtonBa
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindSelectedProperty(ObservableValue<? extends Boolean> observableValue) {
-        getNode().selectedProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().selectedProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -277,8 +272,7 @@ public interface ToggleButtonConfig<T extends ConfiguratorBase> extends ButtonBa
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalSelectedProperty(Property<Boolean> otherProperty) {
-        getNode().selectedProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().selectedProperty(), otherProperty);
         return getConfigurator();
     }
 
@@ -307,8 +301,7 @@ public interface ToggleButtonConfig<T extends ConfiguratorBase> extends ButtonBa
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindToggleGroupProperty(ObservableValue<? extends ToggleGroup> observableValue) {
-        getNode().toggleGroupProperty()
-                 .bind(observableValue);
+        getConfigurator().registerBinding(getNode().toggleGroupProperty(), observableValue);
         return getConfigurator();
     }
 
@@ -332,8 +325,7 @@ public interface ToggleButtonConfig<T extends ConfiguratorBase> extends ButtonBa
      * @return The current configurator instance, for chaining further configuration calls.
      */
     default T bindBidirectionalToggleGroupProperty(Property<ToggleGroup> otherProperty) {
-        getNode().toggleGroupProperty()
-                 .bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(getNode().toggleGroupProperty(), otherProperty);
         return getConfigurator();
     }
 
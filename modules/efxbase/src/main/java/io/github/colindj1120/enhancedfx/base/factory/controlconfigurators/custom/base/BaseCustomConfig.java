@@ -377,7 +377,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addBooleanPropertyChangeListener(Property<Boolean> property, ChangeListener<? super Boolean> changeListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(changeListener);
+        getConfigurator().registerListener(property, changeListener);
         return getConfigurator();
     }
 
@@ -403,7 +403,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addBooleanPropertyInvalidationListener(Property<Boolean> property, InvalidationListener invalidationListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(invalidationListener);
+        getConfigurator().registerListener(property, invalidationListener);
         return getConfigurator();
     }
 
@@ -430,7 +430,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default <S> T addObjectPropertyChangeListener(Property<S> property, ChangeListener<? super S> changeListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(changeListener);
+        getConfigurator().registerListener(property, changeListener);
         return getConfigurator();
     }
 
@@ -457,7 +457,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default <S> T addObjectPropertyInvalidationListener(Property<S> property, InvalidationListener invalidationListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(invalidationListener);
+        getConfigurator().registerListener(property, invalidationListener);
         return getConfigurator();
     }
 
@@ -483,7 +483,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addDoublePropertyChangeListener(Property<Double> property, ChangeListener<? super Double> changeListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(changeListener);
+        getConfigurator().registerListener(property, changeListener);
         return getConfigurator();
     }
 
@@ -509,7 +509,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addDoublePropertyInvalidationListener(Property<Double> property, InvalidationListener invalidationListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(invalidationListener);
+        getConfigurator().registerListener(property, invalidationListener);
         return getConfigurator();
     }
 
@@ -535,7 +535,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addFloatPropertyChangeListener(Property<Float> property, ChangeListener<? super Float> changeListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(changeListener);
+        getConfigurator().registerListener(property, changeListener);
         return getConfigurator();
     }
 
@@ -561,7 +561,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addFloatPropertyInvalidationListener(Property<Float> property, InvalidationListener invalidationListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(invalidationListener);
+        getConfigurator().registerListener(property, invalidationListener);
         return getConfigurator();
     }
 
@@ -587,7 +587,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addIntegerPropertyChangeListener(Property<Integer> property, ChangeListener<? super Integer> changeListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(changeListener);
+        getConfigurator().registerListener(property, changeListener);
         return getConfigurator();
     }
 
@@ -613,7 +613,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addIntegerPropertyInvalidationListener(Property<Integer> property, InvalidationListener invalidationListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(invalidationListener);
+        getConfigurator().registerListener(property, invalidationListener);
         return getConfigurator();
     }
 
@@ -639,7 +639,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addLongPropertyChangeListener(Property<Long> property, ChangeListener<? super Long> changeListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(changeListener);
+        getConfigurator().registerListener(property, changeListener);
         return getConfigurator();
     }
 
@@ -665,7 +665,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addLongPropertyInvalidationListener(Property<Long> property, InvalidationListener invalidationListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(invalidationListener);
+        getConfigurator().registerListener(property, invalidationListener);
         return getConfigurator();
     }
 
@@ -691,7 +691,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addNumberPropertyChangeListener(Property<Number> property, ChangeListener<? super Number> changeListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(changeListener);
+        getConfigurator().registerListener(property, changeListener);
         return getConfigurator();
     }
 
@@ -717,7 +717,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addNumberPropertyInvalidationListener(Property<Number> property, InvalidationListener invalidationListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(invalidationListener);
+        getConfigurator().registerListener(property, invalidationListener);
         return getConfigurator();
     }
 
@@ -743,7 +743,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addStringPropertyChangeListener(Property<String> property, ChangeListener<? super String> changeListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(changeListener);
+        getConfigurator().registerListener(property, changeListener);
         return getConfigurator();
     }
 
@@ -769,7 +769,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addStringPropertyInvalidationListener(Property<String> property, InvalidationListener invalidationListener) {
         checkPropertyBeanIsValid(property);
-        property.addListener(invalidationListener);
+        getConfigurator().registerListener(property, invalidationListener);
         return getConfigurator();
     }
 
@@ -800,7 +800,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXBooleanBindingChangeListener(EFXBooleanBinding efxBinding, ChangeListener<? super Boolean> changeListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(changeListener);
+        getConfigurator().registerListener(efxBinding, changeListener);
         return getConfigurator();
     }
 
@@ -828,7 +828,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXBooleanBindingInvalidationListener(EFXBooleanBinding efxBinding, InvalidationListener invalidationListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(invalidationListener);
+        getConfigurator().registerListener(efxBinding, invalidationListener);
         return getConfigurator();
     }
 
@@ -861,7 +861,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default <S> T addEFXObjectBindingChangeListener(EFXObjectBinding<S> efxBinding, ChangeListener<? super S> changeListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(changeListener);
+        getConfigurator().registerListener(efxBinding, changeListener);
         return getConfigurator();
     }
 
@@ -892,7 +892,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default <S> T addEFXObjectBindingInvalidationListener(EFXObjectBinding<S> efxBinding, InvalidationListener invalidationListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(invalidationListener);
+        getConfigurator().registerListener(efxBinding, invalidationListener);
         return getConfigurator();
     }
 
@@ -923,7 +923,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXDoubleBindingChangeListener(EFXDoubleBinding efxBinding, ChangeListener<? super Number> changeListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(changeListener);
+        getConfigurator().registerListener(efxBinding, changeListener);
         return getConfigurator();
     }
 
@@ -953,7 +953,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXDoubleBindingInvalidationListener(EFXDoubleBinding efxBinding, InvalidationListener invalidationListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(invalidationListener);
+        getConfigurator().registerListener(efxBinding, invalidationListener);
         return getConfigurator();
     }
 
@@ -984,7 +984,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXFloatBindingChangeListener(EFXFloatBinding efxBinding, ChangeListener<? super Number> changeListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(changeListener);
+        getConfigurator().registerListener(efxBinding, changeListener);
         return getConfigurator();
     }
 
@@ -1014,7 +1014,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXFloatBindingInvalidationListener(EFXFloatBinding efxBinding, InvalidationListener invalidationListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(invalidationListener);
+        getConfigurator().registerListener(efxBinding, invalidationListener);
         return getConfigurator();
     }
 
@@ -1045,7 +1045,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXIntegerBindingChangeListener(EFXIntegerBinding efxBinding, ChangeListener<? super Number> changeListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(changeListener);
+        getConfigurator().registerListener(efxBinding, changeListener);
         return getConfigurator();
     }
 
@@ -1076,7 +1076,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
 
     default T addEFXIntegerBindingInvalidationListener(EFXIntegerBinding efxBinding, InvalidationListener invalidationListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(invalidationListener);
+        getConfigurator().registerListener(efxBinding, invalidationListener);
         return getConfigurator();
     }
 
@@ -1107,7 +1107,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXLongBindingChangeListener(EFXLongBinding efxBinding, ChangeListener<? super Number> changeListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(changeListener);
+        getConfigurator().registerListener(efxBinding, changeListener);
         return getConfigurator();
     }
 
@@ -1137,7 +1137,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXLongBindingInvalidationListener(EFXLongBinding efxBinding, InvalidationListener invalidationListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(invalidationListener);
+        getConfigurator().registerListener(efxBinding, invalidationListener);
         return getConfigurator();
     }
 
@@ -1168,7 +1168,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXNumberBindingChangeListener(EFXNumberBinding efxBinding, ChangeListener<? super Number> changeListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(changeListener);
+        getConfigurator().registerListener(efxBinding, changeListener);
         return getConfigurator();
     }
 
@@ -1198,7 +1198,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXNumberBindingInvalidationListener(EFXNumberBinding efxBinding, InvalidationListener invalidationListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(invalidationListener);
+        getConfigurator().registerListener(efxBinding, invalidationListener);
         return getConfigurator();
     }
 
@@ -1229,7 +1229,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXStringBindingChangeListener(EFXStringBinding efxBinding, ChangeListener<? super String> changeListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(changeListener);
+        getConfigurator().registerListener(efxBinding, changeListener);
         return getConfigurator();
     }
 
@@ -1259,7 +1259,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T addEFXStringBindingInvalidationListener(EFXStringBinding efxBinding, InvalidationListener invalidationListener) {
         checkEFXBindingBeanIsValid(efxBinding.getBean());
-        efxBinding.addListener(invalidationListener);
+        getConfigurator().registerListener(efxBinding, invalidationListener);
         return getConfigurator();
     }
 
@@ -2190,7 +2190,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindDoubleProperty(Property<Double> property, ObservableValue<? extends Double> observableValue) {
         checkPropertyBeanIsValid(property);
-        property.bind(observableValue);
+        getConfigurator().registerBinding(property, observableValue);
         return getConfigurator();
     }
 
@@ -2246,7 +2246,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindBidirectionalDoubleProperty(Property<Double> property, Property<Double> otherProperty) {
         checkPropertyBeanIsValid(property);
-        property.bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(property, otherProperty);
         return getConfigurator();
     }
 
@@ -2306,7 +2306,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindFloatProperty(Property<Float> property, ObservableValue<? extends Float> observableValue) {
         checkPropertyBeanIsValid(property);
-        property.bind(observableValue);
+        getConfigurator().registerBinding(property, observableValue);
         return getConfigurator();
     }
 
@@ -2362,7 +2362,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindBidirectionalFloatProperty(Property<Float> property, Property<Float> otherProperty) {
         checkPropertyBeanIsValid(property);
-        property.bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(property, otherProperty);
         return getConfigurator();
     }
 
@@ -2421,7 +2421,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindIntegerProperty(Property<Integer> property, ObservableValue<? extends Integer> observableValue) {
         checkPropertyBeanIsValid(property);
-        property.bind(observableValue);
+        getConfigurator().registerBinding(property, observableValue);
         return getConfigurator();
     }
 
@@ -2476,7 +2476,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindBidirectionalIntegerProperty(Property<Integer> property, Property<Integer> otherProperty) {
         checkPropertyBeanIsValid(property);
-        property.bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(property, otherProperty);
         return getConfigurator();
     }
 
@@ -2534,7 +2534,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindLongProperty(Property<Long> property, ObservableValue<? extends Long> observableValue) {
         checkPropertyBeanIsValid(property);
-        property.bind(observableValue);
+        getConfigurator().registerBinding(property, observableValue);
         return getConfigurator();
     }
 
@@ -2589,7 +2589,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindBidirectionalLongProperty(Property<Long> property, Property<Long> otherProperty) {
         checkPropertyBeanIsValid(property);
-        property.bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(property, otherProperty);
         return getConfigurator();
     }
 
@@ -2648,7 +2648,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindNumberProperty(Property<Number> property, ObservableValue<? extends Number> observableValue) {
         checkPropertyBeanIsValid(property);
-        property.bind(observableValue);
+        getConfigurator().registerBinding(property, observableValue);
         return getConfigurator();
     }
 
@@ -2703,7 +2703,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindBidirectionalNumberProperty(Property<Number> property, Property<Number> otherProperty) {
         checkPropertyBeanIsValid(property);
-        property.bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(property, otherProperty);
         return getConfigurator();
     }
 
@@ -2761,7 +2761,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindBooleanProperty(Property<Boolean> property, ObservableValue<? extends Boolean> observableValue) {
         checkPropertyBeanIsValid(property);
-        property.bind(observableValue);
+        getConfigurator().registerBinding(property, observableValue);
         return getConfigurator();
     }
 
@@ -2816,7 +2816,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindBidirectionalBooleanProperty(Property<Boolean> property, Property<Boolean> otherProperty) {
         checkPropertyBeanIsValid(property);
-        property.bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(property, otherProperty);
         return getConfigurator();
     }
 
@@ -2874,7 +2874,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindStringProperty(Property<String> property, ObservableValue<? extends String> observableValue) {
         checkPropertyBeanIsValid(property);
-        property.bind(observableValue);
+        getConfigurator().registerBinding(property, observableValue);
         return getConfigurator();
     }
 
@@ -2929,7 +2929,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default T bindBidirectionalStringProperty(Property<String> property, Property<String> otherProperty) {
         checkPropertyBeanIsValid(property);
-        property.bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(property, otherProperty);
         return getConfigurator();
     }
 
@@ -2989,7 +2989,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default <S> T bindObjectProperty(Property<S> property, ObservableValue<? extends S> observableValue) {
         checkPropertyBeanIsValid(property);
-        property.bind(observableValue);
+        getConfigurator().registerBinding(property, observableValue);
         return getConfigurator();
     }
 
@@ -3048,7 +3048,7 @@ public interface BaseCustomConfig<T extends ConfiguratorBase> {
      */
     default <S> T bindBidirectionalObjectProperty(Property<S> property, Property<S> otherProperty) {
         checkPropertyBeanIsValid(property);
-        property.bindBidirectional(otherProperty);
+        getConfigurator().registerBidirectionalBinding(property, otherProperty);
         return getConfigurator();
     }
 
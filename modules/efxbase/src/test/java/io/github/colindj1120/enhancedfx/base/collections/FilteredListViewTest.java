@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections;
+
+import io.github.colindj1120.enhancedfx.base.collections.base.ListChangeItem;
+import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link FilteredListView}, covering the incremental maintenance of the matching elements and the handling of predicate changes.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ */
+class FilteredListViewTest {
+    private ObservableLinkedList<Integer> source;
+    private FilteredListView<Integer>     view;
+    private List<ListChangeItem<Integer>> changes;
+
+    @BeforeEach
+    void setUp() {
+        source  = new ObservableLinkedList<>(List.of(1, 2, 3, 4));
+        view    = source.filtered(value -> value % 2 == 0);
+        changes = new ArrayList<>();
+        view.addActionListener(changes::add);
+    }
+
+    @Test
+    void populatesWithMatchingElements() {
+        assertEquals(List.of(2, 4), view.toList());
+        assertTrue(view.contains(2));
+        assertFalse(view.contains(3));
+    }
+
+    @Test
+    void nonMatchingAdditionIsIgnored() {
+        source.add(5);
+
+        assertEquals(2, view.size());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void matchingAdditionAndRemovalAreAppliedIncrementally() {
+        source.add(6);
+        source.remove(Integer.valueOf(2));
+
+        assertEquals(List.of(4, 6), view.toList());
+        assertEquals(List.of(UpdateActions.ADDED, UpdateActions.REMOVED), changes.stream()
+                                                                                 .map(ListChangeItem::getListAction)
+                                                                                 .toList());
+    }
+
+    @Test
+    void duplicatesAreCountedIndividually() {
+        source.add(2);
+        source.removeFirstOccurrence(2);
+
+        assertEquals(2, view.size());
+        assertTrue(view.contains(2));
+    }
+
+    @Test
+    void dequeOperationsAreCountedOnce() {
+        source.push(8);
+        source.offer(10);
+        source.pop();
+
+        assertEquals(3, view.size());
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    void predicateChangeRefiltersView() {
+        view.setPredicate(value -> value > 2);
+
+        assertEquals(List.of(3, 4), view.toList());
+        assertEquals(UpdateActions.BULK_REPLACED, changes.getLast()
+                                                         .getListAction());
+    }
+
+    @Test
+    void nullPredicateMatchesEverything() {
+        view.setPredicate(null);
+
+        assertEquals(4, view.size());
+    }
+
+    @Test
+    void largeSourceIsFilteredInOrder() {
+        ObservableLinkedList<Integer> large = new ObservableLinkedList<>(IntStream.range(0, FilteredListView.PARALLEL_THRESHOLD * 2)
+                                                                                  .boxed()
+                                                                                  .toList());
+        FilteredListView<Integer> multiples = large.filtered(value -> value % 1000 == 0);
+
+        assertEquals(20, multiples.size());
+        assertEquals(IntStream.range(0, 20)
+                              .map(value -> value * 1000)
+                              .boxed()
+                              .toList(), multiples.toList());
+    }
+}
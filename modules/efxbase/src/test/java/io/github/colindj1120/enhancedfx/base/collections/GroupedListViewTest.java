@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections;
+
+import io.github.colindj1120.enhancedfx.base.collections.base.ListChangeItem;
+import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link GroupedListView}, covering the incremental maintenance of the groups and the handling of key function changes.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ */
+class GroupedListViewTest {
+    private ObservableLinkedList<String>       source;
+    private GroupedListView<Character, String> view;
+    private List<ListChangeItem<String>>       changes;
+
+    @BeforeEach
+    void setUp() {
+        source  = new ObservableLinkedList<>(List.of("apple", "avocado", "banana"));
+        view    = source.grouped(word -> word.charAt(0));
+        changes = new ArrayList<>();
+        view.addActionListener(changes::add);
+    }
+
+    @Test
+    void populatesGroupsFromSource() {
+        assertEquals(Set.of('a', 'b'), view.keys());
+        assertEquals(List.of("apple", "avocado"), view.getGroup('a'));
+        assertEquals(1, view.groupSize('b'));
+    }
+
+    @Test
+    void additionCreatesOrExtendsGroupIncrementally() {
+        source.add("cherry");
+        source.add("blueberry");
+
+        assertEquals(3, view.groupCount());
+        assertEquals(List.of("banana", "blueberry"), view.getGroup('b'));
+        assertEquals(2, changes.size());
+        changes.forEach(change -> assertEquals(UpdateActions.ADDED, change.getListAction()));
+    }
+
+    @Test
+    void removingLastElementDropsGroup() {
+        source.remove("banana");
+
+        assertFalse(view.keys()
+                        .contains('b'));
+        assertEquals(0, view.groupSize('b'));
+        assertTrue(view.getGroup('b')
+                       .isEmpty());
+    }
+
+    @Test
+    void dequeOperationsAreCountedOnce() {
+        source.push("blueberry");
+        source.offerFirst("cherry");
+        source.pop();
+
+        assertEquals(2, view.groupSize('b'));
+        assertEquals(0, view.groupSize('c'));
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    void keyFunctionChangeRegroupsView() {
+        view.setKeyFunction(word -> (char) ('0' + word.length()));
+
+        assertEquals(Set.of('5', '7', '6'), view.keys());
+        assertEquals(UpdateActions.BULK_REPLACED, changes.getLast()
+                                                         .getListAction());
+    }
+
+    @Test
+    void nullKeyFunctionIsRejectedBeforeItIsStored() {
+        assertThrows(IllegalArgumentException.class, () -> view.setKeyFunction(null));
+
+        assertNotNull(view.getKeyFunction());
+        assertEquals(2, view.groupCount());
+        assertTrue(changes.isEmpty());
+    }
+}
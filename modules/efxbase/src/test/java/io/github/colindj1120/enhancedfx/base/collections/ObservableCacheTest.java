@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections;
+
+import io.github.colindj1120.enhancedfx.base.collections.base.MapChangeItem;
+import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ObservableCache}, covering the eviction order of the entry, weight and time-to-live limits and the bookkeeping of removals made through the map views.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ */
+class ObservableCacheTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void entryLimitEvictsLeastRecentlyUsedFirst() {
+        ObservableCache<String, Integer> cache = ObservableCache.<String, Integer>create()
+                                                                .maximumEntries(3)
+                                                                .build();
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+
+        cache.put("d", 4);
+        cache.put("e", 5);
+
+        assertEquals(List.of("a", "d", "e"), List.copyOf(cache.keySet()));
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    void evictionsAreReportedAsRemovals() {
+        ObservableCache<String, Integer> cache   = ObservableCache.<String, Integer>create()
+                                                                  .maximumEntries(1)
+                                                                  .build();
+        List<MapChangeItem<String, Integer>> changes = new ArrayList<>();
+        cache.put("a", 1);
+        cache.addChangeListener(changes::add);
+
+        cache.put("b", 2);
+
+        assertEquals(List.of(UpdateActions.ADDED, UpdateActions.REMOVED), changes.stream()
+                                                                                 .map(MapChangeItem::getUpdateAction)
+                                                                                 .toList());
+        assertEquals("a", changes.getLast()
+                                 .getKey());
+    }
+
+    @Test
+    void weightLimitEvictsLeastRecentlyUsedUntilWithinLimit() {
+        ObservableCache<String, Integer> cache = ObservableCache.<String, Integer>create()
+                                                                .maximumWeight(10, (key, value) -> value)
+                                                                .build();
+        cache.put("a", 4);
+        cache.put("b", 4);
+        cache.get("a");
+
+        cache.put("c", 5);
+
+        assertEquals(List.of("a", "c"), List.copyOf(cache.keySet()));
+        assertEquals(9, cache.getTotalWeight());
+
+        cache.put("d", 10);
+
+        assertEquals(List.of("d"), List.copyOf(cache.keySet()));
+        assertEquals(10, cache.getTotalWeight());
+    }
+
+    @Test
+    void replacingValueUpdatesWeight() {
+        ObservableCache<String, Integer> cache = ObservableCache.<String, Integer>create()
+                                                                .maximumWeight(100, (key, value) -> value)
+                                                                .build();
+        cache.put("a", 10);
+        cache.put("a", 30);
+        cache.merge("a", 5, Integer::sum);
+
+        assertEquals(35, cache.getTotalWeight());
+    }
+
+    @Test
+    void expiredEntryIsEvictedOnLookup() {
+        ObservableCache<String, Integer> cache = expiringCache();
+        cache.put("a", 1);
+
+        clock.addAndGet(Duration.ofSeconds(9)
+                                .toNanos());
+        assertEquals(1, cache.get("a"));
+
+        clock.addAndGet(Duration.ofSeconds(1)
+                                .toNanos());
+        assertNull(cache.get("a"));
+        assertTrue(cache.isEmpty());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void rewritingEntryRestartsItsTimeToLive() {
+        ObservableCache<String, Integer> cache = expiringCache();
+        cache.put("a", 1);
+
+        clock.addAndGet(Duration.ofSeconds(6)
+                                .toNanos());
+        cache.put("a", 2);
+        clock.addAndGet(Duration.ofSeconds(6)
+                                .toNanos());
+
+        assertEquals(2, cache.get("a"));
+    }
+
+    @Test
+    void containsKeyIgnoresExpiredEntriesWithoutModifyingTheCache() {
+        ObservableCache<String, Integer> cache = expiringCache();
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertTrue(cache.containsKey("a"));
+
+        clock.addAndGet(Duration.ofSeconds(10)
+                                .toNanos());
+
+        assertFalse(cache.containsKey("a"));
+        assertEquals(2, cache.size());
+        assertEquals(0, cache.getHitCount() + cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    void cleanUpSweepsAllExpiredEntries() {
+        ObservableCache<String, Integer> cache = expiringCache();
+        cache.put("a", 1);
+        cache.put("b", 2);
+        clock.addAndGet(Duration.ofSeconds(5)
+                                .toNanos());
+        cache.put("c", 3);
+        clock.addAndGet(Duration.ofSeconds(5)
+                                .toNanos());
+
+        assertEquals(2, cache.cleanUp());
+        assertEquals(List.of("c"), List.copyOf(cache.keySet()));
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    void removalsThroughViewsKeepBookkeepingInSync() {
+        ObservableCache<String, Integer> cache   = ObservableCache.<String, Integer>create()
+                                                                  .maximumWeight(100, (key, value) -> value)
+                                                                  .build();
+        List<MapChangeItem<String, Integer>> changes = new ArrayList<>();
+        List.of("a", "b", "c", "d", "e", "f")
+            .forEach(key -> cache.put(key, key.charAt(0) - 'a' + 1));
+        cache.addChangeListener(changes::add);
+
+        Iterator<String> keys = cache.keySet()
+                                     .iterator();
+        keys.next();
+        keys.remove();
+        cache.keySet()
+             .remove("b");
+        cache.values()
+             .removeIf(value -> value == 3);
+        cache.entrySet()
+             .removeIf(entry -> entry.getKey()
+                                     .equals("d"));
+        cache.keySet()
+             .retainAll(List.of("e"));
+
+        assertEquals(List.of("e"), List.copyOf(cache.keySet()));
+        assertEquals(5, cache.getTotalWeight());
+        assertEquals(5, changes.size());
+        changes.forEach(change -> assertEquals(UpdateActions.REMOVED, change.getUpdateAction()));
+    }
+
+    @Test
+    void entrySetValueIsReportedAsReplacement() {
+        ObservableCache<String, Integer> cache = ObservableCache.<String, Integer>create()
+                                                                .maximumWeight(100, (key, value) -> value)
+                                                                .build();
+        cache.put("a", 1);
+
+        cache.entrySet()
+             .iterator()
+             .next()
+             .setValue(7);
+
+        assertEquals(7, cache.getTotalWeight());
+    }
+
+    @Test
+    void removeMatchingValueKeepsBookkeepingInSync() {
+        ObservableCache<String, Integer> cache = ObservableCache.<String, Integer>create()
+                                                                .maximumWeight(100, (key, value) -> value)
+                                                                .build();
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertFalse(cache.remove("a", 2));
+        assertTrue(cache.remove("a", 1));
+        assertEquals(2, cache.getTotalWeight());
+    }
+
+    private ObservableCache<String, Integer> expiringCache() {
+        return ObservableCache.<String, Integer>create()
+                              .expireAfterWrite(Duration.ofSeconds(10))
+                              .clock(clock::get)
+                              .build();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections;
+
+import io.github.colindj1120.enhancedfx.base.collections.base.ListChangeItem;
+import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ObservableLinkedList#batch(java.util.function.Consumer)}, covering the classification of a batch by its net effect.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ */
+class ObservableLinkedListBatchTest {
+    private ObservableLinkedList<String> list;
+    private List<ListChangeItem<String>> changes;
+
+    @BeforeEach
+    void setUp() {
+        list    = new ObservableLinkedList<>(List.of("a", "b", "c"));
+        changes = new ArrayList<>();
+        list.addActionListener(changes::add);
+    }
+
+    @Test
+    void onlyAdditionsAreReportedAsBulkAdd() {
+        list.batch(edits -> {
+            edits.add("d");
+            edits.push("z");
+        });
+
+        assertSingleBatch(UpdateActions.BULK_ADD);
+    }
+
+    @Test
+    void onlyRemovalsAreReportedAsBulkRemove() {
+        list.batch(edits -> {
+            edits.remove("a");
+            edits.pollLast();
+        });
+
+        assertSingleBatch(UpdateActions.BULK_REMOVE);
+    }
+
+    @Test
+    void additionAndRemovalAreReportedAsBulkReplaced() {
+        list.batch(edits -> {
+            edits.remove("a");
+            edits.add("d");
+        });
+
+        assertSingleBatch(UpdateActions.BULK_REPLACED);
+    }
+
+    @Test
+    void reorderingIsReportedAsBulkReplaced() {
+        list.batch(Collections::reverse);
+
+        assertSingleBatch(UpdateActions.BULK_REPLACED);
+    }
+
+    @Test
+    void emptyResultIsReportedAsCleared() {
+        list.batch(edits -> {
+            edits.add("d");
+            edits.clear();
+        });
+
+        assertSingleBatch(UpdateActions.CLEARED);
+    }
+
+    @Test
+    void editsThatCancelOutAreReportedByNetEffect() {
+        list.batch(edits -> {
+            edits.add("d");
+            edits.remove("a");
+            edits.addFirst("a");
+        });
+
+        assertSingleBatch(UpdateActions.BULK_ADD);
+    }
+
+    @Test
+    void unchangedListIsNotReported() {
+        list.batch(edits -> {
+            edits.add("d");
+            edits.removeLast();
+        });
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void batchCarriesStatesBeforeAndAfter() {
+        list.batch(edits -> edits.add("d"));
+
+        ListChangeItem<String> change = changes.getFirst();
+        assertEquals(List.of("a", "b", "c"), change.getOldList());
+        assertEquals(List.of("a", "b", "c", "d"), change.getNewList());
+    }
+
+    @Test
+    void nestedBatchesNotifyOnceAtTheOutermostLevel() {
+        list.batch(outer -> {
+            outer.add("d");
+            outer.batch(inner -> inner.add("e"));
+            assertTrue(outer.isBatching());
+            assertTrue(changes.isEmpty());
+        });
+
+        assertFalse(list.isBatching());
+        assertSingleBatch(UpdateActions.BULK_ADD);
+    }
+
+    @Test
+    void changesBeforeAnExceptionAreStillReported() {
+        assertThrows(IllegalStateException.class, () -> list.batch(edits -> {
+            edits.add("d");
+            throw new IllegalStateException("edit failed");
+        }));
+
+        assertFalse(list.isBatching());
+        assertSingleBatch(UpdateActions.BULK_ADD);
+    }
+
+    private void assertSingleBatch(UpdateActions action) {
+        assertEquals(1, changes.size(), () -> "Expected exactly one notification but got " + changes.size());
+        assertEquals(action, changes.getFirst()
+                                    .getListAction());
+    }
+}
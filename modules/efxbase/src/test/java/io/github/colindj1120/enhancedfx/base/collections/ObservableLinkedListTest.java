@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections;
+
+import io.github.colindj1120.enhancedfx.base.collections.base.ListChangeItem;
+import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the change notifications of {@link ObservableLinkedList}, in particular that every {@link java.util.Deque} operation is reported exactly once.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ */
+class ObservableLinkedListTest {
+    private ObservableLinkedList<String> list;
+    private List<ListChangeItem<String>> changes;
+
+    @BeforeEach
+    void setUp() {
+        list    = new ObservableLinkedList<>(List.of("a", "b", "c"));
+        changes = new ArrayList<>();
+        list.addActionListener(changes::add);
+    }
+
+    @Test
+    void copyConstructorPopulatesWithoutNotifying() {
+        ObservableLinkedList<String> copy = new ObservableLinkedList<>(List.of("x", "y"));
+
+        assertEquals(List.of("x", "y"), copy);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void pushNotifiesOnce() {
+        list.push("z");
+
+        assertEquals(List.of("z", "a", "b", "c"), list);
+        assertSingleChange(UpdateActions.ADDED, null, "z");
+    }
+
+    @Test
+    void popNotifiesOnce() {
+        assertEquals("a", list.pop());
+
+        assertSingleChange(UpdateActions.REMOVED, "a", null);
+    }
+
+    @Test
+    void removeHeadNotifiesOnce() {
+        assertEquals("a", list.remove());
+
+        assertSingleChange(UpdateActions.REMOVED, "a", null);
+    }
+
+    @Test
+    void offerNotifiesOnce() {
+        assertTrue(list.offer("z"));
+
+        assertEquals(List.of("a", "b", "c", "z"), list);
+        assertSingleChange(UpdateActions.ADDED, null, "z");
+    }
+
+    @Test
+    void offerFirstNotifiesOnce() {
+        assertTrue(list.offerFirst("z"));
+
+        assertEquals("z", list.getFirst());
+        assertSingleChange(UpdateActions.ADDED, null, "z");
+    }
+
+    @Test
+    void offerLastNotifiesOnce() {
+        assertTrue(list.offerLast("z"));
+
+        assertEquals("z", list.getLast());
+        assertSingleChange(UpdateActions.ADDED, null, "z");
+    }
+
+    @Test
+    void removeFirstOccurrenceNotifiesOnce() {
+        list.add("a");
+        changes.clear();
+
+        assertTrue(list.removeFirstOccurrence("a"));
+
+        assertEquals(List.of("b", "c", "a"), list);
+        assertSingleChange(UpdateActions.REMOVED, "a", null);
+    }
+
+    @Test
+    void removeFirstOccurrenceOfMissingElementDoesNotNotify() {
+        assertFalse(list.removeFirstOccurrence("z"));
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void removeLastOccurrenceNotifiesOnce() {
+        list.add("a");
+        changes.clear();
+
+        assertTrue(list.removeLastOccurrence("a"));
+
+        assertEquals(List.of("a", "b", "c"), list);
+        assertSingleChange(UpdateActions.REMOVED, "a", null);
+    }
+
+    @Test
+    void pollOperationsNotifyOnce() {
+        assertEquals("a", list.poll());
+        assertEquals("b", list.pollFirst());
+        assertEquals("c", list.pollLast());
+        assertNull(list.poll());
+
+        assertEquals(3, changes.size());
+        changes.forEach(change -> assertEquals(UpdateActions.REMOVED, change.getListAction()));
+    }
+
+    @Test
+    void stackAndQueueRoundTripNotifiesOncePerOperation() {
+        list.clear();
+        changes.clear();
+
+        list.push("1");
+        list.offer("2");
+        list.offerFirst("0");
+        list.offerLast("3");
+        list.pop();
+        list.remove();
+
+        assertEquals(List.of("2", "3"), list);
+        assertEquals(6, changes.size());
+    }
+
+    private void assertSingleChange(UpdateActions action, String oldElement, String newElement) {
+        assertEquals(1, changes.size(), () -> "Expected exactly one notification but got " + changes.size());
+        ListChangeItem<String> change = changes.getFirst();
+        assertEquals(action, change.getListAction());
+        assertEquals(oldElement, change.getOldElement());
+        assertEquals(newElement, change.getNewElement());
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the secondary indexes of {@link ObservableLinkedHashMap}, checking that an index stays consistent with the map across every kind of change.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ */
+class SecondaryIndexTest {
+    private static final String LENGTH = "length";
+
+    private ObservableLinkedHashMap<String, String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = new ObservableLinkedHashMap<>();
+        map.put("a", "one");
+        map.put("b", "two");
+        map.put("c", "three");
+        map.addIndex(LENGTH, String::length);
+    }
+
+    @Test
+    void indexIsPopulatedFromExistingEntries() {
+        assertEquals(Map.of("a", "one", "b", "two"), map.lookup(LENGTH, 3));
+        assertEquals(1, map.count(LENGTH, 5));
+        assertEquals(Set.of(3, 5), map.indexKeys(LENGTH));
+        assertConsistent(map);
+    }
+
+    @Test
+    void replacementMovesEntryToItsNewBucket() {
+        map.put("a", "eleven");
+        map.replace("b", "two", "twelve");
+
+        assertEquals(0, map.count(LENGTH, 3));
+        assertEquals(2, map.count(LENGTH, 6));
+        assertFalse(map.indexKeys(LENGTH)
+                       .contains(3));
+        assertConsistent(map);
+    }
+
+    @Test
+    void removalsThroughEveryPathAreApplied() {
+        map.put("d", "four");
+        map.put("e", "five");
+
+        map.remove("a");
+        map.remove("b", "two");
+        map.keySet()
+           .remove("c");
+        map.values()
+           .removeIf(value -> value.equals("four"));
+
+        assertEquals(Map.of("e", "five"), map.lookup(LENGTH, 4));
+        assertEquals(Set.of(4), map.indexKeys(LENGTH));
+        assertConsistent(map);
+    }
+
+    @Test
+    void computedChangesAreApplied() {
+        map.compute("a", (key, value) -> value + "!");
+        map.computeIfPresent("b", (key, value) -> null);
+        map.merge("d", "four", String::concat);
+
+        assertEquals(Map.of("a", "one!", "d", "four"), map.lookup(LENGTH, 4));
+        assertConsistent(map);
+    }
+
+    @Test
+    void bulkChangesRebuildIndex() {
+        map.putAll(Map.of("d", "seven", "e", "sixteen"));
+        assertEquals(2, map.count(LENGTH, 5));
+        assertConsistent(map);
+
+        map.replaceAll((key, value) -> value.toUpperCase());
+        assertConsistent(map);
+
+        map.clear();
+        assertTrue(map.indexKeys(LENGTH)
+                      .isEmpty());
+    }
+
+    @Test
+    void nullValuesAreIndexedUnderTheirDerivedKey() {
+        ObservableLinkedHashMap<String, String> nullable = new ObservableLinkedHashMap<>();
+        nullable.addIndex(LENGTH, value -> value == null ? -1 : value.length());
+
+        nullable.put("a", null);
+        assertEquals(1, nullable.count(LENGTH, -1));
+
+        nullable.put("a", "one");
+        assertEquals(0, nullable.count(LENGTH, -1));
+        assertConsistent(nullable);
+    }
+
+    @Test
+    void reindexRefilesValueMutatedInPlace() {
+        ObservableLinkedHashMap<String, StringBuilder> builders = new ObservableLinkedHashMap<>();
+        builders.put("a", new StringBuilder("x"));
+        builders.addIndex(LENGTH, StringBuilder::length);
+
+        builders.get("a")
+                .append("yz");
+        builders.reindex("a");
+
+        assertEquals(0, builders.count(LENGTH, 1));
+        assertEquals(1, builders.count(LENGTH, 3));
+    }
+
+    @Test
+    void indexOnCacheHasNoLookupSideEffects() {
+        AtomicLong                      clock = new AtomicLong();
+        ObservableCache<String, String> cache = ObservableCache.<String, String>create()
+                                                               .maximumEntries(2)
+                                                               .expireAfterWrite(Duration.ofSeconds(10))
+                                                               .clock(clock::get)
+                                                               .build();
+        cache.addIndex(LENGTH, String::length);
+
+        cache.put("a", "one");
+        cache.put("b", "two");
+        cache.put("a", "eleven");
+        cache.put("c", "three");
+
+        assertEquals(0, cache.getHitCount() + cache.getMissCount());
+        assertEquals(List.of("a", "c"), List.copyOf(cache.keySet()));
+        assertEquals(Map.of("a", "eleven"), cache.lookup(LENGTH, 6));
+        assertEquals(0, cache.count(LENGTH, 3));
+
+        clock.addAndGet(Duration.ofSeconds(10)
+                                .toNanos());
+        cache.cleanUp();
+        assertTrue(cache.indexKeys(LENGTH)
+                        .isEmpty());
+    }
+
+    @Test
+    void unknownIndexIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> map.lookup("missing", 3));
+        assertThrows(IllegalArgumentException.class, () -> map.addIndex(LENGTH, String::length));
+    }
+
+    /**
+     * Checks that the length index of the given map files exactly the entries of the map, each under the length of its current value.
+     */
+    private static <V extends CharSequence> void assertConsistent(ObservableLinkedHashMap<String, V> indexed) {
+        Map<Object, Map<String, V>> expected = new HashMap<>();
+        indexed.forEach((key, value) -> expected.computeIfAbsent(value == null ? -1 : value.length(), derivedKey -> new HashMap<>())
+                                                .put(key, value));
+
+        assertEquals(expected.keySet(), indexed.indexKeys(LENGTH));
+        expected.forEach((derivedKey, entries) -> assertEquals(entries, indexed.lookup(LENGTH, derivedKey)));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections;
+
+import io.github.colindj1120.enhancedfx.base.collections.base.ListChangeItem;
+import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SortedListView}, covering the incremental maintenance of the sorted order and the handling of comparator changes.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ */
+class SortedListViewTest {
+    private ObservableLinkedList<String> source;
+    private SortedListView<String>       view;
+    private List<ListChangeItem<String>> changes;
+
+    @BeforeEach
+    void setUp() {
+        source  = new ObservableLinkedList<>(List.of("pear", "apple", "fig"));
+        view    = source.sorted(Comparator.naturalOrder());
+        changes = new ArrayList<>();
+        view.addActionListener(changes::add);
+    }
+
+    @Test
+    void populatesFromSource() {
+        assertEquals(List.of("apple", "fig", "pear"), view.toList());
+        assertEquals("apple", view.first());
+        assertEquals("pear", view.last());
+    }
+
+    @Test
+    void singleAdditionIsAppliedIncrementally() {
+        source.add("banana");
+
+        assertEquals(List.of("apple", "banana", "fig", "pear"), view.toList());
+        assertEquals(1, changes.size());
+        assertEquals(UpdateActions.ADDED, changes.getFirst()
+                                                 .getListAction());
+        assertEquals("banana", changes.getFirst()
+                                      .getNewElement());
+    }
+
+    @Test
+    void singleRemovalIsAppliedIncrementally() {
+        source.remove("fig");
+
+        assertEquals(List.of("apple", "pear"), view.toList());
+        assertEquals(1, changes.size());
+        assertEquals(UpdateActions.REMOVED, changes.getFirst()
+                                                   .getListAction());
+    }
+
+    @Test
+    void replacementMovesElementToItsSortedPosition() {
+        source.set(0, "cherry");
+
+        assertEquals(List.of("apple", "cherry", "fig"), view.toList());
+        assertEquals(List.of(UpdateActions.REMOVED, UpdateActions.ADDED), changes.stream()
+                                                                                 .map(ListChangeItem::getListAction)
+                                                                                 .toList());
+    }
+
+    @Test
+    void elementsComparingEqualKeepSourceOrder() {
+        ObservableLinkedList<String> words    = new ObservableLinkedList<>(List.of("bb", "a1", "cc", "a2"));
+        SortedListView<String>       byLength = words.sorted(Comparator.comparingInt(String::length));
+
+        assertEquals(List.of("bb", "a1", "cc", "a2"), byLength.toList());
+
+        words.add("d");
+        words.remove("a1");
+
+        assertEquals(List.of("d", "bb", "cc", "a2"), byLength.toList());
+    }
+
+    @Test
+    void duplicatesAreCountedIndividually() {
+        source.add("apple");
+        source.removeFirstOccurrence("apple");
+
+        assertEquals(List.of("apple", "fig", "pear"), view.toList());
+        assertEquals(3, view.size());
+    }
+
+    @Test
+    void dequeOperationsAreCountedOnce() {
+        source.push("kiwi");
+        source.offerLast("date");
+        source.pop();
+
+        assertEquals(List.of("apple", "date", "fig", "pear"), view.toList());
+        assertEquals(4, view.size());
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    void bulkChangeAppliesOnlyTheNetDifference() {
+        source.batch(list -> {
+            list.add("kiwi");
+            list.remove("pear");
+            list.add("pear");
+        });
+
+        assertEquals(List.of("apple", "fig", "kiwi", "pear"), view.toList());
+        assertEquals(1, changes.size());
+        assertEquals("kiwi", changes.getFirst()
+                                    .getNewElement());
+    }
+
+    @Test
+    void comparatorChangeResortsView() {
+        view.setComparator(Comparator.reverseOrder());
+
+        assertEquals(List.of("pear", "fig", "apple"), view.toList());
+        assertEquals(UpdateActions.BULK_REPLACED, changes.getLast()
+                                                         .getListAction());
+    }
+
+    @Test
+    void nullComparatorIsRejectedBeforeItIsStored() {
+        assertThrows(IllegalArgumentException.class, () -> view.setComparator(null));
+
+        assertNotNull(view.getComparator());
+        assertEquals(List.of("apple", "fig", "pear"), view.toList());
+        assertTrue(changes.isEmpty());
+
+        source.add("banana");
+        assertEquals(List.of("apple", "banana", "fig", "pear"), view.toList());
+    }
+
+    @Test
+    void disposedViewStopsFollowingSource() {
+        view.dispose();
+        source.add("banana");
+
+        assertEquals(3, view.size());
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.collections.base;
+
+import io.github.colindj1120.enhancedfx.base.collections.ObservableLinkedHashMap;
+import io.github.colindj1120.enhancedfx.base.collections.ObservableLinkedList;
+import io.github.colindj1120.enhancedfx.base.collections.base.ChangeJournal.JournalBatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ChangeJournal}, covering sequence numbering, the resnapshot semantics once a consumer falls behind the ring, and the journals of the observable collections.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ */
+class ChangeJournalTest {
+    @Test
+    void capacityMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeJournal<String>(0));
+    }
+
+    @Test
+    void emptyJournalHasNoChanges() {
+        ChangeJournal<String> journal = new ChangeJournal<>(4);
+
+        JournalBatch<String> batch = journal.changesSince(0);
+
+        assertEquals(0, batch.getLastSequence());
+        assertTrue(batch.getChanges()
+                        .isEmpty());
+        assertFalse(batch.isResnapshotRequired());
+        assertEquals(1, journal.getOldestSequence());
+    }
+
+    @Test
+    void changesAreNumberedConsecutively() {
+        ChangeJournal<String> journal = new ChangeJournal<>(4);
+
+        assertEquals(1, journal.append("a"));
+        assertEquals(2, journal.append("b"));
+        assertEquals(3, journal.append("c"));
+
+        JournalBatch<String> batch = journal.changesSince(1);
+        assertEquals(List.of("b", "c"), batch.getChanges());
+        assertEquals(3, batch.getLastSequence());
+    }
+
+    @Test
+    void consumerContinuesFromLastSequence() {
+        ChangeJournal<String> journal = new ChangeJournal<>(4);
+        journal.append("a");
+        long seen = journal.changesSince(0)
+                           .getLastSequence();
+
+        journal.append("b");
+
+        assertEquals(List.of("b"), journal.changesSince(seen)
+                                          .getChanges());
+        assertTrue(journal.changesSince(journal.getLastSequence())
+                          .getChanges()
+                          .isEmpty());
+    }
+
+    @Test
+    void consumerAtTheOldestRetainedChangeDoesNotResnapshot() {
+        ChangeJournal<String> journal = new ChangeJournal<>(3);
+        List.of("a", "b", "c", "d", "e")
+            .forEach(journal::append);
+
+        assertEquals(3, journal.getOldestSequence());
+
+        JournalBatch<String> batch = journal.changesSince(2);
+        assertFalse(batch.isResnapshotRequired());
+        assertEquals(List.of("c", "d", "e"), batch.getChanges());
+    }
+
+    @Test
+    void consumerBehindTheRingMustResnapshot() {
+        ChangeJournal<String> journal = new ChangeJournal<>(3);
+        List.of("a", "b", "c", "d", "e")
+            .forEach(journal::append);
+
+        JournalBatch<String> batch = journal.changesSince(1);
+
+        assertTrue(batch.isResnapshotRequired());
+        assertTrue(batch.getChanges()
+                        .isEmpty());
+        assertEquals(5, batch.getLastSequence());
+        assertFalse(journal.changesSince(batch.getLastSequence())
+                           .isResnapshotRequired());
+    }
+
+    @Test
+    void listJournalCopiesBulkStates() {
+        ObservableLinkedList<String>          list    = new ObservableLinkedList<>(List.of("a"));
+        ChangeJournal<ListChangeItem<String>> journal = list.enableJournal(8);
+
+        list.add("b");
+        list.batch(edits -> edits.add("c"));
+        list.add("d");
+
+        List<ListChangeItem<String>> changes = journal.changesSince(0)
+                                                      .getChanges();
+        assertEquals(3, changes.size());
+        assertEquals(UpdateActions.BULK_ADD, changes.get(1)
+                                                    .getListAction());
+        assertEquals(List.of("a", "b", "c"), changes.get(1)
+                                                    .getNewList());
+    }
+
+    @Test
+    void disabledListJournalStopsRecording() {
+        ObservableLinkedList<String>          list    = new ObservableLinkedList<>();
+        ChangeJournal<ListChangeItem<String>> journal = list.enableJournal(8);
+        list.add("a");
+
+        list.disableJournal();
+        list.add("b");
+
+        assertEquals(1, journal.getLastSequence());
+        assertTrue(list.getJournal()
+                       .isEmpty());
+    }
+
+    @Test
+    void mapJournalCopiesBulkStates() {
+        ObservableLinkedHashMap<String, Integer>      map     = new ObservableLinkedHashMap<>();
+        ChangeJournal<MapChangeItem<String, Integer>> journal = map.enableJournal(8);
+
+        map.putAll(Map.of("a", 1));
+        map.put("b", 2);
+
+        List<MapChangeItem<String, Integer>> changes = journal.changesSince(0)
+                                                              .getChanges();
+        assertEquals(2, changes.size());
+        assertEquals(Map.of("a", 1), changes.getFirst()
+                                            .getNewMap());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.base;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.Node;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the binding registrations of {@link ConfiguratorBase}, covering how the unbinding collected into a {@link SubscriptionBag} behaves once the property has been rebound by a newer registration.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ */
+class ConfiguratorBaseTest {
+    private static ConfiguratorBase configurator(SubscriptionBag subscriptions) {
+        ConfiguratorBase configurator = new ConfiguratorBase() {
+            @Override
+            public Node getNode() {
+                return null;
+            }
+
+            @Override
+            public void setNode(Node value) {}
+
+            @Override
+            public boolean nodeEquals(Node value) {
+                return false;
+            }
+        };
+        configurator.collectInto(subscriptions);
+        return configurator;
+    }
+
+    @Test
+    void registeredBindingFollowsSource() {
+        IntegerProperty property = new SimpleIntegerProperty();
+        IntegerProperty source   = new SimpleIntegerProperty(1);
+
+        configurator(new SubscriptionBag()).registerBinding(property, source);
+        source.set(5);
+
+        assertTrue(property.isBound());
+        assertEquals(5, property.get());
+    }
+
+    @Test
+    void unsubscribeUnbindsProperty() {
+        IntegerProperty property = new SimpleIntegerProperty();
+        IntegerProperty source   = new SimpleIntegerProperty(1);
+        SubscriptionBag bag      = new SubscriptionBag();
+
+        configurator(bag).registerBinding(property, source);
+        bag.unsubscribe();
+        source.set(5);
+
+        assertFalse(property.isBound());
+        assertEquals(1, property.get());
+    }
+
+    @Test
+    void unsubscribingOlderBagKeepsNewerBinding() {
+        IntegerProperty property  = new SimpleIntegerProperty();
+        IntegerProperty oldSource = new SimpleIntegerProperty(1);
+        IntegerProperty newSource = new SimpleIntegerProperty(2);
+        SubscriptionBag oldBag    = new SubscriptionBag();
+        SubscriptionBag newBag    = new SubscriptionBag();
+
+        configurator(oldBag).registerBinding(property, oldSource);
+        configurator(newBag).registerBinding(property, newSource);
+        oldBag.unsubscribe();
+        newSource.set(7);
+
+        assertTrue(property.isBound());
+        assertEquals(7, property.get());
+
+        newBag.unsubscribe();
+
+        assertFalse(property.isBound());
+    }
+
+    @Test
+    void unsubscribingOlderBagKeepsNewerObjectBinding() {
+        ObjectProperty<String> property  = new SimpleObjectProperty<>();
+        ObjectProperty<String> oldSource = new SimpleObjectProperty<>("old");
+        ObjectProperty<String> newSource = new SimpleObjectProperty<>("new");
+        SubscriptionBag        oldBag    = new SubscriptionBag();
+
+        configurator(oldBag).registerBinding(property, oldSource);
+        configurator(new SubscriptionBag()).registerBinding(property, newSource);
+        oldBag.unsubscribe();
+
+        assertTrue(property.isBound());
+        assertEquals("new", property.get());
+    }
+
+    @Test
+    void bindingWithoutBagIsNotCollected() {
+        IntegerProperty property = new SimpleIntegerProperty();
+        IntegerProperty source   = new SimpleIntegerProperty(3);
+
+        configurator(null).registerBinding(property, source);
+
+        assertTrue(property.isBound());
+        assertEquals(3, property.get());
+    }
+}
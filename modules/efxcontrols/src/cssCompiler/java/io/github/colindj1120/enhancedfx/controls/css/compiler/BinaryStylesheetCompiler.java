@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.controls.css.compiler;
+
+import javafx.css.Stylesheet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Build-time tool that compiles every text stylesheet under a source directory to the JavaFX binary stylesheet format, mirroring the directory layout in the output directory.
+ *
+ * <p>The {@code compileThemeStylesheets} Gradle task runs this class over {@code src/main/resources/css} and adds the output to the module's resources, so that {@code /css/EFXTextField.css} is shipped
+ * alongside {@code /css/EFXTextField.bss}. Conversion is done with {@link Stylesheet#convertToBinary(java.io.File, java.io.File)}, which parses the stylesheet once, resolving any {@code @import}
+ * relative to the source file, and serializes the parsed rules. At runtime JavaFX loads the binary form without running the CSS parser.</p>
+ *
+ * <p>Usage: {@code BinaryStylesheetCompiler <source directory> <output directory>}</p>
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see Stylesheet
+ */
+public final class BinaryStylesheetCompiler {
+    private static final String CSS_EXTENSION = ".css";
+    private static final String BSS_EXTENSION = ".bss";
+
+    private BinaryStylesheetCompiler() {}
+
+    /**
+     * Compiles every {@code .css} file under the source directory to a {@code .bss} file at the same relative path under the output directory.
+     *
+     * @param args
+     *         The source directory followed by the output directory.
+     *
+     * @throws IOException
+     *         If a stylesheet cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: BinaryStylesheetCompiler <source directory> <output directory>");
+        }
+        Path sourceDirectory = Path.of(args[0]);
+        Path outputDirectory = Path.of(args[1]);
+
+        List<Path> stylesheets;
+        try (Stream<Path> paths = Files.walk(sourceDirectory)) {
+            stylesheets = paths.filter(Files::isRegularFile)
+                               .filter(path -> path.getFileName()
+                                                   .toString()
+                                                   .endsWith(CSS_EXTENSION))
+                               .sorted()
+                               .toList();
+        }
+
+        for (Path stylesheet : stylesheets) {
+            String relative = sourceDirectory.relativize(stylesheet)
+                                             .toString();
+            Path   target   = outputDirectory.resolve(relative.substring(0, relative.length() - CSS_EXTENSION.length()) + BSS_EXTENSION);
+            Files.createDirectories(target.getParent());
+            Stylesheet.convertToBinary(stylesheet.toFile(), target.toFile());
+        }
+        System.out.printf("Compiled %d stylesheet(s) to %s%n", stylesheets.size(), outputDirectory);
+    }
+}
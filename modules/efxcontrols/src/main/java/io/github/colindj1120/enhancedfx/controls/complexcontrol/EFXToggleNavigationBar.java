@@ -20,6 +20,7 @@ package io.github.colindj1120.enhancedfx.controls.complexcontrol;
 import io.github.colindj1120.enhancedfx.base.beans.efxstyleableproperty.EFXStyleableObjectProperty;
 import io.github.colindj1120.enhancedfx.base.collections.ObservableLinkedList;
 import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import io.github.colindj1120.enhancedfx.base.css.CssKey;
 import io.github.colindj1120.enhancedfx.base.css.StyleablePropertiesManager;
 import io.github.colindj1120.enhancedfx.base.factory.CssFactory;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxlabeled.efxbuttons.EFXToggleButton;
@@ -46,6 +47,8 @@ import java.util.function.Consumer;
 public class EFXToggleNavigationBar extends Control {
     protected static final StyleablePropertiesManager STYLES_MANAGER = new StyleablePropertiesManager(Control.getClassCssMetaData());
 
+    private static final CssKey<EFXToggleNavigationBar, Orientation> ORIENTATION_CSS_KEY;
+
     protected static final Orientation DEFAULT_ORIENTATION = Orientation.HORIZONTAL;
 
     // These fields will store the maximum width and height of buttons respectively
@@ -60,12 +63,12 @@ public class EFXToggleNavigationBar extends Control {
     private BooleanProperty                      isVertical;
 
     static {
-        STYLES_MANAGER.addCssMetaData(CssFactory.<EFXToggleNavigationBar, Orientation>create()
-                                                .property("-orientation")
-                                                .converter(EnumConverter.getEnumConverter(Orientation.class))
-                                                .initialValue(Orientation.HORIZONTAL)
-                                                .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.orientation))
-                                                .propertyGetterFunction(node -> node.orientation));
+        ORIENTATION_CSS_KEY = STYLES_MANAGER.addCssMetaData(CssFactory.<EFXToggleNavigationBar, Orientation>create()
+                                                                      .property("-orientation")
+                                                                      .converter(EnumConverter.getEnumConverter(Orientation.class))
+                                                                      .initialValue(Orientation.HORIZONTAL)
+                                                                      .isSettablePredicate(node -> EFXPropertyUtils.checkProperty(node.orientation))
+                                                                      .propertyGetterFunction(node -> node.orientation));
     }
 
     public static EFXToggleNavigationBar create() {
@@ -81,7 +84,7 @@ public class EFXToggleNavigationBar extends Control {
         this.orientation = EFXStyleableObjectProperty.<Orientation>create()
                                                      .bean(this)
                                                      .name("orientation")
-                                                     .cssMetaData(STYLES_MANAGER.findCssMetaData("-orientation"))
+                                                     .cssMetaData(ORIENTATION_CSS_KEY)
                                                      .initialValue(DEFAULT_ORIENTATION)
                                                      .build();
 
@@ -97,21 +100,13 @@ public class EFXToggleNavigationBar extends Control {
         toggleButtonList.addActionListener((listChangeItem) -> {
             switch (listChangeItem.getListAction()) {
                 case UpdateActions.ADDED, UpdateActions.REPLACED -> checkButtonSize(listChangeItem.getNewElement());
-                case UpdateActions.BULK_ADD, UpdateActions.BULK_REPLACED -> checkBulkButtonSize(listChangeItem.getNewList());
-                case UpdateActions.REMOVED, UpdateActions.BULK_REMOVE, UpdateActions.CLEARED -> recalculateButtonSizes();
+                // Bulk changes (including coalesced batches) are sized in a single pass so each button's preferred size is set once.
+                case UpdateActions.BULK_ADD, UpdateActions.BULK_REPLACED, UpdateActions.REMOVED, UpdateActions.BULK_REMOVE, UpdateActions.CLEARED -> recalculateButtonSizes();
             }
         });
     }
 
     
-    private void checkBulkButtonSize(List<?> buttonList) {
-        buttonList.stream()
-                  .filter(EFXToggleButton.class::isInstance)
-                  .map(EFXToggleButton.class::cast)
-                  .forEach(this::checkButtonSize);
-    }
-
-    
     private void checkButtonSize(EFXToggleButton toggleButton) {
         Dimension2D buttonSize = calculatePreferredSize(toggleButton);
         boolean     updated    = false;
@@ -167,7 +162,7 @@ public class EFXToggleNavigationBar extends Control {
     
     @Override
     protected Skin<?> createDefaultSkin() {
-        return new EFXToggleNavigationBarSkin(this);
+        return EFXToggleNavigationBarSkin.create(this);
     }
 
     
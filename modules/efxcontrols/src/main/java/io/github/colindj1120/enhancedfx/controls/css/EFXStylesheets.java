@@ -30,6 +30,8 @@ import java.util.Objects;
  * <p>The {@code EFXStylesheets} enum centralizes the management of CSS resources, allowing for consistent styling across the application while supporting dynamic theme switching. Each enum constant represents
  * a specific stylesheet for a category of UI components, such as text fields, buttons, and supported controls, ensuring that styles are appropriately segregated and applied.</p>
  *
+ * <p>The stylesheets are shared by every theme. They only refer to the looked-up colors of the {@code ENHANCED_PALETTE} stylesheet, which defines one palette per {@link EFXTheme}.</p>
+ *
  * <h2>Stylesheet Paths:</h2>
  * <ul>
  *     <li>{@code ENHANCED_TEXT_BASE} - Path to the stylesheet for base text components.</li>
@@ -38,12 +40,13 @@ import java.util.Objects;
  *     <li>{@code ENHANCED_BUTTON} - Path to the stylesheet for button components.</li>
  *     <li>{@code ENHANCED_TOGGLE_BUTTON} - Path to the stylesheet for toggle button components.</li>
  *     <li>{@code ENHANCED_SUPPORTED_CONTROL} - Path to the stylesheet for the supporting text component.</li>
+ *     <li>{@code ENHANCED_PALETTE} - Path to the stylesheet defining the looked-up colors of every theme.</li>
  * </ul>
  *
  * <h2>Functionality:</h2>
  * <ul>
  *     <li>{@code getStyleName} - Retrieves the name of the style as defined by the enum constant.</li>
- *     <li>{@code getStyleSheet} - Composes and retrieves the full URL to the stylesheet resource for a given theme, ensuring the correct application of themed styles to UI components.</li>
+ *     <li>{@code getStyleSheet} - Retrieves the full URL to the stylesheet resource, preferring the compiled binary stylesheet, ensuring the correct application of styles to UI components.</li>
  *     <li>{@code toString} - Provides a string representation of the enum constant, useful for logging and debugging.</li>
  *     <li>{@code toLowerCase} - Returns a lowercase version of the enum constant's name, aiding in case-insensitive operations.</li>
  *     <li>{@code toTitleCase} - Transforms the enum constant's name into title case for improved readability, particularly in user interfaces or documentation.</li>
@@ -56,14 +59,24 @@ import java.util.Objects;
  * @version 1.0.0
  */
 public enum EFXStylesheets implements EFXStyle {
-    ENHANCED_TEXT_BASE("%s/EFXTextBase.css"),
-    ENHANCED_TEXT_FIELD("%s/EFXTextField.css"),
-    ENHANCED_TEXT_AREA("%s/EFXTextArea.css"),
-    ENHANCED_BUTTON("%s/EFXButton.css"),
-    ENHANCED_TOGGLE_BUTTON("%s/EFXToggleButton.css"),
-    ENHANCED_SUPPORTED_CONTROL("%s/EFXSupportedControl.css");
+    ENHANCED_TEXT_BASE("/css/EFXTextBase.css"),
+    ENHANCED_TEXT_FIELD("/css/EFXTextField.css"),
+    ENHANCED_TEXT_AREA("/css/EFXTextArea.css"),
+    ENHANCED_BUTTON("/css/EFXButton.css"),
+    ENHANCED_TOGGLE_BUTTON("/css/EFXToggleButton.css"),
+    ENHANCED_SUPPORTED_CONTROL("/css/EFXSupportedControl.css"),
+    ENHANCED_PALETTE("/css/EFXColors.css");
+
+    /**
+     * System property that controls whether compiled binary stylesheets are preferred. Set it to {@code false} to always load the text stylesheets, for example while live editing them with CSSFX.
+     */
+    public static final String BINARY_STYLESHEETS_PROPERTY = "efx.stylesheets.binary";
 
-    private final String stylesheet;
+    private static final String CSS_EXTENSION = ".css";
+    private static final String BSS_EXTENSION = ".bss";
+
+    private final    String stylesheet;
+    private volatile String resolvedStyleSheet;
 
     /**
      * Constructor for the {@code EFXStylesheets} enum.
@@ -86,42 +99,65 @@ public enum EFXStylesheets implements EFXStyle {
     }
 
     /**
-     * Retrieves the stylesheet URL in external form for the specified theme.
+     * Retrieves the stylesheet URL in external form.
      *
      * <p>
-     * This method formats the stylesheet path based on the given theme and checks for its existence within the application's resources. If the resource is found, it returns the path in an external form
+     * This method checks for the existence of the stylesheet within the application's resources. If the resource is found, it returns the path in an external form
      * suitable for use in JavaFX styling. If the resource does not exist, it throws an informative exception detailing the missing resource and the attempted path, ensuring easier debugging and configuration
      * validation.
      * </p>
      *
      * <p>
-     * The method leverages {@code EFXObjectUtils.checkResourcePathNotNull} to validate the presence of the resource. This validation step ensures that an {@link IllegalArgumentException} is thrown if the
-     * resource cannot be located, preventing the method from returning a null or invalid stylesheet path. As such, when this method returns successfully, the caller is guaranteed to receive a valid, non-null
-     * stylesheet URL.
+     * The build compiles every theme stylesheet to the JavaFX binary format, and the {@code .bss} resource is preferred when it exists, so JavaFX does not have to parse the text stylesheet the first time a
+     * control is styled. The text {@code .css} resource is used when no binary stylesheet is present, such as when running from an IDE, or when the {@value #BINARY_STYLESHEETS_PROPERTY} system property is
+     * {@code false}, which is needed for CSSFX hot reload. The resolved URL is cached.
      * </p>
      *
      * <p>
-     * Note: The method assumes the resource path constructed from the given theme always corresponds to a valid resource. If the application's resources or themes are modified, ensure that the path formatting
-     * logic and resource organization are kept in sync.
+     * The method leverages {@code EFXObjectUtils.isNotNull} to validate the presence of the resource. This validation step ensures that an {@link IllegalArgumentException} is thrown if the resource cannot be
+     * located, preventing the method from returning a null or invalid stylesheet path. As such, when this method returns successfully, the caller is guaranteed to receive a valid, non-null stylesheet URL.
      * </p>
      *
-     * @param theme
-     *         The theme identifier used to construct the stylesheet resource path.
-     *
-     * @return The external form URL of the stylesheet resource corresponding to the specified theme.
+     * @return The external form URL of the stylesheet resource.
      *
      * @throws IllegalArgumentException
-     *         if the constructed resource path does not correspond to an existing resource, with a detailed message for troubleshooting.
+     *         if the resource path does not correspond to an existing resource, with a detailed message for troubleshooting.
      */
     @Override
-    public String getStyleSheet(String theme) {
-        String path = String.format(stylesheet, theme);
+    public String getStyleSheet() {
+        String resolved = resolvedStyleSheet;
+        if (Objects.isNull(resolved)) {
+            resolved = resolveStyleSheet();
+            resolvedStyleSheet = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * Resolves the stylesheet URL, preferring the compiled binary stylesheet over the text stylesheet.
+     *
+     * @return The external form URL of the stylesheet resource.
+     *
+     * @throws IllegalArgumentException
+     *         if neither the binary nor the text stylesheet exists.
+     */
+    private String resolveStyleSheet() {
+        String path = stylesheet;
+
+        if (Boolean.parseBoolean(System.getProperty(BINARY_STYLESHEETS_PROPERTY, "true"))) {
+            String binaryPath = path.substring(0, path.length() - CSS_EXTENSION.length()) + BSS_EXTENSION;
+            URL binaryUrl = this.getClass()
+                                .getResource(binaryPath);
+            if (Objects.nonNull(binaryUrl)) {
+                return binaryUrl.toExternalForm();
+            }
+        }
 
         URL resourceUrl = this.getClass()
                               .getResource(path);
-        EFXObjectUtils.isNotNull(resourceUrl, () -> String.format("Resource for theme '%s' not found. Attempted path: '%s'", theme, path));
+        EFXObjectUtils.isNotNull(resourceUrl, () -> String.format("Resource for stylesheet '%s' not found. Attempted path: '%s'", name(), path));
 
-        // Since checkResourcePathNotNull would throw an exception if the resource doesn't exist,
+        // Since isNotNull would throw an exception if the resource doesn't exist,
         // the following line will only execute if the resource URL is non-null.
         return Objects.requireNonNull(resourceUrl)
                       .toExternalForm();
@@ -21,23 +21,23 @@ package io.github.colindj1120.enhancedfx.controls.css;
  * Enumerates the themes available within the EnhancedFX framework, providing a centralized way to manage and apply CSS themes for the UI components. This facilitates the dynamic switching between light and
  * dark modes, enhancing the visual presentation and user experience across the application.
  *
- * <p>The {@code EFXTheme} enum simplifies the theme management by associating each theme with its corresponding CSS directory. This approach allows for consistent and easy application of themes, supporting
- * a seamless integration of varied visual styles. Each enum constant represents a distinct theme, with its associated CSS directory containing the necessary stylesheet files to implement the theme's
- * appearance.</p>
+ * <p>An {@code EFXTheme} is just a palette. Every theme shares the same stylesheets, which only refer to looked-up colors such as {@code -efx-text} and {@code -efx-background}, and each theme defines
+ * those colors in {@code EFXColors.css} under its own style class. The {@link EFXThemeManager} puts the selected theme's style class on each managed scene root, so switching themes changes a single style
+ * class and JavaFX re-resolves the colors without loading, parsing or attaching any stylesheet.</p>
  *
  * <h2>Available Themes:</h2>
  * <ul>
- *     <li>{@code LIGHT_THEME} - Path to the directory containing stylesheets for the light theme.</li>
- *     <li>{@code DARK_THEME} - Path to the directory containing stylesheets for the dark theme.</li>
+ *     <li>{@code LIGHT_THEME} - The light palette, selected by the {@code efx-light-theme} style class.</li>
+ *     <li>{@code DARK_THEME} - The dark palette, selected by the {@code efx-dark-theme} style class.</li>
  * </ul>
  *
  * <h2>Functionality:</h2>
  * <ul>
- *     <li>{@code getThemeCssDirectory} - Retrieves the CSS directory path associated with a theme, enabling the application of the theme's styles to the UI components.</li>
- *     <li>{@code toString} - Provides a string representation of the theme, including its name and CSS directory, useful for logging and debugging purposes.</li>
- *     <li>{@code toStringLowerCase} - Returns a lowercase version of the theme's name and CSS directory path, aiding in case-insensitive operations and consistency in UI display or documentation.</li>
- *     <li>{@code toStringTitleCase} - Transforms the theme's name into title case for improved readability, particularly in user interfaces or documentation, while maintaining the original CSS directory
- *     path.</li>
+ *     <li>{@code getStyleClass} - Retrieves the style class that selects the theme's palette.</li>
+ *     <li>{@code toString} - Provides a string representation of the theme, including its name and style class, useful for logging and debugging purposes.</li>
+ *     <li>{@code toStringLowerCase} - Returns a lowercase version of the theme's name and its style class, aiding in case-insensitive operations and consistency in UI display or documentation.</li>
+ *     <li>{@code toStringTitleCase} - Transforms the theme's name into title case for improved readability, particularly in user interfaces or documentation, while maintaining the original style
+ *     class.</li>
  *     <li>{@code lowerCaseName} - Converts the theme's name to lowercase, facilitating operations and comparisons that are case-insensitive.</li>
  *     <li>{@code titleCaseName} - Converts the theme's name to title case, enhancing the visual presentation of the theme name in user interfaces or documentation.</li>
  * </ul>
@@ -49,60 +49,60 @@ package io.github.colindj1120.enhancedfx.controls.css;
  * @version 1.0.0
  */
 public enum EFXTheme {
-    LIGHT_THEME("/css/light"),
-    DARK_THEME("/css/dark");
+    LIGHT_THEME("efx-light-theme"),
+    DARK_THEME("efx-dark-theme");
 
     /**
-     * Directory where the theme's CSS is stored.
+     * Style class that selects the theme's palette.
      */
-    private final String themeCssDirectory;
+    private final String styleClass;
 
     /**
-     * Constructs an EFXTheme with a specified CSS directory.
+     * Constructs an EFXTheme with a specified palette style class.
      *
-     * @param themeCssDirectory
-     *         The directory where the theme's CSS is located.
+     * @param styleClass
+     *         The style class that selects the theme's palette.
      */
-    EFXTheme(String themeCssDirectory) {
-        this.themeCssDirectory = themeCssDirectory;
+    EFXTheme(String styleClass) {
+        this.styleClass = styleClass;
     }
 
     /**
-     * Retrieves the CSS directory of the theme.
+     * Retrieves the style class that selects the theme's palette.
      *
-     * @return The CSS directory path of the theme.
+     * @return The style class of the theme.
      */
-    public String getThemeCssDirectory() {
-        return themeCssDirectory;
+    public String getStyleClass() {
+        return styleClass;
     }
 
     /**
-     * Provides a string representation of the theme including its name and CSS directory.
+     * Provides a string representation of the theme including its name and style class.
      *
-     * @return A formatted string with the theme's name and CSS directory.
+     * @return A formatted string with the theme's name and style class.
      */
     @Override
     public String toString() {
-        return String.format("Name: %s | Css Directory: %s", name(), getThemeCssDirectory());
+        return String.format("Name: %s | Style Class: %s", name(), getStyleClass());
     }
 
     /**
-     * Provides a lower-case string representation of the theme's name and CSS directory.
+     * Provides a lower-case string representation of the theme's name and style class.
      *
-     * @return A formatted string with the theme's name in lower-case and CSS directory.
+     * @return A formatted string with the theme's name in lower-case and style class.
      */
     public String toStringLowerCase() {
-        return String.format("Name: %s | Css Directory: %s", name().toLowerCase(), getThemeCssDirectory());
+        return String.format("Name: %s | Style Class: %s", name().toLowerCase(), getStyleClass());
     }
 
     /**
-     * Provides a title-case string representation of the theme's name and CSS directory.
+     * Provides a title-case string representation of the theme's name and style class.
      *
-     * @return A formatted string with the theme's name in title-case and CSS directory.
+     * @return A formatted string with the theme's name in title-case and style class.
      */
     public String toStringTitleCase() {
         String titleCaseName = getTitleCaseName();
-        return String.format("Name: %s | Css Directory: %s", titleCaseName, getThemeCssDirectory());
+        return String.format("Name: %s | Style Class: %s", titleCaseName, getStyleClass());
     }
 
     /**
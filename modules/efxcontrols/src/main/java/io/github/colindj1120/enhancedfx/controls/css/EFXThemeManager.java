@@ -0,0 +1,326 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.controls.css;
+
+import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import java.util.*;
+
+/**
+ * The {@code EFXThemeManager} class applies the selected {@link EFXTheme} at the {@link Scene} or root {@link Parent} level rather than on every control.
+ *
+ * <h2>Theming</h2>
+ * <p>EFX controls deliver their stylesheets as user-agent stylesheets, which are shared by every theme and only refer to looked-up colors. Each theme is a palette defining those colors in the
+ * {@link EFXStylesheets#ENHANCED_PALETTE} stylesheet, selected by the theme's {@linkplain EFXTheme#getStyleClass() style class}.</p>
+ *
+ * <p>The manager adds the palette stylesheet once to every managed scene or parent and puts the selected theme's style class on it, or on the scene's root. Switching themes is then a single style class
+ * change per managed scene or parent: JavaFX re-resolves the looked-up colors without loading, parsing or attaching any stylesheet.</p>
+ *
+ * <p>Controls register with {@link #register(Node)}, so the scene they are shown in becomes managed automatically.</p>
+ *
+ * <h2>Memory</h2>
+ * <p>Managed scenes and parents are held weakly, and the manager never references a control. Registration is recorded in the control's own {@link Node#getProperties()} and the manager listens to its
+ * scene through one shared listener, so closed windows and discarded controls can be garbage collected.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>
+ * {@code
+ *     // Controls register themselves, so switching the theme is all that is usually needed
+ *     EFXThemeManager.setSelectedTheme(EFXTheme.DARK_THEME);
+ *
+ *     // A sub-tree can also be themed explicitly
+ *     EFXThemeManager.install(dialogRoot);
+ * }
+ * </pre>
+ *
+ * <p>Like the scene graph it manages, this class must only be used from the JavaFX Application Thread. The one exception is {@link #register(Node)} for a node that is not yet in a scene, which only
+ * touches the node itself, so controls can be constructed on any thread.</p>
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see EFXTheme
+ * @see EFXStylesheets
+ */
+public final class EFXThemeManager {
+    private static final String REGISTERED_KEY = EFXThemeManager.class.getName() + ".registered";
+
+    private static final ObjectProperty<EFXTheme> selectedTheme  = new SimpleObjectProperty<>(EFXThemeManager.class, "selectedTheme", EFXTheme.LIGHT_THEME);
+    private static final Set<Scene>               managedScenes  = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final Set<Parent>              managedParents = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final ChangeListener<Scene>    sceneListener  = EFXThemeManager::nodeSceneChanged;
+    private static final ChangeListener<Parent>   rootListener   = EFXThemeManager::sceneRootChanged;
+
+    static {
+        selectedTheme.addListener((obs, oldTheme, newTheme) -> applyTheme(oldTheme, newTheme));
+    }
+
+    /**
+     * Private constructor to prevent instantiation of the {@code EFXThemeManager} class.
+     */
+    private EFXThemeManager() {}
+
+    //region Registration
+    //*****************************************************************
+    // Registration
+    //*****************************************************************
+
+    /**
+     * Registers a node, typically an EFX control, whose stylesheets depend on the theme palette. The node's scene is managed now, if it has one, and so is any scene the node is later added to.
+     *
+     * <p>Registering a node that is not in a scene only records the registration on the node and listens to its scene property, so it is safe on any thread that may modify the node.</p>
+     *
+     * @param node
+     *         The node to register.
+     *
+     * @throws IllegalArgumentException
+     *         If the node is null.
+     */
+    public static void register(Node node) {
+        EFXObjectUtils.isNotNull(node, () -> "Node cannot be null when registering with the theme manager");
+
+        if (!isRegistered(node)) {
+            node.getProperties()
+                .put(REGISTERED_KEY, Boolean.TRUE);
+            node.sceneProperty()
+                .addListener(sceneListener);
+        }
+
+        Optional.ofNullable(node.getScene())
+                .ifPresent(EFXThemeManager::install);
+    }
+
+    /**
+     * Applies the theme palette to a scene: the palette stylesheet is added to the scene and the selected theme's style class to its root. The scene is then updated whenever the theme changes or its root
+     * is replaced. Installing a scene that is already managed has no effect.
+     *
+     * @param scene
+     *         The scene to theme.
+     *
+     * @throws IllegalArgumentException
+     *         If the scene is null.
+     */
+    public static void install(Scene scene) {
+        EFXObjectUtils.isNotNull(scene, () -> "Scene cannot be null when installing the theme palette");
+        if (managedScenes.add(scene)) {
+            addPalette(scene.getStylesheets());
+            Optional.ofNullable(scene.getRoot())
+                    .ifPresent(root -> swapStyleClass(root, null, getSelectedTheme()));
+            scene.rootProperty()
+                 .addListener(rootListener);
+        }
+    }
+
+    /**
+     * Applies the theme palette to a root parent: the palette stylesheet and the selected theme's style class are added to the parent. The parent is then updated whenever the theme changes. This is useful
+     * to theme a sub-tree that is shown outside a managed scene. Installing a parent that is already managed has no effect.
+     *
+     * @param parent
+     *         The parent to theme.
+     *
+     * @throws IllegalArgumentException
+     *         If the parent is null.
+     */
+    public static void install(Parent parent) {
+        EFXObjectUtils.isNotNull(parent, () -> "Parent cannot be null when installing the theme palette");
+        if (managedParents.add(parent)) {
+            addPalette(parent.getStylesheets());
+            swapStyleClass(parent, null, getSelectedTheme());
+        }
+    }
+
+    /**
+     * Removes the theme palette from a scene and stops managing it.
+     *
+     * @param scene
+     *         The scene to stop theming.
+     */
+    public static void uninstall(Scene scene) {
+        if (managedScenes.remove(scene)) {
+            scene.rootProperty()
+                 .removeListener(rootListener);
+            scene.getStylesheets()
+                 .remove(EFXStylesheets.ENHANCED_PALETTE.getStyleSheet());
+            Optional.ofNullable(scene.getRoot())
+                    .ifPresent(root -> swapStyleClass(root, getSelectedTheme(), null));
+        }
+    }
+
+    /**
+     * Removes the theme palette from a parent and stops managing it.
+     *
+     * @param parent
+     *         The parent to stop theming.
+     */
+    public static void uninstall(Parent parent) {
+        if (managedParents.remove(parent)) {
+            parent.getStylesheets()
+                  .remove(EFXStylesheets.ENHANCED_PALETTE.getStyleSheet());
+            swapStyleClass(parent, getSelectedTheme(), null);
+        }
+    }
+
+    //endregion Registration
+
+    //region Theme Selection
+    //*****************************************************************
+    // Theme Selection
+    //*****************************************************************
+
+    /**
+     * Returns the property holding the selected theme.
+     *
+     * @return The selected theme property.
+     */
+    public static ObjectProperty<EFXTheme> selectedThemeProperty() {
+        return selectedTheme;
+    }
+
+    /**
+     * Returns the selected theme.
+     *
+     * @return The selected theme.
+     */
+    public static EFXTheme getSelectedTheme() {
+        return selectedTheme.get();
+    }
+
+    /**
+     * Selects a theme, changing a single style class on every managed scene root and parent.
+     *
+     * @param theme
+     *         The theme to select.
+     *
+     * @throws IllegalArgumentException
+     *         If the theme is null.
+     */
+    public static void setSelectedTheme(EFXTheme theme) {
+        EFXObjectUtils.isNotNull(theme, () -> "EFXTheme cannot be null.");
+        selectedTheme.set(theme);
+    }
+
+    //endregion Theme Selection
+
+    //region Helper Functions
+    //*****************************************************************
+    // Helper Functions
+    //*****************************************************************
+
+    /**
+     * Manages the scene a registered node has been added to.
+     *
+     * @param observable
+     *         The scene property of the node.
+     * @param oldScene
+     *         The scene the node was removed from.
+     * @param newScene
+     *         The scene the node was added to.
+     */
+    private static void nodeSceneChanged(ObservableValue<? extends Scene> observable, Scene oldScene, Scene newScene) {
+        Optional.ofNullable(newScene)
+                .ifPresent(EFXThemeManager::install);
+    }
+
+    /**
+     * Moves the theme style class from a managed scene's previous root to its new root.
+     *
+     * @param observable
+     *         The root property of the scene.
+     * @param oldRoot
+     *         The previous root.
+     * @param newRoot
+     *         The new root.
+     */
+    private static void sceneRootChanged(ObservableValue<? extends Parent> observable, Parent oldRoot, Parent newRoot) {
+        Optional.ofNullable(oldRoot)
+                .ifPresent(root -> swapStyleClass(root, getSelectedTheme(), null));
+        Optional.ofNullable(newRoot)
+                .ifPresent(root -> swapStyleClass(root, null, getSelectedTheme()));
+    }
+
+    /**
+     * Returns whether a node has been registered with the manager.
+     *
+     * @param node
+     *         The node to inspect.
+     *
+     * @return {@code true} if the node has been registered.
+     */
+    private static boolean isRegistered(Node node) {
+        return node.hasProperties() && node.getProperties()
+                                           .containsKey(REGISTERED_KEY);
+    }
+
+    /**
+     * Adds the palette stylesheet to a stylesheet list, unless it is already present.
+     *
+     * @param targetStylesheets
+     *         The stylesheet list to update.
+     */
+    private static void addPalette(ObservableList<String> targetStylesheets) {
+        String palette = EFXStylesheets.ENHANCED_PALETTE.getStyleSheet();
+        if (!targetStylesheets.contains(palette)) {
+            targetStylesheets.add(palette);
+        }
+    }
+
+    /**
+     * Changes the theme style class on every managed scene root and parent.
+     *
+     * @param oldTheme
+     *         The previously selected theme.
+     * @param newTheme
+     *         The newly selected theme.
+     */
+    private static void applyTheme(EFXTheme oldTheme, EFXTheme newTheme) {
+        managedScenes.forEach(scene -> Optional.ofNullable(scene.getRoot())
+                                               .ifPresent(root -> swapStyleClass(root, oldTheme, newTheme)));
+        managedParents.forEach(parent -> swapStyleClass(parent, oldTheme, newTheme));
+    }
+
+    /**
+     * Replaces a theme style class on a node with another, in place, so the node's style classes change only once.
+     *
+     * @param node
+     *         The node to update.
+     * @param oldTheme
+     *         The theme whose style class is removed, or {@code null} to only add one.
+     * @param newTheme
+     *         The theme whose style class is added, or {@code null} to only remove one.
+     */
+    private static void swapStyleClass(Node node, EFXTheme oldTheme, EFXTheme newTheme) {
+        ObservableList<String> styleClasses = node.getStyleClass();
+        int                    index        = Objects.isNull(oldTheme) ? -1 : styleClasses.indexOf(oldTheme.getStyleClass());
+        if (index >= 0 && Objects.nonNull(newTheme)) {
+            styleClasses.set(index, newTheme.getStyleClass());
+        } else if (index >= 0) {
+            styleClasses.remove(index);
+        } else if (Objects.nonNull(newTheme) && !styleClasses.contains(newTheme.getStyleClass())) {
+            styleClasses.add(newTheme.getStyleClass());
+        }
+    }
+
+    //endregion Helper Functions
+}
@@ -18,16 +18,16 @@
 package io.github.colindj1120.enhancedfx.controls.css.base;
 
 /**
- * Defines the contract for implementing styles within the EnhancedFX framework, offering a standardized approach to naming and accessing stylesheet resources across various themes.
+ * Defines the contract for implementing styles within the EnhancedFX framework, offering a standardized approach to naming and accessing stylesheet resources.
  *
  * <p>The {@code EFXStyle} interface is crucial for the theming system of EnhancedFX, allowing for dynamic switching of visual themes and the consistent application of styles to UI components. Implementing
- * this interface enables an object to represent a specific style or set of styles, complete with a unique name and the ability to fetch the corresponding stylesheet URL based on the current theme.</p>
+ * this interface enables an object to represent a specific style or set of styles, complete with a unique name and the ability to fetch the corresponding stylesheet URL. Stylesheets are shared by every theme,
+ * which only differ in the looked-up colors they define.</p>
  *
  * <h2>Methods:</h2>
  * <ul>
  *     <li>{@code getStyleName} - Retrieves the name of the style, serving as a unique identifier within the system. This name can be used for logging, debugging, or dynamically applying styles at runtime.</li>
- *     <li>{@code getStyleSheet} - Accepts a theme name as input and returns the URL to the stylesheet file associated with that theme and style. This method is essential for theme-based styling, enabling
- *     the application to adapt its appearance dynamically in response to user preferences or other triggers.</li>
+ *     <li>{@code getStyleSheet} - Returns the URL to the stylesheet file associated with the style.</li>
  * </ul>
  *
  * <p>Implementing classes or enums should provide specific logic for these methods, ensuring that styles can be effectively managed and applied within the EnhancedFX styling architecture. This approach
@@ -45,16 +45,12 @@ public interface EFXStyle {
     String getStyleName();
 
     /**
-     * Provides the URL to the stylesheet associated with this style for a given theme. This method enables the dynamic application of styles based on the current theme, supporting the customization and
-     * flexibility of the UI's appearance.
+     * Provides the URL to the stylesheet associated with this style.
      *
-     * @param theme
-     *         The name of the current theme, used to determine the correct stylesheet to be applied.
+     * @return A {@link String} representing the URL to the stylesheet file.
      *
-     * @return A {@link String} representing the URL to the stylesheet file for the specified theme.
-     *
-     * @throws NullPointerException
-     *         if the stylesheet resource cannot be found for the given theme, indicating a potential issue with the resource path or theme configuration.
+     * @throws IllegalArgumentException
+     *         if the stylesheet resource cannot be found, indicating a potential issue with the resource path.
      */
-    String getStyleSheet(String theme);
+    String getStyleSheet();
 }
@@ -21,11 +21,10 @@ import io.github.colindj1120.enhancedfx.base.css.StyleablePropertiesManager;
 import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.custom.customcontrol.CustomControlConfigurator;
 import io.github.colindj1120.enhancedfx.controls.css.EFXStylesheets;
 import io.github.colindj1120.enhancedfx.controls.css.EFXTheme;
+import io.github.colindj1120.enhancedfx.controls.css.EFXThemeManager;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxcontrol.base.EFXControlBase;
 import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
 import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.value.ObservableValue;
 import javafx.css.CssMetaData;
 import javafx.css.Styleable;
 import javafx.scene.control.Control;
@@ -43,7 +42,7 @@ import java.util.Optional;
  *     <li><em>Dynamic Theme Support:</em> Seamlessly switch between light and dark themes, or any custom themes defined within the {@code EFXTheme} enum, without needing to restart the application.</li>
  *     <li><em>Automated Style Management:</em> Utilizes a {@code StyleablePropertiesManager} to manage CSS metadata and styleable properties, simplifying the process of applying and updating CSS styles
  *     dynamically.</li>
- *     <li><em>Event Handling:</em> Implements a structured approach to adding focus and theme change listeners, ensuring controls react appropriately to user interactions and theme changes.</li>
+ *     <li><em>Focus Delegation:</em> Keyboard focus lands directly on the inner control, and the control reflects it through the {@code :focus-within} pseudo-class.</li>
  *     <li><em>Resource Validation:</em> Provides utility methods for validating the existence of stylesheet paths associated with selected themes, preventing runtime errors due to missing resources.</li>
  * </ul>
  *
@@ -104,7 +103,9 @@ import java.util.Optional;
 public abstract class EFXControl<T extends Control> extends EFXControlBase<T> {
     private static final StyleablePropertiesManager stylesManager = new StyleablePropertiesManager(Control.getClassCssMetaData());
 
-    protected static ObjectProperty<EFXTheme> selectedTheme = new SimpleObjectProperty<>(EFXControl.class, "selectedTheme", EFXTheme.LIGHT_THEME);
+    protected static final ObjectProperty<EFXTheme> selectedTheme = EFXThemeManager.selectedThemeProperty();
+
+    private EFXStylesheets themeStylesheet;
 
     //region Abstract Functions
     //*****************************************************************
@@ -142,66 +143,45 @@ public abstract class EFXControl<T extends Control> extends EFXControlBase<T> {
      * <ol>
      *     <li><em>Control Configurator Initialization:</em> A {@link CustomControlConfigurator} instance is initialized for the control. This configurator acts as a bridge, linking the control with its
      *     associated properties and behaviors. It simplifies the control's setup process by automating common setup tasks.</li>
-     *     <li><em>Focus Change Listener Attachment:</em> The configurator attaches a listener to the control's focus property via the method call {@code addFocusedChangeListener
-     *     (this::handleCustomControlFocusChange)}. This listener is responsible for executing the {@code handleCustomControlFocusChange} method whenever the control's focus state changes, allowing for
-     *     custom focus behavior.</li>
-     *     <li><em>Theme Change Listener Attachment:</em> Similarly, the method call {@code addStringPropertyChangeListener(themeResourceDirectory, this::loadNewTheme)} attaches a listener to the {@code
-     *     themeResourceDirectory} StringProperty. This ensures that any changes to the theme resource directory trigger the loading of a new theme, with the {@code loadNewTheme} method adapting the
-     *     control's appearance according to the new stylesheet defined at the {@code themeResourceDirectory} path.</li>
+     *     <li><em>Focus Traversal:</em> The control itself is made non focus traversable, so keyboard traversal lands directly on the inner control. The control reflects the focus of its inner control
+     *     through the {@code :focus-within} pseudo-class, and {@link #requestFocus()} is delegated to the inner control.</li>
      * </ol>
      *
-     * <p>Through these steps, the control is fully prepared to respond to focus and theme changes, demonstrating EnhancedFX's ability to dynamically adjust control behavior and appearance.
+     * <p>Focus therefore changes once per traversal: the control is never focused itself only to hand the focus over to its inner control, which would apply CSS to both of them twice.</p>
+     *
+     * <p>Theme changes are not handled here. Subclasses register the stylesheet that styles them through {@link #registerThemeStylesheet(EFXStylesheets)}, which becomes the control's user-agent
+     * stylesheet, and {@link EFXThemeManager} switches the palette it refers to.</p>
      */
     protected void setupControl() {
         CustomControlConfigurator.create(getControl())
-                                 .addFocusedChangeListener(this::handleCustomControlFocusChange)
-                                 .addObjectPropertyChangeListener(selectedTheme, this::loadNewTheme);
+                                 .setFocusTraversable(false);
     }
 
     //endregion EFXControlBase Functions
 
-    //region Listener Functions
+    //region Focus Functions
     //*****************************************************************
-    // Listener Functions
+    // Focus Functions
     //*****************************************************************
 
     /**
-     * Handles the focus change event of a custom control.
-     *
-     * <p>When a custom control gains focus, it delegates the focus to its inner control. In essence, this method checks if the custom control is now focused. If so, it requests the inner control to take the
-     * focus.</p>
+     * Requests focus for the inner control rather than for this control.
      *
-     * @param observableValue
-     *         The ObservableValue which value was changed.
-     * @param oldFocus
-     *         The old focus state of the custom control before the change occurred.
-     * @param isFocused
-     *         The new focus state of the custom control after the change, if the custom control is now focused, it delegates this focus to the inner control by calling its {@code requestFocus} method.
+     * <p>The inner control receives the keyboard input, so it is the node that holds the focus. This control is styled as focused through the {@code :focus-within} pseudo-class, which JavaFX sets while
+     * any of its descendants is focused.</p>
      */
-    private void handleCustomControlFocusChange(ObservableValue<? extends Boolean> observableValue, Boolean oldFocus, Boolean isFocused) {
-        if (isFocused) {
-            this.getInnerControl()
-                .requestFocus();
-        }
+    @Override
+    public void requestFocus() {
+        getInnerControl().requestFocus();
     }
 
-    //endregion Listener Functions
+    //endregion Focus Functions
 
     //region Getters and Setters
     //*****************************************************************
     // Getters and Setters
     //*****************************************************************
 
-    /**
-     * Retrieves the CSS directory path of the selected theme.
-     *
-     * @return The CSS directory path of the selected theme.
-     */
-    public static String getSelectedThemeCssDirectory() {
-        return selectedTheme.get()
-                            .getThemeCssDirectory();
-    }
-
     /**
      * Returns the currently selected theme.
      *
@@ -214,7 +194,7 @@ public abstract class EFXControl<T extends Control> extends EFXControlBase<T> {
     /**
      * Retrieves the selectedThemeCssDirectoryProperty.
      *
-     * @return The ObjectProperty representing the selected theme CSS directory.
+     * @return The ObjectProperty representing the selected theme.
      *
      * @since 1.0
      */
@@ -223,18 +203,16 @@ public abstract class EFXControl<T extends Control> extends EFXControlBase<T> {
     }
 
     /**
-     * Sets the directory for the CSS stylesheets associated with the provided EFXTheme.
+     * Selects the provided EFXTheme, switching the palette of every managed scene.
      *
      * @param efxTheme
-     *         The EFXTheme to set the CSS directory for.
+     *         The EFXTheme to select.
      *
      * @throws IllegalArgumentException
      *         if efxTheme is null.
      */
     public static void setThemeCssDirectory(EFXTheme efxTheme) {
-        EFXObjectUtils.isNotNull(efxTheme, () -> "EFXTheme cannot be null.");
-
-        EFXControl.selectedTheme.set(efxTheme);
+        EFXThemeManager.setSelectedTheme(efxTheme);
     }
 
     //endregion Getters and Setters\
@@ -245,90 +223,36 @@ public abstract class EFXControl<T extends Control> extends EFXControlBase<T> {
     //*****************************************************************
 
     /**
-     * Assists in the process of transitioning the current control to a new theme by dynamically updating its associated stylesheets.
-     *
-     * <p>This method encapsulates the validation of necessary parameters, the retrieval of stylesheet paths based on theme information, and the replacement of the old theme's stylesheet with that of the new
-     * theme.</p>
+     * Registers the stylesheet that styles this control, replacing any stylesheet registered by a superclass.
      *
-     * <h2>Key Function Steps:</h2>
-     * <ol>
-     *     <li><em>Validation of Inputs:</em> Ensures that none of the parameters ({@code efxStylesheetsObj}, {@code oldEFXTheme}, {@code newEFXTheme}) are null, using {@code EFXObjectUtils}. Each parameter
-     *     has a specific check to provide a clear error message if the validation fails.</li>
-     *     <li><em>Retrieval of Stylesheet Paths:</em> Utilizes the {@code efxStylesheetsObj} to fetch the stylesheet paths corresponding to both the old and new themes. The paths are derived from each
-     *     theme's CSS directory, ensuring that only valid resources are referenced.</li>
-     *     <li><em>Update of Stylesheets:</em> Accesses the control's current stylesheet collection. If the control and its stylesheets are valid (not null), the method proceeds to remove the stylesheet
-     *     associated with the old theme and add the one associated with the new theme. This operation is critical for applying the visual aspects of the new theme to the control.</li>
-     *     <li><em>Error Handling:</em> In cases where the control or its stylesheet list is unexpectedly null, an {@code IllegalStateException} is thrown, indicating a fundamental issue that prevents the
-     *     theme update process from proceeding.</li>
-     * </ol>
-     *
-     * <p>This method plays a crucial role in facilitating dynamic theme changes within the EnhancedFX framework, enabling controls to adapt their appearance seamlessly in response to user preferences or
-     * application-wide theme adjustments.</p>
+     * <p>The stylesheet is delivered as this control's user-agent stylesheet, so every instance shares one parsed stylesheet and one style cache entry per selector, and nothing is added to the control's own
+     * stylesheets. A stylesheet that builds on a superclass's stylesheet is expected to {@code @import} it. The stylesheet only refers to the looked-up colors of the theme palette, which the
+     * {@link EFXThemeManager} installs on the scene the control is shown in.</p>
      *
-     * @param efxStylesheetsObj
-     *         An instance of {@link EFXStylesheets} providing access to the stylesheet paths for different themes.
-     * @param oldEFXTheme
-     *         The currently applied theme, which is to be replaced.
-     * @param newEFXTheme
-     *         The new theme to apply to the control.
+     * @param stylesheet
+     *         The stylesheet that styles this control.
      *
-     * @throws NullPointerException
-     *         If any of the method parameters are null, detailed error messages are provided to aid in diagnosing the cause of the null reference.
-     * @throws IllegalStateException
-     *         If the control or its stylesheet list is null, preventing the theme update process.
+     * @throws IllegalArgumentException
+     *         If the stylesheet is null or does not exist.
      */
-    protected void loadNewThemeHelper(EFXStylesheets efxStylesheetsObj, EFXTheme oldEFXTheme, EFXTheme newEFXTheme) {
-        // Validate inputs using EFXObjectUtils for null
-        EFXObjectUtils.isNotNull(efxStylesheetsObj, () -> "EFXStylesheets object cannot be null.");
-        EFXObjectUtils.isNotNull(oldEFXTheme, () -> "Old efxTheme name cannot be null.");
-        EFXObjectUtils.isNotNull(newEFXTheme, () -> "New efxTheme name cannot be null.");
-
-        // Ensure control and its stylesheets are not null
-        Optional.ofNullable(getControl())
-                .map(EFXControl::getStylesheets)
-                .ifPresentOrElse(stylesheets -> {
-                    // Directly use getStyleSheet which ensures the existence of the resource
-                    String oldStylesheetPath = efxStylesheetsObj.getStyleSheet(oldEFXTheme.getThemeCssDirectory());
-                    String newStylesheetPath = efxStylesheetsObj.getStyleSheet(newEFXTheme.getThemeCssDirectory());
+    protected void registerThemeStylesheet(EFXStylesheets stylesheet) {
+        EFXObjectUtils.isNotNull(stylesheet, () -> "EFXStylesheets cannot be null when registering a theme stylesheet");
+        stylesheet.getStyleSheet();
 
-                    // Since getStyleSheet throws an exception if the resource doesn't exist, there's no need for further existence checks here.
-                    stylesheets.remove(oldStylesheetPath);
-                    stylesheets.add(newStylesheetPath); // Add the new stylesheet
-                }, () -> {
-                    throw new IllegalStateException("Control or its stylesheet list cannot be null.");
-                });
+        EFXThemeManager.register(getControl());
+        this.themeStylesheet = stylesheet;
     }
 
     /**
-     * Validates the existence of a stylesheet path for the specified efxTheme and class.
-     *
-     * <p>This method ensures that the stylesheet associated with the given efxTheme exists within the application's resources. It uses the {@code efxStylesheetsObj} to resolve the stylesheet path for the
-     * specified efxTheme, throwing an exception if the efxTheme directory is null, empty, or the resolved stylesheet path does not exist. This method is critical for verifying resource integrity before
-     * attempting to load or apply efxTheme-related stylesheets.</p>
+     * Returns the user-agent stylesheet of the stylesheet registered through {@link #registerThemeStylesheet(EFXStylesheets)}, or the {@link Control} default if none has been registered.
      *
-     * @param efxStylesheetsObj
-     *         The {@link EFXStylesheets} object used to resolve stylesheet paths.
-     * @param clazz
-     *         The class context used to locate the stylesheet resource.
-     *
-     * @return The validated stylesheet path in external form, guaranteed to exist.
-     *
-     * @throws IllegalStateException
-     *         If the efxTheme directory is null, empty, or the resolved stylesheet path does not exist, indicating a configuration or resource placement error.
+     * @return The user-agent stylesheet URL of this control.
      */
-    protected String checkStylesheetPathExists(EFXStylesheets efxStylesheetsObj, Class<?> clazz) {
-        // Ensure that efxStylesheetsObj and clazz are not null
-        EFXObjectUtils.isNotNull(efxStylesheetsObj, () -> "EFXStylesheets object cannot be null.");
-        EFXObjectUtils.isNotNull(clazz, () -> "Class object cannot be null.");
-
-        // Retrieve efxTheme directory and resolve the stylesheet path, ensuring neither is null nor empty
-        String theme = Optional.ofNullable(getSelectedThemeCssDirectory())
-                               .filter(t -> !t.isEmpty())
-                               .orElseThrow(() -> new IllegalStateException("EFXTheme Css Directory is null or empty."));
-
-        // No further checks are required here since getStyleSheet ensures the path exists and is in external form.
-        // If getResource(path) within getStyleSheet were null, it would have already thrown an IllegalArgumentException.
-        return efxStylesheetsObj.getStyleSheet(theme);
+    @Override
+    public String getUserAgentStylesheet() {
+        return Optional.ofNullable(themeStylesheet)
+                       .map(EFXStylesheets::getStyleSheet)
+                       .orElseGet(super::getUserAgentStylesheet);
     }
 
     //endregion EFXTheme Helper Functions
@@ -17,11 +17,15 @@
  */
 package io.github.colindj1120.enhancedfx.controls.simplecontrol.efxcontrol.base;
 
+import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.base.LayoutSuspendable;
 import io.github.colindj1120.enhancedfx.controls.css.EFXTheme;
-import javafx.beans.Observable;
 import javafx.scene.control.Control;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * The {@code EFXControlBase} class serves as the foundational base class for all custom controls in the EnhancedFX framework, encapsulating essential functionalities such as theme management, initialization
@@ -32,9 +36,11 @@ import java.lang.reflect.Constructor;
  * <h2>Capabilities:</h2>
  * <ul>
  *     <li><strong>Theme Management:</strong> Supports dynamic theme changes, enabling controls to adapt their styles according to the selected {@link EFXTheme}.</li>
- *     <li><strong>Factory Creation:</strong> Utilizes a factory method pattern to instantiate control objects, ensuring proper initialization and configuration.</li>
+ *     <li><strong>Factory Creation:</strong> Utilizes a factory method pattern to instantiate control objects from constructor references, or from cached constructor handles, ensuring proper
+ *     initialization and configuration without per-instance reflection.</li>
  *     <li><strong>Initialization Routine:</strong> Provides a structured initialization sequence through the {@code initialize} method, which is automatically invoked post-instantiation to set up styleable
  *     properties, configure control specifics, and update pseudo-class states.</li>
+ *     <li><strong>Layout Suspension:</strong> Implements {@link LayoutSuspendable}, so the layout requests made while a configurator batch or skin setup runs are coalesced into one.</li>
  *     <li><strong>Customization Hooks:</strong> Abstract methods such as {@code setupControl}, {@code setupStyleableProperties}, and {@code updatePseudoClassStates} offer hooks for customization in
  *     subclasses, allowing for precise control over the appearance and behavior of controls.</li>
  * </ul>
@@ -68,11 +74,6 @@ import java.lang.reflect.Constructor;
  *     }
  *
  *     @Override
- *     protected void loadNewTheme(Observable obs, EFXTheme oldEFXTheme, EFXTheme newEFXTheme) {
- *         // Implement theme change logic here
- *     }
- *
- *     @Override
  *     protected void setupControl() {
  *         // Setup control specifics
  *     }
@@ -104,7 +105,17 @@ import java.lang.reflect.Constructor;
  * @see Control
  * @see EFXTheme
  */
-public abstract class EFXControlBase<T extends Control> extends Control {
+public abstract class EFXControlBase<T extends Control> extends Control implements LayoutSuspendable {
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return resolveConstructor(type);
+        }
+    };
+
+    private int     layoutSuspensions;
+    private boolean layoutRequestedWhileSuspended;
+
     /**
      * Default constructor for EFXControlBase.
      *
@@ -124,10 +135,31 @@ public abstract class EFXControlBase<T extends Control> extends Control {
         updatePseudoClassStates();
     }
 
+    /**
+     * Creates and initializes a control from its constructor.
+     *
+     * <p>This is the preferred factory for EnhancedFX controls: passing a constructor reference such as {@code EFXTextField::new} from within the control class needs no reflection and no access checks, and
+     * works under the module system without opening the control's package. The constructor reference is linked once per call site by the JVM.</p>
+     *
+     * @param constructor
+     *         The constructor of the control, usually a constructor reference.
+     * @param <U>
+     *         The type of the control to be created, extending EFXControlBase.
+     *
+     * @return A new, initialized instance of the control.
+     */
+    protected static <U extends EFXControlBase<?>> U create(Supplier<U> constructor) {
+        U instance = constructor.get();
+        instance.initialize();
+        return instance;
+    }
+
     /**
      * Creates a new instance of a given EFXControlBase subclass.
      *
-     * <p>This factory method uses reflection to instantiate subclasses that may have protected constructors. It ensures that all control instances are properly initialized before being returned for use.</p>
+     * <p>The no-argument constructor of the class is resolved once into a {@link MethodHandle}, cached per class, and invoked directly for every later instance, so no reflective lookup or access check is
+     * repeated. Resolving the constructor requires the class's package to be open to this module, which is always the case for controls in this module. Controls in other modules should use
+     * {@link #create(Supplier)} instead.</p>
      *
      * @param clazz
      *         The class of the control to be instantiated. This class must extend EFXControlBase.
@@ -137,22 +169,47 @@ public abstract class EFXControlBase<T extends Control> extends Control {
      * @return A new instance of the specified EFXControlBase subclass, properly initialized.
      *
      * @throws RuntimeException
-     *         If there is an error during the creation or initialization of the control instance. This includes reflection-related errors such as class not found, access issues, or instantiation issues.
+     *         If the constructor cannot be resolved or the control cannot be created or initialized.
      */
     protected static <U extends EFXControlBase<?>> U create(Class<U> clazz) {
         try {
-            Constructor<U> constructor = clazz.getDeclaredConstructor();
-            constructor.setAccessible(true); // Enables access to protected constructor
-            U instance = constructor.newInstance();
-
-            instance.initialize(); // Assuming an initialization method needs to be called
+            U instance = clazz.cast((EFXControlBase<?>) CONSTRUCTORS.get(clazz)
+                                                                    .invokeExact());
+            instance.initialize();
             return instance;
         }
-        catch (Exception e) {
+        catch (Error e) {
+            throw e;
+        }
+        catch (Throwable e) {
             throw new RuntimeException(String.format("Error creating %s instance", clazz.getSimpleName()), e);
         }
     }
 
+    /**
+     * Resolves the no-argument constructor of a control class into a method handle returning {@code EFXControlBase}.
+     *
+     * @param type
+     *         The control class.
+     *
+     * @return The constructor handle.
+     *
+     * @throws IllegalStateException
+     *         If the class has no no-argument constructor or its package is not open to this module.
+     */
+    private static MethodHandle resolveConstructor(Class<?> type) {
+        try {
+            EFXControlBase.class.getModule()
+                                .addReads(type.getModule());
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                                .findConstructor(type, MethodType.methodType(void.class))
+                                .asType(MethodType.methodType(EFXControlBase.class));
+        }
+        catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(String.format("Cannot resolve the constructor of %s; pass a constructor reference to create(Supplier) instead", type.getName()), e);
+        }
+    }
+
     /**
      * Retrieves the inner control of the parent control.
      *
@@ -172,21 +229,6 @@ public abstract class EFXControlBase<T extends Control> extends Control {
      */
     protected abstract EFXControlBase<?> getControl();
 
-    /**
-     * Handles the loading of a new theme for the control.
-     *
-     * <p>This method must be implemented by subclasses of EFXControlBase to specify how a control responds to a theme change. It allows for dynamic updates of the control's visual appearance in response to
-     * changes in the application's theme.</p>
-     *
-     * @param obs
-     *         The observable object that triggered the theme change. This parameter allows for the implementation of observer patterns and can be used to react to specific changes in theme-related properties.
-     * @param oldEFXTheme
-     *         The previous theme that was applied to the control.
-     * @param newEFXTheme
-     *         The new theme that is being applied to the control.
-     */
-    protected abstract void loadNewTheme(Observable obs, EFXTheme oldEFXTheme, EFXTheme newEFXTheme);
-
     /**
      * Sets up the parent control.
      *
@@ -209,4 +251,68 @@ public abstract class EFXControlBase<T extends Control> extends Control {
      * method to handle its unique pseudoclass states.</p>
      */
     protected abstract void updatePseudoClassStates();
+
+    //region Layout Suspension
+    //*****************************************************************
+    // Layout Suspension
+    //*****************************************************************
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void suspendLayout() {
+        layoutSuspensions++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resumeLayout() {
+        if (layoutSuspensions > 0 && --layoutSuspensions == 0 && layoutRequestedWhileSuspended) {
+            layoutRequestedWhileSuspended = false;
+            requestLayout();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLayoutSuspended() {
+        return layoutSuspensions > 0;
+    }
+
+    /**
+     * Requests a layout pass, or records the request while layout is {@linkplain #suspendLayout() suspended}.
+     */
+    @Override
+    public void requestLayout() {
+        if (layoutSuspensions > 0) {
+            layoutRequestedWhileSuspended = true;
+        } else {
+            super.requestLayout();
+        }
+    }
+
+    //endregion Layout Suspension
+
+    //region Skin Creation
+    //*****************************************************************
+    // Skin Creation
+    //*****************************************************************
+
+    /**
+     * Installs the control's default skin now, if it has none, instead of during the first CSS pass after the control is shown.
+     *
+     * <p>Used by {@link EFXControlBatch} to move skin creation off the JavaFX Application Thread. Like any other change to the control, it must happen before the control is attached to a scene.</p>
+     */
+    void installDefaultSkin() {
+        if (Objects.isNull(getSkin())) {
+            setSkin(createDefaultSkin());
+        }
+    }
+
+    //endregion Skin Creation
 }
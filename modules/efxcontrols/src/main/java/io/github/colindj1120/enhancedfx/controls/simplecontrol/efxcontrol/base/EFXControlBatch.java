@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.controls.simplecontrol.efxcontrol.base;
+
+import io.github.colindj1120.enhancedfx.utils.EFXObjectUtils;
+import javafx.application.Platform;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * The {@code EFXControlBatch} class builds large numbers of controls in parallel, away from the JavaFX Application Thread, and hands them back ready to be attached.
+ *
+ * <p>JavaFX allows nodes to be created and modified on any thread until they are attached to a shown scene. Building a generated form with thousands of EFX controls on the JavaFX Application Thread
+ * blocks it for as long as construction takes; a batch splits the work into chunks, builds each chunk on its own thread, and only the final attach runs on the JavaFX Application Thread.</p>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *     <li>Chunks are built on virtual threads by default, or on any {@link Executor}, such as a fork-join pool.</li>
+ *     <li>Results keep the order of their indices, whichever thread built them.</li>
+ *     <li>Optionally installs the default skin of every EFX control while it is built, so skin creation moves off the JavaFX Application Thread as well.</li>
+ *     <li>{@link #buildAndAttach(Consumer)} hands the finished controls to the JavaFX Application Thread in a single step.</li>
+ * </ul>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>
+ * {@code
+ *     EFXControlBatch.create(3000, index -> EFXTextField.create("Field " + index))
+ *                    .createSkins(true)
+ *                    .buildAndAttach(form.getChildren()::setAll);
+ * }
+ * </pre>
+ *
+ * <p>The factory is called concurrently from several threads, so it must only create and configure the node it returns and must not touch nodes that are already attached to a scene. Each node is
+ * confined to the thread that builds it until the batch completes. The JavaFX toolkit must be started before controls are built.</p>
+ *
+ * @param <N>
+ *         The type of node built by the batch.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see EFXControlBase
+ */
+public final class EFXControlBatch<N extends Node> {
+    private static final int DEFAULT_CHUNK_SIZE = 64;
+
+    private final int                      count;
+    private final IntFunction<? extends N> factory;
+
+    private Executor executor;
+    private int      chunkSize = DEFAULT_CHUNK_SIZE;
+    private boolean  createSkins;
+
+    /**
+     * Constructs a batch of {@code count} nodes built by {@code factory}.
+     *
+     * @param count
+     *         The number of nodes to build.
+     * @param factory
+     *         The function building the node at an index.
+     */
+    private EFXControlBatch(int count, IntFunction<? extends N> factory) {
+        this.count   = count;
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a batch building {@code count} nodes, the node at each index being built by {@code factory}.
+     *
+     * @param count
+     *         The number of nodes to build, zero or more.
+     * @param factory
+     *         The function building the node at an index. It is called concurrently from several threads.
+     * @param <N>
+     *         The type of node built by the batch.
+     *
+     * @return A new batch.
+     *
+     * @throws IllegalArgumentException
+     *         If the count is negative or the factory is null.
+     */
+    public static <N extends Node> EFXControlBatch<N> create(int count, IntFunction<? extends N> factory) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Batch count cannot be negative");
+        }
+        EFXObjectUtils.isNotNull(factory, () -> "Factory cannot be null when creating a control batch");
+        return new EFXControlBatch<>(count, factory);
+    }
+
+    //region Configuration
+    //*****************************************************************
+    // Configuration
+    //*****************************************************************
+
+    /**
+     * Sets the executor the chunks are built on. By default, every chunk is built on its own virtual thread.
+     *
+     * @param executor
+     *         The executor, for example {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @return This batch.
+     *
+     * @throws IllegalArgumentException
+     *         If the executor is null.
+     */
+    public EFXControlBatch<N> executor(Executor executor) {
+        EFXObjectUtils.isNotNull(executor, () -> "Executor cannot be null");
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets how many nodes are built by one task. Defaults to 64.
+     *
+     * @param chunkSize
+     *         The number of nodes per task, must be positive.
+     *
+     * @return This batch.
+     *
+     * @throws IllegalArgumentException
+     *         If the chunk size is not positive.
+     */
+    public EFXControlBatch<N> chunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Sets whether the default skin of every {@link EFXControlBase} is installed while it is built, instead of during the first CSS pass after it is shown. Disabled by default.
+     *
+     * @param createSkins
+     *         {@code true} to create skins off the JavaFX Application Thread.
+     *
+     * @return This batch.
+     */
+    public EFXControlBatch<N> createSkins(boolean createSkins) {
+        this.createSkins = createSkins;
+        return this;
+    }
+
+    //endregion Configuration
+
+    //region Building
+    //*****************************************************************
+    // Building
+    //*****************************************************************
+
+    /**
+     * Starts building the nodes in parallel.
+     *
+     * @return A future completed with the nodes in index order, or completed exceptionally with the first failure of the factory.
+     */
+    public CompletableFuture<List<N>> buildAsync() {
+        if (count == 0) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        ExecutorService ownedExecutor = Objects.isNull(executor) ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        Executor        target        = Objects.isNull(ownedExecutor) ? executor : ownedExecutor;
+
+        List<CompletableFuture<List<N>>> chunks = new ArrayList<>((count + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < count; from += chunkSize) {
+            int start = from;
+            int end   = Math.min(from + chunkSize, count);
+            chunks.add(CompletableFuture.supplyAsync(() -> buildChunk(start, end), target));
+        }
+
+        CompletableFuture<List<N>> nodes = CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                                                            .thenApply(done -> joinChunks(chunks));
+        if (Objects.nonNull(ownedExecutor)) {
+            ownedExecutor.shutdown();
+        }
+        return nodes;
+    }
+
+    /**
+     * Builds the nodes in parallel and waits for them.
+     *
+     * @return The nodes in index order.
+     *
+     * @throws RuntimeException
+     *         The first exception thrown by the factory.
+     */
+    public List<N> build() {
+        try {
+            return buildAsync().join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Builds the nodes in parallel, then passes them to {@code attach} on the JavaFX Application Thread. The calling thread is never blocked.
+     *
+     * @param attach
+     *         Adds the nodes to the scene graph, for example {@code parent.getChildren()::setAll}.
+     *
+     * @return A future completed once the nodes have been attached.
+     *
+     * @throws IllegalArgumentException
+     *         If {@code attach} is null.
+     */
+    public CompletableFuture<Void> buildAndAttach(Consumer<? super List<N>> attach) {
+        EFXObjectUtils.isNotNull(attach, () -> "Attach action cannot be null");
+        return buildAsync().thenAcceptAsync(attach, Platform::runLater);
+    }
+
+    //endregion Building
+
+    //region Helper Functions
+    //*****************************************************************
+    // Helper Functions
+    //*****************************************************************
+
+    /**
+     * Builds the nodes of one chunk on the current thread.
+     *
+     * @param from
+     *         The index of the first node, inclusive.
+     * @param to
+     *         The index of the last node, exclusive.
+     *
+     * @return The nodes of the chunk, in index order.
+     */
+    private List<N> buildChunk(int from, int to) {
+        List<N> nodes = new ArrayList<>(to - from);
+        for (int index = from; index < to; index++) {
+            N node = factory.apply(index);
+            if (createSkins && node instanceof EFXControlBase<?> control) {
+                control.installDefaultSkin();
+            }
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    /**
+     * Concatenates the chunks of a completed batch.
+     *
+     * @param chunks
+     *         The completed chunks, in index order.
+     *
+     * @return All nodes, in index order.
+     */
+    private List<N> joinChunks(List<CompletableFuture<List<N>>> chunks) {
+        List<N> nodes = new ArrayList<>(count);
+        chunks.forEach(chunk -> nodes.addAll(chunk.join()));
+        return nodes;
+    }
+
+    //endregion Helper Functions
+}
@@ -23,12 +23,10 @@ import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxsupportedcontr
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxlabeled.efxbuttons.base.InnerButton;
 import io.github.colindj1120.enhancedfx.base.css.StyleablePropertiesManager;
 import io.github.colindj1120.enhancedfx.controls.css.EFXStylesheets;
-import io.github.colindj1120.enhancedfx.controls.css.EFXTheme;
 import io.github.colindj1120.enhancedfx.controls.skins.EFXButtonSkin;
 import io.github.colindj1120.enhancedfx.graphics.effects.ripple.EFXRippleEffect;
 import io.github.colindj1120.enhancedfx.utils.exceptions.SkinException;
 import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.custom.customcontrol.CustomControlConfigurator;
-import javafx.beans.Observable;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.css.CssMetaData;
@@ -55,19 +53,19 @@ public class EFXButton extends EFXSupportedControl<Button> implements RippleCont
     private ObjectProperty<Node> icon;
 
     public static EFXButton create() {
-        EFXButton efxButton = EFXControlBase.create(EFXButton.class);
+        EFXButton efxButton = EFXControlBase.create(EFXButton::new);
         efxButton.setupButton("", null);
         return efxButton;
     }
 
     public static EFXButton create(String text) {
-        EFXButton efxButton = EFXControlBase.create(EFXButton.class);
+        EFXButton efxButton = EFXControlBase.create(EFXButton::new);
         efxButton.setupButton(text, null);
         return efxButton;
     }
 
     public static EFXButton create(String text, Node graphic) {
-        EFXButton efxButton = EFXControlBase.create(EFXButton.class);
+        EFXButton efxButton = EFXControlBase.create(EFXButton::new);
         efxButton.setupButton(text, graphic);
         return efxButton;
     }
@@ -110,11 +108,6 @@ public class EFXButton extends EFXSupportedControl<Button> implements RippleCont
         return this;
     }
 
-    @Override
-    protected void loadNewTheme(Observable obs, EFXTheme oldEFXTheme, EFXTheme newEFXTheme) {
-        loadNewThemeHelper(EFXStylesheets.ENHANCED_BUTTON, oldEFXTheme, newEFXTheme);
-    }
-
     @Override
     protected void setupStyleableProperties() {
         super.setupStyleableProperties();
@@ -124,11 +117,10 @@ public class EFXButton extends EFXSupportedControl<Button> implements RippleCont
     @Override
     protected void setupControl() {
         super.setupControl();
-        String stylesheetPath = checkStylesheetPathExists(EFXStylesheets.ENHANCED_BUTTON, this.getClass());
+        registerThemeStylesheet(EFXStylesheets.ENHANCED_BUTTON);
 
         CustomControlConfigurator.create(this)
-                                 .addStyleClass(ENHANCED_BUTTON_STYLE_CLASS)
-                                 .addStylesheet(stylesheetPath);
+                                 .addStyleClass(ENHANCED_BUTTON_STYLE_CLASS);
     }
 
 
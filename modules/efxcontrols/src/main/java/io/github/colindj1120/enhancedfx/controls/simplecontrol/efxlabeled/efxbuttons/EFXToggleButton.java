@@ -24,11 +24,9 @@ import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxcontrol.base.E
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxlabeled.efxbuttons.base.InnerToggleButton;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxsupportedcontrol.EFXSupportedControl;
 import io.github.colindj1120.enhancedfx.controls.css.EFXStylesheets;
-import io.github.colindj1120.enhancedfx.controls.css.EFXTheme;
 import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.custom.customcontrol.CustomControlConfigurator;
 import io.github.colindj1120.enhancedfx.controls.skins.EFXToggleButtonSkin;
 import io.github.colindj1120.enhancedfx.graphics.effects.ripple.EFXRippleEffect;
-import javafx.beans.Observable;
 import javafx.css.CssMetaData;
 import javafx.css.Styleable;
 import javafx.scene.Node;
@@ -45,17 +43,17 @@ public class EFXToggleButton extends EFXSupportedControl<ToggleButton> implement
     private final ToggleButton innerControl = new ToggleButton();
 
     public static EFXToggleButton create() {
-        return EFXControlBase.create(EFXToggleButton.class);
+        return EFXControlBase.create(EFXToggleButton::new);
     }
 
     public static EFXToggleButton create(String text) {
-        EFXToggleButton efxToggleButton = EFXControlBase.create(EFXToggleButton.class);
+        EFXToggleButton efxToggleButton = EFXControlBase.create(EFXToggleButton::new);
         efxToggleButton.setupButton(text, null);
         return efxToggleButton;
     }
 
     public static EFXToggleButton create(String text, Node graphic) {
-        EFXToggleButton efxToggleButton = EFXControlBase.create(EFXToggleButton.class);
+        EFXToggleButton efxToggleButton = EFXControlBase.create(EFXToggleButton::new);
         efxToggleButton.setupButton(text, graphic);
         return efxToggleButton;
     }
@@ -80,11 +78,6 @@ public class EFXToggleButton extends EFXSupportedControl<ToggleButton> implement
         return this;
     }
 
-    @Override
-    protected void loadNewTheme(Observable obs, EFXTheme oldEFXTheme, EFXTheme newEFXTheme) {
-        loadNewThemeHelper(EFXStylesheets.ENHANCED_TOGGLE_BUTTON, oldEFXTheme, newEFXTheme);
-    }
-
     @Override
     protected void setupStyleableProperties() {
         //TODO
@@ -92,11 +85,11 @@ public class EFXToggleButton extends EFXSupportedControl<ToggleButton> implement
 
     @Override
     protected void setupControl() {
-        String stylesheetPath = checkStylesheetPathExists(EFXStylesheets.ENHANCED_BUTTON, this.getClass());
+        super.setupControl();
+        registerThemeStylesheet(EFXStylesheets.ENHANCED_TOGGLE_BUTTON);
 
         CustomControlConfigurator.create(this)
-                                 .addStyleClass(ENHANCED_TOGGLE_BUTTON_STYLE_CLASS)
-                                 .addStylesheet(stylesheetPath);
+                                 .addStyleClass(ENHANCED_TOGGLE_BUTTON_STYLE_CLASS);
     }
 
     /**
@@ -104,7 +97,7 @@ public class EFXToggleButton extends EFXSupportedControl<ToggleButton> implement
      */
     @Override
     protected Skin<?> createDefaultSkin() {
-        return new EFXToggleButtonSkin(this);
+        return EFXToggleButtonSkin.create(this);
     }
 
     /**
@@ -19,17 +19,16 @@ package io.github.colindj1120.enhancedfx.controls.simplecontrol.efxsupportedcont
 
 import io.github.colindj1120.enhancedfx.base.beans.efxstyleableproperty.EFXStyleableDoubleProperty;
 import io.github.colindj1120.enhancedfx.base.beans.efxstyleableproperty.EFXStyleableObjectProperty;
+import io.github.colindj1120.enhancedfx.base.css.CssKey;
 import io.github.colindj1120.enhancedfx.base.css.StyleablePropertiesManager;
 import io.github.colindj1120.enhancedfx.base.enums.EFXState;
 import io.github.colindj1120.enhancedfx.base.factory.CssFactory;
 import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.custom.customcontrol.CustomControlConfigurator;
 import io.github.colindj1120.enhancedfx.controls.css.EFXStylesheets;
-import io.github.colindj1120.enhancedfx.controls.css.EFXTheme;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxcontrol.EFXControl;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxsupportedcontrol.base.SupportingTextPosition;
 import io.github.colindj1120.enhancedfx.utils.EFXPropertyUtils;
 import io.github.colindj1120.enhancedfx.utils.converters.styleconverters.DoubleStyleConverter;
-import javafx.beans.Observable;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.css.CssMetaData;
 import javafx.css.PseudoClass;
@@ -38,6 +37,7 @@ import javafx.css.converter.EnumConverter;
 import javafx.scene.control.Control;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
@@ -109,6 +109,15 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
     protected static final PseudoClass                SUPPORTING_TEXT_POS_LEFT_PSEUDO_CLASS   = PseudoClass.getPseudoClass("supporting-text-pos-left");
     protected static final PseudoClass                SUPPORTING_TEXT_POS_RIGHT_PSEUDO_CLASS  = PseudoClass.getPseudoClass("supporting-text-pos-right");
 
+    private static final EFXState               DEFAULT_SUPPORTING_TEXT_STATE    = EFXState.DISABLED;
+    private static final SupportingTextPosition DEFAULT_SUPPORTING_TEXT_POSITION = SupportingTextPosition.LEFT;
+    private static final double                 DEFAULT_SUPPORTING_TEXT_OFFSET   = 0.0;
+
+    private static final CssKey<EFXSupportedControl<?>, SupportingTextPosition> SUPPORTING_TEXT_POSITION_CSS_KEY;
+    private static final CssKey<EFXSupportedControl<?>, EFXState>               SUPPORTING_TEXT_STATE_CSS_KEY;
+    private static final CssKey<EFXSupportedControl<?>, Double>                 SUPPORTING_TEXT_X_OFFSET_CSS_KEY;
+    private static final CssKey<EFXSupportedControl<?>, Double>                 SUPPORTING_TEXT_Y_OFFSET_CSS_KEY;
+
     protected SimpleStringProperty                               supportingText;
     protected EFXStyleableObjectProperty<EFXState>               supportingTextState;
     protected EFXStyleableObjectProperty<SupportingTextPosition> supportingTextPosition;
@@ -125,10 +134,10 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
         supportingTextPositionCssFactory = CssFactory.<EFXSupportedControl<?>, SupportingTextPosition>create()
                                                      .property("-efx-supporting-text-position")
                                                      .converter(EnumConverter.getEnumConverter(SupportingTextPosition.class))
-                                                     .initialValue(SupportingTextPosition.LEFT)
-                                                     .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.supportingTextPosition) && node.isSupportingTextEnabled())
-                                                     .propertyGetterFunction(node -> node.supportingTextPosition);
-        STYLES_MANAGER.addCssMetaData(supportingTextPositionCssFactory);
+                                                     .initialValue(DEFAULT_SUPPORTING_TEXT_POSITION)
+                                                     .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.supportingTextPosition) && node.isSupportingTextEnabled())
+                                                     .propertyGetterFunction(EFXSupportedControl::supportingTextPositionProperty);
+        SUPPORTING_TEXT_POSITION_CSS_KEY = STYLES_MANAGER.addCssMetaData(supportingTextPositionCssFactory);
 
         //endregion Supporting Text Position
 
@@ -141,10 +150,10 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
         supportingTextStateCssFactory = CssFactory.<EFXSupportedControl<?>, EFXState>create()
                                                   .property("-efx-supporting-text-state")
                                                   .converter(EnumConverter.getEnumConverter(EFXState.class))
-                                                  .initialValue(EFXState.DISABLED)
-                                                  .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.supportingTextState))
-                                                  .propertyGetterFunction(node -> node.supportingTextState);
-        STYLES_MANAGER.addCssMetaData(supportingTextStateCssFactory);
+                                                  .initialValue(DEFAULT_SUPPORTING_TEXT_STATE)
+                                                  .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.supportingTextState))
+                                                  .propertyGetterFunction(EFXSupportedControl::supportingTextStateProperty);
+        SUPPORTING_TEXT_STATE_CSS_KEY = STYLES_MANAGER.addCssMetaData(supportingTextStateCssFactory);
 
         //endregion Supporting Text EFXState
 
@@ -157,10 +166,10 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
         supportingTextXOffsetCssFactory = CssFactory.<EFXSupportedControl<?>, Double>create()
                                                     .property("-efx-supporting-text-x-offset")
                                                     .converter(DoubleStyleConverter.getInstance())
-                                                    .initialValue(0.0)
-                                                    .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.supportingTextXOffset))
-                                                    .propertyGetterFunction(node -> node.supportingTextXOffset);
-        STYLES_MANAGER.addCssMetaData(supportingTextXOffsetCssFactory);
+                                                    .initialValue(DEFAULT_SUPPORTING_TEXT_OFFSET)
+                                                    .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.supportingTextXOffset))
+                                                    .propertyGetterFunction(EFXSupportedControl::supportingTextXOffsetProperty);
+        SUPPORTING_TEXT_X_OFFSET_CSS_KEY = STYLES_MANAGER.addCssMetaData(supportingTextXOffsetCssFactory);
 
         //endregion Supporting Text X Offset
 
@@ -173,10 +182,10 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
         supportingTextYOffsetCssFactory = CssFactory.<EFXSupportedControl<?>, Double>create()
                                                     .property("-efx-supporting-text-y-offset")
                                                     .converter(DoubleStyleConverter.getInstance())
-                                                    .initialValue(0.0)
-                                                    .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.supportingTextYOffset))
-                                                    .propertyGetterFunction(node -> node.supportingTextYOffset);
-        STYLES_MANAGER.addCssMetaData(supportingTextYOffsetCssFactory);
+                                                    .initialValue(DEFAULT_SUPPORTING_TEXT_OFFSET)
+                                                    .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.supportingTextYOffset))
+                                                    .propertyGetterFunction(EFXSupportedControl::supportingTextYOffsetProperty);
+        SUPPORTING_TEXT_Y_OFFSET_CSS_KEY = STYLES_MANAGER.addCssMetaData(supportingTextYOffsetCssFactory);
 
         //endregion Supporting Text Y Offset
 
@@ -228,76 +237,19 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
     protected abstract EFXSupportedControl<?> getControl();
 
     /**
-     * {@inheritDoc}
-     *
-     * @param obs
-     *         The observable object that triggered the theme change. This parameter allows for the implementation of observer patterns and can be used to react to specific changes in theme-related properties.
-     * @param oldEFXTheme
-     *         The previous theme that was applied to the control.
-     * @param newEFXTheme
-     *         The new theme that is being applied to the control.
-     */
-    @Override
-    protected void loadNewTheme(Observable obs, EFXTheme oldEFXTheme, EFXTheme newEFXTheme) {
-        loadNewThemeHelper(EFXStylesheets.ENHANCED_SUPPORTED_CONTROL, oldEFXTheme, newEFXTheme);
-    }
-
-    /**
-     * This method builds upon {@code setupStyleableProperties} from the superclass, and sets up the styleable properties for this subclass instance. It is responsible for initializing the
-     * {@code supportingTextEFXState} and {@code supportingTextPosition} properties of this object's state.
+     * Sets up the styleable properties of this control. The supporting text properties are not created here: most controls never change them, so each property is created by its accessor on first use
+     * and, until then, its getter reports the shared default of the class.
      *
      * <h2>Properties:</h2>
      * <ul>
-     *     <li>{@code supportingTextEFXState}: Represents the position of supporting text in the interface. It holds a value of the {@code SupportingTextPosition} enumeration.</li>
-     *     <li>{@code supportingTextPosition}: Represents the position of supporting text in the interface. It holds a value of the {@code SupportingTextPosition} enumeration.</li>
-     * </ul>
-     *
-     * <p>
-     * <em>Both properties are initialized with:</em>
-     * <ul>
-     *     <li><b>Bean</b>: This instance serving as the bean in which the property resides.</li>
-     *     <li><b>Name</b>: The name of the property, set to either "supportingTextEFXState" or "supportingTextPosition".</li>
-     *     <li><b>CssMetaData</b>: The CSS metadata linked to the property, obtained by searching for "-supporting-text-state" or "-supporting-text-position".</li>
-     *     <li><b>DefaultValue</b>: The initial value of the property, set to `EFXState.DISABLED` or `SupportingTextPosition.LEFT` respectively.</li>
-     *     <li><b>InvalidatedPropCallback/InvalidatedCachedCallback</b>: The callback method that executes when the property becomes invalid.</li>
+     *     <li>{@code supportingTextState}: Created by {@link #supportingTextStateProperty()}, with the default {@code EFXState.DISABLED}.</li>
+     *     <li>{@code supportingTextPosition}: Created by {@link #supportingTextPositionProperty()}, with the default {@code SupportingTextPosition.LEFT}.</li>
+     *     <li>{@code supportingTextXOffset} and {@code supportingTextYOffset}: Created by their accessors, with the default {@code 0.0}.</li>
      * </ul>
-     * </p>
      *
-     * <p>This process uses the {@code ExtendedStyleableObjectPropertyFactory.builder()} to configure and initialize the property.</p>
-     *
-     * <p>This subclass method adds styleable properties relevant to the specifics of this subclass, supplementing and complementing those set up via the superclass method.</p>
+     * <p>Subclasses that override this method to set up their own styleable properties must call {@code super.setupStyleableProperties()}.</p>
      */
-    protected void setupStyleableProperties() {
-        supportingTextState = EFXStyleableObjectProperty.<EFXState>create()
-                                                        .bean(this)
-                                                        .name("supportingTextEFXState")
-                                                        .cssMetaData(STYLES_MANAGER.findCssMetaData("-efx-supporting-text-state"))
-                                                        .initialValue(EFXState.DISABLED)
-                                                        .invalidatedPropCallback(this::supportingTextStateInvalidated)
-                                                        .build();
-
-        supportingTextPosition = EFXStyleableObjectProperty.<SupportingTextPosition>create()
-                                                           .bean(this)
-                                                           .name("supportingTextPosition")
-                                                           .cssMetaData(STYLES_MANAGER.findCssMetaData("-efx-supporting-text-position"))
-                                                           .initialValue(SupportingTextPosition.LEFT)
-                                                           .invalidatedCachedCallback(this::supportingTextPositionInvalidated)
-                                                           .build();
-
-        supportingTextXOffset = EFXStyleableDoubleProperty.create()
-                                                          .bean(this)
-                                                          .name("supportingTextXOffset")
-                                                          .cssMetaData(STYLES_MANAGER.findCssMetaData("-efx-supporting-text-x-offset"))
-                                                          .initialValue(0.0)
-                                                          .build();
-
-        supportingTextYOffset = EFXStyleableDoubleProperty.create()
-                                                          .bean(this)
-                                                          .name("supportingTextYOffset")
-                                                          .cssMetaData(STYLES_MANAGER.findCssMetaData("-efx-supporting-text-y-offset"))
-                                                          .initialValue(0.0)
-                                                          .build();
-    }
+    protected void setupStyleableProperties() {}
 
     /**
      * This method builds upon {@code setupControl} from the superclass, and sets up the control with necessary styling configurations. This method is designed to be overridden by subclasses, hence it's marked
@@ -306,25 +258,25 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * <p>
      * <em>Actions:</em>
      * <ul>
-     *     <li>Verifies the existence of the stylesheet path for the {@code ENHANCED_SUPPORTED_CONTROL} stylesheet, relevant to the current class's context.</li>
+     *     <li>Runs the setup of {@link EFXControl}, which makes the control itself non focus traversable so keyboard traversal lands on its inner control.</li>
+     *     <li>Registers the {@code ENHANCED_SUPPORTED_CONTROL} stylesheet, which verifies it exists and makes it the control's user-agent stylesheet.</li>
      *     <li>Creates a {@link CustomControlConfigurator} instance for the current control.</li>
      *     <li>Adds a predefined style class {@code ENHANCED_SUPPORTING_TEXT_STYLE} to the control.</li>
-     *     <li>Adds the stylesheet, located at the verified path, to the control.</li>
      * </ul>
      * <br>
      * This setup process is essential for ensuring that the control adheres to a specific appearance and behavior defined by the {@code ENHANCED_SUPPORTED_CONTROL} and {@code ENHANCED_SUPPORTING_TEXT_STYLE}.
      * </p>
      *
-     * @implNote This method relies on {@code checkStylesheetPathExists} to validate the stylesheet path's existence. It's crucial that this validation step is accurate to prevent runtime errors related
+     * @implNote This method relies on {@code registerThemeStylesheet} to validate the stylesheet path's existence. It's crucial that this validation step is accurate to prevent runtime errors related
      *         to missing resources. The {@code CustomNodeConfigurator} is used to fluently apply configuration settings to the control, showcasing an example of the Builder pattern for setup tasks.
      */
     @Override
     protected void setupControl() {
-        String stylesheetPath = checkStylesheetPathExists(EFXStylesheets.ENHANCED_SUPPORTED_CONTROL, this.getClass());
+        super.setupControl();
+        registerThemeStylesheet(EFXStylesheets.ENHANCED_SUPPORTED_CONTROL);
 
         CustomControlConfigurator.create(getControl())
-                                 .addStyleClass(ENHANCED_SUPPORTING_TEXT_STYLE)
-                                 .addStylesheet(stylesheetPath);
+                                 .addStyleClass(ENHANCED_SUPPORTING_TEXT_STYLE);
     }
 
     /**
@@ -389,7 +341,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return The current state of the supporting text as an EFXState object. Possible values are ENABLED and DISABLED.
      */
     public EFXState getSupportingTextState() {
-        return supportingTextState.get();
+        return Objects.isNull(supportingTextState) ? DEFAULT_SUPPORTING_TEXT_STATE : supportingTextState.get();
     }
 
     /**
@@ -398,6 +350,15 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return The supporting text state property of the object.
      */
     public EFXStyleableObjectProperty<EFXState> supportingTextStateProperty() {
+        if (Objects.isNull(supportingTextState)) {
+            supportingTextState = EFXStyleableObjectProperty.<EFXState>create()
+                                                            .bean(this)
+                                                            .name("supportingTextEFXState")
+                                                            .cssMetaData(SUPPORTING_TEXT_STATE_CSS_KEY)
+                                                            .initialValue(DEFAULT_SUPPORTING_TEXT_STATE)
+                                                            .invalidatedPropCallback(this::supportingTextStateInvalidated)
+                                                            .build();
+        }
         return supportingTextState;
     }
 
@@ -411,7 +372,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      *         The supporting text state to set (ENABLED or DISABLED) as a EFXState enum.
      */
     public void setSupportingTextState(EFXState supportingTextEFXState) {
-        this.supportingTextState.set(supportingTextEFXState);
+        supportingTextStateProperty().set(supportingTextEFXState);
     }
 
     /**
@@ -420,7 +381,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return {@code true} if the supporting text is enabled, {@code false} otherwise.
      */
     public Boolean isSupportingTextEnabled() {
-        return supportingTextState.valueEquals(EFXState.ENABLED);
+        return getSupportingTextState() == EFXState.ENABLED;
     }
 
     /**
@@ -429,7 +390,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return {@code true} if the supporting text is disabled, {@code false} otherwise
      */
     public Boolean isSupportingTextDisabled() {
-        return supportingTextState.valueEquals(EFXState.DISABLED);
+        return getSupportingTextState() == EFXState.DISABLED;
     }
 
     /**
@@ -438,7 +399,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return The SupportingTextPosition enum representing the position of the supporting text.
      */
     public SupportingTextPosition getSupportingTextPosition() {
-        return supportingTextPosition.get();
+        return Objects.isNull(supportingTextPosition) ? DEFAULT_SUPPORTING_TEXT_POSITION : supportingTextPosition.get();
     }
 
     /**
@@ -447,6 +408,15 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return The supporting text position property of the object.
      */
     public EFXStyleableObjectProperty<SupportingTextPosition> supportingTextPositionProperty() {
+        if (Objects.isNull(supportingTextPosition)) {
+            supportingTextPosition = EFXStyleableObjectProperty.<SupportingTextPosition>create()
+                                                               .bean(this)
+                                                               .name("supportingTextPosition")
+                                                               .cssMetaData(SUPPORTING_TEXT_POSITION_CSS_KEY)
+                                                               .initialValue(DEFAULT_SUPPORTING_TEXT_POSITION)
+                                                               .invalidatedCachedCallback(this::supportingTextPositionInvalidated)
+                                                               .build();
+        }
         return supportingTextPosition;
     }
 
@@ -457,7 +427,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      *         The position of the supporting text.
      */
     public void setSupportingTextPosition(SupportingTextPosition supportingTextPosition) {
-        this.supportingTextPosition.set(supportingTextPosition);
+        supportingTextPositionProperty().set(supportingTextPosition);
     }
 
     /**
@@ -466,7 +436,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return {@code true} if the supporting text position is set to LEFT, {@code false} otherwise.
      */
     public Boolean isSupportingTextPosLeft() {
-        return supportingTextPosition.valueEquals(SupportingTextPosition.LEFT);
+        return getSupportingTextPosition() == SupportingTextPosition.LEFT;
     }
 
     /**
@@ -475,7 +445,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return {@code true} if the supporting text position is set to RIGHT, {@code false} otherwise.
      */
     public Boolean isSupportingTextPosRight() {
-        return supportingTextPosition.valueEquals(SupportingTextPosition.RIGHT);
+        return getSupportingTextPosition() == SupportingTextPosition.RIGHT;
     }
 
     /**
@@ -484,7 +454,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return {@code true} if the supporting text position is set to TOP, {@code false} otherwise.
      */
     public Boolean isSupportingTextPosTop() {
-        return supportingTextPosition.valueEquals(SupportingTextPosition.TOP);
+        return getSupportingTextPosition() == SupportingTextPosition.TOP;
     }
 
     /**
@@ -493,7 +463,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return {@code true} if the supporting text position is set BOTTOM, {@code false} otherwise.
      */
     public Boolean isSupportingTextPosBottom() {
-        return supportingTextPosition.valueEquals(SupportingTextPosition.BOTTOM);
+        return getSupportingTextPosition() == SupportingTextPosition.BOTTOM;
     }
 
     /**
@@ -502,7 +472,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return the x-offset of the supporting text
      */
     public double getSupportingTextXOffset() {
-        return supportingTextXOffset.get();
+        return Objects.isNull(supportingTextXOffset) ? DEFAULT_SUPPORTING_TEXT_OFFSET : supportingTextXOffset.get();
     }
 
     /**
@@ -511,6 +481,14 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return the supporting text x-offset property
      */
     public EFXStyleableDoubleProperty supportingTextXOffsetProperty() {
+        if (Objects.isNull(supportingTextXOffset)) {
+            supportingTextXOffset = EFXStyleableDoubleProperty.create()
+                                                              .bean(this)
+                                                              .name("supportingTextXOffset")
+                                                              .cssMetaData(SUPPORTING_TEXT_X_OFFSET_CSS_KEY)
+                                                              .initialValue(DEFAULT_SUPPORTING_TEXT_OFFSET)
+                                                              .build();
+        }
         return supportingTextXOffset;
     }
 
@@ -521,7 +499,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      *         the x offset value to set
      */
     public void setSupportingTextXOffset(double supportingTextXOffset) {
-        this.supportingTextXOffset.set(supportingTextXOffset);
+        supportingTextXOffsetProperty().set(supportingTextXOffset);
     }
 
     /**
@@ -530,7 +508,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return the y-offset of the supporting text
      */
     public double getSupportingTextYOffset() {
-        return supportingTextYOffset.get();
+        return Objects.isNull(supportingTextYOffset) ? DEFAULT_SUPPORTING_TEXT_OFFSET : supportingTextYOffset.get();
     }
 
     /**
@@ -539,6 +517,14 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @return the supportingTextYOffset property
      */
     public EFXStyleableDoubleProperty supportingTextYOffsetProperty() {
+        if (Objects.isNull(supportingTextYOffset)) {
+            supportingTextYOffset = EFXStyleableDoubleProperty.create()
+                                                              .bean(this)
+                                                              .name("supportingTextYOffset")
+                                                              .cssMetaData(SUPPORTING_TEXT_Y_OFFSET_CSS_KEY)
+                                                              .initialValue(DEFAULT_SUPPORTING_TEXT_OFFSET)
+                                                              .build();
+        }
         return supportingTextYOffset;
     }
 
@@ -549,7 +535,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      *         The y offset value for supporting text.
      */
     public void setSupportingTextYOffset(double supportingTextYOffset) {
-        this.supportingTextYOffset.set(supportingTextYOffset);
+        supportingTextYOffsetProperty().set(supportingTextYOffset);
     }
 
     //endregion Getters and Setters
@@ -572,7 +558,7 @@ public abstract class EFXSupportedControl<T extends Control> extends EFXControl<
      * @param prop
      *         The {@code EFXStyleableObjectProperty} representing the supporting text state. This property holds the current state and triggers this method upon invalidation.
      */
-    private void supportingTextStateInvalidated(EFXStyleableObjectProperty<EFXState> prop) {
+    protected void supportingTextStateInvalidated(EFXStyleableObjectProperty<EFXState> prop) {
         EFXState efxState = prop.get();
         pseudoClassStateChanged(SUPPORTING_TEXT_ENABLED_PSEUDO_CLASS, efxState.equals(EFXState.ENABLED));
     }
@@ -18,6 +18,7 @@
 package io.github.colindj1120.enhancedfx.controls.simplecontrol.efxtext;
 
 import io.github.colindj1120.enhancedfx.base.beans.efxstyleableproperty.EFXStyleableObjectProperty;
+import io.github.colindj1120.enhancedfx.base.css.CssKey;
 import io.github.colindj1120.enhancedfx.base.css.StyleablePropertiesManager;
 import io.github.colindj1120.enhancedfx.base.enums.EFXState;
 import io.github.colindj1120.enhancedfx.base.factory.CssFactory;
@@ -26,10 +27,8 @@ import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxcontrol.base.E
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxtext.base.EFXTextBase;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxtext.base.InnerTextArea;
 import io.github.colindj1120.enhancedfx.controls.css.EFXStylesheets;
-import io.github.colindj1120.enhancedfx.controls.css.EFXTheme;
 import io.github.colindj1120.enhancedfx.controls.skins.EFXTextAreaSkin;
 import io.github.colindj1120.enhancedfx.utils.EFXPropertyUtils;
-import javafx.beans.Observable;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.css.CssMetaData;
@@ -91,6 +90,8 @@ public class EFXTextArea extends EFXTextBase<TextArea> implements InnerTextArea<
 
     private static final StyleablePropertiesManager STYLES_MANAGER = new StyleablePropertiesManager(EFXTextBase.getClassCssMetaData());
 
+    private static final CssKey<EFXTextArea, EFXState> TITLE_STATE_CSS_KEY;
+
     protected static final PseudoClass TITLE_TEXT_ENABLED_PSEUDO_CLASS  = PseudoClass.getPseudoClass("title-text-enabled");
     protected static final PseudoClass TITLE_TEXT_DISABLED_PSEUDO_CLASS = PseudoClass.getPseudoClass("title-text-disabled");
 
@@ -110,19 +111,19 @@ public class EFXTextArea extends EFXTextBase<TextArea> implements InnerTextArea<
                                       .property("-efx-title-state")
                                       .converter(EnumConverter.getEnumConverter(EFXState.class))
                                       .initialValue(EFXState.DISABLED)
-                                      .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.titleState))
+                                      .isSettablePredicate(node -> EFXPropertyUtils.checkProperty(node.titleState))
                                       .propertyGetterFunction(node -> node.titleState);
-        STYLES_MANAGER.addCssMetaData(titleStateFactory);
+        TITLE_STATE_CSS_KEY = STYLES_MANAGER.addCssMetaData(titleStateFactory);
 
         //endregion Title EFXState
     }
 
     public static EFXTextArea create() {
-        return EFXControlBase.create(EFXTextArea.class);
+        return EFXControlBase.create(EFXTextArea::new);
     }
 
     public static EFXTextArea create(String text) {
-        EFXTextArea efxTextArea = EFXControlBase.create(EFXTextArea.class);
+        EFXTextArea efxTextArea = EFXControlBase.create(EFXTextArea::new);
         efxTextArea.setText(text);
 
         return efxTextArea;
@@ -159,11 +160,6 @@ public class EFXTextArea extends EFXTextBase<TextArea> implements InnerTextArea<
         return this;
     }
 
-    @Override
-    protected void loadNewTheme(Observable obs, EFXTheme oldEFXTheme, EFXTheme newEFXTheme) {
-        loadNewThemeHelper(EFXStylesheets.ENHANCED_TEXT_AREA, oldEFXTheme, newEFXTheme);
-    }
-
     /**
      * This method builds upon {@code setupStyleableProperties} from the superclass, and configures the styleable properties specific to this {@code EFXTextArea} control instance such as {@code titleState} to
      * {@code EFXTextArea} control's capabilities.
@@ -198,7 +194,7 @@ public class EFXTextArea extends EFXTextBase<TextArea> implements InnerTextArea<
         titleState = EFXStyleableObjectProperty.<EFXState>create()
                                                .bean(this)
                                                .name("titleState")
-                                               .cssMetaData(STYLES_MANAGER.findCssMetaData("-efx-title-state"))
+                                               .cssMetaData(TITLE_STATE_CSS_KEY)
                                                .initialValue(EFXState.DISABLED)
                                                .invalidatedPropCallback(this::titleTextStateInvalidated)
                                                .build();
@@ -222,11 +218,10 @@ public class EFXTextArea extends EFXTextBase<TextArea> implements InnerTextArea<
     @Override
     protected void setupControl() {
         super.setupControl();
-        String stylesheetPath = checkStylesheetPathExists(EFXStylesheets.ENHANCED_TEXT_AREA, this.getClass());
+        registerThemeStylesheet(EFXStylesheets.ENHANCED_TEXT_AREA);
 
         CustomControlConfigurator.create(getControl())
-                                 .addStyleClass(ENHANCED_TEXT_AREA_STYLE_CLASS)
-                                 .addStylesheet(stylesheetPath);
+                                 .addStyleClass(ENHANCED_TEXT_AREA_STYLE_CLASS);
     }
 
     /**
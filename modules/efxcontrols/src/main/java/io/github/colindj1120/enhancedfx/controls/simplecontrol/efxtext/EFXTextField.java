@@ -19,11 +19,11 @@ package io.github.colindj1120.enhancedfx.controls.simplecontrol.efxtext;
 
 import io.github.colindj1120.enhancedfx.base.beans.binding.EFXBooleanBinding;
 import io.github.colindj1120.enhancedfx.base.beans.efxstyleableproperty.EFXStyleableObjectProperty;
+import io.github.colindj1120.enhancedfx.base.css.CssKey;
 import io.github.colindj1120.enhancedfx.base.css.StyleablePropertiesManager;
 import io.github.colindj1120.enhancedfx.base.factory.CssFactory;
 import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.custom.customcontrol.CustomControlConfigurator;
 import io.github.colindj1120.enhancedfx.controls.css.EFXStylesheets;
-import io.github.colindj1120.enhancedfx.controls.css.EFXTheme;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxcontrol.base.EFXControlBase;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxtext.base.EFXTextBase;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxtext.base.FloatMode;
@@ -44,6 +44,7 @@ import javafx.scene.control.Skin;
 import javafx.scene.control.TextField;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 
@@ -101,6 +102,10 @@ public class EFXTextField extends EFXTextBase<TextField> implements InnerTextFie
     protected static final PseudoClass                FLOAT_MODE_ABOVE_PSEUDO_CLASS    = PseudoClass.getPseudoClass("float-mode-above");
     protected static final PseudoClass                FLOAT_MODE_INSIDE_PSEUDO_CLASS   = PseudoClass.getPseudoClass("float-mode-inside");
 
+    private static final FloatMode DEFAULT_FLOAT_MODE = FloatMode.DISABLED;
+
+    private static final CssKey<EFXTextField, FloatMode> FLOAT_MODE_CSS_KEY;
+
     protected TextField             innerControl = new TextField();
     private   SimpleStringProperty  floatingText;
     private   SimpleBooleanProperty alwaysFloating;
@@ -119,10 +124,10 @@ public class EFXTextField extends EFXTextBase<TextField> implements InnerTextFie
         floatModeCssFactory = CssFactory.<EFXTextField, FloatMode>create()
                                         .property("-efx-float-mode")
                                         .converter(EnumConverter.getEnumConverter(FloatMode.class))
-                                        .initialValue(FloatMode.DISABLED)
-                                        .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.floatMode) && !(node.isTextModeFilled() && node.isFloatModeBorder()))
-                                        .propertyGetterFunction(node -> node.floatMode);
-        STYLES_MANAGER.addCssMetaData(floatModeCssFactory);
+                                        .initialValue(DEFAULT_FLOAT_MODE)
+                                        .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.floatMode) && !(node.isTextModeFilled() && node.isFloatModeBorder()))
+                                        .propertyGetterFunction(EFXTextField::floatModeProperty);
+        FLOAT_MODE_CSS_KEY = STYLES_MANAGER.addCssMetaData(floatModeCssFactory);
 
         //endregion Float Mode
     }
@@ -153,7 +158,7 @@ public class EFXTextField extends EFXTextBase<TextField> implements InnerTextFie
      * @return A newly created instance of {@code EFXTextField} initialized with the specified text.
      */
     public static EFXTextField create(String text) {
-        EFXTextField efxTextField = EFXControlBase.create(EFXTextField.class);
+        EFXTextField efxTextField = EFXControlBase.create(EFXTextField::new);
 
         efxTextField.setText(text);
 
@@ -207,82 +212,31 @@ public class EFXTextField extends EFXTextBase<TextField> implements InnerTextFie
         return this;
     }
 
-    /**
-     * {@inheritDoc}
-     *
-     * @param obs
-     *         The observable object that triggered the theme change. This parameter allows for the implementation of observer patterns and can be used to react to specific changes in theme-related properties.
-     * @param oldEFXTheme
-     *         The previous theme that was applied to the control.
-     * @param newEFXTheme
-     *         The new theme that is being applied to the control.
-     */
-    @Override
-    protected void loadNewTheme(Observable obs, EFXTheme oldEFXTheme, EFXTheme newEFXTheme) {
-        loadNewThemeHelper(EFXStylesheets.ENHANCED_TEXT_FIELD, oldEFXTheme, newEFXTheme);
-    }
-
-    /**
-     * This method builds upon {@code setupStyleableProperties} from the superclass, and sets up the styleable properties for the {@code EFXTextField} control. It is responsible for initializing the
-     * {@code floatMode} property.
-     *
-     * <h2>Properties:</h2>
-     * <ul>
-     *     <li>{@code floatMode}: Represents the floating state of the text field. It holds a value of the {@code FloatMode} enumeration.</li>
-     * </ul>
-     *
-     * <p>
-     * <em>The properties are initialized with:</em>
-     * <ul>
-     *     <li><b>Bean</b>: This instance serving as the bean in which the property resides.</li>
-     *     <li><b>Name</b>: The name of the property, set to either "floatMode" or "textMode".</li>
-     *     <li><b>CssMetaData</b>: The CSS metadata linked to the property, obtained by searching for "-float-mode" or "-text-field-mode".</li>
-     *     <li><b>DefaultValue</b>: The initial value of the property, set to `FloatMode.DISABLED` or `TextMode.OUTLINED` respectively.</li>
-     *     <li><b>InvalidatedCachedCallback</b>: The callback method that executes when the property becomes invalid.</li>
-     * </ul>
-     * </p>
-     *
-     * <p>This method adds styleable properties specifically relevant to the EFXTextField control, supplementing and complementing those set up via the superclass method.</p>
-     */
-    @Override
-    protected void setupStyleableProperties() {
-        super.setupStyleableProperties();
-        floatMode = EFXStyleableObjectProperty.<FloatMode>create()
-                                              .bean(this)
-                                              .name("floatMode")
-                                              .cssMetaData(STYLES_MANAGER.findCssMetaData("-efx-float-mode"))
-                                              .initialValue(FloatMode.DISABLED)
-                                              .invalidatedCachedCallback(this::floatModeInvalidated)
-                                              .build();
-    }
-
     /**
      * This method builds upon {@code setupControl} from the superclass, and configures the initial setup for the custom text field control.
      *
      * <p>
      * <em>The method performs the following actions to ensure the control is correctly initialized:</em>
      * <ul>
-     *     <li>Verifies the existence of a stylesheet specific to {@code ENHANCED_TEXT_FIELD} and retrieves its path.</li>
+     *     <li>Registers the {@code ENHANCED_TEXT_FIELD} stylesheet, which verifies it exists and makes it the control's user-agent stylesheet.</li>
      *     <li>Creates a {@link CustomControlConfigurator} instance for this control, allowing for fluent configuration and application of styles and behaviors.</li>
      *     <li>Sets a predefined style class {@code ENHANCED_TEXT_FIELD_STYLE} to apply base styling rules from the stylesheet.</li>
-     *     <li>Adds the stylesheet located at the verified path, ensuring the control adheres to the visual design specified in the CSS file.</li>
      * </ul>
      * </p>
      *
      * <p>This setup method is vital for ensuring that the enhanced text field is not only visually appealing but also functionally rich, supporting features like float animation and responsive styling
      * adjustments.</p>
      *
-     * @implNote The method relies on {@code checkStylesheetPathExists} to ensure the stylesheet path is valid and accessible. This is a critical step to prevent runtime errors due to missing resources.
+     * @implNote The method relies on {@code registerThemeStylesheet} to ensure the stylesheet path is valid and accessible. This is a critical step to prevent runtime errors due to missing resources.
      *         The {@code CustomNodeConfigurator} is used to apply configuration settings succinctly, showcasing an efficient and readable way to set up custom controls.
      */
     @Override
     protected void setupControl() {
         super.setupControl();
-        String stylesheetPath = checkStylesheetPathExists(EFXStylesheets.ENHANCED_TEXT_FIELD, this.getClass());
+        registerThemeStylesheet(EFXStylesheets.ENHANCED_TEXT_FIELD);
 
         CustomControlConfigurator.create(this)
-                                 .addStyleClass(ENHANCED_TEXT_FIELD_STYLE)
-                                 .addStylesheet(stylesheetPath);
+                                 .addStyleClass(ENHANCED_TEXT_FIELD_STYLE);
     }
 
     /**
@@ -347,7 +301,7 @@ public class EFXTextField extends EFXTextBase<TextField> implements InnerTextFie
      */
     private BooleanBinding getFloatAnimationEnabledBinding() {
         Callable<Boolean> initialFloatAnimEnabled    = () -> !isFloatModeDisabled() && !isAlwaysFloating() && getText().isEmpty() && getPromptText().isEmpty();
-        Observable[]      floatAnimationDependencies = {floatMode, alwaysFloating, textProperty(), promptTextProperty()};
+        Observable[]      floatAnimationDependencies = {floatModeProperty(), alwaysFloating, textProperty(), promptTextProperty()};
 
         return Bindings.createBooleanBinding(initialFloatAnimEnabled, floatAnimationDependencies);
     }
@@ -358,7 +312,7 @@ public class EFXTextField extends EFXTextBase<TextField> implements InnerTextFie
      * @return the value of the isFloatModeBorder property, indicating whether the float mode border is enabled or disabled.
      */
     public Boolean isFloatModeBorder() {
-        return floatMode.get() == FloatMode.BORDER;
+        return getFloatMode() == FloatMode.BORDER;
     }
 
     /**
@@ -367,7 +321,7 @@ public class EFXTextField extends EFXTextBase<TextField> implements InnerTextFie
      * @return {@code true} if the float mode is inside, {@code false} otherwise.
      */
     public Boolean isFloatModeInside() {
-        return floatMode.valueEquals(FloatMode.INSIDE);
+        return getFloatMode() == FloatMode.INSIDE;
     }
 
     /**
@@ -376,7 +330,7 @@ public class EFXTextField extends EFXTextBase<TextField> implements InnerTextFie
      * @return true if the float mode is above the specified value, false otherwise.
      */
     public Boolean isFloatModeAbove() {
-        return floatMode.get() == FloatMode.ABOVE;
+        return getFloatMode() == FloatMode.ABOVE;
     }
 
     /**
@@ -385,7 +339,7 @@ public class EFXTextField extends EFXTextBase<TextField> implements InnerTextFie
      * @return {@code true} if the float mode is disabled, otherwise {@code false}.
      */
     public Boolean isFloatModeDisabled() {
-        return floatMode.valueEquals(FloatMode.DISABLED);
+        return getFloatMode() == FloatMode.DISABLED;
     }
 
     /**
@@ -394,7 +348,7 @@ public class EFXTextField extends EFXTextBase<TextField> implements InnerTextFie
      * @return The FloatMode value representing the float mode.
      */
     public FloatMode getFloatMode() {
-        return floatMode.get();
+        return Objects.isNull(floatMode) ? DEFAULT_FLOAT_MODE : floatMode.get();
     }
 
     /**
@@ -403,6 +357,15 @@ public class EFXTextField extends EFXTextBase<TextField> implements InnerTextFie
      * @return the EFXStyleableObjectProperty<FloatMode> representing the float mode.
      */
     public EFXStyleableObjectProperty<FloatMode> floatModeProperty() {
+        if (Objects.isNull(floatMode)) {
+            floatMode = EFXStyleableObjectProperty.<FloatMode>create()
+                                                  .bean(this)
+                                                  .name("floatMode")
+                                                  .cssMetaData(FLOAT_MODE_CSS_KEY)
+                                                  .initialValue(DEFAULT_FLOAT_MODE)
+                                                  .invalidatedCachedCallback(this::floatModeInvalidated)
+                                                  .build();
+        }
         return floatMode;
     }
 
@@ -413,7 +376,7 @@ public class EFXTextField extends EFXTextBase<TextField> implements InnerTextFie
      *         the float mode to be set
      */
     public void setFloatMode(FloatMode floatMode) {
-        this.floatMode.set(floatMode);
+        floatModeProperty().set(floatMode);
     }
 
     /**
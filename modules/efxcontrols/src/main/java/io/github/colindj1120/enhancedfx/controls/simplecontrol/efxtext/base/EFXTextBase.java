@@ -19,12 +19,12 @@ package io.github.colindj1120.enhancedfx.controls.simplecontrol.efxtext.base;
 
 import io.github.colindj1120.enhancedfx.base.beans.efxstyleableproperty.EFXStyleableIntegerProperty;
 import io.github.colindj1120.enhancedfx.base.beans.efxstyleableproperty.EFXStyleableObjectProperty;
+import io.github.colindj1120.enhancedfx.base.css.CssKey;
 import io.github.colindj1120.enhancedfx.base.css.StyleablePropertiesManager;
 import io.github.colindj1120.enhancedfx.base.enums.EFXState;
 import io.github.colindj1120.enhancedfx.base.factory.CssFactory;
 import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.custom.customcontrol.CustomControlConfigurator;
 import io.github.colindj1120.enhancedfx.controls.css.EFXStylesheets;
-import io.github.colindj1120.enhancedfx.controls.css.EFXTheme;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxsupportedcontrol.EFXSupportedControl;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxsupportedcontrol.base.SupportingTextPosition;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxtext.EFXTextArea;
@@ -32,7 +32,6 @@ import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxtext.EFXTextFi
 import io.github.colindj1120.enhancedfx.utils.EFXPropertyUtils;
 import io.github.colindj1120.enhancedfx.utils.EFXUIUtils;
 import io.github.colindj1120.enhancedfx.utils.converters.styleconverters.IntegerStyleConverter;
-import javafx.beans.Observable;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
@@ -48,6 +47,7 @@ import javafx.scene.control.TextInputControl;
 import javafx.scene.paint.Color;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
@@ -105,6 +105,20 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
 
     private static final StyleablePropertiesManager STYLES_MANAGER = new StyleablePropertiesManager(EFXSupportedControl.getClassCssMetaData());
 
+    private static final Color                     DEFAULT_TEXT_FILL            = Color.valueOf("#000000");
+    private static final Color                     DEFAULT_PROMPT_TEXT_FILL     = Color.valueOf("#000000");
+    private static final int                       DEFAULT_MAX_CHAR_COUNT       = 50;
+    private static final EFXState                  DEFAULT_MAX_CHAR_COUNT_STATE = EFXState.DISABLED;
+    private static final MaxCharacterCountPosition DEFAULT_MAX_CHAR_COUNT_POS   = MaxCharacterCountPosition.ABOVE;
+    private static final TextMode                  DEFAULT_TEXT_MODE            = TextMode.OUTLINED;
+
+    private static final CssKey<EFXTextBase<?>, Color>                     TEXT_FILL_CSS_KEY;
+    private static final CssKey<EFXTextBase<?>, Color>                     PROMPT_TEXT_FILL_CSS_KEY;
+    private static final CssKey<EFXTextBase<?>, EFXState>                  MAX_CHAR_COUNT_STATE_CSS_KEY;
+    private static final CssKey<EFXTextBase<?>, Integer>                   MAX_CHAR_COUNT_CSS_KEY;
+    private static final CssKey<EFXTextBase<?>, MaxCharacterCountPosition> MAX_CHAR_COUNT_POS_CSS_KEY;
+    private static final CssKey<EFXTextBase<?>, TextMode>                  TEXT_MODE_CSS_KEY;
+
     protected static final PseudoClass MAX_CHARACTER_COUNT_ENABLED_PSEUDO_CLASS   = PseudoClass.getPseudoClass("max-char-count-enabled");
     protected static final PseudoClass MAX_CHARACTER_COUNT_DISABLED_PSEUDO_CLASS  = PseudoClass.getPseudoClass("max-char-count-disabled");
     protected static final PseudoClass MAX_CHARACTER_COUNT_POS_ABOVE_PSEUDO_CLASS = PseudoClass.getPseudoClass("max-char-count-pos-above");
@@ -128,14 +142,14 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
         // Text Fill
         //*****************************************************************
 
-        CssFactory<EFXTextField, Color> textFillCssFactory;
-        textFillCssFactory = CssFactory.<EFXTextField, Color>create()
+        CssFactory<EFXTextBase<?>, Color> textFillCssFactory;
+        textFillCssFactory = CssFactory.<EFXTextBase<?>, Color>create()
                                        .property("-efx-text-fill")
                                        .converter(ColorConverter.getInstance())
-                                       .initialValue(javafx.scene.paint.Color.valueOf("#000000"))
-                                       .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.textFill))
-                                       .propertyGetterFunction(node -> node.textFill);
-        STYLES_MANAGER.addCssMetaData(textFillCssFactory);
+                                       .initialValue(DEFAULT_TEXT_FILL)
+                                       .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.textFill))
+                                       .propertyGetterFunction(EFXTextBase::textFillProperty);
+        TEXT_FILL_CSS_KEY = STYLES_MANAGER.addCssMetaData(textFillCssFactory);
 
         //endregion Text Fill
 
@@ -144,14 +158,14 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
         // Prompt Text Fill
         //*****************************************************************
 
-        CssFactory<EFXTextField, Color> promptTextFillCssFactory;
-        promptTextFillCssFactory = CssFactory.<EFXTextField, Color>create()
+        CssFactory<EFXTextBase<?>, Color> promptTextFillCssFactory;
+        promptTextFillCssFactory = CssFactory.<EFXTextBase<?>, Color>create()
                                              .property("-efx-prompt-text-fill")
                                              .converter(ColorConverter.getInstance())
-                                             .initialValue(javafx.scene.paint.Color.valueOf("#000000"))
-                                             .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.promptTextFill))
-                                             .propertyGetterFunction(node -> node.promptTextFill);
-        STYLES_MANAGER.addCssMetaData(promptTextFillCssFactory);
+                                             .initialValue(DEFAULT_PROMPT_TEXT_FILL)
+                                             .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.promptTextFill))
+                                             .propertyGetterFunction(EFXTextBase::promptTextFillProperty);
+        PROMPT_TEXT_FILL_CSS_KEY = STYLES_MANAGER.addCssMetaData(promptTextFillCssFactory);
 
         //endregion Prompt Text Fill
 
@@ -160,14 +174,14 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
         // Max Character Count EFXState
         //*****************************************************************
 
-        CssFactory<EFXTextField, EFXState> maxCharCountStateCssFactory;
-        maxCharCountStateCssFactory = CssFactory.<EFXTextField, EFXState>create()
+        CssFactory<EFXTextBase<?>, EFXState> maxCharCountStateCssFactory;
+        maxCharCountStateCssFactory = CssFactory.<EFXTextBase<?>, EFXState>create()
                                                 .property("-efx-max-char-count-state")
                                                 .converter(EnumConverter.getEnumConverter(EFXState.class))
-                                                .initialValue(EFXState.DISABLED)
-                                                .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.maxCharCountState))
-                                                .propertyGetterFunction(node -> node.maxCharCountState);
-        STYLES_MANAGER.addCssMetaData(maxCharCountStateCssFactory);
+                                                .initialValue(DEFAULT_MAX_CHAR_COUNT_STATE)
+                                                .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.maxCharCountState))
+                                                .propertyGetterFunction(EFXTextBase::maxCharCountStateProperty);
+        MAX_CHAR_COUNT_STATE_CSS_KEY = STYLES_MANAGER.addCssMetaData(maxCharCountStateCssFactory);
 
         //endregion Max Character Count EFXState
 
@@ -176,14 +190,14 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
         // Max Character Count
         //*****************************************************************
 
-        CssFactory<EFXTextField, Integer> maxCharCountCssFactory;
-        maxCharCountCssFactory = CssFactory.<EFXTextField, Integer>create()
+        CssFactory<EFXTextBase<?>, Integer> maxCharCountCssFactory;
+        maxCharCountCssFactory = CssFactory.<EFXTextBase<?>, Integer>create()
                                            .property("-efx-max-char-count")
                                            .converter(IntegerStyleConverter.getInstance())
-                                           .initialValue(50)
-                                           .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.maxCharCount) && node.isMaxCharacterCountEnabled())
-                                           .propertyGetterFunction(node -> node.maxCharCount);
-        STYLES_MANAGER.addCssMetaData(maxCharCountCssFactory);
+                                           .initialValue(DEFAULT_MAX_CHAR_COUNT)
+                                           .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.maxCharCount) && node.isMaxCharacterCountEnabled())
+                                           .propertyGetterFunction(EFXTextBase::maxCharCountProperty);
+        MAX_CHAR_COUNT_CSS_KEY = STYLES_MANAGER.addCssMetaData(maxCharCountCssFactory);
 
         //endregion Max Character Count
 
@@ -192,14 +206,14 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
         // Max Character Count Position
         //*****************************************************************
 
-        CssFactory<EFXTextField, MaxCharacterCountPosition> maxCharCountPosCssFactory;
-        maxCharCountPosCssFactory = CssFactory.<EFXTextField, MaxCharacterCountPosition>create()
+        CssFactory<EFXTextBase<?>, MaxCharacterCountPosition> maxCharCountPosCssFactory;
+        maxCharCountPosCssFactory = CssFactory.<EFXTextBase<?>, MaxCharacterCountPosition>create()
                                               .property("-efx-max-char-count-pos")
                                               .converter(EnumConverter.getEnumConverter(MaxCharacterCountPosition.class))
-                                              .initialValue(MaxCharacterCountPosition.ABOVE)
-                                              .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.maxCharCountPos) && node.isMaxCharacterCountEnabled())
-                                              .propertyGetterFunction(node -> node.maxCharCountPos);
-        STYLES_MANAGER.addCssMetaData(maxCharCountPosCssFactory);
+                                              .initialValue(DEFAULT_MAX_CHAR_COUNT_POS)
+                                              .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.maxCharCountPos) && node.isMaxCharacterCountEnabled())
+                                              .propertyGetterFunction(EFXTextBase::maxCharCountPosProperty);
+        MAX_CHAR_COUNT_POS_CSS_KEY = STYLES_MANAGER.addCssMetaData(maxCharCountPosCssFactory);
 
         //endregion Max Character Count Position
 
@@ -212,10 +226,10 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
         textModeCssFactory = CssFactory.<EFXTextBase<?>, TextMode>create()
                                        .property("-efx-text-mode")
                                        .converter(EnumConverter.getEnumConverter(TextMode.class))
-                                       .initialValue(TextMode.OUTLINED)
-                                       .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.textMode))
-                                       .propertyGetterFunction(node -> node.textMode);
-        STYLES_MANAGER.addCssMetaData(textModeCssFactory);
+                                       .initialValue(DEFAULT_TEXT_MODE)
+                                       .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.textMode))
+                                       .propertyGetterFunction(EFXTextBase::textModeProperty);
+        TEXT_MODE_CSS_KEY = STYLES_MANAGER.addCssMetaData(textModeCssFactory);
 
         //endregion Text Mode
 
@@ -251,125 +265,39 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
     @Override
     protected abstract EFXTextBase<?> getControl();
 
-    /**
-     * {@inheritDoc}
-     *
-     * @param obs
-     *         The observable object that triggered the theme change. This parameter allows for the implementation of observer patterns and can be used to react to specific changes in theme-related properties.
-     * @param oldEFXTheme
-     *         The previous theme that was applied to the control.
-     * @param newEFXTheme
-     *         The new theme that is being applied to the control.
-     */
-    @Override
-    protected void loadNewTheme(Observable obs, EFXTheme oldEFXTheme, EFXTheme newEFXTheme) {
-        loadNewThemeHelper(EFXStylesheets.ENHANCED_TEXT_BASE, oldEFXTheme, newEFXTheme);
-    }
-
-    /**
-     * This method builds upon {@code setupStyleableProperties} from the superclass, and configures the styleable properties specific to this enhanced text control instance. It is aimed at initializing
-     * properties such as {@code maxCharCount}, {@code maxCharCountEFXState}, {@code maxCharCountPos}, {@code textFill}, {@code promptTextFill}, and {@code textMode} to enhance the text control's capabilities.
-     *
-     * <h2>Properties:</h2>
-     * <ul>
-     *     <li>{@code maxCharCount}: Controls the maximum number of characters that can be entered.</li>
-     *     <li>{@code maxCharCountEFXState}: Indicates whether the maximum character count feature is enabled or disabled.</li>
-     *     <li>{@code maxCharCountPos}: Determines the position of the character count indicator relative to the text control.</li>
-     *     <li>{@code textFill}: Controls the color of the text within the control.</li>
-     *     <li>{@code promptTextFill}: Controls the color of the prompt text within the control.</li>
-     *     <li>{@code textMode}: Represents the mode of the text, such as filled or outlined.</li>
-     * </ul>
-     *
-     * <p>
-     * <em>Properties are initialized with:</em>
-     * <ul>
-     *     <li><b>Bean</b>: This instance, serving as the bean in which the property resides.</li>
-     *     <li><b>Name</b>: The name of the property, uniquely identifying it within the control.</li>
-     *     <li><b>CssMetaData</b>: The CSS metadata associated with the property, allowing for CSS customization.</li>
-     *     <li><b>DefaultValue</b>: The initial value for the property, ensuring a consistent default state.</li>
-     *     <li><b>InvalidatedCachedCallback</b>: A callback method that is invoked when the property's value is invalidated, allowing for dynamic response to changes.</li>
-     * </ul>
-     * </p>
-     *
-     * <p>Through this method, the enhanced text control introduces additional styleable properties that extend its styling and functional capabilities, complementing those inherited from its superclass.</p>
-     */
-    @Override
-    protected void setupStyleableProperties() {
-        super.setupStyleableProperties();
-
-        maxCharCount = EFXStyleableIntegerProperty.create()
-                                                  .bean(this)
-                                                  .name("maxCharacterCount")
-                                                  .cssMetaData(STYLES_MANAGER.findCssMetaData("-efx-max-char-count"))
-                                                  .initialValue(50)
-                                                  .invalidatedCachedCallback(this::maxCharacterCountInvalidated)
-                                                  .build();
-
-        maxCharCountState = EFXStyleableObjectProperty.<EFXState>create()
-                                                      .bean(this)
-                                                      .name("maxCharacterCountEnabled")
-                                                      .cssMetaData(STYLES_MANAGER.findCssMetaData("-efx-max-char-count-state"))
-                                                      .initialValue(EFXState.DISABLED)
-                                                      .invalidatedPropCallback(this::maxCharacterCountStateInvalidated)
-                                                      .build();
-
-        maxCharCountPos = EFXStyleableObjectProperty.<MaxCharacterCountPosition>create()
-                                                    .bean(this)
-                                                    .name("maxCharacterCountPosition")
-                                                    .cssMetaData(STYLES_MANAGER.findCssMetaData("-efx-max-char-count-pos"))
-                                                    .initialValue(MaxCharacterCountPosition.ABOVE)
-                                                    .invalidatedCachedCallback(this::maxCharacterCountPositionInvalidated)
-                                                    .build();
-
-        textFill = EFXStyleableObjectProperty.<Color>create()
-                                             .bean(this)
-                                             .name("textFill")
-                                             .cssMetaData(STYLES_MANAGER.findCssMetaData("-efx-text-fill"))
-                                             .initialValue(Color.valueOf("#000000"))
-                                             .build();
-
-        promptTextFill = EFXStyleableObjectProperty.<Color>create()
-                                                   .bean(this)
-                                                   .name("promptTextFill")
-                                                   .cssMetaData(STYLES_MANAGER.findCssMetaData("-efx-prompt-text-fill"))
-                                                   .initialValue(Color.valueOf("#000000"))
-                                                   .build();
-
-        textMode = EFXStyleableObjectProperty.<TextMode>create()
-                                             .bean(this)
-                                             .name("textMode")
-                                             .initialValue(TextMode.OUTLINED)
-                                             .cssMetaData(STYLES_MANAGER.findCssMetaData("-efx-text-mode"))
-                                             .invalidatedCachedCallback(this::textModeInvalidated)
-                                             .build();
-    }
-
     /**
      * Prepares the text control with necessary configurations upon initialization. This includes checking for and applying the appropriate stylesheet, adding a specific style class, and setting up listeners
      * for property changes that affect the control's appearance. The method exemplifies a proactive approach to control setup, ensuring all necessary stylistic and functional configurations are applied early
      * in the control lifecycle.
      *
-     * <p>This method builds upon {@code setupControl} from the superclass, the control is further customized through the addition of listeners for text fill and prompt text fill properties, showcasing an
-     * attention to detail in handling dynamic UI updates. This method ensures the control is fully prepared to render with the correct styling and behavior as defined by its enhanced features.</p>
+     * <p>This method builds upon {@code setupControl} from the superclass. The text fill and prompt text fill listeners are added by their property accessors, when the properties are first created. This
+     * method ensures the control is fully prepared to render with the correct styling and behavior as defined by its enhanced features.</p>
      *
-     * @implNote The stylesheet path is validated to ensure the stylesheet exists and is accessible. This method employs the {@link CustomControlConfigurator} to fluently apply the stylesheet, style
-     *         class, and property change listeners, emphasizing a builder pattern approach for elegant and efficient control setup.
+     * @implNote The stylesheet path is validated to ensure the stylesheet exists and is accessible. This method employs the {@link CustomControlConfigurator} to fluently apply the stylesheet and style
+     *         class, emphasizing a builder pattern approach for elegant and efficient control setup.
      */
     @Override
     protected void setupControl() {
         super.setupControl();
-        String stylesheetPath = checkStylesheetPathExists(EFXStylesheets.ENHANCED_TEXT_BASE, this.getClass());
+        registerThemeStylesheet(EFXStylesheets.ENHANCED_TEXT_BASE);
 
         CustomControlConfigurator.create(this)
-                                 .<Color>addObjectPropertyChangeListener(textFill, this::handleTextFillChange)
-                                 .<Color>addObjectPropertyChangeListener(promptTextFill, this::handlePromptTextFillChange)
-                                 .addObjectPropertyInvalidationListener(supportingTextState, invalidated -> {
-                                     if (!supportingTextPosition.valueEquals(SupportingTextPosition.BOTTOM)) {
-                                         supportingTextPosition.set(SupportingTextPosition.BOTTOM);
-                                     }
-                                 })
-                                 .addStyleClass(ENHANCED_TEXT_BASE_STYLE)
-                                 .addStylesheet(stylesheetPath);
+                                 .addStyleClass(ENHANCED_TEXT_BASE_STYLE);
+    }
+
+    /**
+     * This method builds upon {@code supportingTextStateInvalidated} from the superclass, and moves the supporting text below the text control whenever its state changes, since text controls only
+     * support supporting text at the bottom.
+     *
+     * @param prop
+     *         The supporting text state property that has been invalidated.
+     */
+    @Override
+    protected void supportingTextStateInvalidated(EFXStyleableObjectProperty<EFXState> prop) {
+        super.supportingTextStateInvalidated(prop);
+        if (getSupportingTextPosition() != SupportingTextPosition.BOTTOM) {
+            supportingTextPositionProperty().set(SupportingTextPosition.BOTTOM);
+        }
     }
 
     /**
@@ -534,7 +462,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return the maximum character count state
      */
     public EFXState getMaxCharCountState() {
-        return maxCharCountState.get();
+        return Objects.isNull(maxCharCountState) ? DEFAULT_MAX_CHAR_COUNT_STATE : maxCharCountState.get();
     }
 
     /**
@@ -543,6 +471,15 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return the maxCharCountEFXState property.
      */
     public EFXStyleableObjectProperty<EFXState> maxCharCountStateProperty() {
+        if (Objects.isNull(maxCharCountState)) {
+            maxCharCountState = EFXStyleableObjectProperty.<EFXState>create()
+                                                          .bean(this)
+                                                          .name("maxCharacterCountEnabled")
+                                                          .cssMetaData(MAX_CHAR_COUNT_STATE_CSS_KEY)
+                                                          .initialValue(DEFAULT_MAX_CHAR_COUNT_STATE)
+                                                          .invalidatedPropCallback(this::maxCharacterCountStateInvalidated)
+                                                          .build();
+        }
         return maxCharCountState;
     }
 
@@ -553,7 +490,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      *         the state of the maximum character count
      */
     public void setMaxCharCountState(EFXState maxCharCountEFXState) {
-        this.maxCharCountState.set(maxCharCountEFXState);
+        maxCharCountStateProperty().set(maxCharCountEFXState);
     }
 
     /**
@@ -562,7 +499,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return {@code true} if the max character count is enabled, {@code false} otherwise.
      */
     public Boolean isMaxCharacterCountEnabled() {
-        return maxCharCountState.valueEquals(EFXState.ENABLED);
+        return getMaxCharCountState() == EFXState.ENABLED;
     }
 
     /**
@@ -571,7 +508,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return {@code true} if the maximum character count is disabled, {@code false} otherwise.
      */
     public Boolean isMaxCharacterCountDisabled() {
-        return maxCharCountState.valueEquals(EFXState.DISABLED);
+        return getMaxCharCountState() == EFXState.DISABLED;
     }
 
     /**
@@ -580,7 +517,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return The position of the maximum character count.
      */
     public MaxCharacterCountPosition getMaxCharCountPos() {
-        return maxCharCountPos.get();
+        return Objects.isNull(maxCharCountPos) ? DEFAULT_MAX_CHAR_COUNT_POS : maxCharCountPos.get();
     }
 
     /**
@@ -589,6 +526,15 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return The EFXStyleableObjectProperty for the maximum character count position.
      */
     public EFXStyleableObjectProperty<MaxCharacterCountPosition> maxCharCountPosProperty() {
+        if (Objects.isNull(maxCharCountPos)) {
+            maxCharCountPos = EFXStyleableObjectProperty.<MaxCharacterCountPosition>create()
+                                                        .bean(this)
+                                                        .name("maxCharacterCountPosition")
+                                                        .cssMetaData(MAX_CHAR_COUNT_POS_CSS_KEY)
+                                                        .initialValue(DEFAULT_MAX_CHAR_COUNT_POS)
+                                                        .invalidatedCachedCallback(this::maxCharacterCountPositionInvalidated)
+                                                        .build();
+        }
         return maxCharCountPos;
     }
 
@@ -599,7 +545,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      *         the position of the maximum character count
      */
     public void setMaxCharCountPos(MaxCharacterCountPosition maxCharCountPos) {
-        this.maxCharCountPos.set(maxCharCountPos);
+        maxCharCountPosProperty().set(maxCharCountPos);
     }
 
     /**
@@ -608,7 +554,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return true if the maximum character count position is above, otherwise false.
      */
     public Boolean isMaxCharacterCountPosAbove() {
-        return maxCharCountPos.valueEquals(MaxCharacterCountPosition.ABOVE);
+        return getMaxCharCountPos() == MaxCharacterCountPosition.ABOVE;
     }
 
     /**
@@ -617,7 +563,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return true if the maximum character count position is below the value, otherwise false.
      */
     public Boolean isMaxCharacterCountPosBelow() {
-        return maxCharCountPos.valueEquals(MaxCharacterCountPosition.BELOW);
+        return getMaxCharCountPos() == MaxCharacterCountPosition.BELOW;
     }
 
     /**
@@ -626,7 +572,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return the maximum character count
      */
     public int getMaxCharCount() {
-        return maxCharCount.get();
+        return Objects.isNull(maxCharCount) ? DEFAULT_MAX_CHAR_COUNT : maxCharCount.get();
     }
 
     /**
@@ -635,6 +581,15 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return the maximum character count property
      */
     public EFXStyleableIntegerProperty maxCharCountProperty() {
+        if (Objects.isNull(maxCharCount)) {
+            maxCharCount = EFXStyleableIntegerProperty.create()
+                                                      .bean(this)
+                                                      .name("maxCharacterCount")
+                                                      .cssMetaData(MAX_CHAR_COUNT_CSS_KEY)
+                                                      .initialValue(DEFAULT_MAX_CHAR_COUNT)
+                                                      .invalidatedCachedCallback(this::maxCharacterCountInvalidated)
+                                                      .build();
+        }
         return maxCharCount;
     }
 
@@ -645,7 +600,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      *         the maximum character count to be set
      */
     public void setMaxCharCount(int maxCharCount) {
-        this.maxCharCount.set(maxCharCount);
+        maxCharCountProperty().set(maxCharCount);
     }
 
     /**
@@ -654,7 +609,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return the color of the text fill
      */
     public Color getTextFill() {
-        return textFill.get();
+        return Objects.isNull(textFill) ? DEFAULT_TEXT_FILL : textFill.get();
     }
 
     /**
@@ -663,6 +618,15 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return the text fill property
      */
     public EFXStyleableObjectProperty<Color> textFillProperty() {
+        if (Objects.isNull(textFill)) {
+            textFill = EFXStyleableObjectProperty.<Color>create()
+                                                 .bean(this)
+                                                 .name("textFill")
+                                                 .cssMetaData(TEXT_FILL_CSS_KEY)
+                                                 .initialValue(DEFAULT_TEXT_FILL)
+                                                 .build();
+            textFill.addListener(this::handleTextFillChange);
+        }
         return textFill;
     }
 
@@ -673,7 +637,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      *         the color to set as the fill color of the text
      */
     public void setTextFill(Color textFill) {
-        this.textFill.set(textFill);
+        textFillProperty().set(textFill);
     }
 
     /**
@@ -682,7 +646,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return The prompt text fill color.
      */
     public Color getPromptTextFill() {
-        return promptTextFill.get();
+        return Objects.isNull(promptTextFill) ? DEFAULT_PROMPT_TEXT_FILL : promptTextFill.get();
     }
 
     /**
@@ -691,6 +655,15 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return The EFXStyleableObjectProperty that represents the fill color of the prompt text.
      */
     public EFXStyleableObjectProperty<Color> promptTextFillProperty() {
+        if (Objects.isNull(promptTextFill)) {
+            promptTextFill = EFXStyleableObjectProperty.<Color>create()
+                                                       .bean(this)
+                                                       .name("promptTextFill")
+                                                       .cssMetaData(PROMPT_TEXT_FILL_CSS_KEY)
+                                                       .initialValue(DEFAULT_PROMPT_TEXT_FILL)
+                                                       .build();
+            promptTextFill.addListener(this::handlePromptTextFillChange);
+        }
         return promptTextFill;
     }
 
@@ -701,7 +674,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      *         the color to set as the fill color of the prompt text
      */
     public void setPromptTextFill(Color promptTextFill) {
-        this.promptTextFill.set(promptTextFill);
+        promptTextFillProperty().set(promptTextFill);
     }
 
     /**
@@ -710,7 +683,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return true if the text mode is filled, false otherwise.
      */
     public Boolean isTextModeFilled() {
-        return textMode.valueEquals(TextMode.FILLED);
+        return getTextMode() == TextMode.FILLED;
     }
 
     /**
@@ -719,7 +692,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return {@code true} if the text mode is outlined, {@code false} otherwise.
      */
     public Boolean isTextModeOutlined() {
-        return textMode.valueEquals(TextMode.OUTLINED);
+        return getTextMode() == TextMode.OUTLINED;
     }
 
     /**
@@ -728,7 +701,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return The TextMode representing the current mode of the text.
      */
     public TextMode getTextMode() {
-        return textMode.get();
+        return Objects.isNull(textMode) ? DEFAULT_TEXT_MODE : textMode.get();
     }
 
     /**
@@ -737,6 +710,15 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      * @return the text mode property
      */
     public EFXStyleableObjectProperty<TextMode> textModeProperty() {
+        if (Objects.isNull(textMode)) {
+            textMode = EFXStyleableObjectProperty.<TextMode>create()
+                                                 .bean(this)
+                                                 .name("textMode")
+                                                 .initialValue(DEFAULT_TEXT_MODE)
+                                                 .cssMetaData(TEXT_MODE_CSS_KEY)
+                                                 .invalidatedCachedCallback(this::textModeInvalidated)
+                                                 .build();
+        }
         return textMode;
     }
 
@@ -747,7 +729,7 @@ public abstract class EFXTextBase<T extends TextInputControl> extends EFXSupport
      *         the mode to set the text to
      */
     public void setTextMode(TextMode textMode) {
-        this.textMode.set(textMode);
+        textModeProperty().set(textMode);
     }
 
     //endregion Getters and Setters
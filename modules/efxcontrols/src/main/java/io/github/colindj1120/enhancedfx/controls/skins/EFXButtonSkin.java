@@ -23,7 +23,7 @@ public class EFXButtonSkin extends EFXSupportedControlSkin<EFXButton> {
     private final Label icon = new Label();
 
     public static EFXButtonSkin create(EFXButton control) {
-        return EFXControlSkin.create(EFXButtonSkin.class, control);
+        return EFXControlSkin.create(EFXButtonSkin::new, control);
     }
 
     @Override
@@ -51,6 +51,7 @@ public class EFXButtonSkin extends EFXSupportedControlSkin<EFXButton> {
         ObjectProperty<Border> borderProperty  = EFXPropertyUtils.toObjectProperty(Border.EMPTY);
 
         ButtonConfigurator.create(control.getInnerControl())
+                          .collectSubscriptions(subscriptions)
                           .bindPaddingProperty(paddingProperty)
                           .bindBorderProperty(borderProperty)
                           .bindBackgroundProperty(EFXUIUtils.TRANSPARENT_BACKGROUND_PROPERTY)
@@ -69,7 +70,7 @@ public class EFXButtonSkin extends EFXSupportedControlSkin<EFXButton> {
     }
 
     private void setupRippleEffect() {
-        efxRippleEffect = EFXRippleEffect.create(getSkinnable());
+        efxRippleEffect = EFXRippleEffect.create(getSkinnable(), subscriptions);
         efxRippleEffect.managedProperty()
                        .bind(Bindings.createBooleanBinding(() -> false));
     }
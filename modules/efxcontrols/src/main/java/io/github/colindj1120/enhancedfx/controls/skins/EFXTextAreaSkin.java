@@ -26,7 +26,7 @@ public class EFXTextAreaSkin extends EFXTextBaseSkin<EFXTextArea> {
     protected final Label titleTextLabel = new Label();
 
     public static EFXTextAreaSkin create(EFXTextArea control) {
-        return EFXControlSkin.create(EFXTextAreaSkin.class, control);
+        return EFXControlSkin.create(EFXTextAreaSkin::new, control);
     }
 
     @Override
@@ -130,7 +130,7 @@ public class EFXTextFieldSkin extends EFXTextBaseSkin<EFXTextField> {
      * @return A newly created instance of {@code EFXTextFieldSkin} associated with the given control.
      */
     public static EFXTextFieldSkin create(EFXTextField control) {
-        return EFXControlSkin.create(EFXTextFieldSkin.class, control);
+        return EFXControlSkin.create(EFXTextFieldSkin::new, control);
     }
 
     /**
@@ -184,15 +184,16 @@ public class EFXTextFieldSkin extends EFXTextBaseSkin<EFXTextField> {
         EFXTextField control = getSkinnable();
 
         TextFieldConfigurator.create(control.getInnerControl())
-                             .addFontChangeListener(handleTextFieldFontChange(control))
-                             .addFocusedChangeListener(handleTextFieldFocusChange(control))
-                             .addAlignmentChangeListener(handleTextFieldAlignmentChange())
-                             .bindPaddingProperty(EFXPropertyUtils.toObjectProperty(EFXInsetUtils.empty()))
-                             .bindBorderProperty(EFXPropertyUtils.toObjectProperty(Border.EMPTY))
-                             .bindBackgroundProperty(EFXUIUtils.TRANSPARENT_BACKGROUND_PROPERTY)
-                             .bindManagedProperty(EFXPropertyUtils.toBooleanProperty(false))
-                             .addTextChangeListener(handleTextChanged(control))
-                             .addFontChangeListener(handleFontChange(control));
+                             .collectSubscriptions(subscriptions)
+                             .batch(configurator -> configurator.addFontChangeListener(handleTextFieldFontChange(control))
+                                                                .addFocusedChangeListener(handleTextFieldFocusChange(control))
+                                                                .addAlignmentChangeListener(handleTextFieldAlignmentChange())
+                                                                .bindPaddingProperty(EFXPropertyUtils.toObjectProperty(EFXInsetUtils.empty()))
+                                                                .bindBorderProperty(EFXPropertyUtils.toObjectProperty(Border.EMPTY))
+                                                                .bindBackgroundProperty(EFXUIUtils.TRANSPARENT_BACKGROUND_PROPERTY)
+                                                                .bindManagedProperty(EFXPropertyUtils.toBooleanProperty(false))
+                                                                .addTextChangeListener(handleTextChanged(control))
+                                                                .addFontChangeListener(handleFontChange(control)));
     }
 
     /**
@@ -278,6 +279,7 @@ public class EFXTextFieldSkin extends EFXTextBaseSkin<EFXTextField> {
         ChangeListener<Boolean> handleFloatTextVisible = EFXUIUtils.manageLabelVisibility(floatingTextLabel, getChildren(), control);
 
         LabelConfigurator.create(floatingTextLabel)
+                         .collectSubscriptions(subscriptions)
                          .bindBackgroundProperty(backgroundProperty)
                          .bindManagedProperty(EFXPropertyUtils.toBooleanProperty(false))
                          .bindVisibleProperty(Bindings.createBooleanBinding(() -> !control.isFloatModeDisabled(), control.floatModeProperty()))
@@ -289,6 +291,7 @@ public class EFXTextFieldSkin extends EFXTextBaseSkin<EFXTextField> {
                          .addStyleClass("floating-text-label");
 
         CustomControlConfigurator.create(control)
+                                 .collectSubscriptions(subscriptions)
                                  .addObjectPropertyChangeListener(control.floatModeProperty(), handleFloatMode(control))
                                  .addEFXBooleanBindingChangeListener(control.isFloatAnimationEnabledProperty(), handleFloatAnimEnabled(innerField));
 
@@ -26,7 +26,7 @@ public class EFXToggleButtonSkin extends EFXSupportedControlSkin<EFXToggleButton
     private final EFXRippleEffect efxRippleEffect;
 
     public static EFXToggleButtonSkin create(EFXToggleButton control) {
-        return EFXControlSkin.create(EFXToggleButtonSkin.class, control);
+        return EFXControlSkin.create(EFXToggleButtonSkin::new, control);
     }
 
     @Override
@@ -38,7 +38,7 @@ public class EFXToggleButtonSkin extends EFXSupportedControlSkin<EFXToggleButton
     public EFXToggleButtonSkin(EFXToggleButton control) {
         super(control);
 
-        efxRippleEffect = EFXRippleEffect.create(control);
+        efxRippleEffect = EFXRippleEffect.create(control, subscriptions);
 
 
     }
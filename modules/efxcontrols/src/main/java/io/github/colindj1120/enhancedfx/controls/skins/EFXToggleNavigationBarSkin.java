@@ -18,7 +18,9 @@
 package io.github.colindj1120.enhancedfx.controls.skins;
 
 import io.github.colindj1120.enhancedfx.base.collections.ObservableLinkedList;
+import io.github.colindj1120.enhancedfx.base.collections.base.ListChangeItem;
 import io.github.colindj1120.enhancedfx.base.collections.base.UpdateActions;
+import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.base.SubscriptionBag;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxlabeled.efxbuttons.EFXToggleButton;
 import io.github.colindj1120.enhancedfx.controls.complexcontrol.EFXToggleNavigationBar;
 import javafx.beans.binding.Bindings;
@@ -35,8 +37,8 @@ import javafx.scene.layout.VBox;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * A custom skin for the {@link EFXToggleNavigationBar} control in the EnhancedFX framework, designed to dynamically adjust the layout and presentation of a navigation bar comprising toggle buttons. This skin
@@ -98,6 +100,7 @@ public class EFXToggleNavigationBarSkin extends SkinBase<EFXToggleNavigationBar>
     private final VBox                       verticalContainer     = new VBox();
     private       SimpleObjectProperty<Pane> currentContainer;
     private final ListChangeListener<Node>   layoutRequestListener = change -> getSkinnable().requestLayout();
+    private final SubscriptionBag            subscriptions         = new SubscriptionBag();
 
     public static EFXToggleNavigationBarSkin create(EFXToggleNavigationBar control) {
         EFXToggleNavigationBarSkin efxToggleNavigationBarSkin = new EFXToggleNavigationBarSkin(control);
@@ -215,10 +218,10 @@ public class EFXToggleNavigationBarSkin extends SkinBase<EFXToggleNavigationBar>
      * Based on the type of change, it delegates to specific methods to update the UI accordingly.
      *
      * @param buttonList
-     *         the {@link ObservableLinkedList} to which the listener is added.
+     *         the {@link ObservableLinkedList} to which the listener is added. The listener is removed when the skin is disposed.
      */
     private void addActionListener(ObservableLinkedList<EFXToggleButton> buttonList) {
-        buttonList.addActionListener((listChangeItem) -> {
+        Consumer<ListChangeItem<EFXToggleButton>> actionListener = listChangeItem -> {
             switch (listChangeItem.getListAction()) {
                 case UpdateActions.ADDED -> addToggleButton(listChangeItem.getNewElement());
                 case UpdateActions.BULK_ADD -> addBulkToggleButtons(listChangeItem.getNewList());
@@ -228,31 +231,25 @@ public class EFXToggleNavigationBarSkin extends SkinBase<EFXToggleNavigationBar>
                 case UpdateActions.BULK_REPLACED -> replaceBulkToggleButtons(listChangeItem.getOldList(), listChangeItem.getNewList());
                 case UpdateActions.CLEARED -> clearContainer();
             }
-        });
+        };
+        buttonList.addActionListener(actionListener);
+        subscriptions.add(() -> buttonList.removeActionListener(actionListener));
     }
 
     /**
-     * Replaces a list of old toggle buttons with a new list of toggle buttons in bulk. This method validates that the old and new lists have the same size before proceeding with replacements to maintain
-     * consistency.
+     * Replaces a list of old toggle buttons with a new list of toggle buttons in bulk. Because a bulk replacement may also add, remove or reorder buttons (for example when it is the coalesced result of
+     * {@link ObservableLinkedList#batch}), the container's children are synchronized with the new list in a single change, which results in a single layout request.
      *
      * @param oldList
      *         the list of toggle buttons being replaced.
      * @param newList
      *         the list of toggle buttons that will replace the old buttons.
-     *
-     * @throws IllegalArgumentException
-     *         if the old and new lists do not have the same size.
      */
     private void replaceBulkToggleButtons(List<EFXToggleButton> oldList, List<EFXToggleButton> newList) {
-        if (oldList.size() != newList.size()) {
-            throw new IllegalArgumentException("Old and new lists must have the same size");
+        if (!oldList.equals(newList)) {
+            getCurrentContainer().getChildren()
+                                 .setAll(newList);
         }
-        IntStream.range(0, oldList.size())
-                 .filter(i -> !oldList.get(i)
-                                      .equals(newList.get(i)))
-                 .boxed()
-                 .toList()
-                 .forEach(i -> replaceToggleButton(oldList.get(i), newList.get(i)));
     }
 
     /**
@@ -282,16 +279,15 @@ public class EFXToggleNavigationBarSkin extends SkinBase<EFXToggleNavigationBar>
     }
 
     /**
-     * Adds a list of toggle buttons to the UI container in bulk. This method filters the list to include only instances of {@link EFXToggleButton} and then adds each button to the container.
+     * Adds toggle buttons to the UI container in bulk. Because the buttons may have been inserted anywhere in the list, not only at its end, the container's children are synchronized with the new list
+     * in a single {@code setAll} call, which keeps the buttons in list order and results in a single layout request, no matter how many buttons were added.
      *
-     * @param buttonList
-     *         the list of buttons to be added to the container.
+     * @param newList
+     *         the list of toggle buttons after the bulk addition.
      */
-    private void addBulkToggleButtons(List<?> buttonList) {
-        buttonList.stream()
-                  .filter(EFXToggleButton.class::isInstance)
-                  .map(EFXToggleButton.class::cast)
-                  .forEach(this::addToggleButton);
+    private void addBulkToggleButtons(List<EFXToggleButton> newList) {
+        getCurrentContainer().getChildren()
+                             .setAll(newList);
     }
 
     /**
@@ -347,6 +343,18 @@ public class EFXToggleNavigationBarSkin extends SkinBase<EFXToggleNavigationBar>
                       .collect(Collectors.toList());
     }
 
+    /**
+     * Removes the skin's listener from the control's toggle button list, then disposes the skin.
+     */
+    @Override
+    public void dispose() {
+        if (getSkinnable() == null) {
+            return;
+        }
+        subscriptions.unsubscribe();
+        super.dispose();
+    }
+
     /**
      * {@inheritDoc}
      */
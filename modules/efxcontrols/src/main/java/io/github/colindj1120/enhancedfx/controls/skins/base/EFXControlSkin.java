@@ -17,11 +17,17 @@
  */
 package io.github.colindj1120.enhancedfx.controls.skins.base;
 
+import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.base.SubscriptionBag;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxcontrol.EFXControl;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxcontrol.base.EFXControlBase;
 import javafx.scene.control.SkinBase;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.function.Function;
 
 /**
  * Represents the base class for all control skins in the EnhancedFX framework, providing a foundation for customizing the appearance and behavior of {@link EFXControl} instances.
@@ -31,10 +37,12 @@ import java.lang.reflect.Constructor;
  * <h2>Capabilities:</h2>
  * <ul>
  *     <li>Initialization: Abstract {@code initialize} method for subclasses to set up bindings, listeners, and other initial state.</li>
- *     <li>Reflection-based Factory Creation: Static {@code create} method to dynamically instantiate skin classes using reflection, simplifying skin creation and initialization.</li>
+ *     <li>Factory Creation: Static {@code create} methods that instantiate skins from constructor references, or from constructor handles cached per skin class, simplifying skin creation and
+ *     initialization.</li>
  *     <li>Layout and Size Computation: Overrides {@code computeMinWidth}, {@code computePrefWidth}, {@code computeMaxWidth}, {@code computeMinHeight}, {@code computePrefHeight}, and {@code computeMaxHeight}
  *         methods to provide default implementations for size computations based on control properties.</li>
  *     <li>Layout Management: Custom {@code layoutChildren} method to arrange the visual components of the control within the skin.</li>
+ *     <li>Disposal: A {@link SubscriptionBag} that skins collect their configurator registrations into, removed in one call when the skin is disposed.</li>
  * </ul>
  *
  * <h2>Usage Example:</h2>
@@ -70,7 +78,7 @@ import java.lang.reflect.Constructor;
  *
  * // Usage
  * MyCustomControl customControl = new MyCustomControl();
- * customControl.setSkin(EFXControlSkin.create(MyCustomControlSkin.class, customControl));
+ * customControl.setSkin(EFXControlSkin.create(MyCustomControlSkin::new, customControl));
  * }
  * </pre>
  *
@@ -86,6 +94,18 @@ import java.lang.reflect.Constructor;
  * @see SkinBase
  */
 public abstract class EFXControlSkin<T extends EFXControl<?>> extends SkinBase<T> {
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return resolveConstructor(type);
+        }
+    };
+
+    /**
+     * Collects the listeners and bindings the skin registers through configurators, so {@link #dispose()} can remove them from the control, which outlives the skin.
+     */
+    protected final SubscriptionBag subscriptions = new SubscriptionBag();
+
     /**
      * Initializes the control skin or any subclass thereof.
      *
@@ -98,18 +118,42 @@ public abstract class EFXControlSkin<T extends EFXControl<?>> extends SkinBase<T
      */
     protected abstract void initialize();
 
+    /**
+     * Creates and initializes a skin for the given control from the skin's constructor.
+     *
+     * <p>This is the preferred factory for EnhancedFX skins: passing a constructor reference such as {@code EFXTextFieldSkin::new} needs no reflection and no access checks, and works under the module
+     * system without opening the skin's package. Layout requests made to the control while the skin initializes are coalesced into a single request.</p>
+     *
+     * @param constructor
+     *         The constructor of the skin, usually a constructor reference.
+     * @param control
+     *         The control instance for which the skin is being created.
+     * @param <U>
+     *         The type parameter of the skin class extending {@code EFXControlSkin}.
+     * @param <T>
+     *         The type parameter of the control class extending {@code EFXControlBase}.
+     *
+     * @return An initialized skin for the given control.
+     */
+    protected static <U extends EFXControlSkin<?>, T extends EFXControlBase<?>> U create(Function<? super T, U> constructor, T control) {
+        return initialize(constructor.apply(control), control);
+    }
+
     /**
      * Creates an instance of a specific {@link EFXControlSkin} subclass for the given {@link EFXControlBase} control.
      *
      * <p>This method dynamically constructs an instance of the specified skin class, invoking its protected constructor and passing the control as an argument.</p>
      *
      * <p>The method uses reflection to find and invoke the appropriate constructor for the skin class, making it accessible if necessary. After creating the skin instance, it calls the {@code initialize}
-     * method on the newly created instance to complete its setup.</p>
+     * method on the newly created instance to complete its setup. Layout requests made to the control while the skin initializes are coalesced into a single request.</p>
      *
      * <p>This factory method simplifies the process of creating skin instances for custom controls within the EnhancedFX framework, ensuring that skins are correctly initialized and associated with their
      * respective controls.</p>
      *
-     * <p>Note: This method throws a {@code RuntimeException} if reflection fails to create the skin instance, encapsulating the underlying exception that caused the failure.</p>
+     * <p>The skin's constructor is resolved once per skin class into a {@link MethodHandle} and cached, so no reflective lookup or access check is repeated for later skins. Resolving it requires the skin's
+     * package to be open to this module, which is always the case for skins in this module. Skins in other modules should use {@link #create(Function, EFXControlBase)} instead.</p>
+     *
+     * <p>Note: This method throws a {@code RuntimeException} if the skin instance cannot be created, encapsulating the underlying exception that caused the failure.</p>
      *
      * @param <U>
      *         The type parameter of the skin class extending {@code EFXControlSkin}.
@@ -127,18 +171,71 @@ public abstract class EFXControlSkin<T extends EFXControl<?>> extends SkinBase<T
      */
     protected static <U extends EFXControlSkin<?>, T extends EFXControlBase<?>> U create(Class<U> clazz, T control) {
         try {
-            Constructor<U> constructor = clazz.getDeclaredConstructor(control.getClass());
-            constructor.setAccessible(true); // Enables access to protected constructor
-            U instance = constructor.newInstance(control);
-
-            instance.initialize(); // Assuming an initialization method needs to be called
-            return instance;
+            U instance = clazz.cast((EFXControlSkin<?>) CONSTRUCTORS.get(clazz)
+                                                                    .invokeExact((EFXControlBase<?>) control));
+            return initialize(instance, control);
+        }
+        catch (Error e) {
+            throw e;
         }
-        catch (Exception e) {
+        catch (Throwable e) {
             throw new RuntimeException(String.format("Error creating %s instance", clazz.getSimpleName()), e);
         }
     }
 
+    /**
+     * Initializes a newly constructed skin, coalescing the layout requests it makes to its control into a single request.
+     *
+     * @param instance
+     *         The newly constructed skin.
+     * @param control
+     *         The control the skin belongs to.
+     * @param <U>
+     *         The type parameter of the skin class extending {@code EFXControlSkin}.
+     *
+     * @return The initialized skin.
+     */
+    private static <U extends EFXControlSkin<?>> U initialize(U instance, EFXControlBase<?> control) {
+        // Listeners and bindings set up by the skin request layout one after another; coalesce them into a single request
+        control.suspendLayout();
+        try {
+            instance.initialize();
+        } finally {
+            control.resumeLayout();
+        }
+        return instance;
+    }
+
+    /**
+     * Resolves the constructor of a skin class, the one taking its control as single parameter, into a method handle of type {@code (EFXControlBase)EFXControlSkin}.
+     *
+     * @param type
+     *         The skin class.
+     *
+     * @return The constructor handle.
+     *
+     * @throws IllegalStateException
+     *         If the class has no such constructor or its package is not open to this module.
+     */
+    private static MethodHandle resolveConstructor(Class<?> type) {
+        Class<?> controlType = Arrays.stream(type.getDeclaredConstructors())
+                                     .map(Constructor::getParameterTypes)
+                                     .filter(parameters -> parameters.length == 1 && EFXControlBase.class.isAssignableFrom(parameters[0]))
+                                     .map(parameters -> parameters[0])
+                                     .findFirst()
+                                     .orElseThrow(() -> new IllegalStateException(String.format("%s has no constructor taking its control", type.getName())));
+        try {
+            EFXControlSkin.class.getModule()
+                                .addReads(type.getModule());
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                                .findConstructor(type, MethodType.methodType(void.class, controlType))
+                                .asType(MethodType.methodType(EFXControlSkin.class, EFXControlBase.class));
+        }
+        catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(String.format("Cannot resolve the constructor of %s; pass a constructor reference to create(Function, EFXControlBase) instead", type.getName()), e);
+        }
+    }
+
     /**
      * Constructs an {@code EFXControlSkin} instance for the specified control.
      *
@@ -152,6 +249,18 @@ public abstract class EFXControlSkin<T extends EFXControl<?>> extends SkinBase<T
         super(control);
     }
 
+    /**
+     * Removes every listener and binding collected in {@link #subscriptions}, then disposes the skin. Without this, a replaced skin would stay reachable from the control's properties.
+     */
+    @Override
+    public void dispose() {
+        if (getSkinnable() == null) {
+            return;
+        }
+        subscriptions.unsubscribe();
+        super.dispose();
+    }
+
     /**
      * {@inheritDoc}
      */
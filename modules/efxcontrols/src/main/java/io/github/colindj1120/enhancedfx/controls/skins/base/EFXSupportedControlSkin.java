@@ -56,6 +56,7 @@ public abstract class EFXSupportedControlSkin<T extends EFXSupportedControl<?>>
         T control = getSkinnable();
 
         LabelConfigurator.create(supportingTextLabel)
+                         .collectSubscriptions(subscriptions)
                          .bindBackgroundProperty(EFXUIUtils.TRANSPARENT_BACKGROUND_PROPERTY)
                          .bindManagedProperty(EFXPropertyUtils.toBooleanProperty(false))
                          .bindVisibleProperty(Bindings.createBooleanBinding(control::isSupportingTextEnabled, control.supportingTextStateProperty()))
@@ -65,6 +66,7 @@ public abstract class EFXSupportedControlSkin<T extends EFXSupportedControl<?>>
 
         InvalidationListener invalidationListener = ignored -> control.requestLayout();
         CustomControlConfigurator.create(control)
+                                 .collectSubscriptions(subscriptions)
                                  .addObjectPropertyInvalidationListener(control.supportingTextXOffsetProperty(), invalidationListener)
                                  .addObjectPropertyInvalidationListener(control.supportingTextYOffsetProperty(), invalidationListener);
     }
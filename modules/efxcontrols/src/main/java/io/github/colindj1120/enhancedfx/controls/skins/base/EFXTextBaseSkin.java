@@ -217,6 +217,7 @@ public abstract class EFXTextBaseSkin<T extends EFXTextBase<?>> extends EFXSuppo
         InvalidationListener layoutInvalidListener = EFXUIUtils.requestControlLayout(control);
 
         LabelConfigurator.create(characterCountLabel)
+                         .collectSubscriptions(subscriptions)
                          .bindBackgroundProperty(EFXUIUtils.TRANSPARENT_BACKGROUND_PROPERTY)
                          .bindManagedProperty(EFXPropertyUtils.toBooleanProperty(false))
                          .bindVisibleProperty(Bindings.createBooleanBinding(control::isMaxCharacterCountEnabled, control.maxCharCountStateProperty()))
@@ -225,6 +226,7 @@ public abstract class EFXTextBaseSkin<T extends EFXTextBase<?>> extends EFXSuppo
                          .addStyleClass("character-count-label");
 
         CustomControlConfigurator.create(control)
+                                 .collectSubscriptions(subscriptions)
                                  .addObjectPropertyInvalidationListener(control.maxCharCountPosProperty(), layoutInvalidListener)
                                  .addObjectPropertyInvalidationListener(control.maxCharCountStateProperty(), layoutInvalidListener)
                                  .addObjectPropertyChangeListener(control.maxCharCountProperty(), trimTextToMaxCountIfRequired(control));
@@ -236,10 +238,10 @@ public abstract class EFXTextBaseSkin<T extends EFXTextBase<?>> extends EFXSuppo
     private void setupIcons() {
         T control = getSkinnable();
 
-        control.leadingIconProperty()
-               .addListener(getIconChangeListener());
-        control.trailingIconProperty()
-               .addListener(getIconChangeListener());
+        CustomControlConfigurator.create(control)
+                                 .collectSubscriptions(subscriptions)
+                                 .addObjectPropertyChangeListener(control.leadingIconProperty(), getIconChangeListener())
+                                 .addObjectPropertyChangeListener(control.trailingIconProperty(), getIconChangeListener());
     }
 
     /**
@@ -19,9 +19,11 @@ package io.github.colindj1120.enhancedfx.graphics.effects.ripple;
 
 import io.github.colindj1120.enhancedfx.base.beans.efxstyleableproperty.EFXStyleableDoubleProperty;
 import io.github.colindj1120.enhancedfx.base.beans.efxstyleableproperty.EFXStyleableObjectProperty;
+import io.github.colindj1120.enhancedfx.base.css.CssKey;
 import io.github.colindj1120.enhancedfx.base.css.StyleablePropertiesManager;
 import io.github.colindj1120.enhancedfx.base.enums.EFXState;
 import io.github.colindj1120.enhancedfx.base.factory.CssFactory;
+import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.base.SubscriptionBag;
 import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.builtin.region.RegionConfigurator;
 import io.github.colindj1120.enhancedfx.base.factory.controlconfigurators.custom.customregion.CustomRegionConfigurator;
 import io.github.colindj1120.enhancedfx.graphics.animation.EFXAnimationManager;
@@ -57,6 +59,7 @@ import javafx.util.Duration;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -82,11 +85,17 @@ import static io.github.colindj1120.enhancedfx.graphics.effects.base.EFXRippleDe
  * <h2>Key Properties and Methods</h2>
  * <ul>
  *     <li>{@link #create(Region)}: Static factory method to instantiate and apply the effect to a {@link Region}.</li>
+ *     <li>{@link #create(Region, SubscriptionBag)}: Static factory method that also collects the registrations on the {@link Region} into a bag, so they can be removed when the effect is discarded.</li>
  *     <li>{@link #createRippleClip()}: Creates the clip shape for the ripple effect.</li>
  *     <li>{@link #createAndAnimateRipple(MouseEvent)}: Creates the ripple animation and starts the animation</li>
  *     <li>{@link #createRippleEffect(MouseEvent)}: Creates the ripple effect for the desired shape</li>
  * </ul>
  *
+ * <h2>Shared Defaults</h2>
+ * <p>Almost every ripple keeps the defaults of {@link io.github.colindj1120.enhancedfx.graphics.effects.base.EFXRippleDefaults}, so its styleable properties are created on first use rather than in the
+ * constructor. Until a property is written, by a setter, by CSS, or by accessing it through its {@code ...Property()} method to bind or listen to it, its getter returns the shared default and the ripple
+ * holds no storage for it. A ripple therefore only pays for the properties it overrides.</p>
+ *
  * <h2>Usage Examples</h2>
  *
  * <h3>Basic Application</h3>
@@ -133,6 +142,26 @@ public class EFXRippleEffect extends Region {
     private static final String                     RIPPLE_STYLE  = "ripple-effect";
     private static final StyleablePropertiesManager stylesManager = new StyleablePropertiesManager(Region.getClassCssMetaData());
 
+    private static final CssKey<EFXRippleEffect, EFXState>           RIPPLE_STATE_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, EFXRippleShape>     RIPPLE_SHAPE_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, EFXRippleShape>     RIPPLE_CLIP_SHAPE_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, Color>              RIPPLE_COLOR_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, Duration>           RIPPLE_DURATION_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, Interpolator>       RIPPLE_INTERPOLATOR_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, EFXState>           RIPPLE_FILL_STATE_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, Double>             RIPPLE_RADIUS_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, Double>             RIPPLE_STROKE_WIDTH_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, Color>              RIPPLE_STROKE_COLOR_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, EFXRippleDirection> RIPPLE_DIRECTION_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, EFXState>           RIPPLE_FADE_STATE_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, BlurType>           RIPPLE_DROP_SHADOW_BLUR_TYPE_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, Color>              RIPPLE_DROP_SHADOW_COLOR_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, Double>             RIPPLE_DROP_SHADOW_RADIUS_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, Double>             RIPPLE_DROP_SHADOW_SPREAD_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, Double>             RIPPLE_DROP_SHADOW_OFFSET_X_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, Double>             RIPPLE_DROP_SHADOW_OFFSET_Y_CSS_KEY;
+    private static final CssKey<EFXRippleEffect, EFXState>           RIPPLE_DROP_SHADOW_STATE_CSS_KEY;
+
     private final EFXAnimationManager efxAnimationManager = new EFXAnimationManager();
     private final Region              targetNode;
 
@@ -157,138 +186,138 @@ public class EFXRippleEffect extends Region {
     private EFXStyleableObjectProperty<EFXState>           dropShadowState;
 
     static {
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXState>create()
-                                               .property("-efx-ripple-state")
-                                               .converter(EnumConverter.getEnumConverter(EFXState.class))
-                                               .initialValue(DEFAULT_RIPPLE_EFX_STATE)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.rippleState))
-                                               .propertyGetterFunction(node -> node.rippleState));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXRippleShape>create()
-                                               .property("-efx-ripple-shape")
-                                               .converter(EnumConverter.getEnumConverter(EFXRippleShape.class))
-                                               .initialValue(DEFAULT_RIPPLE_SHAPE)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.rippleShape))
-                                               .propertyGetterFunction(node -> node.rippleShape));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXRippleShape>create()
-                                               .property("-efx-ripple-clip-shape")
-                                               .converter(EnumConverter.getEnumConverter(EFXRippleShape.class))
-                                               .initialValue(DEFAULT_RIPPLE_CLIP_SHAPE)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.rippleClipShape))
-                                               .propertyGetterFunction(node -> node.rippleClipShape));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Color>create()
-                                               .property("-efx-ripple-color")
-                                               .converter(ColorConverter.getInstance())
-                                               .initialValue(DEFAULT_RIPPLE_COLOR)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.rippleColor))
-                                               .propertyGetterFunction(node -> node.rippleColor));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Duration>create()
-                                               .property("-efx-ripple-duration")
-                                               .converter(DurationConverter.getInstance())
-                                               .initialValue(DEFAULT_RIPPLE_DURATION)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.rippleDuration))
-                                               .propertyGetterFunction(node -> node.rippleDuration));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Interpolator>create()
-                                               .property("-efx-ripple-interpolator")
-                                               .converter(InterpolatorStyleConverter.getInstance())
-                                               .initialValue(DEFAULT_RIPPLE_INTERPOLATOR)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.rippleInterpolator))
-                                               .propertyGetterFunction(node -> node.rippleInterpolator));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXState>create()
-                                               .property("-efx-ripple-fill-state")
-                                               .converter(EnumConverter.getEnumConverter(EFXState.class))
-                                               .initialValue(DEFAULT_RIPPLE_FILL_EFX_STATE)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.rippleFillState))
-                                               .propertyGetterFunction(node -> node.rippleFillState));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Double>create()
-                                               .property("-efx-ripple-radius")
-                                               .converter(DoubleStyleConverter.getInstance())
-                                               .initialValue(DEFAULT_RIPPLE_RADIUS)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.rippleRadius))
-                                               .propertyGetterFunction(node -> node.rippleRadius));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Double>create()
-                                               .property("-efx-ripple-stroke-width")
-                                               .converter(DoubleStyleConverter.getInstance())
-                                               .initialValue(DEFAULT_RIPPLE_STROKE_WIDTH)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.rippleStrokeWidth))
-                                               .propertyGetterFunction(node -> node.rippleStrokeWidth));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Color>create()
-                                               .property("-efx-ripple-stroke-color")
-                                               .converter(ColorConverter.getInstance())
-                                               .initialValue(DEFAULT_RIPPLE_STROKE_COLOR)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.rippleStrokeColor))
-                                               .propertyGetterFunction(node -> node.rippleStrokeColor));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXRippleDirection>create()
-                                               .property("-efx-ripple-direction")
-                                               .converter(EnumConverter.getEnumConverter(EFXRippleDirection.class))
-                                               .initialValue(DEFAULT_RIPPLE_DIRECTION)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.rippleDirection))
-                                               .propertyGetterFunction(node -> node.rippleDirection));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXState>create()
-                                               .property("-efx-ripple-fade-state")
-                                               .converter(EnumConverter.getEnumConverter(EFXState.class))
-                                               .initialValue(DEFAULT_RIPPLE_FADE_EFX_STATE)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.rippleFadeState))
-                                               .propertyGetterFunction(node -> node.rippleFadeState));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, BlurType>create()
-                                               .property("-efx-ripple-drop-shadow-blur-type")
-                                               .converter(EnumConverter.getEnumConverter(BlurType.class))
-                                               .initialValue(DEFAULT_DROPSHADOW_BLUR_TYPE)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.dropShadowBlurType))
-                                               .propertyGetterFunction(node -> node.dropShadowBlurType));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Color>create()
-                                               .property("-efx-ripple-drop-shadow-color")
-                                               .converter(ColorConverter.getInstance())
-                                               .initialValue(DEFAULT_DROPSHADOW_COLOR)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.dropShadowColor))
-                                               .propertyGetterFunction(node -> node.dropShadowColor));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Double>create()
-                                               .property("-efx-ripple-drop-shadow-radius")
-                                               .converter(DoubleStyleConverter.getInstance())
-                                               .initialValue(DEFAULT_DROPSHADOW_RADIUS)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.dropShadowRadius))
-                                               .propertyGetterFunction(node -> node.dropShadowRadius));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Double>create()
-                                               .property("-efx-ripple-drop-shadow-spread")
-                                               .converter(DoubleStyleConverter.getInstance())
-                                               .initialValue(DEFAULT_DROPSHADOW_SPREAD)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.dropShadowSpread))
-                                               .propertyGetterFunction(node -> node.dropShadowSpread));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Double>create()
-                                               .property("-efx-ripple-drop-shadow-offset-x")
-                                               .converter(DoubleStyleConverter.getInstance())
-                                               .initialValue(DEFAULT_DROPSHADOW_OFFSET_X)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.dropShadowOffsetX))
-                                               .propertyGetterFunction(node -> node.dropShadowOffsetX));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Double>create()
-                                               .property("-efx-ripple-drop-shadow-offset-y")
-                                               .converter(DoubleStyleConverter.getInstance())
-                                               .initialValue(DEFAULT_DROPSHADOW_OFFSET_Y)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.dropShadowOffsetY))
-                                               .propertyGetterFunction(node -> node.dropShadowOffsetY));
-
-        stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXState>create()
-                                               .property("-efx-ripple-drop-shadow-state")
-                                               .converter(EnumConverter.getEnumConverter(EFXState.class))
-                                               .initialValue(DEFAULT_DROPSHADOW_EFX_STATE)
-                                               .isSettableFunction(node -> EFXPropertyUtils.checkProperty(node.dropShadowState))
-                                               .propertyGetterFunction(node -> node.dropShadowState));
+        RIPPLE_STATE_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXState>create()
+                                                                      .property("-efx-ripple-state")
+                                                                      .converter(EnumConverter.getEnumConverter(EFXState.class))
+                                                                      .initialValue(DEFAULT_RIPPLE_EFX_STATE)
+                                                                      .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.rippleState))
+                                                                      .propertyGetterFunction(EFXRippleEffect::rippleStateProperty));
+
+        RIPPLE_SHAPE_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXRippleShape>create()
+                                                                      .property("-efx-ripple-shape")
+                                                                      .converter(EnumConverter.getEnumConverter(EFXRippleShape.class))
+                                                                      .initialValue(DEFAULT_RIPPLE_SHAPE)
+                                                                      .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.rippleShape))
+                                                                      .propertyGetterFunction(EFXRippleEffect::rippleShapeProperty));
+
+        RIPPLE_CLIP_SHAPE_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXRippleShape>create()
+                                                                           .property("-efx-ripple-clip-shape")
+                                                                           .converter(EnumConverter.getEnumConverter(EFXRippleShape.class))
+                                                                           .initialValue(DEFAULT_RIPPLE_CLIP_SHAPE)
+                                                                           .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.rippleClipShape))
+                                                                           .propertyGetterFunction(EFXRippleEffect::rippleClipShapeProperty));
+
+        RIPPLE_COLOR_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Color>create()
+                                                                      .property("-efx-ripple-color")
+                                                                      .converter(ColorConverter.getInstance())
+                                                                      .initialValue(DEFAULT_RIPPLE_COLOR)
+                                                                      .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.rippleColor))
+                                                                      .propertyGetterFunction(EFXRippleEffect::rippleColorProperty));
+
+        RIPPLE_DURATION_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Duration>create()
+                                                                         .property("-efx-ripple-duration")
+                                                                         .converter(DurationConverter.getInstance())
+                                                                         .initialValue(DEFAULT_RIPPLE_DURATION)
+                                                                         .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.rippleDuration))
+                                                                         .propertyGetterFunction(EFXRippleEffect::rippleDurationProperty));
+
+        RIPPLE_INTERPOLATOR_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Interpolator>create()
+                                                                             .property("-efx-ripple-interpolator")
+                                                                             .converter(InterpolatorStyleConverter.getInstance())
+                                                                             .initialValue(DEFAULT_RIPPLE_INTERPOLATOR)
+                                                                             .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.rippleInterpolator))
+                                                                             .propertyGetterFunction(EFXRippleEffect::rippleInterpolatorProperty));
+
+        RIPPLE_FILL_STATE_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXState>create()
+                                                                           .property("-efx-ripple-fill-state")
+                                                                           .converter(EnumConverter.getEnumConverter(EFXState.class))
+                                                                           .initialValue(DEFAULT_RIPPLE_FILL_EFX_STATE)
+                                                                           .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.rippleFillState))
+                                                                           .propertyGetterFunction(EFXRippleEffect::rippleFillStateProperty));
+
+        RIPPLE_RADIUS_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Double>create()
+                                                                       .property("-efx-ripple-radius")
+                                                                       .converter(DoubleStyleConverter.getInstance())
+                                                                       .initialValue(DEFAULT_RIPPLE_RADIUS)
+                                                                       .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.rippleRadius))
+                                                                       .propertyGetterFunction(EFXRippleEffect::rippleRadiusProperty));
+
+        RIPPLE_STROKE_WIDTH_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Double>create()
+                                                                             .property("-efx-ripple-stroke-width")
+                                                                             .converter(DoubleStyleConverter.getInstance())
+                                                                             .initialValue(DEFAULT_RIPPLE_STROKE_WIDTH)
+                                                                             .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.rippleStrokeWidth))
+                                                                             .propertyGetterFunction(EFXRippleEffect::rippleStrokeWidthProperty));
+
+        RIPPLE_STROKE_COLOR_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Color>create()
+                                                                             .property("-efx-ripple-stroke-color")
+                                                                             .converter(ColorConverter.getInstance())
+                                                                             .initialValue(DEFAULT_RIPPLE_STROKE_COLOR)
+                                                                             .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.rippleStrokeColor))
+                                                                             .propertyGetterFunction(EFXRippleEffect::rippleStrokeColorProperty));
+
+        RIPPLE_DIRECTION_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXRippleDirection>create()
+                                                                          .property("-efx-ripple-direction")
+                                                                          .converter(EnumConverter.getEnumConverter(EFXRippleDirection.class))
+                                                                          .initialValue(DEFAULT_RIPPLE_DIRECTION)
+                                                                          .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.rippleDirection))
+                                                                          .propertyGetterFunction(EFXRippleEffect::rippleDirectionProperty));
+
+        RIPPLE_FADE_STATE_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXState>create()
+                                                                           .property("-efx-ripple-fade-state")
+                                                                           .converter(EnumConverter.getEnumConverter(EFXState.class))
+                                                                           .initialValue(DEFAULT_RIPPLE_FADE_EFX_STATE)
+                                                                           .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.rippleFadeState))
+                                                                           .propertyGetterFunction(EFXRippleEffect::rippleFadeStateProperty));
+
+        RIPPLE_DROP_SHADOW_BLUR_TYPE_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, BlurType>create()
+                                                                                      .property("-efx-ripple-drop-shadow-blur-type")
+                                                                                      .converter(EnumConverter.getEnumConverter(BlurType.class))
+                                                                                      .initialValue(DEFAULT_DROPSHADOW_BLUR_TYPE)
+                                                                                      .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.dropShadowBlurType))
+                                                                                      .propertyGetterFunction(EFXRippleEffect::dropShadowBlurTypeProperty));
+
+        RIPPLE_DROP_SHADOW_COLOR_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Color>create()
+                                                                                  .property("-efx-ripple-drop-shadow-color")
+                                                                                  .converter(ColorConverter.getInstance())
+                                                                                  .initialValue(DEFAULT_DROPSHADOW_COLOR)
+                                                                                  .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.dropShadowColor))
+                                                                                  .propertyGetterFunction(EFXRippleEffect::dropShadowColorProperty));
+
+        RIPPLE_DROP_SHADOW_RADIUS_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Double>create()
+                                                                                   .property("-efx-ripple-drop-shadow-radius")
+                                                                                   .converter(DoubleStyleConverter.getInstance())
+                                                                                   .initialValue(DEFAULT_DROPSHADOW_RADIUS)
+                                                                                   .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.dropShadowRadius))
+                                                                                   .propertyGetterFunction(EFXRippleEffect::dropShadowRadiusProperty));
+
+        RIPPLE_DROP_SHADOW_SPREAD_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Double>create()
+                                                                                   .property("-efx-ripple-drop-shadow-spread")
+                                                                                   .converter(DoubleStyleConverter.getInstance())
+                                                                                   .initialValue(DEFAULT_DROPSHADOW_SPREAD)
+                                                                                   .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.dropShadowSpread))
+                                                                                   .propertyGetterFunction(EFXRippleEffect::dropShadowSpreadProperty));
+
+        RIPPLE_DROP_SHADOW_OFFSET_X_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Double>create()
+                                                                                     .property("-efx-ripple-drop-shadow-offset-x")
+                                                                                     .converter(DoubleStyleConverter.getInstance())
+                                                                                     .initialValue(DEFAULT_DROPSHADOW_OFFSET_X)
+                                                                                     .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.dropShadowOffsetX))
+                                                                                     .propertyGetterFunction(EFXRippleEffect::dropShadowOffsetXProperty));
+
+        RIPPLE_DROP_SHADOW_OFFSET_Y_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, Double>create()
+                                                                                     .property("-efx-ripple-drop-shadow-offset-y")
+                                                                                     .converter(DoubleStyleConverter.getInstance())
+                                                                                     .initialValue(DEFAULT_DROPSHADOW_OFFSET_Y)
+                                                                                     .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.dropShadowOffsetY))
+                                                                                     .propertyGetterFunction(EFXRippleEffect::dropShadowOffsetYProperty));
+
+        RIPPLE_DROP_SHADOW_STATE_CSS_KEY = stylesManager.addCssMetaData(CssFactory.<EFXRippleEffect, EFXState>create()
+                                                                                  .property("-efx-ripple-drop-shadow-state")
+                                                                                  .converter(EnumConverter.getEnumConverter(EFXState.class))
+                                                                                  .initialValue(DEFAULT_DROPSHADOW_EFX_STATE)
+                                                                                  .isSettablePredicate(node -> EFXPropertyUtils.checkLazyProperty(node.dropShadowState))
+                                                                                  .propertyGetterFunction(EFXRippleEffect::dropShadowStateProperty));
     }
 
     //region Static Factory Method
@@ -311,7 +340,27 @@ public class EFXRippleEffect extends Region {
      *         if {@code targetNode} is {@code null}.
      */
     public static EFXRippleEffect create(Region targetNode) {
-        return new EFXRippleEffect(targetNode);
+        return new EFXRippleEffect(targetNode, null);
+    }
+
+    /**
+     * Creates a new instance of {@code EFXRippleEffect} associated with the specified {@link Region}, collecting the listeners and event filter it registers on that region into the given bag.
+     *
+     * <p>Use this variant when the ripple lives for less time than its target, for example inside a skin. Unsubscribing the bag removes the ripple's registrations from the region, so a discarded ripple
+     * stops reacting to clicks and can be garbage collected.</p>
+     *
+     * @param targetNode
+     *         The {@link Region} to which the ripple effect will be applied. This cannot be {@code null}.
+     * @param subscriptions
+     *         The {@link SubscriptionBag} to collect the registrations on {@code targetNode} into, or {@code null} to leave them in place for the lifetime of the region.
+     *
+     * @return A new instance of {@code EFXRippleEffect} initialized with the target node.
+     *
+     * @throws IllegalArgumentException
+     *         if {@code targetNode} is {@code null}.
+     */
+    public static EFXRippleEffect create(Region targetNode, SubscriptionBag subscriptions) {
+        return new EFXRippleEffect(targetNode, subscriptions);
     }
 
     //endregion Static Factory Method
@@ -327,32 +376,33 @@ public class EFXRippleEffect extends Region {
      * <p>This constructor initializes the ripple effect, setting up the necessary style, event filters, and listeners to ensure that the ripple animation is displayed correctly on the target region.</p>
      *
      * <p>It ensures the target node is not null with {@link EFXObjectUtils#isNotNull(Object, Supplier)} and sets the {@code pickOnBounds} property to false to ensure that only visible parts of the target node
-     * can trigger the ripple effect. Additionally, it applies a specific style class to the effect, initializes all styleable properties, and sets up listeners to properly handle changes to the target node's
-     * dimensions, background, and the ripple clip shape.</p>
+     * can trigger the ripple effect. Additionally, it applies a specific style class to the effect and sets up listeners to properly handle changes to the target node's dimensions and background. No
+     * styleable property is created here, see the class description.</p>
      *
-     * <p>This constructor is private to enforce the use of the static factory method {@link #create(Region)} for object creation, promoting a consistent and controlled way of instantiating
-     * {@code EFXRippleEffect}.</p>
+     * <p>This constructor is private to enforce the use of the static factory methods {@link #create(Region)} and {@link #create(Region, SubscriptionBag)} for object creation, promoting a consistent and
+     * controlled way of instantiating {@code EFXRippleEffect}.</p>
      *
      * @param targetNode
      *         The {@link Region} to which this ripple effect is to be applied. Must not be {@code null}.
+     * @param subscriptions
+     *         The {@link SubscriptionBag} the registrations on {@code targetNode} are collected into, or {@code null} if they are not collected.
      *
      * @throws IllegalArgumentException
      *         if {@code targetNode} is {@code null}, ensuring that a valid region is provided.
      */
-    private EFXRippleEffect(Region targetNode) {
+    private EFXRippleEffect(Region targetNode, SubscriptionBag subscriptions) {
         super();
         EFXObjectUtils.isNotNull(targetNode, () -> "targetNode cannot be null when creating a ripple effect");
         this.targetNode = targetNode;
-        this.initializeStyleableProperties();
 
         InvalidationListener clipInvalidationListener = ignored -> this.setClip(createRippleClip());
 
         CustomRegionConfigurator.create(this)
                                 .setPickOnBounds(false)
-                                .setAllStyleClasses(RIPPLE_STYLE)
-                                .addObjectPropertyInvalidationListener(rippleClipShape, clipInvalidationListener);
+                                .setAllStyleClasses(RIPPLE_STYLE);
 
         RegionConfigurator.create(targetNode)
+                          .collectSubscriptions(subscriptions)
                           .addEventFilter(MouseEvent.MOUSE_CLICKED, this::createAndAnimateRipple)
                           .addWidthInvalidationListener(clipInvalidationListener)
                           .addHeightInvalidationListener(clipInvalidationListener)
@@ -378,7 +428,7 @@ public class EFXRippleEffect extends Region {
      *         if the ripple shape is null or not recognized.
      */
     private Shape createRippleClip() {
-        return Optional.ofNullable(rippleClipShape.get())
+        return Optional.ofNullable(getRippleClipShape())
                        .map(shape -> switch (shape) {
                            case EFXRippleShape.RECTANGLE -> createRectangleClip();
                            case EFXRippleShape.UNIFORM_ROUNDED_RECTANGLE -> createRoundedRectangleClip();
@@ -572,7 +622,7 @@ public class EFXRippleEffect extends Region {
      */
     @NotNull
     private Shape createRippleEffect(MouseEvent event) {
-        return Optional.ofNullable(rippleShape.get())
+        return Optional.ofNullable(getRippleShape())
                        .map(shape -> switch (shape) {
                            case EFXRippleShape.UNIFORM_ROUNDED_RECTANGLE -> createRoundedRectangleRipple(event);
                            case EFXRippleShape.ASYMMETRIC_ROUNDED_RECTANGLE -> createAsymmetricRoundedRectangleRipple(event);
@@ -678,9 +728,9 @@ public class EFXRippleEffect extends Region {
      */
     @NotNull
     private Rectangle createRectangleRipple(MouseEvent event) {
-        double    width  = rippleRadius.getValue() * 2;
-        double    height = rippleRadius.getValue() * 2;
-        Rectangle ripple = new Rectangle(event.getX() - rippleRadius.getValue(), event.getY() - rippleRadius.getValue(), width, height);
+        double    width  = getRippleRadius() * 2;
+        double    height = getRippleRadius() * 2;
+        Rectangle ripple = new Rectangle(event.getX() - getRippleRadius(), event.getY() - getRippleRadius(), width, height);
         applyRippleEffectProperties(ripple);
         return ripple;
     }
@@ -698,7 +748,7 @@ public class EFXRippleEffect extends Region {
      */
     @NotNull
     private Circle createCircleRipple(MouseEvent event) {
-        Circle ripple = new Circle(event.getX(), event.getY(), rippleRadius.getValue());
+        Circle ripple = new Circle(event.getX(), event.getY(), getRippleRadius());
         applyRippleEffectProperties(ripple);
         return ripple;
     }
@@ -754,12 +804,12 @@ public class EFXRippleEffect extends Region {
      *         The {@link Shape} to which the ripple effect properties are applied.
      */
     private void applyRippleEffectProperties(Shape ripple) {
-        Paint color = isRippleFillStateEnabled() ? rippleColor.getValue() : Color.TRANSPARENT;
+        Paint color = isRippleFillStateEnabled() ? getRippleColor() : Color.TRANSPARENT;
         ripple.setFill(color);
-        ripple.setStrokeWidth(rippleStrokeWidth.getValue());
-        ripple.setStroke(rippleStrokeColor.getValue());
+        ripple.setStrokeWidth(getRippleStrokeWidth());
+        ripple.setStroke(getRippleStrokeColor());
         if (isDropShadowEnabled()) {
-            ripple.setEffect(new DropShadow(dropShadowBlurType.get(), dropShadowColor.get(), dropShadowRadius.get(), dropShadowSpread.get(), dropShadowOffsetX.get(), dropShadowOffsetY.get()));
+            ripple.setEffect(new DropShadow(getDropShadowBlurType(), getDropShadowColor(), getDropShadowRadius(), getDropShadowSpread(), getDropShadowOffsetX(), getDropShadowOffsetY()));
         }
     }
 
@@ -770,172 +820,6 @@ public class EFXRippleEffect extends Region {
     // Styleable Properties
     //*****************************************************************
 
-    /**
-     * Initializes the styleable properties for the {@code EFXRippleEffect}.
-     *
-     * <p>This method sets up various properties that can be styled via CSS, allowing for customization of the ripple effect's appearance and behavior. Each property is created with a specific name, initial
-     * value, and linked to its CSS metadata defined in the styles' manager.</p>
-     *
-     * <h2>The following styleable properties are initialized:</h2>
-     * <ul>
-     *     <li>{@code rippleState}: Defines the overall state of the ripple effect.</li>
-     *     <li>{@code rippleShape}: Determines the shape of the ripple effect.</li>
-     *     <li>{@code rippleClipShape}: Specifies the clipping shape of the ripple effect.</li>
-     *     <li>{@code rippleColor}: Sets the fill color of the ripple.</li>
-     *     <li>{@code rippleDuration}: Configures the duration of the ripple animation.</li>
-     *     <li>{@code rippleInterpolator}: Defines the interpolation method for the ripple animation.</li>
-     *     <li>{@code rippleFillState}: Indicates whether the ripple is filled or not.</li>
-     *     <li>{@code rippleRadius}: Determines the radius of the ripple effect.</li>
-     *     <li>{@code rippleStrokeWidth}: Sets the stroke width of the ripple.</li>
-     *     <li>{@code rippleStrokeColor}: Specifies the stroke color of the ripple.</li>
-     *     <li>{@code rippleDirection}: Defines the direction of the ripple expansion.</li>
-     *     <li>{@code rippleFadeState}: Indicates whether the ripple should fade out after animation.</li>
-     *     <li>{@code dropShadowBlurType}: Configures the blur type of the optional drop shadow.</li>
-     *     <li>{@code dropShadowColor}: Sets the color of the drop shadow.</li>
-     *     <li>{@code dropShadowRadius}: Determines the radius of the drop shadow.</li>
-     *     <li>{@code dropShadowSpread}: Configures the spread of the drop shadow.</li>
-     *     <li>{@code dropShadowOffsetX}: Sets the horizontal offset of the drop shadow.</li>
-     *     <li>{@code dropShadowOffsetY}: Sets the vertical offset of the drop shadow.</li>
-     *     <li>{@code dropShadowState}: Defines the state of the drop shadow effect.</li>
-     * </ul>
-     *
-     * <p>These properties allow for extensive customization through CSS, making it possible to adjust the visual characteristics of the ripple effect to fit the design requirements.</p>
-     */
-    private void initializeStyleableProperties() {
-        rippleState = EFXStyleableObjectProperty.<EFXState>create()
-                                                .name("rippleEFXState")
-                                                .bean(EFXRippleEffect.this)
-                                                .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-state"))
-                                                .initialValue(DEFAULT_RIPPLE_EFX_STATE)
-                                                .build();
-
-        rippleShape = EFXStyleableObjectProperty.<EFXRippleShape>create()
-                                                .name("efxRippleShape")
-                                                .bean(EFXRippleEffect.this)
-                                                .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-shape"))
-                                                .initialValue(DEFAULT_RIPPLE_SHAPE)
-                                                .build();
-
-        rippleClipShape = EFXStyleableObjectProperty.<EFXRippleShape>create()
-                                                    .name("rippleClipShape")
-                                                    .bean(EFXRippleEffect.this)
-                                                    .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-clip-shape"))
-                                                    .initialValue(DEFAULT_RIPPLE_CLIP_SHAPE)
-                                                    .build();
-
-        rippleColor = EFXStyleableObjectProperty.<Color>create()
-                                                .name("rippleColor")
-                                                .bean(EFXRippleEffect.this)
-                                                .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-color"))
-                                                .initialValue(DEFAULT_RIPPLE_COLOR)
-                                                .build();
-
-        rippleDuration = EFXStyleableObjectProperty.<Duration>create()
-                                                   .name("rippleDuration")
-                                                   .bean(EFXRippleEffect.this)
-                                                   .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-duration"))
-                                                   .initialValue(DEFAULT_RIPPLE_DURATION)
-                                                   .build();
-
-        rippleInterpolator = EFXStyleableObjectProperty.<Interpolator>create()
-                                                       .name("rippleInterpolator")
-                                                       .bean(EFXRippleEffect.this)
-                                                       .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-interpolator"))
-                                                       .initialValue(DEFAULT_RIPPLE_INTERPOLATOR)
-                                                       .build();
-
-        rippleFillState = EFXStyleableObjectProperty.<EFXState>create()
-                                                    .name("rippleFillEFXState")
-                                                    .bean(EFXRippleEffect.this)
-                                                    .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-fill-state"))
-                                                    .initialValue(DEFAULT_RIPPLE_FILL_EFX_STATE)
-                                                    .build();
-
-        rippleRadius = EFXStyleableDoubleProperty.create()
-                                                 .name("rippleRadius")
-                                                 .bean(EFXRippleEffect.this)
-                                                 .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-radius"))
-                                                 .initialValue(DEFAULT_RIPPLE_RADIUS)
-                                                 .build();
-
-        rippleStrokeWidth = EFXStyleableDoubleProperty.create()
-                                                      .name("rippleStrokeWidth")
-                                                      .bean(EFXRippleEffect.this)
-                                                      .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-stroke-width"))
-                                                      .initialValue(DEFAULT_RIPPLE_STROKE_WIDTH)
-                                                      .build();
-
-        rippleStrokeColor = EFXStyleableObjectProperty.<Color>create()
-                                                      .name("rippleStrokeColor")
-                                                      .bean(EFXRippleEffect.this)
-                                                      .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-stroke-color"))
-                                                      .initialValue(DEFAULT_RIPPLE_STROKE_COLOR)
-                                                      .build();
-
-        rippleDirection = EFXStyleableObjectProperty.<EFXRippleDirection>create()
-                                                    .name("efxRippleDirection")
-                                                    .bean(EFXRippleEffect.this)
-                                                    .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-direction"))
-                                                    .initialValue(DEFAULT_RIPPLE_DIRECTION)
-                                                    .build();
-
-        rippleFadeState = EFXStyleableObjectProperty.<EFXState>create()
-                                                    .name("rippleFadeEFXState")
-                                                    .bean(EFXRippleEffect.this)
-                                                    .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-fade-state"))
-                                                    .initialValue(DEFAULT_RIPPLE_FADE_EFX_STATE)
-                                                    .build();
-
-        dropShadowBlurType = EFXStyleableObjectProperty.<BlurType>create()
-                                                       .name("dropShadowBlurType")
-                                                       .bean(EFXRippleEffect.this)
-                                                       .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-drop-shadow-blur-type"))
-                                                       .initialValue(DEFAULT_DROPSHADOW_BLUR_TYPE)
-                                                       .build();
-
-        dropShadowColor = EFXStyleableObjectProperty.<Color>create()
-                                                    .name("dropShadowColor")
-                                                    .bean(EFXRippleEffect.this)
-                                                    .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-drop-shadow-color"))
-                                                    .initialValue(DEFAULT_DROPSHADOW_COLOR)
-                                                    .build();
-
-        dropShadowRadius = EFXStyleableDoubleProperty.create()
-                                                     .name("dropShadowRadius")
-                                                     .bean(EFXRippleEffect.this)
-                                                     .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-drop-shadow-radius"))
-                                                     .initialValue(DEFAULT_DROPSHADOW_RADIUS)
-                                                     .build();
-
-        dropShadowSpread = EFXStyleableDoubleProperty.create()
-                                                     .name("dropShadowSpread")
-                                                     .bean(EFXRippleEffect.this)
-                                                     .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-drop-shadow-spread"))
-                                                     .initialValue(DEFAULT_DROPSHADOW_SPREAD)
-                                                     .build();
-
-        dropShadowOffsetX = EFXStyleableDoubleProperty.create()
-                                                      .name("dropShadowOffsetX")
-                                                      .bean(EFXRippleEffect.this)
-                                                      .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-drop-shadow-offset-x"))
-                                                      .initialValue(DEFAULT_DROPSHADOW_OFFSET_X)
-                                                      .build();
-
-        dropShadowOffsetY = EFXStyleableDoubleProperty.create()
-                                                      .name("dropShadowOffsetY")
-                                                      .bean(EFXRippleEffect.this)
-                                                      .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-drop-shadow-offset-y"))
-                                                      .initialValue(DEFAULT_DROPSHADOW_OFFSET_Y)
-                                                      .build();
-
-        dropShadowState = EFXStyleableObjectProperty.<EFXState>create()
-                                                    .name("dropShadowEFXState")
-                                                    .bean(EFXRippleEffect.this)
-                                                    .cssMetaData(stylesManager.findCssMetaData("-efx-ripple-drop-shadow-state"))
-                                                    .initialValue(DEFAULT_DROPSHADOW_EFX_STATE)
-                                                    .build();
-    }
-
     /**
      * Returns a list of the CSS metadata for the class.
      *
@@ -966,7 +850,7 @@ public class EFXRippleEffect extends Region {
      * @return The current ripple state of the EFX.
      */
     public EFXState getRippleState() {
-        return rippleState.get();
+        return Objects.isNull(rippleState) ? DEFAULT_RIPPLE_EFX_STATE : rippleState.get();
     }
 
     /**
@@ -975,6 +859,14 @@ public class EFXRippleEffect extends Region {
      * @return the ripple state property
      */
     public EFXStyleableObjectProperty<EFXState> rippleStateProperty() {
+        if (Objects.isNull(rippleState)) {
+            rippleState = EFXStyleableObjectProperty.<EFXState>create()
+                                                    .name("rippleEFXState")
+                                                    .bean(EFXRippleEffect.this)
+                                                    .cssMetaData(RIPPLE_STATE_CSS_KEY)
+                                                    .initialValue(DEFAULT_RIPPLE_EFX_STATE)
+                                                    .build();
+        }
         return rippleState;
     }
 
@@ -985,7 +877,7 @@ public class EFXRippleEffect extends Region {
      *         the new ripple state
      */
     public void setRippleState(EFXState rippleEFXState) {
-        this.rippleState.set(rippleEFXState);
+        rippleStateProperty().set(rippleEFXState);
     }
 
     /**
@@ -1003,7 +895,7 @@ public class EFXRippleEffect extends Region {
      * @return the EFXRippleShape object representing the ripple shape
      */
     public EFXRippleShape getRippleShape() {
-        return rippleShape.get();
+        return Objects.isNull(rippleShape) ? DEFAULT_RIPPLE_SHAPE : rippleShape.get();
     }
 
     /**
@@ -1012,6 +904,14 @@ public class EFXRippleEffect extends Region {
      * @return the ripple shape property
      */
     public EFXStyleableObjectProperty<EFXRippleShape> rippleShapeProperty() {
+        if (Objects.isNull(rippleShape)) {
+            rippleShape = EFXStyleableObjectProperty.<EFXRippleShape>create()
+                                                    .name("efxRippleShape")
+                                                    .bean(EFXRippleEffect.this)
+                                                    .cssMetaData(RIPPLE_SHAPE_CSS_KEY)
+                                                    .initialValue(DEFAULT_RIPPLE_SHAPE)
+                                                    .build();
+        }
         return rippleShape;
     }
 
@@ -1022,7 +922,7 @@ public class EFXRippleEffect extends Region {
      *         the shape of the ripple.
      */
     public void setRippleShape(EFXRippleShape efxRippleShape) {
-        this.rippleShape.set(efxRippleShape);
+        rippleShapeProperty().set(efxRippleShape);
     }
 
     /**
@@ -1031,7 +931,7 @@ public class EFXRippleEffect extends Region {
      * @return The shape of the ripple clip at the current state.
      */
     public EFXRippleShape getRippleClipShape() {
-        return rippleClipShape.get();
+        return Objects.isNull(rippleClipShape) ? DEFAULT_RIPPLE_CLIP_SHAPE : rippleClipShape.get();
     }
 
     /**
@@ -1040,6 +940,15 @@ public class EFXRippleEffect extends Region {
      * @return The ripple clip shape property.
      */
     public EFXStyleableObjectProperty<EFXRippleShape> rippleClipShapeProperty() {
+        if (Objects.isNull(rippleClipShape)) {
+            rippleClipShape = EFXStyleableObjectProperty.<EFXRippleShape>create()
+                                                        .name("rippleClipShape")
+                                                        .bean(EFXRippleEffect.this)
+                                                        .cssMetaData(RIPPLE_CLIP_SHAPE_CSS_KEY)
+                                                        .initialValue(DEFAULT_RIPPLE_CLIP_SHAPE)
+                                                        .invalidatedVoidCallback(invalidated -> this.setClip(createRippleClip()))
+                                                        .build();
+        }
         return rippleClipShape;
     }
 
@@ -1050,7 +959,7 @@ public class EFXRippleEffect extends Region {
      *         the shape of the ripple clipping area to set
      */
     public void setRippleClipShape(EFXRippleShape rippleClipShape) {
-        this.rippleClipShape.set(rippleClipShape);
+        rippleClipShapeProperty().set(rippleClipShape);
     }
 
     /**
@@ -1059,7 +968,7 @@ public class EFXRippleEffect extends Region {
      * @return The color of the ripple effect.
      */
     public Color getRippleColor() {
-        return rippleColor.get();
+        return Objects.isNull(rippleColor) ? DEFAULT_RIPPLE_COLOR : rippleColor.get();
     }
 
     /**
@@ -1068,6 +977,14 @@ public class EFXRippleEffect extends Region {
      * @return The EFXStyleableObjectProperty representing the ripple color of the object.
      */
     public EFXStyleableObjectProperty<Color> rippleColorProperty() {
+        if (Objects.isNull(rippleColor)) {
+            rippleColor = EFXStyleableObjectProperty.<Color>create()
+                                                    .name("rippleColor")
+                                                    .bean(EFXRippleEffect.this)
+                                                    .cssMetaData(RIPPLE_COLOR_CSS_KEY)
+                                                    .initialValue(DEFAULT_RIPPLE_COLOR)
+                                                    .build();
+        }
         return rippleColor;
     }
 
@@ -1078,7 +995,7 @@ public class EFXRippleEffect extends Region {
      *         the color of the ripple effect
      */
     public void setRippleColor(Color rippleColor) {
-        this.rippleColor.set(rippleColor);
+        rippleColorProperty().set(rippleColor);
     }
 
     /**
@@ -1087,7 +1004,7 @@ public class EFXRippleEffect extends Region {
      * @return The duration of the ripple effect.
      */
     public Duration getRippleDuration() {
-        return rippleDuration.get();
+        return Objects.isNull(rippleDuration) ? DEFAULT_RIPPLE_DURATION : rippleDuration.get();
     }
 
     /**
@@ -1096,6 +1013,14 @@ public class EFXRippleEffect extends Region {
      * @return the property representing the duration of the ripple effect
      */
     public EFXStyleableObjectProperty<Duration> rippleDurationProperty() {
+        if (Objects.isNull(rippleDuration)) {
+            rippleDuration = EFXStyleableObjectProperty.<Duration>create()
+                                                       .name("rippleDuration")
+                                                       .bean(EFXRippleEffect.this)
+                                                       .cssMetaData(RIPPLE_DURATION_CSS_KEY)
+                                                       .initialValue(DEFAULT_RIPPLE_DURATION)
+                                                       .build();
+        }
         return rippleDuration;
     }
 
@@ -1106,7 +1031,7 @@ public class EFXRippleEffect extends Region {
      *         the duration of the ripple effect
      */
     public void setRippleDuration(Duration rippleDuration) {
-        this.rippleDuration.set(rippleDuration);
+        rippleDurationProperty().set(rippleDuration);
     }
 
     /**
@@ -1115,7 +1040,7 @@ public class EFXRippleEffect extends Region {
      * @return The Ripple interpolator.
      */
     public Interpolator getRippleInterpolator() {
-        return rippleInterpolator.get();
+        return Objects.isNull(rippleInterpolator) ? DEFAULT_RIPPLE_INTERPOLATOR : rippleInterpolator.get();
     }
 
     /**
@@ -1124,6 +1049,14 @@ public class EFXRippleEffect extends Region {
      * @return The property object representing the ripple interpolator.
      */
     public EFXStyleableObjectProperty<Interpolator> rippleInterpolatorProperty() {
+        if (Objects.isNull(rippleInterpolator)) {
+            rippleInterpolator = EFXStyleableObjectProperty.<Interpolator>create()
+                                                           .name("rippleInterpolator")
+                                                           .bean(EFXRippleEffect.this)
+                                                           .cssMetaData(RIPPLE_INTERPOLATOR_CSS_KEY)
+                                                           .initialValue(DEFAULT_RIPPLE_INTERPOLATOR)
+                                                           .build();
+        }
         return rippleInterpolator;
     }
 
@@ -1134,7 +1067,7 @@ public class EFXRippleEffect extends Region {
      *         the Interpolator to be set for the ripple effect
      */
     public void setRippleInterpolator(Interpolator rippleInterpolator) {
-        this.rippleInterpolator.set(rippleInterpolator);
+        rippleInterpolatorProperty().set(rippleInterpolator);
     }
 
     /**
@@ -1143,7 +1076,7 @@ public class EFXRippleEffect extends Region {
      * @return the EFXState object representing the state of the ripple fill
      */
     public EFXState getRippleFillState() {
-        return rippleFillState.get();
+        return Objects.isNull(rippleFillState) ? DEFAULT_RIPPLE_FILL_EFX_STATE : rippleFillState.get();
     }
 
     /**
@@ -1152,6 +1085,14 @@ public class EFXRippleEffect extends Region {
      * @return The styleable object property for ripple fill state
      */
     public EFXStyleableObjectProperty<EFXState> rippleFillStateProperty() {
+        if (Objects.isNull(rippleFillState)) {
+            rippleFillState = EFXStyleableObjectProperty.<EFXState>create()
+                                                        .name("rippleFillEFXState")
+                                                        .bean(EFXRippleEffect.this)
+                                                        .cssMetaData(RIPPLE_FILL_STATE_CSS_KEY)
+                                                        .initialValue(DEFAULT_RIPPLE_FILL_EFX_STATE)
+                                                        .build();
+        }
         return rippleFillState;
     }
 
@@ -1162,7 +1103,7 @@ public class EFXRippleEffect extends Region {
      *         the EFXState to set as the ripple fill state
      */
     public void setRippleFillState(EFXState rippleFillEFXState) {
-        this.rippleFillState.set(rippleFillEFXState);
+        rippleFillStateProperty().set(rippleFillEFXState);
     }
 
     /**
@@ -1180,7 +1121,7 @@ public class EFXRippleEffect extends Region {
      * @return The radius of the ripple effect.
      */
     public double getRippleRadius() {
-        return rippleRadius.get();
+        return Objects.isNull(rippleRadius) ? DEFAULT_RIPPLE_RADIUS : rippleRadius.get();
     }
 
     /**
@@ -1189,6 +1130,14 @@ public class EFXRippleEffect extends Region {
      * @return the ripple radius property.
      */
     public EFXStyleableDoubleProperty rippleRadiusProperty() {
+        if (Objects.isNull(rippleRadius)) {
+            rippleRadius = EFXStyleableDoubleProperty.create()
+                                                     .name("rippleRadius")
+                                                     .bean(EFXRippleEffect.this)
+                                                     .cssMetaData(RIPPLE_RADIUS_CSS_KEY)
+                                                     .initialValue(DEFAULT_RIPPLE_RADIUS)
+                                                     .build();
+        }
         return rippleRadius;
     }
 
@@ -1199,7 +1148,7 @@ public class EFXRippleEffect extends Region {
      *         the new radius of the ripple effect
      */
     public void setRippleRadius(double rippleRadius) {
-        this.rippleRadius.set(rippleRadius);
+        rippleRadiusProperty().set(rippleRadius);
     }
 
     /**
@@ -1208,13 +1157,21 @@ public class EFXRippleEffect extends Region {
      * @return The width of the ripple stroke.
      */
     public double getRippleStrokeWidth() {
-        return rippleStrokeWidth.get();
+        return Objects.isNull(rippleStrokeWidth) ? DEFAULT_RIPPLE_STROKE_WIDTH : rippleStrokeWidth.get();
     }
 
     /**
      *
      */
     public EFXStyleableDoubleProperty rippleStrokeWidthProperty() {
+        if (Objects.isNull(rippleStrokeWidth)) {
+            rippleStrokeWidth = EFXStyleableDoubleProperty.create()
+                                                          .name("rippleStrokeWidth")
+                                                          .bean(EFXRippleEffect.this)
+                                                          .cssMetaData(RIPPLE_STROKE_WIDTH_CSS_KEY)
+                                                          .initialValue(DEFAULT_RIPPLE_STROKE_WIDTH)
+                                                          .build();
+        }
         return rippleStrokeWidth;
     }
 
@@ -1225,7 +1182,7 @@ public class EFXRippleEffect extends Region {
      *         the width of the ripple effect stroke to be set
      */
     public void setRippleStrokeWidth(double rippleStrokeWidth) {
-        this.rippleStrokeWidth.set(rippleStrokeWidth);
+        rippleStrokeWidthProperty().set(rippleStrokeWidth);
     }
 
     /**
@@ -1234,7 +1191,7 @@ public class EFXRippleEffect extends Region {
      * @return The color used for the ripple stroke.
      */
     public Color getRippleStrokeColor() {
-        return rippleStrokeColor.get();
+        return Objects.isNull(rippleStrokeColor) ? DEFAULT_RIPPLE_STROKE_COLOR : rippleStrokeColor.get();
     }
 
     /**
@@ -1243,6 +1200,14 @@ public class EFXRippleEffect extends Region {
      * @return The property representing the stroke color.
      */
     public EFXStyleableObjectProperty<Color> rippleStrokeColorProperty() {
+        if (Objects.isNull(rippleStrokeColor)) {
+            rippleStrokeColor = EFXStyleableObjectProperty.<Color>create()
+                                                          .name("rippleStrokeColor")
+                                                          .bean(EFXRippleEffect.this)
+                                                          .cssMetaData(RIPPLE_STROKE_COLOR_CSS_KEY)
+                                                          .initialValue(DEFAULT_RIPPLE_STROKE_COLOR)
+                                                          .build();
+        }
         return rippleStrokeColor;
     }
 
@@ -1253,7 +1218,7 @@ public class EFXRippleEffect extends Region {
      *         The new color for the ripple stroke
      */
     public void setRippleStrokeColor(Color rippleStrokeColor) {
-        this.rippleStrokeColor.set(rippleStrokeColor);
+        rippleStrokeColorProperty().set(rippleStrokeColor);
     }
 
     /**
@@ -1280,7 +1245,7 @@ public class EFXRippleEffect extends Region {
      * @return The direction of the ripple effect.
      */
     public EFXRippleDirection getRippleDirection() {
-        return rippleDirection.get();
+        return Objects.isNull(rippleDirection) ? DEFAULT_RIPPLE_DIRECTION : rippleDirection.get();
     }
 
     /**
@@ -1289,6 +1254,14 @@ public class EFXRippleEffect extends Region {
      * @return the ripple direction property
      */
     public EFXStyleableObjectProperty<EFXRippleDirection> rippleDirectionProperty() {
+        if (Objects.isNull(rippleDirection)) {
+            rippleDirection = EFXStyleableObjectProperty.<EFXRippleDirection>create()
+                                                        .name("efxRippleDirection")
+                                                        .bean(EFXRippleEffect.this)
+                                                        .cssMetaData(RIPPLE_DIRECTION_CSS_KEY)
+                                                        .initialValue(DEFAULT_RIPPLE_DIRECTION)
+                                                        .build();
+        }
         return rippleDirection;
     }
 
@@ -1299,7 +1272,7 @@ public class EFXRippleEffect extends Region {
      *         The ripple direction to set.
      */
     public void setRippleDirection(EFXRippleDirection efxRippleDirection) {
-        this.rippleDirection.set(efxRippleDirection);
+        rippleDirectionProperty().set(efxRippleDirection);
     }
 
     /**
@@ -1317,7 +1290,7 @@ public class EFXRippleEffect extends Region {
      * @return The current fade state of the ripple effect.
      */
     public EFXState getRippleFadeState() {
-        return rippleFadeState.get();
+        return Objects.isNull(rippleFadeState) ? DEFAULT_RIPPLE_FADE_EFX_STATE : rippleFadeState.get();
     }
 
     /**
@@ -1326,6 +1299,14 @@ public class EFXRippleEffect extends Region {
      * @return The styleable property representing the fade state.
      */
     public EFXStyleableObjectProperty<EFXState> rippleFadeStateProperty() {
+        if (Objects.isNull(rippleFadeState)) {
+            rippleFadeState = EFXStyleableObjectProperty.<EFXState>create()
+                                                        .name("rippleFadeEFXState")
+                                                        .bean(EFXRippleEffect.this)
+                                                        .cssMetaData(RIPPLE_FADE_STATE_CSS_KEY)
+                                                        .initialValue(DEFAULT_RIPPLE_FADE_EFX_STATE)
+                                                        .build();
+        }
         return rippleFadeState;
     }
 
@@ -1336,7 +1317,7 @@ public class EFXRippleEffect extends Region {
      *         the new ripple fade state to be set
      */
     public void setRippleFadeState(EFXState rippleFadeEFXState) {
-        this.rippleFadeState.set(rippleFadeEFXState);
+        rippleFadeStateProperty().set(rippleFadeEFXState);
     }
 
     /**
@@ -1356,7 +1337,7 @@ public class EFXRippleEffect extends Region {
      * @see BlurType
      */
     public BlurType getDropShadowBlurType() {
-        return dropShadowBlurType.get();
+        return Objects.isNull(dropShadowBlurType) ? DEFAULT_DROPSHADOW_BLUR_TYPE : dropShadowBlurType.get();
     }
 
     /**
@@ -1365,6 +1346,14 @@ public class EFXRippleEffect extends Region {
      * @return The property representing the blur type of the drop shadow effect.
      */
     public EFXStyleableObjectProperty<BlurType> dropShadowBlurTypeProperty() {
+        if (Objects.isNull(dropShadowBlurType)) {
+            dropShadowBlurType = EFXStyleableObjectProperty.<BlurType>create()
+                                                           .name("dropShadowBlurType")
+                                                           .bean(EFXRippleEffect.this)
+                                                           .cssMetaData(RIPPLE_DROP_SHADOW_BLUR_TYPE_CSS_KEY)
+                                                           .initialValue(DEFAULT_DROPSHADOW_BLUR_TYPE)
+                                                           .build();
+        }
         return dropShadowBlurType;
     }
 
@@ -1375,7 +1364,7 @@ public class EFXRippleEffect extends Region {
      *         the blur type to set for the drop shadow effect
      */
     public void setDropShadowBlurType(BlurType dropShadowBlurType) {
-        this.dropShadowBlurType.set(dropShadowBlurType);
+        dropShadowBlurTypeProperty().set(dropShadowBlurType);
     }
 
     /**
@@ -1386,7 +1375,7 @@ public class EFXRippleEffect extends Region {
      * @see Color
      */
     public Color getDropShadowColor() {
-        return dropShadowColor.get();
+        return Objects.isNull(dropShadowColor) ? DEFAULT_DROPSHADOW_COLOR : dropShadowColor.get();
     }
 
     /**
@@ -1395,6 +1384,14 @@ public class EFXRippleEffect extends Region {
      * @return The drop shadow color property.
      */
     public EFXStyleableObjectProperty<Color> dropShadowColorProperty() {
+        if (Objects.isNull(dropShadowColor)) {
+            dropShadowColor = EFXStyleableObjectProperty.<Color>create()
+                                                        .name("dropShadowColor")
+                                                        .bean(EFXRippleEffect.this)
+                                                        .cssMetaData(RIPPLE_DROP_SHADOW_COLOR_CSS_KEY)
+                                                        .initialValue(DEFAULT_DROPSHADOW_COLOR)
+                                                        .build();
+        }
         return dropShadowColor;
     }
 
@@ -1405,7 +1402,7 @@ public class EFXRippleEffect extends Region {
      *         the color to set for the drop shadow effect
      */
     public void setDropShadowColor(Color dropShadowColor) {
-        this.dropShadowColor.set(dropShadowColor);
+        dropShadowColorProperty().set(dropShadowColor);
     }
 
     /**
@@ -1414,7 +1411,7 @@ public class EFXRippleEffect extends Region {
      * @return the drop shadow radius of the ripple effect.
      */
     public double getDropShadowRadius() {
-        return dropShadowRadius.get();
+        return Objects.isNull(dropShadowRadius) ? DEFAULT_DROPSHADOW_RADIUS : dropShadowRadius.get();
     }
 
     /**
@@ -1423,6 +1420,14 @@ public class EFXRippleEffect extends Region {
      * @return The property representing the drop shadow radius.
      */
     public EFXStyleableDoubleProperty dropShadowRadiusProperty() {
+        if (Objects.isNull(dropShadowRadius)) {
+            dropShadowRadius = EFXStyleableDoubleProperty.create()
+                                                         .name("dropShadowRadius")
+                                                         .bean(EFXRippleEffect.this)
+                                                         .cssMetaData(RIPPLE_DROP_SHADOW_RADIUS_CSS_KEY)
+                                                         .initialValue(DEFAULT_DROPSHADOW_RADIUS)
+                                                         .build();
+        }
         return dropShadowRadius;
     }
 
@@ -1433,7 +1438,7 @@ public class EFXRippleEffect extends Region {
      *         the radius of the drop shadow to be set
      */
     public void setDropShadowRadius(double dropShadowRadius) {
-        this.dropShadowRadius.set(dropShadowRadius);
+        dropShadowRadiusProperty().set(dropShadowRadius);
     }
 
     /**
@@ -1442,7 +1447,7 @@ public class EFXRippleEffect extends Region {
      * @return The spread value of the drop shadow effect.
      */
     public double getDropShadowSpread() {
-        return dropShadowSpread.get();
+        return Objects.isNull(dropShadowSpread) ? DEFAULT_DROPSHADOW_SPREAD : dropShadowSpread.get();
     }
 
     /**
@@ -1451,6 +1456,14 @@ public class EFXRippleEffect extends Region {
      * @return the styleable double property for the drop shadow spread
      */
     public EFXStyleableDoubleProperty dropShadowSpreadProperty() {
+        if (Objects.isNull(dropShadowSpread)) {
+            dropShadowSpread = EFXStyleableDoubleProperty.create()
+                                                         .name("dropShadowSpread")
+                                                         .bean(EFXRippleEffect.this)
+                                                         .cssMetaData(RIPPLE_DROP_SHADOW_SPREAD_CSS_KEY)
+                                                         .initialValue(DEFAULT_DROPSHADOW_SPREAD)
+                                                         .build();
+        }
         return dropShadowSpread;
     }
 
@@ -1461,7 +1474,7 @@ public class EFXRippleEffect extends Region {
      *         The spread of the drop shadow
      */
     public void setDropShadowSpread(double dropShadowSpread) {
-        this.dropShadowSpread.set(dropShadowSpread);
+        dropShadowSpreadProperty().set(dropShadowSpread);
     }
 
     /**
@@ -1470,7 +1483,7 @@ public class EFXRippleEffect extends Region {
      * @return the offset on the x-axis of the drop shadow effect
      */
     public double getDropShadowOffsetX() {
-        return dropShadowOffsetX.get();
+        return Objects.isNull(dropShadowOffsetX) ? DEFAULT_DROPSHADOW_OFFSET_X : dropShadowOffsetX.get();
     }
 
     /**
@@ -1479,6 +1492,14 @@ public class EFXRippleEffect extends Region {
      * @return The EFXStyleableDoubleProperty for the drop shadow offset in the X direction.
      */
     public EFXStyleableDoubleProperty dropShadowOffsetXProperty() {
+        if (Objects.isNull(dropShadowOffsetX)) {
+            dropShadowOffsetX = EFXStyleableDoubleProperty.create()
+                                                          .name("dropShadowOffsetX")
+                                                          .bean(EFXRippleEffect.this)
+                                                          .cssMetaData(RIPPLE_DROP_SHADOW_OFFSET_X_CSS_KEY)
+                                                          .initialValue(DEFAULT_DROPSHADOW_OFFSET_X)
+                                                          .build();
+        }
         return dropShadowOffsetX;
     }
 
@@ -1489,7 +1510,7 @@ public class EFXRippleEffect extends Region {
      *         the horizontal offset of the drop shadow
      */
     public void setDropShadowOffsetX(double dropShadowOffsetX) {
-        this.dropShadowOffsetX.set(dropShadowOffsetX);
+        dropShadowOffsetXProperty().set(dropShadowOffsetX);
     }
 
     /**
@@ -1498,7 +1519,7 @@ public class EFXRippleEffect extends Region {
      * @return The offset in the Y-direction of the drop shadow effect.
      */
     public double getDropShadowOffsetY() {
-        return dropShadowOffsetY.get();
+        return Objects.isNull(dropShadowOffsetY) ? DEFAULT_DROPSHADOW_OFFSET_Y : dropShadowOffsetY.get();
     }
 
     /**
@@ -1507,6 +1528,14 @@ public class EFXRippleEffect extends Region {
      * @return the styleable double property for the drop shadow's Y offset
      */
     public EFXStyleableDoubleProperty dropShadowOffsetYProperty() {
+        if (Objects.isNull(dropShadowOffsetY)) {
+            dropShadowOffsetY = EFXStyleableDoubleProperty.create()
+                                                          .name("dropShadowOffsetY")
+                                                          .bean(EFXRippleEffect.this)
+                                                          .cssMetaData(RIPPLE_DROP_SHADOW_OFFSET_Y_CSS_KEY)
+                                                          .initialValue(DEFAULT_DROPSHADOW_OFFSET_Y)
+                                                          .build();
+        }
         return dropShadowOffsetY;
     }
 
@@ -1517,7 +1546,7 @@ public class EFXRippleEffect extends Region {
      *         the offset in the y-direction for the drop shadow effect
      */
     public void setDropShadowOffsetY(double dropShadowOffsetY) {
-        this.dropShadowOffsetY.set(dropShadowOffsetY);
+        dropShadowOffsetYProperty().set(dropShadowOffsetY);
     }
 
     /**
@@ -1526,7 +1555,7 @@ public class EFXRippleEffect extends Region {
      * @return the current state of the drop shadow
      */
     public EFXState getDropShadowState() {
-        return dropShadowState.get();
+        return Objects.isNull(dropShadowState) ? DEFAULT_DROPSHADOW_EFX_STATE : dropShadowState.get();
     }
 
     /**
@@ -1535,6 +1564,14 @@ public class EFXRippleEffect extends Region {
      * @return The styleable property representing the drop shadow state.
      */
     public EFXStyleableObjectProperty<EFXState> dropShadowStateProperty() {
+        if (Objects.isNull(dropShadowState)) {
+            dropShadowState = EFXStyleableObjectProperty.<EFXState>create()
+                                                        .name("dropShadowEFXState")
+                                                        .bean(EFXRippleEffect.this)
+                                                        .cssMetaData(RIPPLE_DROP_SHADOW_STATE_CSS_KEY)
+                                                        .initialValue(DEFAULT_DROPSHADOW_EFX_STATE)
+                                                        .build();
+        }
         return dropShadowState;
     }
 
@@ -1545,7 +1582,7 @@ public class EFXRippleEffect extends Region {
      *         The new drop shadow state.
      */
     public void setDropShadowState(EFXState dropShadowEFXState) {
-        this.dropShadowState.set(dropShadowEFXState);
+        dropShadowStateProperty().set(dropShadowEFXState);
     }
 
     /**
@@ -0,0 +1,485 @@
+package io.github.colindj1120.enhancedfx.fxml.compiler;
+
+import javafx.beans.DefaultProperty;
+import javafx.beans.NamedArg;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.ProcessingInstruction;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Build-time tool that compiles FXML files into plain Java classes building the same scene graph, so screens are created without {@code FXMLLoader}.
+ *
+ * <p>{@code FXMLLoader} parses the FXML, resolves every element and attribute by reflection, and injects {@code @FXML} fields and handlers reflectively each time a screen is loaded. The class generated for
+ * {@code Name.fxml} is {@code NameFxml}, in the package of the file's {@code fx:controller}. Its {@code load} methods create every node with {@code new}, set its properties with their setters, assign each
+ * {@code fx:id} to the controller field of the same name and to the node's id, and wire each {@code #handler} with a method reference. Mistakes that {@code FXMLLoader} would report at runtime, such as a missing field or
+ * handler, become compile errors.</p>
+ *
+ * <h2>Supported FXML</h2>
+ * <ul>
+ *     <li>{@code <?import?>} of classes and packages, and elements of any class with a public no-argument or {@link NamedArg} constructor.</li>
+ *     <li>Attributes for properties of type {@code String}, primitives and their wrappers, and enums, including static properties such as {@code GridPane.rowIndex}.</li>
+ *     <li>Property elements, such as {@code <padding>}, for single values and lists, and children added to the {@link DefaultProperty}.</li>
+ *     <li>{@code fx:controller}, {@code fx:id}, and event handler attributes such as {@code onAction="#handleAction"}, for handlers with or without an event parameter.</li>
+ * </ul>
+ *
+ * <p>Anything else, such as {@code fx:include}, {@code fx:define}, resource, location and binding expressions, fails the build with a message naming the file. The generated class reaches controller
+ * fields and handlers directly, so they must not be private, and every {@code fx:id} needs a controller field. A controller implementing {@link javafx.fxml.Initializable} is initialized as with
+ * {@code FXMLLoader}, with null location and resources.</p>
+ *
+ * <p>The {@code compileFxml} Gradle task runs this class over {@code src/main/resources/fxml} and adds its output to the module's sources.</p>
+ *
+ * <p>Usage: {@code FxmlCompiler <source directory> <output directory>}</p>
+ */
+public final class FxmlCompiler {
+    private static final String FXML_NAMESPACE = "http://javafx.com/fxml";
+    private static final String FXML_EXTENSION = ".fxml";
+    private static final String CLASS_SUFFIX   = "Fxml";
+
+    private final String               fileName;
+    private final List<String>         importedClasses  = new ArrayList<>();
+    private final List<String>         importedPackages = new ArrayList<>(List.of("java.lang"));
+    private final SortedSet<String>    imports          = new TreeSet<>();
+    private final Map<String, Integer> variableCounts   = new HashMap<>();
+    private final StringBuilder        body             = new StringBuilder();
+
+    private FxmlCompiler(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Compiles every {@code .fxml} file under the source directory into a Java class under the output directory.
+     *
+     * @param args
+     *         The source directory followed by the output directory.
+     *
+     * @throws Exception
+     *         If a file cannot be read, parsed, compiled or written.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: FxmlCompiler <source directory> <output directory>");
+        }
+        Path sourceDirectory = Path.of(args[0]);
+        Path outputDirectory = Path.of(args[1]);
+
+        List<Path> fxmlFiles;
+        try (Stream<Path> paths = Files.walk(sourceDirectory)) {
+            fxmlFiles = paths.filter(Files::isRegularFile)
+                             .filter(path -> path.getFileName()
+                                                 .toString()
+                                                 .endsWith(FXML_EXTENSION))
+                             .sorted()
+                             .toList();
+        }
+
+        for (Path fxmlFile : fxmlFiles) {
+            new FxmlCompiler(fxmlFile.getFileName()
+                                     .toString()).compile(fxmlFile, outputDirectory);
+        }
+        System.out.printf("Compiled %d FXML file(s) to %s%n", fxmlFiles.size(), outputDirectory);
+    }
+
+    //region Compilation
+    //*****************************************************************
+    // Compilation
+    //*****************************************************************
+
+    private void compile(Path fxmlFile, Path outputDirectory) throws IOException, ParserConfigurationException, SAXException {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document = factory.newDocumentBuilder()
+                                   .parse(fxmlFile.toFile());
+
+        NodeList topLevel = document.getChildNodes();
+        for (int i = 0; i < topLevel.getLength(); i++) {
+            if (topLevel.item(i) instanceof ProcessingInstruction instruction && instruction.getTarget()
+                                                                                            .equals("import")) {
+                String imported = instruction.getData()
+                                             .strip();
+                if (imported.endsWith(".*")) {
+                    importedPackages.add(imported.substring(0, imported.length() - 2));
+                } else {
+                    importedClasses.add(imported);
+                }
+            }
+        }
+
+        Element root       = document.getDocumentElement();
+        String  controller = root.getAttributeNS(FXML_NAMESPACE, "controller");
+        if (controller.isEmpty()) {
+            throw error("the root element has no fx:controller");
+        }
+        int    lastDot        = controller.lastIndexOf('.');
+        String packageName    = controller.substring(0, lastDot);
+        String controllerName = controller.substring(lastDot + 1);
+        String className      = fileName.substring(0, fileName.length() - FXML_EXTENSION.length()) + CLASS_SUFFIX;
+        instance(root);
+
+        imports.addAll(List.of("javafx.event.Event", "javafx.event.EventHandler", "javafx.fxml.Initializable"));
+        imports.removeIf(type -> type.substring(0, type.lastIndexOf('.'))
+                                     .equals(packageName) || type.startsWith("java.lang."));
+
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n\n");
+        imports.forEach(type -> source.append("import ").append(type).append(";\n"));
+        source.append("""
+
+                /**
+                 * Builds the scene graph of {@code %1$s} for a {@link %2$s}.
+                 *
+                 * <p>This class is generated at build time by {@code FxmlCompiler}; do not edit it by hand. It creates the same nodes as {@code FXMLLoader} would, and injects the {@code fx:id} fields and handlers
+                 * of the controller directly, without reflection.</p>
+                 */
+                public final class %3$s {
+                    private %3$s() {}
+
+                    /**
+                     * Creates a controller and builds its scene graph.
+                     *
+                     * @return The controller, with every {@code fx:id} field injected.
+                     */
+                    public static %2$s load() {
+                        return load(new %2$s());
+                    }
+
+                    /**
+                     * Builds the scene graph for an existing controller.
+                     *
+                     * @param controller
+                     *         The controller whose {@code fx:id} fields are injected and whose handlers are wired.
+                     * @param <C>
+                     *         The type of the controller.
+                     *
+                     * @return The controller.
+                     */
+                    public static <C extends %2$s> C load(C controller) {
+                """.formatted(fileName, controllerName, className));
+        source.append(body);
+        source.append("""
+                        if (controller instanceof Initializable initializable) {
+                            initializable.initialize(null, null);
+                        }
+                        return controller;
+                    }
+
+                    /**
+                     * Adapts a handler without an event parameter.
+                     */
+                    private static <E extends Event> EventHandler<E> handler(Runnable handler) {
+                        return event -> handler.run();
+                    }
+
+                    /**
+                     * Passes through a handler with an event parameter.
+                     */
+                    private static <E extends Event> EventHandler<E> handler(EventHandler<E> handler) {
+                        return handler;
+                    }
+                }
+                """);
+        Path target = outputDirectory.resolve(packageName.replace('.', '/'))
+                                     .resolve(className + ".java");
+        Files.createDirectories(target.getParent());
+        Files.writeString(target, source);
+    }
+
+    /**
+     * Emits the statements creating an instance element and its content.
+     *
+     * @return The variable holding the instance.
+     */
+    private String instance(Element element) {
+        Class<?> type = resolve(element.getTagName());
+
+        Map<String, String> properties       = new LinkedHashMap<>();
+        Map<String, String> staticProperties = new LinkedHashMap<>();
+        Map<String, String> handlers         = new LinkedHashMap<>();
+        String              id               = null;
+
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Attr   attribute = (Attr) attributes.item(i);
+            String name      = attribute.getLocalName() == null ? attribute.getName() : attribute.getLocalName();
+            String value     = attribute.getValue();
+            if (FXML_NAMESPACE.equals(attribute.getNamespaceURI())) {
+                switch (name) {
+                    case "id" -> id = value;
+                    case "controller" -> {}
+                    default -> throw error("fx:" + name + " is not supported");
+                }
+            } else if (attribute.getName()
+                                .startsWith("xmlns")) {
+                continue;
+            } else if (name.contains(".")) {
+                staticProperties.put(name, value);
+            } else if (name.startsWith("on") && value.startsWith("#")) {
+                handlers.put(name, value.substring(1));
+            } else {
+                properties.put(name, value);
+            }
+        }
+
+        String variable = Objects.requireNonNullElseGet(id, () -> newVariable(type));
+        imports.add(type.getCanonicalName());
+        line("%s %s = %s;", type.getSimpleName(), variable, construct(type, properties));
+        if (Objects.nonNull(id)) {
+            line("controller.%s = %s;", id, variable);
+            // Like FXMLLoader, the fx:id doubles as the node id for CSS unless an id is given explicitly
+            if (!properties.containsKey("id") && hasSetter(type, "id")) {
+                line("%s.setId(%s);", variable, literal(String.class, id, "fx:id"));
+            }
+        }
+
+        properties.forEach((name, value) -> line("%s.%s(%s);", variable, setterName(name), literal(setter(type, name).getParameterTypes()[0], value, name)));
+        handlers.forEach((name, method) -> {
+            setter(type, name);
+            line("%s.%s(handler(controller::%s));", variable, setterName(name), method);
+        });
+        staticProperties.forEach((name, value) -> {
+            int      dot    = name.lastIndexOf('.');
+            Class<?> owner  = resolve(name.substring(0, dot));
+            Method   setter = staticSetter(owner, name.substring(dot + 1));
+            imports.add(owner.getCanonicalName());
+            line("%s.%s(%s, %s);", owner.getSimpleName(), setter.getName(), variable, literal(setter.getParameterTypes()[1], value, name));
+        });
+
+        for (Element child : childElements(element)) {
+            if (isPropertyElement(child)) {
+                propertyElement(type, variable, child);
+            } else {
+                addToDefaultProperty(type, variable, instance(child));
+            }
+        }
+        return variable;
+    }
+
+    /**
+     * Emits the statements for a property element such as {@code <padding>} or {@code <children>}.
+     */
+    private void propertyElement(Class<?> type, String variable, Element element) {
+        String        name     = element.getTagName();
+        List<Element> children = childElements(element);
+        Method        getter   = getter(type, name);
+        if (Objects.nonNull(getter) && List.class.isAssignableFrom(getter.getReturnType())) {
+            for (Element child : children) {
+                line("%s.%s().add(%s);", variable, getter.getName(), instance(child));
+            }
+        } else if (children.size() == 1) {
+            setter(type, name);
+            String value = instance(children.getFirst());
+            line("%s.%s(%s);", variable, setterName(name), value);
+        } else {
+            throw error("property element <" + name + "> must contain exactly one element");
+        }
+    }
+
+    /**
+     * Emits the statement adding a child instance to its parent's default property.
+     */
+    private void addToDefaultProperty(Class<?> type, String variable, String child) {
+        DefaultProperty defaultProperty = type.getAnnotation(DefaultProperty.class);
+        if (Objects.isNull(defaultProperty)) {
+            throw error(type.getSimpleName() + " has no default property for its child elements");
+        }
+        Method getter = getter(type, defaultProperty.value());
+        if (Objects.nonNull(getter) && List.class.isAssignableFrom(getter.getReturnType())) {
+            line("%s.%s().add(%s);", variable, getter.getName(), child);
+        } else {
+            setter(type, defaultProperty.value());
+            line("%s.%s(%s);", variable, setterName(defaultProperty.value()), child);
+        }
+    }
+
+    //endregion Compilation
+
+    //region Helper Functions
+    //*****************************************************************
+    // Helper Functions
+    //*****************************************************************
+
+    /**
+     * Returns the constructor expression of an instance. Classes with a public no-argument constructor are created with it and get their attributes through setters. Otherwise, the attributes must match
+     * the {@link NamedArg} parameters of a constructor, and are all consumed by it.
+     */
+    private String construct(Class<?> type, Map<String, String> properties) {
+        if (Stream.of(type.getConstructors())
+                  .anyMatch(constructor -> constructor.getParameterCount() == 0)) {
+            return "new " + type.getSimpleName() + "()";
+        }
+        for (Constructor<?> constructor : type.getConstructors()) {
+            Parameter[]  parameters = constructor.getParameters();
+            List<String> names      = Stream.of(parameters)
+                                            .map(parameter -> parameter.getAnnotation(NamedArg.class))
+                                            .map(namedArg -> Objects.isNull(namedArg) ? null : namedArg.value())
+                                            .toList();
+            if (!names.contains(null) && new HashSet<>(names).equals(properties.keySet())) {
+                List<String> arguments = new ArrayList<>();
+                for (int i = 0; i < parameters.length; i++) {
+                    arguments.add(literal(parameters[i].getType(), properties.get(names.get(i)), names.get(i)));
+                }
+                properties.clear();
+                return "new " + type.getSimpleName() + "(" + String.join(", ", arguments) + ")";
+            }
+        }
+        throw error(type.getSimpleName() + " has no public no-argument constructor and no @NamedArg constructor for " + properties.keySet());
+    }
+
+    /**
+     * Converts an attribute value to a Java literal of the given type.
+     */
+    private String literal(Class<?> type, String value, String attribute) {
+        if (value.startsWith("$") || value.startsWith("%") || value.startsWith("@")) {
+            throw error("attribute " + attribute + " uses an expression, which is not supported: " + value);
+        }
+        try {
+            if (type == String.class || type == Object.class) {
+                return '"' + value.replace("\\", "\\\\")
+                                  .replace("\"", "\\\"")
+                                  .replace("\n", "\\n") + '"';
+            } else if (type == double.class || type == Double.class) {
+                return Double.toString(Double.parseDouble(value));
+            } else if (type == float.class || type == Float.class) {
+                return Float.parseFloat(value) + "F";
+            } else if (type == int.class || type == Integer.class) {
+                return Integer.toString(Integer.parseInt(value));
+            } else if (type == long.class || type == Long.class) {
+                return Long.parseLong(value) + "L";
+            } else if (type == boolean.class || type == Boolean.class) {
+                return Boolean.toString(Boolean.parseBoolean(value));
+            } else if (type.isEnum()) {
+                String constant = Stream.of(type.getEnumConstants())
+                                        .map(Object::toString)
+                                        .filter(name -> name.equals(value) || name.equalsIgnoreCase(value))
+                                        .findFirst()
+                                        .orElseThrow(() -> error(value + " is not a constant of " + type.getSimpleName()));
+                imports.add(type.getCanonicalName());
+                return type.getSimpleName() + "." + constant;
+            }
+        }
+        catch (NumberFormatException e) {
+            throw error("attribute " + attribute + " is not a valid " + type.getSimpleName() + ": " + value);
+        }
+        throw error("attribute " + attribute + " has unsupported type " + type.getSimpleName());
+    }
+
+    private Class<?> resolve(String name) {
+        if (name.contains(".") && Character.isLowerCase(name.charAt(0))) {
+            return load(name).orElseThrow(() -> error("unknown class " + name));
+        }
+        Optional<Class<?>> imported = importedClasses.stream()
+                                                     .filter(candidate -> candidate.endsWith("." + name))
+                                                     .findFirst()
+                                                     .flatMap(FxmlCompiler::load);
+        return imported.or(() -> importedPackages.stream()
+                                                 .map(packageName -> load(packageName + "." + name))
+                                                 .flatMap(Optional::stream)
+                                                 .findFirst())
+                       .orElseThrow(() -> error("cannot resolve <" + name + "> from the imports"));
+    }
+
+    private static Optional<Class<?>> load(String className) {
+        try {
+            return Optional.of(Class.forName(className, false, FxmlCompiler.class.getClassLoader()));
+        }
+        catch (ClassNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Method setter(Class<?> type, String property) {
+        String name = setterName(property);
+        return Stream.of(type.getMethods())
+                     .filter(method -> method.getName()
+                                             .equals(name) && method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers()))
+                     .min(Comparator.comparing(method -> method.getParameterTypes()[0] != String.class))
+                     .orElseThrow(() -> error(type.getSimpleName() + " has no settable property " + property));
+    }
+
+    private static boolean hasSetter(Class<?> type, String property) {
+        String name = setterName(property);
+        return Stream.of(type.getMethods())
+                     .anyMatch(method -> method.getName()
+                                               .equals(name) && method.getParameterCount() == 1);
+    }
+
+    private Method staticSetter(Class<?> owner, String property) {
+        String name = setterName(property);
+        return Stream.of(owner.getMethods())
+                     .filter(method -> method.getName()
+                                             .equals(name) && method.getParameterCount() == 2 && Modifier.isStatic(method.getModifiers()))
+                     .findFirst()
+                     .orElseThrow(() -> error(owner.getSimpleName() + " has no static property " + property));
+    }
+
+    private static Method getter(Class<?> type, String property) {
+        String name = "get" + Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        return Stream.of(type.getMethods())
+                     .filter(method -> method.getName()
+                                             .equals(name) && method.getParameterCount() == 0)
+                     .findFirst()
+                     .orElse(null);
+    }
+
+    private static String setterName(String property) {
+        return "set" + Character.toUpperCase(property.charAt(0)) + property.substring(1);
+    }
+
+    private static boolean isPropertyElement(Element element) {
+        String name = element.getTagName();
+        return Character.isLowerCase(name.charAt(0)) && !name.contains(".");
+    }
+
+    private List<Element> childElements(Element element) {
+        List<Element> children = new ArrayList<>();
+        NodeList      nodes    = element.getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node instanceof Element child) {
+                if (FXML_NAMESPACE.equals(child.getNamespaceURI())) {
+                    throw error("<fx:" + child.getLocalName() + "> is not supported");
+                }
+                children.add(child);
+            } else if (node.getNodeType() == Node.TEXT_NODE && !node.getTextContent()
+                                                                   .isBlank()) {
+                throw error("text content in <" + element.getTagName() + "> is not supported");
+            }
+        }
+        return children;
+    }
+
+    private String newVariable(Class<?> type) {
+        String base = Character.toLowerCase(type.getSimpleName()
+                                                .charAt(0)) + type.getSimpleName()
+                                                                  .substring(1);
+        return base + variableCounts.merge(base, 1, Integer::sum);
+    }
+
+    private void line(String format, Object... arguments) {
+        body.append("        ")
+            .append(format.formatted(arguments))
+            .append('\n');
+    }
+
+    private IllegalStateException error(String message) {
+        return new IllegalStateException(fileName + ": " + message);
+    }
+
+    //endregion Helper Functions
+}
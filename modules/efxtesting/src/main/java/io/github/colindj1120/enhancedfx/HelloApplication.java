@@ -2,13 +2,15 @@ package io.github.colindj1120.enhancedfx;
 
 import fr.brouillard.oss.cssfx.CSSFX;
 import io.github.colindj1120.enhancedfx.controllers.EnhancedTextFieldControlsController;
+import io.github.colindj1120.enhancedfx.controllers.EnhancedTextFieldControlsFxml;
 import io.github.colindj1120.enhancedfx.controllers.ToggleNavigationBarControlsController;
+import io.github.colindj1120.enhancedfx.controllers.ToggleNavigationBarControlsFxml;
+import io.github.colindj1120.enhancedfx.controls.css.EFXStylesheets;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxlabeled.efxbuttons.EFXButton;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxlabeled.efxbuttons.EFXToggleButton;
 import io.github.colindj1120.enhancedfx.controls.complexcontrol.EFXToggleNavigationBar;
 import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxtext.EFXTextField;
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.layout.GridPane;
@@ -17,23 +19,30 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.IOException;
-
 public class HelloApplication extends Application {
 
     @Override
     public void start(Stage stage) {
+        // CSSFX can only hot reload the text stylesheets
+        System.setProperty(EFXStylesheets.BINARY_STYLESHEETS_PROPERTY, "false");
         CSSFX.start();
 
+        stage.setTitle("MDTextField Test");
+        stage.setScene(createScene());
+        stage.show();
+    }
+
+    /**
+     * Builds the demo scene. Also used by the scripted startup of {@link io.github.colindj1120.enhancedfx.benchmark.StartupBenchmark}, so both start the same controls.
+     */
+    public Scene createScene() {
 //        VBox vBox = getMDToggleNavigationBarVBox();
         VBox  vBox  = getCustomTextFieldVBox();
 //        VBox  vBox  = getEnhancedButtonVBox();
         Scene scene = new Scene(vBox, 800, 600);
 
         vBox.requestFocus();
-        stage.setTitle("MDTextField Test");
-        stage.setScene(scene);
-        stage.show();
+        return scene;
     }
 
     private VBox getMDToggleNavigationBarVBox() {
@@ -80,38 +89,18 @@ public class HelloApplication extends Application {
         return vBox;
     }
 
-    @SuppressWarnings("ThrowablePrintedToSystemOut")
     private GridPane createTextFieldControls(EFXTextField textField) {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/EnhancedTextFieldControls.fxml"));
-            loader.load();
-
-            EnhancedTextFieldControlsController controller = loader.getController();
-            controller.setEnhancedTextField(textField);
-
-            return controller.getTextFieldControls();
-        }
-        catch (IOException e) {
-            System.out.println(e);
-            return new GridPane();
-        }
+        EnhancedTextFieldControlsController controller = EnhancedTextFieldControlsFxml.load();
+        controller.setEnhancedTextField(textField);
+
+        return controller.getTextFieldControls();
     }
 
-    @SuppressWarnings("ThrowablePrintedToSystemOut")
     private GridPane createToggleNavigationBarControls(EFXToggleNavigationBar toggleNavigationBar) {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/ToggleNavigationBarControls.fxml"));
-            loader.load();
-
-            ToggleNavigationBarControlsController controller = loader.getController();
-            controller.setToggleNavigationBar(toggleNavigationBar);
-
-            return controller.getToggleNavigationBarControls();
-        }
-        catch (IOException e) {
-            System.out.println(e);
-            return new GridPane();
-        }
+        ToggleNavigationBarControlsController controller = ToggleNavigationBarControlsFxml.load();
+        controller.setToggleNavigationBar(toggleNavigationBar);
+
+        return controller.getToggleNavigationBarControls();
     }
 
     public static void main(String[] args) {
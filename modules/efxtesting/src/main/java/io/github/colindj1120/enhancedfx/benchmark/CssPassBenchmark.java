@@ -0,0 +1,108 @@
+package io.github.colindj1120.enhancedfx.benchmark;
+
+import io.github.colindj1120.enhancedfx.controls.simplecontrol.efxtext.EFXTextField;
+import javafx.application.Platform;
+import javafx.css.CssMetaData;
+import javafx.css.Styleable;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Simulates CSS passes over a scene of {@value #CONTROL_COUNT} {@link EFXTextField} controls and reports the time and bytes allocated per pass.
+ *
+ * <p>Two passes are measured. The metadata pass walks every control's {@link CssMetaData} and calls {@code isSettable}, {@code getStyleableProperty} and {@code getInitialValue}, which is what JavaFX does
+ * for every styleable when it applies or resets a style. The full pass toggles a style class on the scene root and calls {@code applyCss()}, so it includes selector matching and value conversion.</p>
+ *
+ * <p>Run it with {@code ./gradlew :modules:efxtesting:cssPassBenchmark}. Allocation figures come from {@link com.sun.management.ThreadMXBean} and are measured on the JavaFX application thread.</p>
+ */
+public final class CssPassBenchmark {
+    private static final int CONTROL_COUNT     = 1_000;
+    private static final int WARMUP_PASSES     = 200;
+    private static final int MEASURED_PASSES   = 1_000;
+    private static final int FULL_PASS_WARMUP  = 20;
+    private static final int FULL_PASS_MEASURE = 100;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static volatile Object sink;
+
+    private CssPassBenchmark() {}
+
+    public static void main(String[] args) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                run();
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+        Platform.exit();
+    }
+
+    private static void run() {
+        List<EFXTextField> controls = new ArrayList<>(CONTROL_COUNT);
+        for (int i = 0; i < CONTROL_COUNT; i++) {
+            controls.add(EFXTextField.create());
+        }
+        Group root  = new Group();
+        root.getChildren().addAll(controls);
+        Scene scene = new Scene(root);
+        root.applyCss();
+
+        for (int i = 0; i < WARMUP_PASSES; i++) {
+            metadataPass(controls);
+        }
+        report("metadata pass", MEASURED_PASSES, () -> metadataPass(controls));
+
+        for (int i = 0; i < FULL_PASS_WARMUP; i++) {
+            fullPass(root, i);
+        }
+        report("full applyCss pass", FULL_PASS_MEASURE, () -> fullPass(root, 0));
+
+        sink = scene;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void metadataPass(List<EFXTextField> controls) {
+        int settable = 0;
+        for (EFXTextField control : controls) {
+            for (CssMetaData<? extends Styleable, ?> metaData : control.getCssMetaData()) {
+                CssMetaData<Styleable, Object> cssMetaData = (CssMetaData<Styleable, Object>) metaData;
+                if (cssMetaData.isSettable(control)) {
+                    settable++;
+                }
+                sink = cssMetaData.getStyleableProperty(control);
+                sink = cssMetaData.getInitialValue(control);
+            }
+        }
+        sink = settable;
+    }
+
+    private static void fullPass(Group root, int pass) {
+        if (root.getStyleClass().remove("css-pass-benchmark")) {
+            root.applyCss();
+        }
+        root.getStyleClass().add("css-pass-benchmark");
+        root.applyCss();
+        sink = pass;
+    }
+
+    private static void report(String name, int passes, Runnable pass) {
+        long threadId        = Thread.currentThread().threadId();
+        long allocatedBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        long start           = System.nanoTime();
+        for (int i = 0; i < passes; i++) {
+            pass.run();
+        }
+        long elapsed   = System.nanoTime() - start;
+        long allocated = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        System.out.printf("%-20s %,12d ns/pass %,12d bytes/pass (%d controls, %d passes)%n", name, elapsed / passes, allocated / passes, CONTROL_COUNT, passes);
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.colindj1120.enhancedfx.benchmark;
+
+import io.github.colindj1120.enhancedfx.HelloApplication;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Scripted, headless startup of the demo application, used to build and measure an AppCDS archive of the EnhancedFX modules.
+ *
+ * <p>Without arguments, the JavaFX toolkit is started, the demo scene of {@link HelloApplication} is shown on a stage, and once the first pulse after showing it has completed the JVM reports:</p>
+ * <ul>
+ *     <li>the time to first frame, in milliseconds since the JVM started,</li>
+ *     <li>the number of classes loaded, and</li>
+ *     <li>the metaspace in use.</li>
+ * </ul>
+ *
+ * <p>With {@code --compare <archive> [runs]}, the scripted startup is run repeatedly in fresh JVMs, with the default JDK archive and with the given application archive, and the medians are reported side by
+ * side. The child JVMs inherit this JVM's class path and options.</p>
+ *
+ * <p>Run it with {@code ./gradlew :modules:efxtesting:startupBenchmark}, which creates the archive first. The tasks use Monocle's headless platform, so no display is needed.</p>
+ */
+public final class StartupBenchmark {
+    private static final String  RESULT_PREFIX           = "EFX-STARTUP";
+    private static final Pattern RESULT_PATTERN          = Pattern.compile(RESULT_PREFIX + " firstFrameMs=(\\d+) classes=(\\d+) metaspaceKb=(\\d+)");
+    private static final int     DEFAULT_RUNS            = 5;
+    private static final long    STARTUP_TIMEOUT_SECONDS = 60;
+
+    private StartupBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length >= 2 && args[0].equals("--compare")) {
+            compare(Path.of(args[1]), args.length >= 3 ? Integer.parseInt(args[2]) : DEFAULT_RUNS);
+        } else {
+            probe();
+        }
+    }
+
+    private static void probe() throws InterruptedException {
+        AtomicLong                 firstFrame = new AtomicLong();
+        AtomicReference<Throwable> failure    = new AtomicReference<>();
+        CountDownLatch             shown      = new CountDownLatch(1);
+        Platform.startup(() -> {
+            Thread.currentThread()
+                  .setUncaughtExceptionHandler((thread, exception) -> {
+                      failure.compareAndSet(null, exception);
+                      shown.countDown();
+                  });
+            Stage stage = new Stage();
+            Scene scene = new HelloApplication().createScene();
+            scene.addPostLayoutPulseListener(new Runnable() {
+                @Override
+                public void run() {
+                    scene.removePostLayoutPulseListener(this);
+                    // Runs once the rest of the pulse, including rendering, has completed
+                    Platform.runLater(() -> {
+                        firstFrame.set(ManagementFactory.getRuntimeMXBean()
+                                                        .getUptime());
+                        shown.countDown();
+                    });
+                }
+            });
+            stage.setScene(scene);
+            stage.show();
+        });
+        try {
+            if (!shown.await(STARTUP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The demo application did not show its first frame within " + STARTUP_TIMEOUT_SECONDS + " seconds");
+            }
+            if (Objects.nonNull(failure.get())) {
+                throw new IllegalStateException("The demo application failed to start", failure.get());
+            }
+
+            long classes = ManagementFactory.getClassLoadingMXBean()
+                                            .getTotalLoadedClassCount();
+            long metaspace = ManagementFactory.getMemoryPoolMXBeans()
+                                              .stream()
+                                              .filter(pool -> pool.getName()
+                                                                  .equals("Metaspace"))
+                                              .map(MemoryPoolMXBean::getUsage)
+                                              .mapToLong(usage -> usage.getUsed() / 1024)
+                                              .sum();
+            System.out.printf("%s firstFrameMs=%d classes=%d metaspaceKb=%d%n", RESULT_PREFIX, firstFrame.get(), classes, metaspace);
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    private static void compare(Path archive, int runs) throws Exception {
+        if (!Files.isRegularFile(archive)) {
+            throw new IllegalArgumentException("AppCDS archive not found: " + archive);
+        }
+        long[] withoutArchive = median(runs, List.of());
+        long[] withArchive    = median(runs, List.of("-XX:SharedArchiveFile=" + archive.toAbsolutePath(), "-Xshare:auto"));
+
+        System.out.printf("Startup of the demo application, median of %d runs%n", runs);
+        System.out.printf("%-24s %16s %16s%n", "", "JDK archive", "AppCDS archive");
+        System.out.printf("%-24s %,16d %,16d%n", "time to first frame (ms)", withoutArchive[0], withArchive[0]);
+        System.out.printf("%-24s %,16d %,16d%n", "classes loaded", withoutArchive[1], withArchive[1]);
+        System.out.printf("%-24s %,16d %,16d%n", "metaspace used (KB)", withoutArchive[2], withArchive[2]);
+    }
+
+    private static long[] median(int runs, List<String> archiveOptions) throws Exception {
+        List<long[]> results = new ArrayList<>(runs);
+        for (int run = 0; run < runs; run++) {
+            results.add(runProbe(archiveOptions));
+        }
+        long[] median = new long[3];
+        for (int metric = 0; metric < median.length; metric++) {
+            int    index  = metric;
+            long[] values = results.stream()
+                                   .mapToLong(result -> result[index])
+                                   .sorted()
+                                   .toArray();
+            median[metric] = values[values.length / 2];
+        }
+        return median;
+    }
+
+    private static long[] runProbe(List<String> archiveOptions) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current()
+                                 .info()
+                                 .command()
+                                 .orElse(Path.of(System.getProperty("java.home"), "bin", "java")
+                                             .toString()));
+        // Inherit the headless platform and preview settings, but never the archive options of this JVM
+        ManagementFactory.getRuntimeMXBean()
+                         .getInputArguments()
+                         .stream()
+                         .filter(argument -> !argument.startsWith("-XX:SharedArchiveFile") && !argument.startsWith("-Xshare") && !argument.startsWith("-XX:DumpLoadedClassList"))
+                         .forEach(command::add);
+        command.addAll(archiveOptions);
+        command.addAll(Arrays.asList("-cp", System.getProperty("java.class.path"), StartupBenchmark.class.getName()));
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                                                     .start();
+        String  output  = new String(process.getInputStream()
+                                            .readAllBytes());
+        process.waitFor();
+
+        Matcher matcher = RESULT_PATTERN.matcher(output);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Scripted startup did not report its result:" + System.lineSeparator() + output);
+        }
+        return new long[]{Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)), Long.parseLong(matcher.group(3))};
+    }
+}
@@ -206,85 +206,85 @@ public class EnhancedTextFieldControlsController {
     }
 
     @FXML
-    private void handleSetAlignmentTopLeft() {
+    protected void handleSetAlignmentTopLeft() {
         checkEnhancedTextFieldLoaded();
         textField.setAlignment(Pos.TOP_LEFT);
     }
 
     @FXML
-    private void handleSetAlignmentCenterLeft() {
+    protected void handleSetAlignmentCenterLeft() {
         checkEnhancedTextFieldLoaded();
         textField.setAlignment(Pos.CENTER_LEFT);
     }
 
     @FXML
-    private void handleSetAlignmentBottomLeft() {
+    protected void handleSetAlignmentBottomLeft() {
         checkEnhancedTextFieldLoaded();
         textField.setAlignment(Pos.BOTTOM_LEFT);
     }
 
     @FXML
-    private void handleSetAlignmentBaseLineLeft() {
+    protected void handleSetAlignmentBaseLineLeft() {
         checkEnhancedTextFieldLoaded();
         textField.setAlignment(Pos.BASELINE_LEFT);
     }
 
     @FXML
-    private void handleSetAlignmentTopCenter() {
+    protected void handleSetAlignmentTopCenter() {
         checkEnhancedTextFieldLoaded();
         textField.setAlignment(Pos.TOP_CENTER);
     }
 
     @FXML
-    private void handleSetAlignmentCenter() {
+    protected void handleSetAlignmentCenter() {
         checkEnhancedTextFieldLoaded();
         textField.setAlignment(Pos.CENTER);
     }
 
     @FXML
-    private void handleSetAlignmentBottomCenter() {
+    protected void handleSetAlignmentBottomCenter() {
         checkEnhancedTextFieldLoaded();
         textField.setAlignment(Pos.BOTTOM_CENTER);
     }
 
     @FXML
-    private void handleSetAlignmentBaseLineCenter() {
+    protected void handleSetAlignmentBaseLineCenter() {
         checkEnhancedTextFieldLoaded();
         textField.setAlignment(Pos.BASELINE_CENTER);
     }
 
     @FXML
-    private void handleSetAlignmentTopRight() {
+    protected void handleSetAlignmentTopRight() {
         checkEnhancedTextFieldLoaded();
         textField.setAlignment(Pos.TOP_RIGHT);
     }
 
     @FXML
-    private void handleSetAlignmentCenterRight() {
+    protected void handleSetAlignmentCenterRight() {
         checkEnhancedTextFieldLoaded();
         textField.setAlignment(Pos.CENTER_RIGHT);
     }
 
     @FXML
-    private void handleSetAlignmentBottomRight() {
+    protected void handleSetAlignmentBottomRight() {
         checkEnhancedTextFieldLoaded();
         textField.setAlignment(Pos.BOTTOM_RIGHT);
     }
 
     @FXML
-    private void handleSetAlignmentBaseLineRight() {
+    protected void handleSetAlignmentBaseLineRight() {
         checkEnhancedTextFieldLoaded();
         textField.setAlignment(Pos.BASELINE_RIGHT);
     }
 
     @FXML
-    private void handleAlwaysFloatingOn() {
+    protected void handleAlwaysFloatingOn() {
         checkEnhancedTextFieldLoaded();
         textField.setAlwaysFloating(true);
     }
 
     @FXML
-    private void handleAlwaysFloatingOff() {
+    protected void handleAlwaysFloatingOff() {
         checkEnhancedTextFieldLoaded();
         textField.setAlwaysFloating(false);
     }
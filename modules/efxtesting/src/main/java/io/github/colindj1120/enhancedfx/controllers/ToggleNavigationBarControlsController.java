@@ -14,15 +14,15 @@ import java.util.UUID;
 
 public class ToggleNavigationBarControlsController {
     @FXML
-    private GridPane toggleNavigationBarControls;
+    protected GridPane toggleNavigationBarControls;
 
     @FXML
-    private Button addToggleButton, orientationHorizontalButton, orientationVerticalButton, deleteSelected;
+    protected Button addToggleButton, orientationHorizontalButton, orientationVerticalButton, deleteSelected;
 
     private EFXToggleNavigationBar toggleNavigationBar;
 
     @FXML
-    private void handleAddToggleButton() {
+    protected void handleAddToggleButton() {
         checkToggleNavigationBarLoaded();
         // Generating random key using UUID
         String randomKey = UUID.randomUUID()
@@ -42,19 +42,19 @@ public class ToggleNavigationBarControlsController {
     }
 
     @FXML
-    private void handleOrientHorizontal() {
+    protected void handleOrientHorizontal() {
         checkToggleNavigationBarLoaded();
         toggleNavigationBar.setOrientation(Orientation.HORIZONTAL);
     }
 
     @FXML
-    private void handleOrientVertical() {
+    protected void handleOrientVertical() {
         checkToggleNavigationBarLoaded();
         toggleNavigationBar.setOrientation(Orientation.VERTICAL);
     }
 
     @FXML
-    private void handleDeleteSelectedButton() {
+    protected void handleDeleteSelectedButton() {
         checkToggleNavigationBarLoaded();
         Optional<EFXToggleButton> btn = toggleNavigationBar.getSelected();
         btn.ifPresent(b -> toggleNavigationBar.removeToggleButton(b));
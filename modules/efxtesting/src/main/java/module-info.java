@@ -1,6 +1,7 @@
 module efx.testing {
     requires javafx.controls;
     requires javafx.fxml;
+    requires jdk.management;
 
     requires transitive efx.base;
     requires transitive efx.controls;
@@ -17,6 +18,5 @@ module efx.testing {
     requires org.kordamp.ikonli.javafx;
 
     exports io.github.colindj1120.enhancedfx to javafx.graphics;
-    exports io.github.colindj1120.enhancedfx.controllers to javafx.fxml;
-    opens io.github.colindj1120.enhancedfx.controllers to javafx.fxml;
+    exports io.github.colindj1120.enhancedfx.benchmark;
 }
\ No newline at end of file
@@ -111,6 +111,21 @@ public class EFXPropertyUtils {
         return Objects.nonNull(property) && !property.isBound();
     }
 
+    /**
+     * Checks if a lazily created property can be set, typically by CSS. A property that has not been created yet still reports its shared default value and is created on its first write, so it is
+     * considered settable.
+     *
+     * @param <T>
+     *         the type of the {@link Property}
+     * @param property
+     *         the property to check, or {@code null} if it has not been created yet
+     *
+     * @return {@code true} if the property has not been created yet or is not bound, {@code false} otherwise
+     */
+    public static <T extends Property<?>> boolean checkLazyProperty(T property) {
+        return Objects.isNull(property) || !property.isBound();
+    }
+
     /**
      * Throws an {@link IllegalArgumentException} indicating that a property cannot be changed directly and suggesting an alternative method to achieve the desired modification.
      *
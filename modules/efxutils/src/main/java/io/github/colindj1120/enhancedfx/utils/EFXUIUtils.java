@@ -17,6 +17,7 @@
  */
 package io.github.colindj1120.enhancedfx.utils;
 
+import io.github.colindj1120.enhancedfx.utils.style.EFXInlineStyle;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -204,7 +205,8 @@ public class EFXUIUtils {
     /**
      * Updates the style of a {@link Node} by replacing or adding a new color value for a specified style property.
      *
-     * <p>This method first removes any existing value for the specified style property and then appends the new color value to the node's existing style.</p>
+     * <p>The change goes through the node's {@link EFXInlineStyle} model: only the declaration of the specified style property is replaced, nothing is written if the color is unchanged, and repeated updates
+     * within a pulse, such as those of a color animation, result in a single {@code setStyle} call.</p>
      *
      * @param newColor
      *         The new {@link Color} value to apply to the style property.
@@ -214,11 +216,8 @@ public class EFXUIUtils {
      *         The CSS style property (e.g., "-fx-fill", "-fx-background-color") to which the new color is applied.
      */
     public static void updateStyleWithNewColor(Color newColor, Node node, String style) {
-        String baseStyle = node.getStyle()
-                               .replaceAll(String.format("%s: #[0-9a-fA-F]+;", style), ""); //remove old color
-        String newStyle = String.format("%s %s: #%s;", baseStyle, style, newColor.toString()
-                                                                                 .substring(2)); //append new color
-        node.setStyle(newStyle); //set the new style
+        EFXInlineStyle.of(node)
+                      .setColor(style, newColor);
     }
 
     /**
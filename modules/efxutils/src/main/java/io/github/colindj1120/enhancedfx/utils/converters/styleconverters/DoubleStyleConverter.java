@@ -66,6 +66,8 @@ public class DoubleStyleConverter extends StyleConverter<String, Double> {
         static final SequenceConverter SEQUENCE_INSTANCE = new SequenceConverter();
     }
 
+    private final StyleConversionCache<Double> cache = new StyleConversionCache<>();
+
     /**
      * Private constructor to prevent instantiation from outside this class, ensuring the singleton pattern.
      */
@@ -81,7 +83,8 @@ public class DoubleStyleConverter extends StyleConverter<String, Double> {
     }
 
     /**
-     * Converts a parsed string value into a {@link Double}. This method attempts to parse the string provided by the {@link ParsedValue} argument. If the string cannot be parsed into a valid double, an
+     * Converts a parsed string value into a {@link Double}. This method attempts to parse the string provided by the {@link ParsedValue} argument, reusing the result of an earlier conversion of the same
+     * string from the converter's {@link StyleConversionCache}. If the string cannot be parsed into a valid double, an
      * {@link IllegalArgumentException} is thrown.
      *
      * @param value
@@ -96,14 +99,38 @@ public class DoubleStyleConverter extends StyleConverter<String, Double> {
      */
     @Override
     public Double convert(ParsedValue<String, Double> value, Font font) {
+        return cache.get(value.getValue(), DoubleStyleConverter::parse);
+    }
+
+    /**
+     * Parses a string into a {@link Double}. Called by the conversion cache the first time a given string is converted.
+     *
+     * @param value
+     *         The string to parse.
+     *
+     * @return The parsed {@link Double} value.
+     *
+     * @throws IllegalArgumentException
+     *         If the string cannot be converted into a {@link Double}.
+     */
+    private static Double parse(String value) {
         try {
-            return Double.valueOf(value.getValue());
+            return Double.valueOf(value);
         }
         catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Unable to convert value to Double: " + value.getValue(), e);
+            throw new IllegalArgumentException("Unable to convert value to Double: " + value, e);
         }
     }
 
+    /**
+     * Returns the conversion cache shared by every use of this converter. Identical string values resolve to the same boxed {@link Double} instance.
+     *
+     * @return The conversion cache of this converter.
+     */
+    public StyleConversionCache<Double> getCache() {
+        return cache;
+    }
+
     /**
      * Provides a string representation of this {@link DoubleStyleConverter}.
      *
@@ -66,6 +66,8 @@ public class FloatStyleConverter extends StyleConverter<String, Float> {
         static final SequenceConverter SEQUENCE_INSTANCE = new SequenceConverter();
     }
 
+    private final StyleConversionCache<Float> cache = new StyleConversionCache<>();
+
     /**
      * Private constructor to prevent instantiation from outside this class, ensuring the singleton pattern.
      */
@@ -81,7 +83,8 @@ public class FloatStyleConverter extends StyleConverter<String, Float> {
     }
 
     /**
-     * Converts a parsed string value into a {@link Float}. This method attempts to parse the string provided by the {@link ParsedValue} argument. If the string cannot be parsed into a valid float, an
+     * Converts a parsed string value into a {@link Float}. This method attempts to parse the string provided by the {@link ParsedValue} argument, reusing the result of an earlier conversion of the same
+     * string from the converter's {@link StyleConversionCache}. If the string cannot be parsed into a valid float, an
      * {@link IllegalArgumentException} is thrown.
      *
      * @param value
@@ -96,14 +99,38 @@ public class FloatStyleConverter extends StyleConverter<String, Float> {
      */
     @Override
     public Float convert(ParsedValue<String, Float> value, Font font) {
+        return cache.get(value.getValue(), FloatStyleConverter::parse);
+    }
+
+    /**
+     * Parses a string into a {@link Float}. Called by the conversion cache the first time a given string is converted.
+     *
+     * @param value
+     *         The string to parse.
+     *
+     * @return The parsed {@link Float} value.
+     *
+     * @throws IllegalArgumentException
+     *         If the string cannot be converted into a {@link Float}.
+     */
+    private static Float parse(String value) {
         try {
-            return Float.valueOf(value.getValue());
+            return Float.valueOf(value);
         }
         catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Unable to convert value to Float: " + value.getValue(), e);
+            throw new IllegalArgumentException("Unable to convert value to Float: " + value, e);
         }
     }
 
+    /**
+     * Returns the conversion cache shared by every use of this converter. Identical string values resolve to the same boxed {@link Float} instance.
+     *
+     * @return The conversion cache of this converter.
+     */
+    public StyleConversionCache<Float> getCache() {
+        return cache;
+    }
+
     /**
      * Provides a string representation of this {@link FloatStyleConverter}.
      *
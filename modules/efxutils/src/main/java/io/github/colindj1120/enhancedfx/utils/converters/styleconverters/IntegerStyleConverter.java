@@ -66,6 +66,8 @@ public class IntegerStyleConverter extends StyleConverter<String, Integer> {
         static final SequenceConverter SEQUENCE_INSTANCE = new SequenceConverter();
     }
 
+    private final StyleConversionCache<Integer> cache = new StyleConversionCache<>();
+
     /**
      * Private constructor to prevent instantiation from outside this class, ensuring the singleton pattern.
      */
@@ -81,7 +83,8 @@ public class IntegerStyleConverter extends StyleConverter<String, Integer> {
     }
 
     /**
-     * Converts a parsed string value into a {@link Integer}. This method attempts to parse the string provided by the {@link ParsedValue} argument. If the string cannot be parsed into a valid integer, an
+     * Converts a parsed string value into a {@link Integer}. This method attempts to parse the string provided by the {@link ParsedValue} argument, reusing the result of an earlier conversion of the same
+     * string from the converter's {@link StyleConversionCache}. If the string cannot be parsed into a valid integer, an
      * {@link IllegalArgumentException} is thrown.
      *
      * @param value
@@ -96,14 +99,38 @@ public class IntegerStyleConverter extends StyleConverter<String, Integer> {
      */
     @Override
     public Integer convert(ParsedValue<String, Integer> value, Font font) {
+        return cache.get(value.getValue(), IntegerStyleConverter::parse);
+    }
+
+    /**
+     * Parses a string into a {@link Integer}. Called by the conversion cache the first time a given string is converted.
+     *
+     * @param value
+     *         The string to parse.
+     *
+     * @return The parsed {@link Integer} value.
+     *
+     * @throws IllegalArgumentException
+     *         If the string cannot be converted into a {@link Integer}.
+     */
+    private static Integer parse(String value) {
         try {
-            return Integer.valueOf(value.getValue());
+            return Integer.valueOf(value);
         }
         catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Unable to convert value to Integer: " + value.getValue(), e);
+            throw new IllegalArgumentException("Unable to convert value to Integer: " + value, e);
         }
     }
 
+    /**
+     * Returns the conversion cache shared by every use of this converter. Identical string values resolve to the same boxed {@link Integer} instance.
+     *
+     * @return The conversion cache of this converter.
+     */
+    public StyleConversionCache<Integer> getCache() {
+        return cache;
+    }
+
     /**
      * Provides a string representation of this {@link IntegerStyleConverter}.
      *
@@ -87,6 +87,8 @@ public class InterpolatorStyleConverter extends StyleConverter<String, Interpola
         return Holder.INSTANCE;
     }
 
+    private final StyleConversionCache<Interpolator> cache = new StyleConversionCache<>();
+
     /**
      * Private constructor to ensure a single instance of the {@code InterpolatorStyleConverter}.
      *
@@ -101,6 +103,9 @@ public class InterpolatorStyleConverter extends StyleConverter<String, Interpola
     /**
      * Converts a CSS string value to an {@link Interpolator}.
      *
+     * <p>Conversions are memoized in the converter's {@link StyleConversionCache}, keyed by the raw CSS string, so identical declarations are parsed once and share a single {@link Interpolator}
+     * instance.</p>
+     *
      * @param value
      *         The {@link ParsedValue} containing the CSS string to convert.
      * @param notUsed
@@ -110,13 +115,35 @@ public class InterpolatorStyleConverter extends StyleConverter<String, Interpola
      */
     @Override
     public Interpolator convert(ParsedValue<String, Interpolator> value, Font notUsed) {
-        return Optional.ofNullable(value.getValue())
+        return cache.get(value.getValue(), InterpolatorStyleConverter::parseInterpolator);
+    }
+
+    /**
+     * Parses a CSS string value into an {@link Interpolator}, falling back to {@link Interpolator#LINEAR} when the value is {@code null} or cannot be parsed. Called by the conversion cache the first time a
+     * given string is converted.
+     *
+     * @param value
+     *         The CSS string to parse.
+     *
+     * @return The parsed {@link Interpolator}.
+     */
+    private static Interpolator parseInterpolator(String value) {
+        return Optional.ofNullable(value)
                        .map(String::trim)
                        .map(String::toUpperCase)
-                       .flatMap(this::determineInterpolator)
+                       .flatMap(getInstance()::determineInterpolator)
                        .orElse(Interpolator.LINEAR);
     }
 
+    /**
+     * Returns the conversion cache shared by every use of this converter.
+     *
+     * @return The conversion cache of this converter.
+     */
+    public StyleConversionCache<Interpolator> getCache() {
+        return cache;
+    }
+
     /**
      * Determines the type of interpolator based on the provided string representation. This method checks the prefix of the string to decide which parsing method to call.
      *
@@ -66,6 +66,8 @@ public class LongStyleConverter extends StyleConverter<String, Long> {
         static final SequenceConverter SEQUENCE_INSTANCE = new SequenceConverter();
     }
 
+    private final StyleConversionCache<Long> cache = new StyleConversionCache<>();
+
     /**
      * Private constructor to prevent instantiation from outside this class, ensuring the singleton pattern.
      */
@@ -81,7 +83,8 @@ public class LongStyleConverter extends StyleConverter<String, Long> {
     }
 
     /**
-     * Converts a parsed string value into a {@link Long}. This method attempts to parse the string provided by the {@link ParsedValue} argument. If the string cannot be parsed into a valid long, an
+     * Converts a parsed string value into a {@link Long}. This method attempts to parse the string provided by the {@link ParsedValue} argument, reusing the result of an earlier conversion of the same
+     * string from the converter's {@link StyleConversionCache}. If the string cannot be parsed into a valid long, an
      * {@link IllegalArgumentException} is thrown.
      *
      * @param value
@@ -96,14 +99,38 @@ public class LongStyleConverter extends StyleConverter<String, Long> {
      */
     @Override
     public Long convert(ParsedValue<String, Long> value, Font font) {
+        return cache.get(value.getValue(), LongStyleConverter::parse);
+    }
+
+    /**
+     * Parses a string into a {@link Long}. Called by the conversion cache the first time a given string is converted.
+     *
+     * @param value
+     *         The string to parse.
+     *
+     * @return The parsed {@link Long} value.
+     *
+     * @throws IllegalArgumentException
+     *         If the string cannot be converted into a {@link Long}.
+     */
+    private static Long parse(String value) {
         try {
-            return Long.valueOf(value.getValue());
+            return Long.valueOf(value);
         }
         catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Unable to convert value to Long: " + value.getValue(), e);
+            throw new IllegalArgumentException("Unable to convert value to Long: " + value, e);
         }
     }
 
+    /**
+     * Returns the conversion cache shared by every use of this converter. Identical string values resolve to the same boxed {@link Long} instance.
+     *
+     * @return The conversion cache of this converter.
+     */
+    public StyleConversionCache<Long> getCache() {
+        return cache;
+    }
+
     /**
      * Provides a string representation of this {@link LongStyleConverter}.
      *
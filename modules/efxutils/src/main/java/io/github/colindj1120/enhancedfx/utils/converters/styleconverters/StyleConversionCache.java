@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2024 Colin Jokisch
+ * This file is part of EnhancedFX (https://github.com/colindj1120/EnhancedFX).
+ *
+ * EnhancedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * EnhancedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with EnhancedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.colindj1120.enhancedfx.utils.converters.styleconverters;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * The {@code StyleConversionCache} class is a bounded, least-recently-used cache of converted CSS values, shared by every use of a style converter. It is keyed by the raw string value of the
+ * {@link javafx.css.ParsedValue}, so that identical declarations, such as the same ripple interpolator on thousands of buttons, are parsed once and resolve to one shared result object.
+ *
+ * <p>Each singleton converter in this package owns one cache. The cache keeps hit and miss counters so that its effectiveness can be inspected at runtime.</p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * {@code
+ *     StyleConversionCache<Interpolator> cache = InterpolatorStyleConverter.getInstance().getCache();
+ *     System.out.printf("Interpolator cache: %d entries, %.1f%% hits%n", cache.size(), cache.getHitRate() * 100);
+ * }
+ * </pre>
+ *
+ * <p>Values that fail to convert are not cached; the exception thrown by the conversion is propagated to the caller each time. {@code null} keys are never cached.</p>
+ *
+ * @param <V>
+ *         The type of the converted values.
+ *
+ * @author Colin Jokisch
+ * @version 1.0.0
+ * @see InterpolatorStyleConverter
+ * @see DoubleStyleConverter
+ */
+public final class StyleConversionCache<V> {
+    /**
+     * The default maximum number of entries held by a converter's cache.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private final int            maximumSize;
+    private final Map<String, V> entries;
+    private final LongAdder      hitCount  = new LongAdder();
+    private final LongAdder      missCount = new LongAdder();
+
+    /**
+     * Constructs a new {@code StyleConversionCache} holding at most the given number of entries.
+     *
+     * @param maximumSize
+     *         The maximum number of entries, after which the least recently used entry is evicted.
+     *
+     * @throws IllegalArgumentException
+     *         If the maximum size is not positive.
+     */
+    public StyleConversionCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.entries     = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > StyleConversionCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Constructs a new {@code StyleConversionCache} holding at most {@link #DEFAULT_MAXIMUM_SIZE} entries.
+     */
+    public StyleConversionCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Returns the converted value for the given key, converting and caching it if it is not already present.
+     *
+     * @param key
+     *         The raw string value being converted.
+     * @param converter
+     *         The function used to convert the key on a cache miss.
+     *
+     * @return The cached or newly converted value.
+     */
+    public V get(String key, Function<String, V> converter) {
+        if (Objects.isNull(key)) {
+            missCount.increment();
+            return converter.apply(null);
+        }
+        synchronized (entries) {
+            V cached = entries.get(key);
+            if (Objects.nonNull(cached)) {
+                hitCount.increment();
+                return cached;
+            }
+        }
+        missCount.increment();
+        V converted = converter.apply(key);
+        if (Objects.nonNull(converted)) {
+            synchronized (entries) {
+                V existing = entries.putIfAbsent(key, converted);
+                if (Objects.nonNull(existing)) {
+                    return existing;
+                }
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Returns the number of entries currently cached.
+     *
+     * @return The number of cached entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the maximum number of entries this cache holds.
+     *
+     * @return The maximum size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of lookups that were answered from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups that required a conversion.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups that were answered from the cache, or {@code 0} if no lookups have been made.
+     *
+     * @return The hit rate, between {@code 0} and {@code 1}.
+     */
+    public double getHitRate() {
+        long hits  = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Removes every cached entry. The hit and miss counters are left untouched.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Resets the hit and miss counters to zero.
+     */
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+    }
+
+    /**
+     * Provides a string representation of this cache, including its size and hit rate.
+     *
+     * @return A string describing the state of the cache.
+     */
+    @Override
+    public String toString() {
+        return String.format("StyleConversionCache[size=%d, maximumSize=%d, hits=%d, misses=%d]", size(), maximumSize, getHitCount(), getMissCount());
+    }
+}
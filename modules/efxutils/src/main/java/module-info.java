@@ -9,4 +9,5 @@ module efx.utils {
     exports io.github.colindj1120.enhancedfx.utils;
     exports io.github.colindj1120.enhancedfx.utils.converters.stringconverters;
     exports io.github.colindj1120.enhancedfx.utils.converters.styleconverters;
+    exports io.github.colindj1120.enhancedfx.utils.style;
 }
\ No newline at end of file